@@ -0,0 +1,82 @@
+package com.turkcell.benchmarks.events;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turkcell.event_schema.codec.BinaryEventMessageConverter;
+import com.turkcell.event_schema.events.OrderCreatedEvent;
+import com.turkcell.event_schema.events.OrderCreatedEventCodec;
+import com.turkcell.event_schema.schema.FileSchemaRegistry;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * OrderCreated on the wire: the JSON payload the services used to exchange
+ * versus the event-schema binary frame. Payload sizes are printed at setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    private JsonMapper jsonMapper;
+    private BinaryEventMessageConverter converter;
+    private OrderCreatedEvent event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        try {
+            Path registry = Files.createTempDirectory("event-schema-registry");
+            converter = new BinaryEventMessageConverter(new FileSchemaRegistry(registry),
+                    List.of(new OrderCreatedEventCodec()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        event = new OrderCreatedEvent(UUID.randomUUID().toString(), 1);
+        json = jsonMapper.writeValueAsBytes(event);
+        binary = converter.encode(event);
+        System.out.println("OrderCreated payload: json=" + json.length + " bytes, binary=" + binary.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent jsonDeserialize() {
+        return jsonMapper.readValue(json, OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return converter.encode(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent binaryDeserialize() {
+        return converter.decode(binary, OrderCreatedEvent.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.turkcell.benchmarks.product;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turkcell.product_service.application.dtos.ProductSort;
+import com.turkcell.product_service.application.ports.ProductSearchCriteria;
+import com.turkcell.product_service.application.ports.ProductSearchResult;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.infrastructure.catalog.ColumnarProductCatalog;
+
+/**
+ * Filter, count and top-N queries over the columnar catalog index. The target
+ * is single-digit milliseconds per query at a million products.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CatalogQueryBenchmark {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    @Param({ "100000", "1000000" })
+    public int catalogSize;
+
+    private ColumnarProductCatalog catalog;
+    private ProductSearchCriteria priceRangeTop50;
+    private ProductSearchCriteria inStockByStockDesc;
+    private ProductSearchCriteria unfilteredTop500;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = new ColumnarProductCatalog();
+        for (int i = 0; i < catalogSize; i++) {
+            catalog.put(new UUID(random.nextLong(), random.nextLong()), 100 + random.nextInt(1_000_000),
+                    CURRENCIES[i % CURRENCIES.length], random.nextInt(10) == 0 ? 0 : random.nextInt(500));
+        }
+        priceRangeTop50 = new ProductSearchCriteria(Currency.TRY, 10_000, 250_000, false, ProductSort.PRICE_ASC, 50);
+        inStockByStockDesc = new ProductSearchCriteria(null, 0, Long.MAX_VALUE, true, ProductSort.STOCK_DESC, 50);
+        unfilteredTop500 = new ProductSearchCriteria(null, 0, Long.MAX_VALUE, false, ProductSort.PRICE_DESC, 500);
+    }
+
+    @Benchmark
+    public ProductSearchResult priceRangeTop50() {
+        return catalog.search(priceRangeTop50);
+    }
+
+    @Benchmark
+    public ProductSearchResult inStockByStockDesc() {
+        return catalog.search(inStockByStockDesc);
+    }
+
+    @Benchmark
+    public ProductSearchResult unfilteredTop500() {
+        return catalog.search(unfilteredTop500);
+    }
+}
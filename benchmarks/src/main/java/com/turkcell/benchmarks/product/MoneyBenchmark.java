@@ -0,0 +1,104 @@
+package com.turkcell.benchmarks.product;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Money;
+
+/**
+ * Construction, arithmetic and comparison of Money.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private BigDecimal amount;
+    private Money price;
+    private Money other;
+    private Money[] unitPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("1249.905");
+        price = Money.of(new BigDecimal("1249.90"), Currency.TRY);
+        other = Money.of(new BigDecimal("99.99"), Currency.TRY);
+
+        unitPrices = new Money[16];
+        quantities = new int[unitPrices.length];
+        for (int i = 0; i < unitPrices.length; i++) {
+            unitPrices[i] = Money.of(BigDecimal.valueOf(199 + i * 1_000L, 2), Currency.TRY);
+            quantities[i] = 1 + i % 4;
+        }
+    }
+
+    @Benchmark
+    public Money of() {
+        return Money.of(amount, Currency.TRY);
+    }
+
+    @Benchmark
+    public Money ofMinor() {
+        return Money.ofMinor(124_991L, Currency.TRY);
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return price.subtract(other);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(7);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return price.isGreaterThan(other);
+    }
+
+    @Benchmark
+    public BigDecimal getAmount() {
+        return price.getAmount();
+    }
+
+    @Benchmark
+    public Money cartTotal() {
+        Money total = Money.zero(Currency.TRY);
+        for (int i = 0; i < unitPrices.length; i++) {
+            total = total.add(unitPrices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Currency currencyFromCode() {
+        return Currency.fromCode("TRY");
+    }
+
+    @Benchmark
+    public Currency currencyFromNonCanonicalCode() {
+        return Currency.fromCode(" try ");
+    }
+}
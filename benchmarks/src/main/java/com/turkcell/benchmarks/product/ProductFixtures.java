@@ -0,0 +1,261 @@
+package com.turkcell.benchmarks.product;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.UUID;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductCatalog;
+import com.turkcell.product_service.application.ports.ProductEventOutbox;
+import com.turkcell.product_service.application.ports.ProductReadModel;
+import com.turkcell.product_service.application.ports.ProductSearchCriteria;
+import com.turkcell.product_service.application.ports.ProductSearchResult;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+
+/**
+ * Deterministic catalog data shared by the product benchmarks.
+ */
+final class ProductFixtures {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private ProductFixtures() {
+        // Utility class, prevent instantiation
+    }
+
+    static List<ProductEntity> entities(int count) {
+        Random random = new Random(42);
+        List<ProductEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new ProductEntity(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    "Product " + i,
+                    "Description of product number " + i + " used by the benchmarks",
+                    BigDecimal.valueOf(100 + random.nextInt(1_000_000), 2),
+                    CURRENCIES[i % CURRENCIES.length].getCode(),
+                    random.nextInt(500)));
+        }
+        return entities;
+    }
+
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (ProductEntity entity : entities(count)) {
+            products.add(Product.create(entity.getName(), entity.getDescription(), entity.getPriceAmount(),
+                    Currency.fromCode(entity.getPriceCurrency()), entity.getStockQuantity()));
+        }
+        return products;
+    }
+
+    static ProductResponse toResponse(Product product) {
+        return new ProductResponse(
+                product.getId().toString(),
+                product.getName().getValue(),
+                product.getDescription().getValue(),
+                new PriceDto(product.getPrice().getAmount(), product.getPrice().getCurrency().getCode()),
+                new StockDto(product.getStock().getQuantity()),
+                product.getVersion() != null ? product.getVersion() : 0);
+    }
+
+    /**
+     * In-memory read model seeded with the given products.
+     */
+    static ProductReadModel readModel(List<Product> products) {
+        Map<ProductId, ProductResponse> view = new LinkedHashMap<>();
+        for (Product product : products) {
+            view.put(product.getId(), toResponse(product));
+        }
+        return new ProductReadModel() {
+
+            @Override
+            public void project(Product product) {
+                view.put(product.getId(), toResponse(product));
+            }
+
+            @Override
+            public void remove(ProductId id) {
+                view.remove(id);
+            }
+
+            @Override
+            public Optional<ProductResponse> findById(ProductId id) {
+                return Optional.ofNullable(view.get(id));
+            }
+
+            @Override
+            public List<ProductResponse> findAll() {
+                return new ArrayList<>(view.values());
+            }
+
+            @Override
+            public List<ProductResponse> findAllById(List<ProductId> ids) {
+                List<ProductResponse> responses = new ArrayList<>(ids.size());
+                for (ProductId id : ids) {
+                    ProductResponse response = view.get(id);
+                    if (response != null) {
+                        responses.add(response);
+                    }
+                }
+                return responses;
+            }
+
+            @Override
+            public OptionalLong findVersion(ProductId id) {
+                ProductResponse response = view.get(id);
+                return response != null ? OptionalLong.of(response.version()) : OptionalLong.empty();
+            }
+
+            @Override
+            public List<ProductVersion> findAllVersions() {
+                List<ProductVersion> versions = new ArrayList<>(view.size());
+                for (ProductResponse response : view.values()) {
+                    versions.add(new ProductVersion(response.id(), response.version()));
+                }
+                return versions;
+            }
+
+            @Override
+            public List<ProductVersion> findVersionsById(List<ProductId> ids) {
+                List<ProductVersion> versions = new ArrayList<>(ids.size());
+                for (ProductResponse response : findAllById(ids)) {
+                    versions.add(new ProductVersion(response.id(), response.version()));
+                }
+                return versions;
+            }
+        };
+    }
+
+    /**
+     * Read model that drops every projection, for benchmarks of the command
+     * path that would otherwise grow the view without bound.
+     */
+    static ProductReadModel discardingReadModel() {
+        return new ProductReadModel() {
+
+            @Override
+            public void project(Product product) {
+            }
+
+            @Override
+            public void remove(ProductId id) {
+            }
+
+            @Override
+            public Optional<ProductResponse> findById(ProductId id) {
+                return Optional.empty();
+            }
+
+            @Override
+            public List<ProductResponse> findAll() {
+                return List.of();
+            }
+
+            @Override
+            public List<ProductResponse> findAllById(List<ProductId> ids) {
+                return List.of();
+            }
+
+            @Override
+            public OptionalLong findVersion(ProductId id) {
+                return OptionalLong.empty();
+            }
+
+            @Override
+            public List<ProductVersion> findAllVersions() {
+                return List.of();
+            }
+
+            @Override
+            public List<ProductVersion> findVersionsById(List<ProductId> ids) {
+                return List.of();
+            }
+        };
+    }
+
+    /**
+     * Catalog index that ignores writes and matches nothing, for benchmarks
+     * that do not search.
+     */
+    static ProductCatalog discardingCatalog() {
+        return new ProductCatalog() {
+
+            @Override
+            public void upsert(Product product) {
+            }
+
+            @Override
+            public void remove(ProductId id) {
+            }
+
+            @Override
+            public ProductSearchResult search(ProductSearchCriteria criteria) {
+                return new ProductSearchResult(List.of(), 0);
+            }
+        };
+    }
+
+    static ProductEventOutbox discardingOutbox() {
+        return id -> {
+        };
+    }
+
+    /**
+     * Read-only repository over a fixed list, so service benchmarks measure the
+     * application layer without a database.
+     */
+    static ProductRepository repository(List<Product> products) {
+        return new ProductRepository() {
+
+            @Override
+            public Product save(Product product) {
+                // Gerçek repository gibi kaydedilen aggregate bir sonraki sürümle döner
+                return Product.reconstitute(product.getId(), product.getName(), product.getDescription(),
+                        product.getPrice(), product.getStock(),
+                        product.getVersion() != null ? product.getVersion() + 1 : 0L);
+            }
+
+            @Override
+            public Optional<Product> findById(ProductId id) {
+                for (Product product : products) {
+                    if (product.getId().equals(id)) {
+                        return Optional.of(product);
+                    }
+                }
+                return Optional.empty();
+            }
+
+            @Override
+            public List<Product> findAll() {
+                return products;
+            }
+
+            @Override
+            public boolean deleteById(ProductId id) {
+                return findById(id).isPresent();
+            }
+
+            @Override
+            public boolean existsById(ProductId id) {
+                return findById(id).isPresent();
+            }
+
+            @Override
+            public List<Product> findByNameContaining(String name) {
+                return products;
+            }
+        };
+    }
+}
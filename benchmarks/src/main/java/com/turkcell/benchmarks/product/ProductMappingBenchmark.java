@@ -0,0 +1,77 @@
+package com.turkcell.benchmarks.product;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.services.ProductService;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+
+/**
+ * Entity/domain mapping over catalogs of increasing size, and the command
+ * path of ProductService without a database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    public int catalogSize;
+
+    private List<ProductEntity> entities;
+    private List<Product> products;
+    private ProductService productService;
+    private CreateProductRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        entities = ProductFixtures.entities(catalogSize);
+        products = ProductFixtures.products(catalogSize);
+        productService = new ProductService(ProductFixtures.repository(products), ProductFixtures.discardingReadModel(),
+                ProductFixtures.discardingCatalog(), ProductFixtures.discardingOutbox());
+        createRequest = new CreateProductRequest("Mechanical keyboard", "Hot-swappable switches",
+                new PriceDto(new BigDecimal("1249.90"), "TRY"), new StockDto(25));
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (ProductEntity entity : entities) {
+            blackhole.consume(ProductMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(ProductMapper.toEntity(product));
+        }
+    }
+
+    @Benchmark
+    public ProductResponse createProduct() {
+        return productService.createProduct(createRequest);
+    }
+}
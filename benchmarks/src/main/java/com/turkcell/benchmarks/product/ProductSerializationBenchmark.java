@@ -0,0 +1,55 @@
+package com.turkcell.benchmarks.product;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.services.ProductService;
+import com.turkcell.product_service.domain.entities.Product;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson serialization of the list response, as written by Spring MVC for
+ * {@code GET /api/v1/products}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSerializationBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    public int catalogSize;
+
+    private JsonMapper jsonMapper;
+    private ProductListResponse response;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        List<Product> products = ProductFixtures.products(catalogSize);
+        response = new ProductService(ProductFixtures.repository(products), ProductFixtures.readModel(products),
+                ProductFixtures.discardingCatalog(), ProductFixtures.discardingOutbox())
+                .getAllProducts();
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,167 @@
+package com.turkcell.benchmarks.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.readmodel.JdbcProductReadModel;
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import com.turkcell.product_service.infrastructure.repositories.ProductRepositoryImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Product reads against an in-memory H2 database: the aggregate path (managed
+ * entity, domain reconstitution, DTO) inside a read-only transaction, as
+ * served with open-in-view, versus the JDBC read model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({ "10", "1000" })
+    public int catalogSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductRepository productRepository;
+    private JdbcProductReadModel readModel;
+    private TransactionTemplate readOnly;
+    private ProductId firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(ReadPathConfig.class);
+        productRepository = context.getBean(ProductRepository.class);
+        readModel = context.getBean(JdbcProductReadModel.class);
+        TransactionTemplate readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<Product> products = ProductFixtures.products(catalogSize);
+        readWrite.executeWithoutResult(status -> {
+            for (Product product : products) {
+                readModel.project(productRepository.save(product));
+            }
+        });
+        firstId = products.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponse> aggregateFindAll() {
+        return readOnly.execute(status -> {
+            List<Product> products = productRepository.findAll();
+            List<ProductResponse> responses = new ArrayList<>(products.size());
+            for (Product product : products) {
+                responses.add(ProductFixtures.toResponse(product));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<ProductResponse> readModelFindAll() {
+        return readModel.findAll();
+    }
+
+    @Benchmark
+    public ProductResponse aggregateFindById() {
+        return readOnly.execute(status -> productRepository.findById(firstId)
+                .map(ProductFixtures::toResponse)
+                .orElseThrow());
+    }
+
+    @Benchmark
+    public ProductResponse readModelFindById() {
+        return readModel.findById(firstId).orElseThrow();
+    }
+
+    /**
+     * Minimal persistence setup mirroring what Spring Boot configures for
+     * product-service, without the web, messaging and cloud parts.
+     */
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = JpaProductRepository.class)
+    static class ReadPathConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build();
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            Properties properties = new Properties();
+            properties.setProperty("hibernate.hbm2ddl.auto", "create");
+            properties.setProperty("hibernate.physical_naming_strategy",
+                    "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(ProductEntity.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaProperties(properties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        ProductRepository productRepository(JpaProductRepository jpaProductRepository) {
+            return new ProductRepositoryImpl(jpaProductRepository);
+        }
+
+        @Bean
+        JdbcProductReadModel productReadModel(DataSource dataSource) {
+            return new JdbcProductReadModel(JdbcClient.create(dataSource));
+        }
+    }
+}
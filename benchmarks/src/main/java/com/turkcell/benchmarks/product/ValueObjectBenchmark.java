@@ -0,0 +1,101 @@
+package com.turkcell.benchmarks.product;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Money;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ProductName;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+
+/**
+ * Equality and hashing of the domain value objects, including their use as
+ * hash map keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private ProductId id;
+    private ProductId sameId;
+    private ProductName name;
+    private ProductName sameName;
+    private Money price;
+    private Money samePrice;
+    private Stock stock;
+    private Stock sameStock;
+    private Map<ProductId, Integer> index;
+
+    @Setup
+    public void setUp() {
+        UUID uuid = UUID.randomUUID();
+        id = ProductId.of(uuid);
+        sameId = ProductId.of(uuid.toString());
+        name = ProductName.of("Mechanical keyboard");
+        sameName = ProductName.of("Mechanical keyboard");
+        price = Money.of(new BigDecimal("1249.90"), Currency.TRY);
+        samePrice = Money.of(new BigDecimal("1249.9"), Currency.TRY);
+        stock = Stock.of(42);
+        sameStock = Stock.of(42);
+
+        index = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            index.put(ProductId.create(), i);
+        }
+        index.put(id, -1);
+    }
+
+    @Benchmark
+    public boolean productIdEquals() {
+        return id.equals(sameId);
+    }
+
+    @Benchmark
+    public int productIdHashCode() {
+        return sameId.hashCode();
+    }
+
+    @Benchmark
+    public boolean productNameEquals() {
+        return name.equals(sameName);
+    }
+
+    @Benchmark
+    public boolean moneyEquals() {
+        return price.equals(samePrice);
+    }
+
+    @Benchmark
+    public int moneyHashCode() {
+        return samePrice.hashCode();
+    }
+
+    @Benchmark
+    public boolean stockEquals() {
+        return stock.equals(sameStock);
+    }
+
+    @Benchmark
+    public Integer productIdMapLookup() {
+        return index.get(sameId);
+    }
+}
@@ -2,8 +2,12 @@ package com.turkcell.bff_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import com.turkcell.tracing.TracingConfiguration;
 
 @SpringBootApplication
+@Import(TracingConfiguration.class)
 public class BffServiceApplication {
 
 	public static void main(String[] args) {
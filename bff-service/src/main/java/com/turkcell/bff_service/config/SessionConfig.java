@@ -0,0 +1,77 @@
+package com.turkcell.bff_service.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.client.web.server.ServerOAuth2AuthorizedClientRepository;
+import org.springframework.security.oauth2.client.web.server.WebSessionServerOAuth2AuthorizedClientRepository;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionIdResolver;
+import org.springframework.web.server.session.WebSessionManager;
+
+import com.turkcell.bff_service.session.OffHeapWebSessionStore;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class SessionConfig {
+
+    /**
+     * Sessions are kept in a bounded off-heap store instead of Boot's
+     * in-memory store, so the number of logged-in users no longer grows the
+     * heap. Occupancy is published as {@code bff.sessions.*}.
+     */
+    @Bean
+    OffHeapWebSessionStore webSessionStore(
+            @Value("${bff.session.store.capacity:64MB}") DataSize capacity,
+            @Value("${bff.session.store.page-size:512B}") DataSize pageSize,
+            @Value("${server.reactive.session.timeout:30m}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        OffHeapWebSessionStore store = new OffHeapWebSessionStore(capacity.toBytes(), (int) pageSize.toBytes(),
+                SessionConfig.class.getClassLoader());
+        store.setMaxIdleTime(timeout);
+
+        Gauge.builder("bff.sessions.active", store, OffHeapWebSessionStore::getSessionCount)
+                .description("Sessions held in the session store")
+                .register(meterRegistry);
+        Gauge.builder("bff.sessions.store.used", store, OffHeapWebSessionStore::getUsedBytes)
+                .description("Bytes of the session store taken by session attributes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("bff.sessions.store.capacity", store, OffHeapWebSessionStore::getCapacityBytes)
+                .description("Size of the session store")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("bff.sessions.evictions", store, OffHeapWebSessionStore::getIdleEvictions)
+                .description("Sessions removed from the session store")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        FunctionCounter.builder("bff.sessions.evictions", store, OffHeapWebSessionStore::getCapacityEvictions)
+                .description("Sessions removed from the session store")
+                .tag("reason", "capacity")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean(WebHttpHandlerBuilder.WEB_SESSION_MANAGER_BEAN_NAME)
+    WebSessionManager webSessionManager(OffHeapWebSessionStore webSessionStore,
+            ObjectProvider<WebSessionIdResolver> webSessionIdResolver) {
+        DefaultWebSessionManager manager = new DefaultWebSessionManager();
+        manager.setSessionStore(webSessionStore);
+        webSessionIdResolver.ifAvailable(manager::setSessionIdResolver);
+        return manager;
+    }
+
+    @Bean
+    ServerOAuth2AuthorizedClientRepository authorizedClientRepository() {
+        // Token'lar oturumla birlikte saklanır ve oturum çıkarıldığında bellekte kalmaz
+        return new WebSessionServerOAuth2AuthorizedClientRepository();
+    }
+}
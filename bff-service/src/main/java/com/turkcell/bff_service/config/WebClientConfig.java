@@ -1,21 +1,80 @@
 package com.turkcell.bff_service.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServerOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.security.oauth2.client.web.server.ServerOAuth2AuthorizedClientRepository;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Connections to the gateway instances, one pool per resolved address.
+     * Idle connections are evicted in the background and at most
+     * {@code upstream.pool.pending-acquire-max-count} requests wait for a
+     * free one; pool gauges and the acquire timer are published under
+     * {@code reactor.netty.connection.provider}.
+     */
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider upstreamConnectionProvider(
+            @Value("${upstream.pool.max-connections:100}") int maxConnections,
+            @Value("${upstream.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${upstream.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${upstream.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${upstream.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${upstream.pool.eviction-interval:10s}") Duration evictionInterval) {
+        return ConnectionProvider.builder("bff-upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    ReactorClientHttpConnector upstreamClientHttpConnector(ConnectionProvider upstreamConnectionProvider,
+            @Value("${upstream.http2.mode:off}") String http2Mode,
+            @Value("${upstream.connect-timeout:2s}") Duration connectTimeout) {
+        // upgrade: gateway h2c kabul ederse istekler az sayıda bağlantı üzerinde çoklanır, etmezse HTTP/1.1 kalır
+        HttpProtocol[] protocols = switch (http2Mode) {
+            case "off" -> new HttpProtocol[] { HttpProtocol.HTTP11 };
+            case "upgrade" -> new HttpProtocol[] { HttpProtocol.H2C, HttpProtocol.HTTP11 };
+            case "prior-knowledge" -> new HttpProtocol[] { HttpProtocol.H2C };
+            default -> throw new IllegalArgumentException(
+                    "upstream.http2.mode must be off, upgrade or prior-knowledge: " + http2Mode);
+        };
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .protocol(protocols);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
     @Bean
     @LoadBalanced
-    WebClient.Builder loadBalancedWebClient() {
-        return WebClient.builder();
+    WebClient.Builder loadBalancedWebClient(ObservationRegistry observationRegistry,
+            ReactorClientHttpConnector upstreamClientHttpConnector) {
+        // Gözlem kaydı client span'ini açar ve gateway'e traceparent header'ını ekler
+        return WebClient.builder()
+                .clientConnector(upstreamClientHttpConnector)
+                .observationRegistry(observationRegistry);
     }
 
     @Bean
@@ -31,4 +90,4 @@ public class WebClientConfig {
         return builder.filter(oauth).build();
     }
 
-}
\ No newline at end of file
+}
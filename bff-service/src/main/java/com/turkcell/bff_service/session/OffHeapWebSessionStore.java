@@ -0,0 +1,531 @@
+package com.turkcell.bff_service.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.JdkIdGenerator;
+import org.springframework.web.server.WebSession;
+import org.springframework.web.server.session.WebSessionStore;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * WebSessionStore that keeps session attributes serialized and deflated in a
+ * fixed-size direct buffer instead of as object graphs on the heap. Only a
+ * small index entry per session stays on the heap, ordered by last access.
+ * <p>
+ * The buffer is a hard cap: when a session does not fit, the least recently
+ * used sessions are evicted until it does. Sessions idle for longer than
+ * their max idle time are removed when they are read and by a sweep that runs
+ * at most once a minute. Attributes are only re-serialized when they changed
+ * since the session was read.
+ */
+public class OffHeapWebSessionStore implements WebSessionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapWebSessionStore.class);
+
+    private static final IdGenerator ID_GENERATOR = new JdkIdGenerator();
+
+    private static final Duration EXPIRATION_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Erişim sıralı: ilk eleman en uzun süredir kullanılmayan oturumdur
+    private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final PageArena arena;
+
+    private final SessionAttributesCodec codec;
+
+    private final AtomicLong idleEvictions = new AtomicLong();
+
+    private final AtomicLong capacityEvictions = new AtomicLong();
+
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+
+    private Clock clock = Clock.systemUTC();
+
+    private Instant nextExpirationCheck = Instant.MIN;
+
+    public OffHeapWebSessionStore(long capacityBytes, int pageSize, ClassLoader classLoader) {
+        this.arena = new PageArena(capacityBytes, pageSize);
+        this.codec = new SessionAttributesCodec(classLoader);
+    }
+
+    /**
+     * Max idle time given to new sessions. A negative value means sessions
+     * never expire by idleness and only leave the store through capacity
+     * eviction or invalidation.
+     */
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        Assert.notNull(maxIdleTime, "maxIdleTime is required");
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public void setClock(Clock clock) {
+        Assert.notNull(clock, "Clock is required");
+        this.clock = clock;
+        removeExpiredSessions();
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public int getSessionCount() {
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bytes of the buffer taken by session pages, including the unused tail
+     * of each session's last page.
+     */
+    public long getUsedBytes() {
+        lock.lock();
+        try {
+            return arena.usedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCapacityBytes() {
+        return arena.capacityBytes();
+    }
+
+    public long getIdleEvictions() {
+        return idleEvictions.get();
+    }
+
+    public long getCapacityEvictions() {
+        return capacityEvictions.get();
+    }
+
+    @Override
+    public Mono<WebSession> createWebSession() {
+        Instant now = clock.instant();
+        if (!now.isBefore(nextExpirationCheck)) {
+            removeExpiredSessions();
+        }
+        return Mono.fromSupplier(() -> new OffHeapWebSession(now));
+    }
+
+    @Override
+    public Mono<WebSession> retrieveSession(String id) {
+        long now = clock.millis();
+        byte[] data;
+        Slot slot;
+        lock.lock();
+        try {
+            slot = slots.get(id);
+            if (slot == null) {
+                return Mono.empty();
+            }
+            if (slot.isExpired(now)) {
+                remove(slot);
+                idleEvictions.incrementAndGet();
+                return Mono.empty();
+            }
+            slot.lastAccessMillis = now;
+            data = arena.read(slot.pages, slot.length);
+        } finally {
+            lock.unlock();
+        }
+
+        Map<String, Object> attributes;
+        try {
+            attributes = codec.decode(data);
+        } catch (IllegalStateException e) {
+            // Sınıflar değiştiyse (yeniden dağıtım) oturum okunamaz, kullanıcı yeniden giriş yapar
+            log.warn("Discarding session that could not be read: {}", e.getMessage());
+            removeSession(id);
+            return Mono.empty();
+        }
+        return Mono.just(new OffHeapWebSession(slot, Instant.ofEpochMilli(now), attributes));
+    }
+
+    @Override
+    public Mono<Void> removeSession(String id) {
+        lock.lock();
+        try {
+            Slot slot = slots.get(id);
+            if (slot != null) {
+                remove(slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<WebSession> updateLastAccessTime(WebSession session) {
+        return Mono.fromSupplier(() -> {
+            Assert.isInstanceOf(OffHeapWebSession.class, session);
+            ((OffHeapWebSession) session).lastAccessTime = clock.instant();
+            return session;
+        });
+    }
+
+    /**
+     * Removes sessions that have been idle for longer than their max idle
+     * time. Called at most once a minute from {@link #createWebSession()}.
+     */
+    public void removeExpiredSessions() {
+        Instant now = clock.instant();
+        long nowMillis = now.toEpochMilli();
+        int removed = 0;
+        lock.lock();
+        try {
+            Iterator<Slot> it = slots.values().iterator();
+            while (it.hasNext()) {
+                Slot slot = it.next();
+                if (slot.isExpired(nowMillis)) {
+                    it.remove();
+                    arena.free(slot.pages);
+                    removed++;
+                }
+            }
+            nextExpirationCheck = now.plus(EXPIRATION_CHECK_INTERVAL);
+        } finally {
+            lock.unlock();
+        }
+        idleEvictions.addAndGet(removed);
+    }
+
+    private void store(OffHeapWebSession session, byte[] data) {
+        String id = session.getId();
+        lock.lock();
+        try {
+            Slot slot = slots.get(id);
+            if (slot == null) {
+                if (data == null) {
+                    // Kaydedilmeden önce kapasite nedeniyle çıkarılmış oturum yeniden yazılır
+                    data = codec.encode(session.attributes);
+                }
+                slot = new Slot(id, session.creationTime.toEpochMilli());
+                slots.put(id, slot);
+            }
+            if (data != null) {
+                write(slot, data);
+            }
+            slot.lastAccessMillis = session.lastAccessTime.toEpochMilli();
+            slot.maxIdleMillis = session.maxIdleTime.toMillis();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Slot slot, byte[] data) {
+        if (arena.pagesFor(data.length) > arena.pageCount()) {
+            remove(slot);
+            throw new IllegalStateException("Session attributes of " + data.length
+                    + " bytes do not fit in the session store of " + arena.capacityBytes() + " bytes");
+        }
+        if (slot.pages != null) {
+            arena.free(slot.pages);
+            slot.pages = null;
+        }
+        int[] pages = arena.write(data);
+        if (pages == null) {
+            int needed = arena.pagesFor(data.length);
+            Iterator<Slot> it = slots.values().iterator();
+            while (arena.freePageCount() < needed && it.hasNext()) {
+                Slot eldest = it.next();
+                if (eldest == slot || eldest.pages == null) {
+                    continue;
+                }
+                it.remove();
+                arena.free(eldest.pages);
+                capacityEvictions.incrementAndGet();
+            }
+            pages = arena.write(data);
+        }
+        slot.pages = pages;
+        slot.length = data.length;
+    }
+
+    private void rename(String oldId, String newId) {
+        lock.lock();
+        try {
+            Slot slot = slots.remove(oldId);
+            if (slot != null) {
+                slot.id = newId;
+                slots.put(newId, slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Slot slot) {
+        slots.remove(slot.id);
+        if (slot.pages != null) {
+            arena.free(slot.pages);
+            slot.pages = null;
+        }
+    }
+
+    /**
+     * Heap side of a stored session: its pages in the buffer and the
+     * timestamps needed for expiration, guarded by the store lock.
+     */
+    private static final class Slot {
+
+        private String id;
+        private final long creationMillis;
+        private long lastAccessMillis;
+        private long maxIdleMillis;
+        private int[] pages;
+        private int length;
+
+        private Slot(String id, long creationMillis) {
+            this.id = id;
+            this.creationMillis = creationMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return maxIdleMillis >= 0 && now - lastAccessMillis >= maxIdleMillis;
+        }
+    }
+
+    private class OffHeapWebSession implements WebSession {
+
+        private final AtomicReference<String> id;
+
+        private final TrackedAttributes attributes;
+
+        private final Instant creationTime;
+
+        private volatile Instant lastAccessTime;
+
+        private volatile Duration maxIdleTime;
+
+        private final AtomicReference<State> state;
+
+        OffHeapWebSession(Instant creationTime) {
+            this.id = new AtomicReference<>(String.valueOf(ID_GENERATOR.generateId()));
+            this.attributes = new TrackedAttributes(Map.of());
+            this.creationTime = creationTime;
+            this.lastAccessTime = creationTime;
+            this.maxIdleTime = OffHeapWebSessionStore.this.maxIdleTime;
+            this.state = new AtomicReference<>(State.NEW);
+        }
+
+        OffHeapWebSession(Slot slot, Instant lastAccessTime, Map<String, Object> attributes) {
+            this.id = new AtomicReference<>(slot.id);
+            this.attributes = new TrackedAttributes(attributes);
+            this.creationTime = Instant.ofEpochMilli(slot.creationMillis);
+            this.lastAccessTime = lastAccessTime;
+            this.maxIdleTime = Duration.ofMillis(slot.maxIdleMillis);
+            this.state = new AtomicReference<>(State.STARTED);
+        }
+
+        @Override
+        public String getId() {
+            return id.get();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return creationTime;
+        }
+
+        @Override
+        public Instant getLastAccessTime() {
+            return lastAccessTime;
+        }
+
+        @Override
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        @Override
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        @Override
+        public void start() {
+            state.compareAndSet(State.NEW, State.STARTED);
+        }
+
+        @Override
+        public boolean isStarted() {
+            return state.get() == State.STARTED || !attributes.isEmpty();
+        }
+
+        @Override
+        public Mono<Void> changeSessionId() {
+            String currentId = id.get();
+            String newId = String.valueOf(ID_GENERATOR.generateId());
+            id.set(newId);
+            rename(currentId, newId);
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> invalidate() {
+            state.set(State.EXPIRED);
+            attributes.clear();
+            return removeSession(id.get());
+        }
+
+        @Override
+        public Mono<Void> save() {
+            if (!attributes.isEmpty()) {
+                state.compareAndSet(State.NEW, State.STARTED);
+            }
+            if (isStarted()) {
+                try {
+                    // Yalnızca değişen öznitelikler yeniden serileştirilir, kilit dışında
+                    byte[] data = attributes.dirty ? codec.encode(attributes) : null;
+                    attributes.dirty = false;
+                    store(this, data);
+                } catch (IllegalStateException e) {
+                    return Mono.error(e);
+                }
+                if (state.get() == State.EXPIRED) {
+                    removeSession(id.get());
+                    return Mono.error(new IllegalStateException("Session was invalidated"));
+                }
+            }
+            return Mono.empty();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return switch (state.get()) {
+                case EXPIRED -> true;
+                case NEW -> false;
+                case STARTED -> !maxIdleTime.isNegative()
+                        && clock.instant().minus(maxIdleTime).compareTo(lastAccessTime) >= 0;
+            };
+        }
+    }
+
+    private enum State {
+        NEW, STARTED, EXPIRED
+    }
+
+    /**
+     * Attribute map that remembers whether it was modified, so unchanged
+     * sessions are saved without serializing them again.
+     */
+    @SuppressWarnings("serial")
+    private static final class TrackedAttributes extends ConcurrentHashMap<String, Object> {
+
+        private volatile boolean dirty;
+
+        TrackedAttributes(Map<String, Object> attributes) {
+            super(attributes);
+            // Yeni oturum ilk kayıtta boş da olsa yazılmalıdır
+            this.dirty = attributes.isEmpty();
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            dirty = true;
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ?> m) {
+            dirty = true;
+            super.putAll(m);
+        }
+
+        @Override
+        public Object putIfAbsent(String key, Object value) {
+            dirty = true;
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            dirty = true;
+            return super.remove(key);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            dirty = true;
+            return super.remove(key, value);
+        }
+
+        @Override
+        public Object replace(String key, Object value) {
+            dirty = true;
+            return super.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(String key, Object oldValue, Object newValue) {
+            dirty = true;
+            return super.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+            dirty = true;
+            super.replaceAll(function);
+        }
+
+        @Override
+        public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+            dirty = true;
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public Object computeIfPresent(String key,
+                BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            dirty = true;
+            return super.computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            dirty = true;
+            return super.compute(key, remappingFunction);
+        }
+
+        @Override
+        public Object merge(String key, Object value,
+                BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            dirty = true;
+            return super.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public void clear() {
+            dirty = true;
+            super.clear();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.turkcell.bff_service.session;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size pages carved out of one direct buffer. A value takes as many
+ * pages as it needs, in any order, so freeing never fragments the arena and
+ * the buffer size is a hard cap on the memory used. Not thread-safe.
+ */
+final class PageArena {
+
+    private final ByteBuffer memory;
+    private final int pageSize;
+    private final int[] freePages;
+    private int freeCount;
+
+    PageArena(long capacityBytes, int pageSize) {
+        if (pageSize < 64) {
+            throw new IllegalArgumentException("Page size must be at least 64 bytes");
+        }
+        long pages = capacityBytes / pageSize;
+        if (pages < 1 || pages * pageSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity must hold at least one page and at most 2 GB");
+        }
+        this.memory = ByteBuffer.allocateDirect((int) (pages * pageSize));
+        this.pageSize = pageSize;
+        this.freePages = new int[(int) pages];
+        for (int i = 0; i < freePages.length; i++) {
+            freePages[i] = freePages.length - 1 - i;
+        }
+        this.freeCount = freePages.length;
+    }
+
+    int pagesFor(int length) {
+        return (length + pageSize - 1) / pageSize;
+    }
+
+    int pageCount() {
+        return freePages.length;
+    }
+
+    int freePageCount() {
+        return freeCount;
+    }
+
+    long capacityBytes() {
+        return (long) freePages.length * pageSize;
+    }
+
+    long usedBytes() {
+        return (long) (freePages.length - freeCount) * pageSize;
+    }
+
+    /**
+     * @return the pages holding the data, or null if there are not enough
+     *         free pages
+     */
+    int[] write(byte[] data) {
+        int needed = pagesFor(data.length);
+        if (needed > freeCount) {
+            return null;
+        }
+        int[] pages = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            int page = freePages[--freeCount];
+            pages[i] = page;
+            int offset = i * pageSize;
+            memory.put(page * pageSize, data, offset, Math.min(pageSize, data.length - offset));
+        }
+        return pages;
+    }
+
+    byte[] read(int[] pages, int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < pages.length; i++) {
+            int offset = i * pageSize;
+            memory.get(pages[i] * pageSize, data, offset, Math.min(pageSize, length - offset));
+        }
+        return data;
+    }
+
+    void free(int[] pages) {
+        for (int page : pages) {
+            freePages[freeCount++] = page;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.turkcell.bff_service.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.core.ConfigurableObjectInputStream;
+
+/**
+ * Session attributes as deflated Java serialization. Spring Security keeps
+ * only Serializable types in the session (security context, OAuth2
+ * authorization request and authorized clients); the class descriptors that
+ * dominate their serialized form compress well.
+ */
+final class SessionAttributesCodec {
+
+    private final ClassLoader classLoader;
+
+    SessionAttributesCodec(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @throws IllegalStateException if an attribute is not serializable
+     */
+    byte[] encode(Map<String, Object> attributes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeObject(new HashMap<>(attributes));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize session attributes", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalStateException if the bytes no longer match the classes
+     *                               on the classpath
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> decode(byte[] data) {
+        Inflater inflater = new Inflater();
+        try (ObjectInputStream in = new ConfigurableObjectInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(data), inflater), classLoader)) {
+            return (Map<String, Object>) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new IllegalStateException("Could not deserialize session attributes", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.turkcell.bff_service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.WebSession;
+
+class OffHeapWebSessionStoreTest {
+
+	private final OffHeapWebSessionStore store = new OffHeapWebSessionStore(64 * 1024, 512,
+			getClass().getClassLoader());
+
+	@Test
+	void savedAttributesAreReadBackFromTheStore() {
+		WebSession session = store.createWebSession().block();
+		session.getAttributes().put("user", "alice");
+		session.getAttributes().put("roles", new ArrayList<>(List.of("admin", "user")));
+		session.save().block();
+
+		WebSession retrieved = store.retrieveSession(session.getId()).block();
+
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.getAttributes()).containsEntry("user", "alice")
+				.containsEntry("roles", List.of("admin", "user"));
+		assertThat(store.getSessionCount()).isEqualTo(1);
+		assertThat(store.getUsedBytes()).isPositive();
+	}
+
+	@Test
+	void leastRecentlyUsedSessionIsEvictedWhenTheStoreIsFull() {
+		// Sıkıştırılmış hali ~19 KB: 64 KB'lık alana üç oturum sığar
+		String payload = randomText(30_000);
+		String first = saveSession(payload);
+		String second = saveSession(payload);
+		String third = saveSession(payload);
+
+		// İlk oturuma erişildiği için sıradaki en eski oturum ikincisidir
+		assertThat(store.retrieveSession(first).block()).isNotNull();
+		String fourth = saveSession(payload);
+
+		assertThat(store.retrieveSession(second).block()).isNull();
+		assertThat(store.retrieveSession(first).block()).isNotNull();
+		assertThat(store.retrieveSession(third).block()).isNotNull();
+		assertThat(store.retrieveSession(fourth).block()).isNotNull();
+		assertThat(store.getCapacityEvictions()).isEqualTo(1);
+		assertThat(store.getUsedBytes()).isLessThanOrEqualTo(store.getCapacityBytes());
+	}
+
+	@Test
+	void idleSessionExpiresAndFreesItsPages() {
+		Instant start = Instant.parse("2026-01-01T00:00:00Z");
+		store.setClock(Clock.fixed(start, ZoneOffset.UTC));
+		store.setMaxIdleTime(Duration.ofMinutes(30));
+		String id = saveSession("value");
+
+		store.setClock(Clock.fixed(start.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+		assertThat(store.retrieveSession(id).block()).isNull();
+		assertThat(store.getSessionCount()).isZero();
+		assertThat(store.getUsedBytes()).isZero();
+		assertThat(store.getIdleEvictions()).isEqualTo(1);
+	}
+
+	@Test
+	void changedIdAndInvalidationAreApplied() {
+		WebSession session = store.createWebSession().block();
+		session.getAttributes().put("user", "alice");
+		session.save().block();
+		String oldId = session.getId();
+
+		session.changeSessionId().block();
+
+		assertThat(store.retrieveSession(oldId).block()).isNull();
+		assertThat(store.retrieveSession(session.getId()).block()).isNotNull();
+
+		session.invalidate().block();
+
+		assertThat(store.retrieveSession(session.getId()).block()).isNull();
+		assertThat(store.getUsedBytes()).isZero();
+	}
+
+	private String saveSession(String value) {
+		WebSession session = store.createWebSession().block();
+		session.getAttributes().put("value", value);
+		session.save().block();
+		return session.getId();
+	}
+
+	private static String randomText(int length) {
+		Random random = new Random(42);
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append((char) ('a' + random.nextInt(26)));
+		}
+		return text.toString();
+	}
+}
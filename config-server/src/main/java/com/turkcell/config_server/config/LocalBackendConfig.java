@@ -0,0 +1,57 @@
+package com.turkcell.config_server.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.config.server.config.ConfigServerProperties;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentProperties;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepositoryFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import com.turkcell.config_server.environment.CachingEnvironmentRepository;
+import com.turkcell.config_server.environment.ConfigurationsWatcher;
+import com.turkcell.config_server.web.EnvironmentEtagFilter;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Serves the repository's {@code configurations/} directory from the local
+ * filesystem instead of cloning the git remote.
+ * Enabled with the {@code local} profile; a custom EnvironmentRepository bean
+ * makes the default git backend back off.
+ */
+@Configuration
+@Profile("local")
+public class LocalBackendConfig {
+
+    @Bean
+    public CachingEnvironmentRepository cachingEnvironmentRepository(
+            ConfigurableEnvironment environment,
+            ConfigServerProperties serverProperties,
+            NativeEnvironmentProperties nativeProperties,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        NativeEnvironmentRepository nativeRepository = new NativeEnvironmentRepositoryFactory(
+                environment, serverProperties, observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .build(nativeProperties);
+        return new CachingEnvironmentRepository(nativeRepository);
+    }
+
+    @Bean
+    public ConfigurationsWatcher configurationsWatcher(
+            @Value("${config-server.local.root-dir}") Path rootDir,
+            CachingEnvironmentRepository repository) {
+        return new ConfigurationsWatcher(rootDir, repository);
+    }
+
+    @Bean
+    public FilterRegistrationBean<EnvironmentEtagFilter> environmentEtagFilter(
+            CachingEnvironmentRepository repository) {
+        return new FilterRegistrationBean<>(new EnvironmentEtagFilter(repository));
+    }
+}
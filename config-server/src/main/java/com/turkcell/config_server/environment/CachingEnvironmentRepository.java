@@ -0,0 +1,135 @@
+package com.turkcell.config_server.environment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.util.StringUtils;
+
+/**
+ * EnvironmentRepository decorator that keeps resolved environments in memory.
+ * Entries are keyed by application, profile and label and are only dropped
+ * when a file that can contribute to them changes on disk.
+ */
+public class CachingEnvironmentRepository implements EnvironmentRepository, SearchPathLocator {
+
+    private final EnvironmentRepository delegate;
+    private final SearchPathLocator locator;
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    public <T extends EnvironmentRepository & SearchPathLocator> CachingEnvironmentRepository(T delegate) {
+        this.delegate = delegate;
+        this.locator = delegate;
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label) {
+        return findOne(application, profile, label, false);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+        return copyOf(resolve(application, profile, label, includeOrigin).environment());
+    }
+
+    @Override
+    public Locations getLocations(String application, String profile, String label) {
+        return locator.getLocations(application, profile, label);
+    }
+
+    /**
+     * Returns the ETag of the environment, resolving and caching it on first
+     * access.
+     */
+    public String etag(String application, String profile, String label) {
+        return resolve(application, profile, label, false).etag();
+    }
+
+    /**
+     * Drops every cached environment of the given application. Applications
+     * are matched against each comma separated name of a cache key.
+     */
+    public void invalidateApplication(String application) {
+        cache.keySet().removeIf(key -> key.appliesTo(application));
+    }
+
+    /**
+     * Drops every cached environment, used when a shared file changes.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private Entry resolve(String application, String profile, String label, boolean includeOrigin) {
+        Key key = new Key(application, profile, label, includeOrigin);
+        return cache.computeIfAbsent(key, k -> {
+            Environment environment = delegate.findOne(application, profile, label, includeOrigin);
+            String etag = digest(environment);
+            if (environment.getVersion() == null) {
+                environment.setVersion(etag);
+            }
+            return new Entry(environment, '"' + etag + '"');
+        });
+    }
+
+    // Callers such as the encryptor may rewrite the environment, so the
+    // cached instance is never handed out directly.
+    private static Environment copyOf(Environment environment) {
+        Environment copy = new Environment(environment.getName(), environment.getProfiles(),
+                environment.getLabel(), environment.getVersion(), environment.getState());
+        copy.addAll(environment.getPropertySources());
+        return copy;
+    }
+
+    private static String digest(Environment environment) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            for (PropertySource source : environment.getPropertySources()) {
+                sha.update(source.getName().getBytes(StandardCharsets.UTF_8));
+                Map<String, Object> sorted = new TreeMap<>();
+                source.getSource().forEach((key, value) -> sorted.put(String.valueOf(key), value));
+                for (Map.Entry<String, Object> property : sorted.entrySet()) {
+                    sha.update(property.getKey().getBytes(StandardCharsets.UTF_8));
+                    sha.update((byte) '=');
+                    sha.update(String.valueOf(property.getValue()).getBytes(StandardCharsets.UTF_8));
+                    sha.update((byte) '\n');
+                }
+            }
+            return HexFormat.of().formatHex(sha.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(Environment environment, String etag) {
+    }
+
+    private record Key(String application, String profile, String label, boolean includeOrigin) {
+
+        Key {
+            label = Objects.requireNonNullElse(label, "");
+        }
+
+        boolean appliesTo(String name) {
+            for (String candidate : StringUtils.commaDelimitedListToStringArray(application)) {
+                if (candidate.trim().equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
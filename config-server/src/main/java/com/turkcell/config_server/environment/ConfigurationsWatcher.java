@@ -0,0 +1,127 @@
+package com.turkcell.config_server.environment;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Watches the local configurations directory and invalidates only the cached
+ * environments a changed file can contribute to.
+ * A file directly under the root is shared by every application, a file under
+ * {@code <root>/<application>/} only concerns that application.
+ */
+public class ConfigurationsWatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigurationsWatcher.class);
+
+    private final Path root;
+    private final CachingEnvironmentRepository repository;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+    private volatile WatchService watchService;
+    private volatile Thread thread;
+
+    public ConfigurationsWatcher(Path root, CachingEnvironmentRepository repository) {
+        this.root = root.toAbsolutePath().normalize();
+        this.repository = repository;
+    }
+
+    @Override
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerTree(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot watch configurations directory " + root, e);
+        }
+        thread = new Thread(this::watch, "configurations-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching {} for configuration changes", root);
+    }
+
+    @Override
+    public void stop() {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.debug("Failed to close watch service", e);
+            }
+        }
+        directories.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return watchService != null;
+    }
+
+    private void watch() {
+        while (watchService != null) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                    repository.invalidateAll();
+                    continue;
+                }
+                onChange(directory.resolve((Path) event.context()), event.kind());
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+        }
+    }
+
+    private void onChange(Path changed, WatchEvent.Kind<?> kind) {
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+            try {
+                registerTree(changed);
+            } catch (IOException e) {
+                log.warn("Cannot watch new directory {}", changed, e);
+            }
+        }
+        Path relative = root.relativize(changed);
+        if (relative.getNameCount() == 1 && !Files.isDirectory(changed)) {
+            log.debug("Shared configuration {} changed, invalidating all environments", relative);
+            repository.invalidateAll();
+        } else {
+            String application = relative.getName(0).toString();
+            log.debug("Configuration {} changed, invalidating {}", relative, application);
+            repository.invalidateApplication(application);
+        }
+    }
+
+    private void registerTree(Path start) throws IOException {
+        try (Stream<Path> paths = Files.walk(start)) {
+            for (Path directory : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+                WatchKey key = directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(key, directory);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.turkcell.config_server.web;
+
+import java.io.IOException;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.turkcell.config_server.environment.CachingEnvironmentRepository;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Adds an ETag to {@code /{application}/{profile}[/{label}]} responses and
+ * answers a matching {@code If-None-Match} with 304 straight from the cache,
+ * without rendering the environment again.
+ */
+public class EnvironmentEtagFilter extends OncePerRequestFilter {
+
+    private final CachingEnvironmentRepository repository;
+
+    public EnvironmentEtagFilter(CachingEnvironmentRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // Rendered files (*.yml, *.properties, *.json) and actuator go through as usual
+        return path.startsWith("/actuator") || path.indexOf('.') >= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String[] segments = path.substring(1).split("/");
+        if (segments.length < 2 || segments.length > 3) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Same normalization as EnvironmentController, so both share one cache entry
+        String application = Environment.normalize(segments[0]);
+        String label = segments.length == 3 ? Environment.normalize(segments[2]) : null;
+        String etag;
+        try {
+            etag = repository.etag(application, segments[1], label);
+        } catch (RuntimeException e) {
+            // Let the controller produce its usual error response
+            chain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals(etag) || ifNoneMatch.equals("W/" + etag))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.turkcell.discovery_server.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one client call type over a step's measured window. Latencies
+ * are in milliseconds from the intended send time; response bytes are as
+ * sent on the wire, i.e. gzip-compressed for registry fetches.
+ */
+record OperationResult(
+        double targetRatePerSecond,
+        long requests,
+        long errors,
+        long dropped,
+        double throughputPerSecond,
+        long meanResponseBytes,
+        Latency latencyMillis) {
+
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Latency of(Histogram micros) {
+            return new Latency(
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(90)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue()),
+                    Math.round(micros.getMean()) / 1000.0);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
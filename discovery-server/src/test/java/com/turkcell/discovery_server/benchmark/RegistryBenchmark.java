@@ -0,0 +1,251 @@
+package com.turkcell.discovery_server.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.FileSystemResource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.turkcell.discovery_server.DiscoveryServerApplication;
+
+/**
+ * Starts discovery-server in-process and drives it with thousands of
+ * simulated Eureka clients at increasing instance counts. Each step registers
+ * the additional instances, then runs renewals, delta fetches, occasional full
+ * fetches and instance replacements at the rates real clients would produce,
+ * and reports fetch latency and payload size, response cache hit ratios,
+ * server CPU and heap per instance.
+ *
+ * <pre>
+ * scripts/registry-benchmark.sh --instances=1000,5000 --duration=60
+ * </pre>
+ */
+public final class RegistryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryBenchmark.class);
+
+    private static final int REGISTRATION_CONCURRENCY = 64;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final String SERVER_SETTINGS_PREFIX = "eureka.server.";
+
+    private RegistryBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        RegistryBenchmarkOptions options = RegistryBenchmarkOptions.parse(args);
+        String startedAt = Instant.now().toString();
+        int port = freePort();
+        List<String> serverSettings = serverSettings(options);
+
+        // devtools test sınıf yolunda; restart sunucuyu ikinci bir class loader'da yeniden başlatmasın
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext server = new SpringApplicationBuilder(DiscoveryServerApplication.class)
+                .run(serverArgs(serverSettings, port).toArray(String[]::new));
+
+        AtomicInteger threadIds = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(32, runnable -> {
+            Thread thread = new Thread(runnable, ServerProbe.CLIENT_THREAD_PREFIX + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            URI eureka = URI.create("http://localhost:" + port + "/eureka/");
+            SimulatedClients clients = new SimulatedClients(client, eureka, options.applications(),
+                    options.maxInstances(), options.renewalInterval());
+            ServerProbe probe = new ServerProbe(server.getBean(PeerAwareInstanceRegistry.class),
+                    server.getBean(EurekaServerConfig.class));
+
+            long emptyHeap = probe.heapUsedAfterGc();
+            List<RegistryBenchmarkReport.Step> steps = new ArrayList<>();
+            int registered = 0;
+            for (int instances : options.instanceCounts()) {
+                log.info("Registering instances {} to {}", registered, instances);
+                OperationResult registration = register(clients, registered, instances);
+                registered = instances;
+                steps.add(runStep(options, clients, probe, instances, registration, emptyHeap));
+            }
+
+            writeReport(new RegistryBenchmarkReport(startedAt, options.applications(),
+                    options.renewalInterval().toSeconds(), options.fetchInterval().toSeconds(),
+                    options.warmup().toSeconds(), options.duration().toSeconds(), serverSettings, steps),
+                    options.out());
+        } finally {
+            server.close();
+        }
+    }
+
+    private static RegistryBenchmarkReport.Step runStep(RegistryBenchmarkOptions options, SimulatedClients clients,
+            ServerProbe probe, int instances, OperationResult registration, long emptyHeap)
+            throws InterruptedException {
+        double perInterval = instances / (double) options.renewalInterval().toSeconds();
+        double deltaRate = instances / (double) options.fetchInterval().toSeconds();
+        List<RegistryLoad.Stream> streams = List.of(
+                new RegistryLoad.Stream("renew", perInterval, sequence -> clients.renew((int) (sequence % instances))),
+                new RegistryLoad.Stream("delta", deltaRate, sequence -> clients.fetchDelta()),
+                new RegistryLoad.Stream("full", options.fullFetchesPerSecond(), sequence -> clients.fetchFull()),
+                new RegistryLoad.Stream("replace", options.churnPerSecond(),
+                        sequence -> clients.replace(ThreadLocalRandom.current().nextInt(instances))));
+
+        log.info("Running {} instances: {}/s renewals, {}/s delta fetches, {}s warm-up, {}s measured", instances,
+                Math.round(perInterval), Math.round(deltaRate), options.warmup().toSeconds(),
+                options.duration().toSeconds());
+        AtomicReference<ServerProbe.Snapshot> before = new AtomicReference<>();
+        Map<String, OperationResult> measured = RegistryLoad.run(streams, options.warmup(), options.duration(),
+                () -> before.set(probe.snapshot()));
+        ServerProbe.Snapshot after = probe.snapshot();
+        ServerProbe.Snapshot start = before.get();
+
+        Map<String, OperationResult> operations = new LinkedHashMap<>();
+        operations.put("register", registration);
+        operations.putAll(measured);
+        long heap = probe.heapUsedAfterGc();
+        RegistryBenchmarkReport.Step step = new RegistryBenchmarkReport.Step(instances, probe.registeredInstances(),
+                registration.throughputPerSecond(), operations,
+                ServerProbe.deltaCacheHitRatio(start, after),
+                probe.fullCacheHitRatio(start, after),
+                after.deltaBuilds() - start.deltaBuilds(),
+                ServerProbe.cpuCores(start, after),
+                heap, Math.max(0, heap - emptyHeap) / instances);
+        OperationResult delta = measured.get("delta");
+        log.info("{} instances: delta p99 {} ms, {} bytes, cache hit {}; server {} cores, {} heap bytes/instance",
+                instances, delta.latencyMillis().p99(), delta.meanResponseBytes(), step.deltaCacheHitRatio(),
+                step.serverCpuCores(), step.heapBytesPerInstance());
+        return step;
+    }
+
+    /**
+     * Registers slots {@code from} (inclusive) to {@code to} back to back with
+     * bounded concurrency, the way a large deploy brings instances up.
+     */
+    private static OperationResult register(SimulatedClients clients, int from, int to) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        Semaphore permits = new Semaphore(REGISTRATION_CONCURRENCY);
+        long begin = System.nanoTime();
+        for (int slot = from; slot < to; slot++) {
+            permits.acquire();
+            long start = System.nanoTime();
+            clients.register(slot).whenComplete((response, error) -> {
+                permits.release();
+                if (error != null || response.statusCode() >= 400) {
+                    errors.increment();
+                    return;
+                }
+                latencies.recordValue(Math.min((System.nanoTime() - start) / 1000, HIGHEST_TRACKABLE_MICROS));
+            });
+        }
+        permits.acquire(REGISTRATION_CONCURRENCY);
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        return new OperationResult(0, to - from, errors.sum(), 0, latencies.getTotalCount() / seconds, 0,
+                OperationResult.Latency.of(latencies));
+    }
+
+    private static List<String> serverSettings(RegistryBenchmarkOptions options) {
+        // Aynı anahtar iki kez verilirse Spring değerleri virgülle birleştirir; override deploy değerinin yerine geçer
+        Map<String, String> settings = deployedServerSettings(options.serverConfig());
+        List<String> args = new ArrayList<>();
+        for (String arg : options.serverArgs()) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                settings.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                args.add(arg);
+            }
+        }
+        settings.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return args;
+    }
+
+    /**
+     * Reads the {@code eureka.server} block of the discovery-server
+     * configuration. The in-process server runs without the config server, so
+     * the deployed tuning is passed on the command line; {@code --server-arg}
+     * overrides a setting to compare it against the deployed value.
+     */
+    private static Map<String, String> deployedServerSettings(Path serverConfig) {
+        if (!Files.isRegularFile(serverConfig)) {
+            throw new IllegalArgumentException("Server configuration not found: " + serverConfig.toAbsolutePath());
+        }
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new FileSystemResource(serverConfig));
+        Properties properties = yaml.getObject();
+        Map<String, String> settings = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(SERVER_SETTINGS_PREFIX)) {
+                settings.put(key, properties.getProperty(key));
+            }
+        }
+        if (settings.isEmpty()) {
+            throw new IllegalArgumentException("No eureka.server settings in " + serverConfig.toAbsolutePath());
+        }
+        return settings;
+    }
+
+    private static List<String> serverArgs(List<String> serverSettings, int port) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=" + port,
+                "--spring.config.import=",
+                "--spring.cloud.config.enabled=false",
+                // Tek başına çalışan sunucu: peer olarak yalnızca kendisi, replikasyon trafiği yok
+                "--eureka.instance.hostname=localhost",
+                "--eureka.client.register-with-eureka=false",
+                "--eureka.client.fetch-registry=false",
+                "--eureka.client.service-url.defaultZone=http://localhost:" + port + "/eureka/",
+                // Peer'dan kayıt gelmediği için varsayılan 5 dakika boyunca fetch isteklerine 403 döner
+                "--eureka.server.wait-time-in-ms-when-sync-empty=0",
+                "--logging.level.com.netflix.eureka=WARN",
+                "--logging.level.org.springframework.cloud.netflix.eureka=WARN"));
+        args.addAll(serverSettings);
+        return args;
+    }
+
+    private static void writeReport(RegistryBenchmarkReport report, Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), report);
+        log.info("Report written to {}", out);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
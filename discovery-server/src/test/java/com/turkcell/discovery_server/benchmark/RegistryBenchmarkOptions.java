@@ -0,0 +1,97 @@
+package com.turkcell.discovery_server.benchmark;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line options of the registry benchmark, all in {@code --name=value}
+ * form. Rates follow from the Eureka client defaults: every instance renews
+ * its lease and fetches the delta once per interval, so a step with N
+ * instances sends N / interval renewals and delta fetches per second.
+ * The server runs with the {@code eureka.server} tuning read from
+ * {@code --server-config}, the deployed configuration by default;
+ * {@code --server-arg} overrides a setting or passes an extra argument, e.g.
+ * {@code --server-arg=--eureka.server.use-read-only-response-cache=false}.
+ */
+record RegistryBenchmarkOptions(
+        List<Integer> instanceCounts,
+        int applications,
+        Duration warmup,
+        Duration duration,
+        Duration renewalInterval,
+        Duration fetchInterval,
+        double fullFetchesPerSecond,
+        double churnPerSecond,
+        Path out,
+        Path serverConfig,
+        List<String> serverArgs) {
+
+    static RegistryBenchmarkOptions parse(String[] args) {
+        List<Integer> counts = List.of(500, 1000, 2000, 5000);
+        int applications = 20;
+        Duration warmup = Duration.ofSeconds(15);
+        Duration duration = Duration.ofSeconds(60);
+        Duration renewalInterval = Duration.ofSeconds(30);
+        Duration fetchInterval = Duration.ofSeconds(30);
+        double fullFetches = 0.5;
+        double churn = 1;
+        Path out = Path.of("results/registry-benchmark.json");
+        // exec:exec discovery-server dizininde çalışır
+        Path serverConfig = Path.of("../configurations/discovery-server/application.yml");
+        List<String> serverArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "instances" -> counts = parseCounts(value);
+                case "applications" -> applications = Integer.parseInt(value);
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "renewal-interval" -> renewalInterval = Duration.ofSeconds(Long.parseLong(value));
+                case "fetch-interval" -> fetchInterval = Duration.ofSeconds(Long.parseLong(value));
+                case "full-fetch-rate" -> fullFetches = Double.parseDouble(value);
+                case "churn-rate" -> churn = Double.parseDouble(value);
+                case "out" -> out = Path.of(value);
+                case "server-config" -> serverConfig = Path.of(value);
+                case "server-arg" -> serverArgs.add(value);
+                default -> throw new IllegalArgumentException("Unrecognized option: --" + name);
+            }
+        }
+        if (applications <= 0) {
+            throw new IllegalArgumentException("--applications must be positive");
+        }
+        if (renewalInterval.isZero() || fetchInterval.isZero() || duration.isZero()) {
+            throw new IllegalArgumentException("--renewal-interval, --fetch-interval and --duration must be positive");
+        }
+        if (fullFetches < 0 || churn < 0) {
+            throw new IllegalArgumentException("--full-fetch-rate and --churn-rate must not be negative");
+        }
+        return new RegistryBenchmarkOptions(counts, applications, warmup, duration, renewalInterval, fetchInterval,
+                fullFetches, churn, out, serverConfig, serverArgs);
+    }
+
+    private static List<Integer> parseCounts(String value) {
+        List<Integer> counts = new ArrayList<>();
+        int previous = 0;
+        for (String part : value.split(",")) {
+            int count = Integer.parseInt(part.trim());
+            if (count <= previous) {
+                throw new IllegalArgumentException("--instances must be increasing positive counts: " + value);
+            }
+            counts.add(count);
+            previous = count;
+        }
+        return counts;
+    }
+
+    int maxInstances() {
+        return instanceCounts.get(instanceCounts.size() - 1);
+    }
+}
@@ -0,0 +1,45 @@
+package com.turkcell.discovery_server.benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JSON report of a run, one step per instance count.
+ *
+ * @param serverArgs server settings the run used: the deployed
+ *                   {@code eureka.server} tuning with any {@code --server-arg}
+ *                   overrides applied, so runs can be told apart
+ */
+record RegistryBenchmarkReport(
+        String startedAt,
+        int applications,
+        long renewalIntervalSeconds,
+        long fetchIntervalSeconds,
+        long warmupSeconds,
+        long durationSeconds,
+        List<String> serverArgs,
+        List<Step> steps) {
+
+    /**
+     * @param registrationsPerSecond rate at which the instances added in this
+     *                               step registered, back to back
+     * @param operations             per call type: register, renew, delta,
+     *                               full and replace (cancel plus register)
+     * @param serverCpuCores         CPU used by server threads in the measured
+     *                               window, in cores
+     * @param heapBytesPerInstance   heap growth over the empty server divided
+     *                               by the instance count
+     */
+    record Step(
+            int instances,
+            int registeredInstances,
+            double registrationsPerSecond,
+            Map<String, OperationResult> operations,
+            double deltaCacheHitRatio,
+            double fullCacheHitRatio,
+            long deltaPayloadBuilds,
+            double serverCpuCores,
+            long heapUsedAfterGcBytes,
+            long heapBytesPerInstance) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.turkcell.discovery_server.benchmark;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sends several request streams at once, each at its own constant arrival
+ * rate (open model). Latency is measured from the intended send time, so a
+ * server that falls behind shows up as queueing rather than as a lower rate.
+ */
+final class RegistryLoad {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    /**
+     * One kind of client call; {@code request} receives the stream's sequence
+     * number.
+     */
+    record Stream(String name, double ratePerSecond, LongFunction<CompletableFuture<HttpResponse<byte[]>>> request) {
+    }
+
+    private RegistryLoad() {
+    }
+
+    /**
+     * Runs the streams for {@code warmup + duration}; only requests intended
+     * after the warm-up are reported. {@code atMeasurementStart} runs once,
+     * right before the first measured request is sent.
+     */
+    static Map<String, OperationResult> run(List<Stream> streams, Duration warmup, Duration duration,
+            Runnable atMeasurementStart) throws InterruptedException {
+        List<Recorder> recorders = new ArrayList<>();
+        for (Stream stream : streams) {
+            if (stream.ratePerSecond() > 0) {
+                recorders.add(new Recorder(stream));
+            }
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        long begin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        long measureFrom = begin + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        boolean measuring = false;
+
+        while (true) {
+            Recorder next = null;
+            for (Recorder recorder : recorders) {
+                if (next == null || recorder.nextIntended(begin) < next.nextIntended(begin)) {
+                    next = recorder;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            long intended = next.nextIntended(begin);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && intended >= measureFrom) {
+                measuring = true;
+                atMeasurementStart.run();
+            }
+            next.send(intended, measuring, inFlight);
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        Map<String, OperationResult> results = new LinkedHashMap<>();
+        double seconds = duration.toNanos() / 1e9;
+        for (Recorder recorder : recorders) {
+            results.put(recorder.stream.name(), recorder.result(seconds));
+        }
+        return results;
+    }
+
+    private static final class Recorder {
+
+        private final Stream stream;
+        private final long interval;
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private long sequence;
+        private long requests;
+        private long dropped;
+
+        Recorder(Stream stream) {
+            this.stream = stream;
+            this.interval = Math.round(1e9 / stream.ratePerSecond());
+        }
+
+        long nextIntended(long begin) {
+            return begin + sequence * interval;
+        }
+
+        void send(long intended, boolean measured, AtomicInteger inFlight) {
+            long current = sequence++;
+            if (measured) {
+                requests++;
+            }
+            if (inFlight.get() >= MAX_IN_FLIGHT) {
+                // Sunucu tamamen tıkandı; sınırsız bellek yerine düşürülen istek olarak raporlanır
+                if (measured) {
+                    dropped++;
+                }
+                return;
+            }
+            inFlight.incrementAndGet();
+            stream.request().apply(current).whenComplete((response, error) -> {
+                long latencyMicros = (System.nanoTime() - intended) / 1000;
+                inFlight.decrementAndGet();
+                if (!measured) {
+                    return;
+                }
+                if (error != null || response.statusCode() >= 400) {
+                    errors.increment();
+                    return;
+                }
+                responseBytes.add(response.body().length);
+                latencies.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+            });
+        }
+
+        OperationResult result(double seconds) {
+            long succeeded = latencies.getTotalCount();
+            return new OperationResult(stream.ratePerSecond(), requests, errors.sum(), dropped, succeeded / seconds,
+                    succeeded > 0 ? responseBytes.sum() / succeeded : 0, OperationResult.Latency.of(latencies));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.turkcell.discovery_server.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.util.EurekaMonitors;
+
+/**
+ * Reads the server side of the in-process Eureka server: CPU time of its
+ * threads, heap after a full GC and the registry's response cache counters.
+ * Client threads are excluded from the CPU figure by name.
+ */
+final class ServerProbe {
+
+    static final String CLIENT_THREAD_PREFIX = "registry-client-";
+
+    private final PeerAwareInstanceRegistry registry;
+    private final int registryCopiesPerDeltaBuild;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    ServerProbe(PeerAwareInstanceRegistry registry, EurekaServerConfig config) {
+        this.registry = registry;
+        // Delta üretimi hash kodu için registry'yi kopyalar, bölgeler arası geri dönüş açıksa iki kez
+        this.registryCopiesPerDeltaBuild = config.disableTransparentFallbackToOtherRegion() ? 1 : 2;
+        if (threads.isThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+            threads.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    /**
+     * Counters at one point in time; two snapshots give the activity in
+     * between.
+     */
+    record Snapshot(long nanoTime, Map<Long, Long> threadCpuNanos, long fullRequests, long deltaRequests,
+            long registryCopies, long deltaBuilds) {
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(System.nanoTime(), serverThreadCpu(),
+                EurekaMonitors.GET_ALL.getCount(),
+                EurekaMonitors.GET_ALL_DELTA.getCount(),
+                EurekaMonitors.GET_ALL_CACHE_MISS.getCount(),
+                registry.getResponseCache().getVersionDelta().get());
+    }
+
+    /**
+     * Server CPU between two snapshots, in cores (1.0 is one core fully busy).
+     * Threads that ended in between are not counted.
+     */
+    static double cpuCores(Snapshot from, Snapshot to) {
+        long cpu = 0;
+        for (Map.Entry<Long, Long> thread : to.threadCpuNanos().entrySet()) {
+            cpu += thread.getValue() - from.threadCpuNanos().getOrDefault(thread.getKey(), 0L);
+        }
+        return (double) cpu / (to.nanoTime() - from.nanoTime());
+    }
+
+    /**
+     * Share of delta fetches served from the response cache. Every delta
+     * payload build bumps the cache's delta version, so builds are counted
+     * exactly.
+     */
+    static double deltaCacheHitRatio(Snapshot from, Snapshot to) {
+        return hitRatio(to.deltaRequests() - from.deltaRequests(), to.deltaBuilds() - from.deltaBuilds());
+    }
+
+    /**
+     * Share of full fetches served from the response cache. Eureka counts any
+     * full registry copy as a cache miss, including the copies a delta build
+     * makes for the reconcile hash code; those are subtracted.
+     */
+    double fullCacheHitRatio(Snapshot from, Snapshot to) {
+        long copies = to.registryCopies() - from.registryCopies();
+        long deltaBuilds = to.deltaBuilds() - from.deltaBuilds();
+        return hitRatio(to.fullRequests() - from.fullRequests(),
+                Math.max(0, copies - registryCopiesPerDeltaBuild * deltaBuilds));
+    }
+
+    private static double hitRatio(long requests, long misses) {
+        return requests > 0 ? Math.max(0, 1 - (double) misses / requests) : Double.NaN;
+    }
+
+    long heapUsedAfterGc() {
+        // Tek bir gc() çağrısı her toplayıcıda tam bir temizlik garantilemez
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    int registeredInstances() {
+        return registry.getApplications().getRegisteredApplications().stream()
+                .mapToInt(application -> application.getInstances().size())
+                .sum();
+    }
+
+    private Map<Long, Long> serverThreadCpu() {
+        Map<Long, Long> cpu = new HashMap<>();
+        long self = Thread.currentThread().threadId();
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info == null || info.getThreadId() == self || isClientThread(info.getThreadName())) {
+                continue;
+            }
+            long nanos = threads.getThreadCpuTime(info.getThreadId());
+            if (nanos >= 0) {
+                cpu.put(info.getThreadId(), nanos);
+            }
+        }
+        return cpu;
+    }
+
+    private static boolean isClientThread(String name) {
+        // JDK HttpClient'ın selector thread'i de istemci tarafında
+        return name.startsWith(CLIENT_THREAD_PREFIX) || name.startsWith("HttpClient-");
+    }
+}
@@ -0,0 +1,113 @@
+package com.turkcell.discovery_server.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Eureka clients reduced to the REST calls they make: register, renew,
+ * cancel, and full and delta registry fetches. Instance {@code slot} belongs
+ * to application {@code slot % applications}; re-registering a slot gives it a
+ * new instance ID, as a replaced pod would get.
+ */
+final class SimulatedClients {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI eureka;
+    private final int applications;
+    private final int leaseDurationSeconds;
+    private final int renewalIntervalSeconds;
+    private final AtomicIntegerArray generations;
+
+    SimulatedClients(HttpClient client, URI eureka, int applications, int maxInstances, Duration renewalInterval) {
+        this.client = client;
+        this.eureka = eureka;
+        this.applications = applications;
+        this.renewalIntervalSeconds = (int) renewalInterval.toSeconds();
+        // Eureka'nın varsayılanı gibi lease süresi yenileme aralığının üç katı
+        this.leaseDurationSeconds = renewalIntervalSeconds * 3;
+        this.generations = new AtomicIntegerArray(maxInstances);
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> register(int slot) {
+        String app = app(slot);
+        String body = """
+                {"instance":{"instanceId":"%s","hostName":"%s","app":"%s","ipAddr":"%s","status":"UP",\
+                "port":{"$":8080,"@enabled":"true"},"securePort":{"$":8443,"@enabled":"false"},\
+                "dataCenterInfo":{"@class":"com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo","name":"MyOwn"},\
+                "leaseInfo":{"renewalIntervalInSecs":%d,"durationInSecs":%d},\
+                "vipAddress":"%s","secureVipAddress":"%s","homePageUrl":"http://%s:8080/",\
+                "statusPageUrl":"http://%s:8080/actuator/info","healthCheckUrl":"http://%s:8080/actuator/health",\
+                "metadata":{"management.port":"8080"}}}"""
+                .formatted(instanceId(slot), host(slot), app, ip(slot), renewalIntervalSeconds, leaseDurationSeconds,
+                        app.toLowerCase(), app.toLowerCase(), host(slot), host(slot), host(slot));
+        return send(HttpRequest.newBuilder(eureka.resolve("apps/" + app))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> renew(int slot) {
+        return send(HttpRequest.newBuilder(instanceUri(slot)).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> cancel(int slot) {
+        return send(HttpRequest.newBuilder(instanceUri(slot)).DELETE());
+    }
+
+    /**
+     * Cancels the slot's instance and registers its replacement, the change a
+     * rolling deploy puts into the delta queue.
+     */
+    CompletableFuture<HttpResponse<byte[]>> replace(int slot) {
+        return cancel(slot).thenCompose(cancelled -> {
+            generations.incrementAndGet(slot);
+            return register(slot);
+        });
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> fetchFull() {
+        return fetch("apps/");
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> fetchDelta() {
+        return fetch("apps/delta");
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> fetch(String path) {
+        // Gerçek istemciler gibi JSON ve gzip; ölçülen boyut sıkıştırılmış yanıt
+        return send(HttpRequest.newBuilder(eureka.resolve(path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET());
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest.Builder request) {
+        return client.sendAsync(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI instanceUri(int slot) {
+        return eureka.resolve("apps/" + app(slot) + "/" + instanceId(slot));
+    }
+
+    private String app(int slot) {
+        return "BENCH-SERVICE-" + (slot % applications);
+    }
+
+    private String instanceId(int slot) {
+        return host(slot) + ":" + app(slot).toLowerCase() + ":" + generations.get(slot);
+    }
+
+    private static String host(int slot) {
+        return "bench-" + slot + ".internal";
+    }
+
+    private static String ip(int slot) {
+        return "10." + ((slot >> 16) & 0xff) + "." + ((slot >> 8) & 0xff) + "." + (slot & 0xff);
+    }
+}
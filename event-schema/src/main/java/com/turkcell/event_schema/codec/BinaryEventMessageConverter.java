@@ -0,0 +1,139 @@
+package com.turkcell.event_schema.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeType;
+
+import com.turkcell.event_schema.schema.EventSchema;
+import com.turkcell.event_schema.schema.RegisteredSchema;
+import com.turkcell.event_schema.schema.SchemaRegistry;
+import com.turkcell.event_schema.wire.WireReader;
+import com.turkcell.event_schema.wire.WireWriter;
+
+/**
+ * Spring message converter for {@value #CONTENT_TYPE}. A payload is framed as
+ * one magic byte, the varint schema id from the registry and the event's
+ * fields as written by its EventCodec.
+ * <p>
+ * All schema versions of every codec are registered when the converter is
+ * created, so a version that breaks the evolution rules fails at startup. A
+ * schema id the local registry does not know is still decoded: fields are
+ * self-describing and readers skip unknown ones.
+ */
+public class BinaryEventMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/vnd.turkcell.event";
+
+    static final byte MAGIC = (byte) 0xE7;
+
+    private final SchemaRegistry registry;
+    private final Map<Class<?>, Writer<?>> writers = new HashMap<>();
+
+    public BinaryEventMessageConverter(SchemaRegistry registry, List<EventCodec<?>> codecs) {
+        super(MimeType.valueOf(CONTENT_TYPE));
+        this.registry = registry;
+        for (EventCodec<?> codec : codecs) {
+            RegisteredSchema latest = null;
+            for (int version = 1; version <= codec.version(); version++) {
+                latest = registry.register(loadSchema(codec.subject(), version));
+            }
+            writers.put(codec.type(), new Writer<>(codec, latest.id()));
+        }
+    }
+
+    /**
+     * @return true if the payload starts like a frame written by this converter
+     *         rather than, say, JSON
+     */
+    public static boolean isEncoded(byte[] payload) {
+        return payload.length > 0 && payload[0] == MAGIC;
+    }
+
+    public byte[] encode(Object event) {
+        return writer(event.getClass()).write(event);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not a valid frame of
+     *                                  the given event type
+     */
+    public <T> T decode(byte[] payload, Class<T> type) {
+        Writer<?> writer = writer(type);
+        WireReader in = new WireReader(payload);
+        if (in.readRawByte() != MAGIC) {
+            throw new IllegalArgumentException("Payload is not a " + CONTENT_TYPE + " frame");
+        }
+        long schemaId = in.readRawVarint();
+        if (schemaId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid schema id " + schemaId);
+        }
+        registry.findById((int) schemaId).ifPresent(registered -> {
+            if (!registered.schema().subject().equals(writer.codec.subject())) {
+                throw new IllegalArgumentException("Expected a " + writer.codec.subject() + " event but got "
+                        + registered.schema().subject());
+            }
+        });
+        return type.cast(writer.codec.decode(in));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        return decode(payload, targetClass);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return encode(payload);
+    }
+
+    private Writer<?> writer(Class<?> type) {
+        Writer<?> writer = writers.get(type);
+        if (writer == null) {
+            throw new IllegalArgumentException("No event codec for " + type.getName());
+        }
+        return writer;
+    }
+
+    private static EventSchema loadSchema(String subject, int version) {
+        String resource = "schemas/" + subject + ".v" + version + ".schema";
+        try (InputStream in = BinaryEventMessageConverter.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Schema " + resource + " is not on the classpath");
+            }
+            EventSchema schema = EventSchema.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            if (!schema.subject().equals(subject) || schema.version() != version) {
+                throw new IllegalStateException(resource + " declares " + schema.subject() + " v" + schema.version());
+            }
+            return schema;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + resource, e);
+        }
+    }
+
+    private record Writer<T>(EventCodec<T> codec, int schemaId) {
+
+        byte[] write(Object event) {
+            WireWriter out = new WireWriter(64);
+            out.writeRawByte(MAGIC).writeRawVarint(schemaId);
+            codec.encode(codec.type().cast(event), out);
+            return out.toByteArray();
+        }
+    }
+}
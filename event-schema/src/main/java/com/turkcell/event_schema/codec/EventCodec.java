@@ -0,0 +1,33 @@
+package com.turkcell.event_schema.codec;
+
+import com.turkcell.event_schema.wire.WireReader;
+import com.turkcell.event_schema.wire.WireWriter;
+
+/**
+ * Hand-written binary mapping of one event type. Each codec writes the latest
+ * version of its schema, found on the classpath as
+ * {@code schemas/<subject>.v<version>.schema} together with every earlier
+ * version.
+ *
+ * @param <T> the event type
+ */
+public interface EventCodec<T> {
+
+    Class<T> type();
+
+    String subject();
+
+    /**
+     * @return the schema version this codec writes
+     */
+    int version();
+
+    void encode(T event, WireWriter out);
+
+    /**
+     * Reads the fields of an event; unknown field numbers must be skipped.
+     *
+     * @throws IllegalArgumentException if a required field is missing
+     */
+    T decode(WireReader in);
+}
@@ -0,0 +1,18 @@
+package com.turkcell.event_schema.events;
+
+/**
+ * Published by order-service when an order is placed, consumed by
+ * product-service. Schema: {@code schemas/OrderCreated.v2.schema}.
+ *
+ * @param quantity the units ordered; events written before the field existed
+ *                 carry none and read as 1
+ */
+public record OrderCreatedEvent(String productId, int quantity) {
+
+    public OrderCreatedEvent {
+        // v1 frame'leri ve eski outbox JSON'ları adet taşımaz
+        if (quantity == 0) {
+            quantity = 1;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.turkcell.event_schema.events;
+
+import com.turkcell.event_schema.codec.EventCodec;
+import com.turkcell.event_schema.wire.WireReader;
+import com.turkcell.event_schema.wire.WireType;
+import com.turkcell.event_schema.wire.WireWriter;
+
+public class OrderCreatedEventCodec implements EventCodec<OrderCreatedEvent> {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int QUANTITY = 2;
+    private static final int PRODUCT_ID_TAG = WireType.LEN.tag(PRODUCT_ID);
+    private static final int QUANTITY_TAG = WireType.VARINT.tag(QUANTITY);
+
+    @Override
+    public Class<OrderCreatedEvent> type() {
+        return OrderCreatedEvent.class;
+    }
+
+    @Override
+    public String subject() {
+        return "OrderCreated";
+    }
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public void encode(OrderCreatedEvent event, WireWriter out) {
+        out.writeString(PRODUCT_ID, event.productId())
+                .writeInt(QUANTITY, event.quantity());
+    }
+
+    @Override
+    public OrderCreatedEvent decode(WireReader in) {
+        String productId = null;
+        int quantity = 0;
+        while (in.hasRemaining()) {
+            int tag = in.readTag();
+            if (tag == PRODUCT_ID_TAG) {
+                productId = in.readString();
+            } else if (tag == QUANTITY_TAG) {
+                quantity = in.readInt();
+            } else {
+                in.skip(tag);
+            }
+        }
+        if (productId == null) {
+            throw new IllegalArgumentException("OrderCreated event has no productId");
+        }
+        return new OrderCreatedEvent(productId, quantity);
+    }
+}
@@ -0,0 +1,14 @@
+package com.turkcell.event_schema.events;
+
+/**
+ * Current state of a product, published by product-service on the compacted
+ * product-topic whenever the product is written. Schema:
+ * {@code schemas/ProductChanged.v1.schema}.
+ *
+ * @param version    the product's optimistic lock version; readers drop
+ *                   states older than the one they hold
+ * @param priceMinor the price in minor units, e.g. 1999 for 19.99
+ */
+public record ProductChangedEvent(String productId, long version, String name, long priceMinor, String currency,
+        int stock) {
+}
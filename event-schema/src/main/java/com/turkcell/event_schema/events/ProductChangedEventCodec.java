@@ -0,0 +1,90 @@
+package com.turkcell.event_schema.events;
+
+import com.turkcell.event_schema.codec.EventCodec;
+import com.turkcell.event_schema.wire.WireReader;
+import com.turkcell.event_schema.wire.WireType;
+import com.turkcell.event_schema.wire.WireWriter;
+
+public class ProductChangedEventCodec implements EventCodec<ProductChangedEvent> {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int VERSION = 2;
+    private static final int NAME = 3;
+    private static final int PRICE_MINOR = 4;
+    private static final int CURRENCY = 5;
+    private static final int STOCK = 6;
+
+    private static final int PRODUCT_ID_TAG = WireType.LEN.tag(PRODUCT_ID);
+    private static final int VERSION_TAG = WireType.VARINT.tag(VERSION);
+    private static final int NAME_TAG = WireType.LEN.tag(NAME);
+    private static final int PRICE_MINOR_TAG = WireType.VARINT.tag(PRICE_MINOR);
+    private static final int CURRENCY_TAG = WireType.LEN.tag(CURRENCY);
+    private static final int STOCK_TAG = WireType.VARINT.tag(STOCK);
+
+    // Zorunlu alanların okunduğunu izleyen bit maskesi
+    private static final int ALL_FIELDS = 0b111111;
+
+    @Override
+    public Class<ProductChangedEvent> type() {
+        return ProductChangedEvent.class;
+    }
+
+    @Override
+    public String subject() {
+        return "ProductChanged";
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(ProductChangedEvent event, WireWriter out) {
+        out.writeString(PRODUCT_ID, event.productId())
+                .writeLong(VERSION, event.version())
+                .writeString(NAME, event.name())
+                .writeLong(PRICE_MINOR, event.priceMinor())
+                .writeString(CURRENCY, event.currency())
+                .writeInt(STOCK, event.stock());
+    }
+
+    @Override
+    public ProductChangedEvent decode(WireReader in) {
+        String productId = null;
+        long version = 0;
+        String name = null;
+        long priceMinor = 0;
+        String currency = null;
+        int stock = 0;
+        int seen = 0;
+        while (in.hasRemaining()) {
+            int tag = in.readTag();
+            if (tag == PRODUCT_ID_TAG) {
+                productId = in.readString();
+                seen |= 1;
+            } else if (tag == VERSION_TAG) {
+                version = in.readLong();
+                seen |= 1 << 1;
+            } else if (tag == NAME_TAG) {
+                name = in.readString();
+                seen |= 1 << 2;
+            } else if (tag == PRICE_MINOR_TAG) {
+                priceMinor = in.readLong();
+                seen |= 1 << 3;
+            } else if (tag == CURRENCY_TAG) {
+                currency = in.readString();
+                seen |= 1 << 4;
+            } else if (tag == STOCK_TAG) {
+                stock = in.readInt();
+                seen |= 1 << 5;
+            } else {
+                in.skip(tag);
+            }
+        }
+        if (seen != ALL_FIELDS) {
+            throw new IllegalArgumentException("ProductChanged event is missing required fields");
+        }
+        return new ProductChangedEvent(productId, version, name, priceMinor, currency, stock);
+    }
+}
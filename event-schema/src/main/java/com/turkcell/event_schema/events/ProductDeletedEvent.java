@@ -0,0 +1,8 @@
+package com.turkcell.event_schema.events;
+
+/**
+ * Published by product-service on product-topic once a product is deleted.
+ * Schema: {@code schemas/ProductDeleted.v1.schema}.
+ */
+public record ProductDeletedEvent(String productId) {
+}
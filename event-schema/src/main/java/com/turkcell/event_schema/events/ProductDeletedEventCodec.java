@@ -0,0 +1,49 @@
+package com.turkcell.event_schema.events;
+
+import com.turkcell.event_schema.codec.EventCodec;
+import com.turkcell.event_schema.wire.WireReader;
+import com.turkcell.event_schema.wire.WireType;
+import com.turkcell.event_schema.wire.WireWriter;
+
+public class ProductDeletedEventCodec implements EventCodec<ProductDeletedEvent> {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int PRODUCT_ID_TAG = WireType.LEN.tag(PRODUCT_ID);
+
+    @Override
+    public Class<ProductDeletedEvent> type() {
+        return ProductDeletedEvent.class;
+    }
+
+    @Override
+    public String subject() {
+        return "ProductDeleted";
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void encode(ProductDeletedEvent event, WireWriter out) {
+        out.writeString(PRODUCT_ID, event.productId());
+    }
+
+    @Override
+    public ProductDeletedEvent decode(WireReader in) {
+        String productId = null;
+        while (in.hasRemaining()) {
+            int tag = in.readTag();
+            if (tag == PRODUCT_ID_TAG) {
+                productId = in.readString();
+            } else {
+                in.skip(tag);
+            }
+        }
+        if (productId == null) {
+            throw new IllegalArgumentException("ProductDeleted event has no productId");
+        }
+        return new ProductDeletedEvent(productId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.turkcell.event_schema.schema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A version of an event's field list, read from the line based schema format:
+ *
+ * <pre>
+ * # comment
+ * event OrderCreated
+ * version 1
+ * field 1 productId string required
+ * field 2 quantity int optional
+ * </pre>
+ */
+public record EventSchema(String subject, int version, List<FieldDefinition> fields) {
+
+    public EventSchema {
+        if (subject == null || subject.isBlank()) {
+            throw new IllegalArgumentException("Schema subject cannot be empty");
+        }
+        if (version < 1) {
+            throw new IllegalArgumentException("Schema version must be at least 1");
+        }
+        fields = List.copyOf(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            for (int j = i + 1; j < fields.size(); j++) {
+                if (fields.get(i).number() == fields.get(j).number()) {
+                    throw new IllegalArgumentException(
+                            subject + " v" + version + " uses field number " + fields.get(i).number() + " twice");
+                }
+                if (fields.get(i).name().equals(fields.get(j).name())) {
+                    throw new IllegalArgumentException(
+                            subject + " v" + version + " uses field name " + fields.get(i).name() + " twice");
+                }
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text is not a valid schema
+     */
+    public static EventSchema parse(String text) {
+        String subject = null;
+        int version = 0;
+        List<FieldDefinition> fields = new ArrayList<>();
+        for (String rawLine : text.split("\n")) {
+            String line = rawLine.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            try {
+                switch (parts[0]) {
+                    case "event" -> subject = parts[1];
+                    case "version" -> version = Integer.parseInt(parts[1]);
+                    case "field" -> fields.add(new FieldDefinition(Integer.parseInt(parts[1]), parts[2],
+                            FieldType.valueOf(parts[3].toUpperCase(Locale.ROOT)), isRequired(parts[4])));
+                    default -> throw new IllegalArgumentException("Unknown schema keyword: " + parts[0]);
+                }
+            } catch (ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Incomplete schema line: " + line);
+            }
+        }
+        return new EventSchema(subject, version, fields);
+    }
+
+    public Optional<FieldDefinition> field(int number) {
+        for (FieldDefinition field : fields) {
+            if (field.number() == number) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The schema without comments and with fields ordered by number; two
+     * schemas are the same if their canonical forms are.
+     */
+    public String toCanonicalString() {
+        StringBuilder text = new StringBuilder()
+                .append("event ").append(subject).append('\n')
+                .append("version ").append(version).append('\n');
+        fields.stream()
+                .sorted((a, b) -> Integer.compare(a.number(), b.number()))
+                .forEach(field -> text.append("field ").append(field.number()).append(' ')
+                        .append(field.name()).append(' ')
+                        .append(field.type().name().toLowerCase(Locale.ROOT)).append(' ')
+                        .append(field.required() ? "required" : "optional").append('\n'));
+        return text.toString();
+    }
+
+    public String fingerprint() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(toCanonicalString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static boolean isRequired(String presence) {
+        return switch (presence) {
+            case "required" -> true;
+            case "optional" -> false;
+            default -> throw new IllegalArgumentException("Field presence must be required or optional: " + presence);
+        };
+    }
+}
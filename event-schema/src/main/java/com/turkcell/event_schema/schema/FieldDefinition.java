@@ -0,0 +1,20 @@
+package com.turkcell.event_schema.schema;
+
+/**
+ * One field of an event schema. The number, not the name, identifies the
+ * field on the wire.
+ */
+public record FieldDefinition(int number, String name, FieldType type, boolean required) {
+
+    public FieldDefinition {
+        if (number < 1 || number > (Integer.MAX_VALUE >>> 3)) {
+            throw new IllegalArgumentException("Field number out of range: " + number);
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Field name cannot be empty");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Field type cannot be null");
+        }
+    }
+}
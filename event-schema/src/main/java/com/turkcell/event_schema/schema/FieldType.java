@@ -0,0 +1,21 @@
+package com.turkcell.event_schema.schema;
+
+import com.turkcell.event_schema.wire.WireType;
+
+public enum FieldType {
+    STRING(WireType.LEN),
+    BYTES(WireType.LEN),
+    INT(WireType.VARINT),
+    LONG(WireType.VARINT),
+    BOOLEAN(WireType.VARINT);
+
+    private final WireType wireType;
+
+    FieldType(WireType wireType) {
+        this.wireType = wireType;
+    }
+
+    public WireType wireType() {
+        return wireType;
+    }
+}
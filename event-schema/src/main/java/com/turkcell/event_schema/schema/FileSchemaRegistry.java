@@ -0,0 +1,137 @@
+package com.turkcell.event_schema.schema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for a schema registry service: every registered version is
+ * kept as {@code <subject>.v<version>.schema} in a directory, and an
+ * {@code index} file lists them. Services on the same machine share the
+ * directory, so a file lock serialises registrations across processes.
+ * <p>
+ * Ids are not allocated but derived from subject and version (see
+ * {@link RegisteredSchema#idOf}), so registries on different hosts, each with
+ * its own directory, agree on them; the ids in the index are only informative.
+ */
+public class FileSchemaRegistry implements SchemaRegistry {
+
+    private static final String INDEX = "index";
+    private static final String LOCK = ".lock";
+
+    private final Path directory;
+    private final Map<Integer, RegisteredSchema> byId = new ConcurrentHashMap<>();
+    private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+    public FileSchemaRegistry(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create schema registry directory " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized RegisteredSchema register(EventSchema schema) {
+        try (FileChannel channel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+                FileLock lock = channel.lock()) {
+            reload();
+            List<RegisteredSchema> history = history(schema.subject());
+            for (RegisteredSchema registered : history) {
+                if (registered.schema().version() == schema.version()) {
+                    if (registered.schema().fingerprint().equals(schema.fingerprint())) {
+                        return registered;
+                    }
+                    throw new IncompatibleSchemaException(schema,
+                            List.of("v" + schema.version() + " is already registered with different content"));
+                }
+            }
+
+            List<EventSchema> previous = history.stream().map(RegisteredSchema::schema).toList();
+            List<String> violations = SchemaCompatibility.check(previous, schema);
+            if (!violations.isEmpty()) {
+                throw new IncompatibleSchemaException(schema, violations);
+            }
+
+            int id = RegisteredSchema.idOf(schema.subject(), schema.version());
+            RegisteredSchema taken = byId.get(id);
+            if (taken != null) {
+                throw new IllegalStateException("Schema id " + id + " of " + schema.subject() + " v"
+                        + schema.version() + " is already used by " + taken.schema().subject() + " v"
+                        + taken.schema().version());
+            }
+            String file = schema.subject() + ".v" + schema.version() + ".schema";
+            Files.writeString(directory.resolve(file), schema.toCanonicalString(), StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve(INDEX), id + " " + file + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            RegisteredSchema registered = new RegisteredSchema(id, schema);
+            byId.put(id, registered);
+            loaded.add(file);
+            return registered;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not register " + schema.subject() + " v" + schema.version(), e);
+        }
+    }
+
+    @Override
+    public Optional<RegisteredSchema> findById(int id) {
+        RegisteredSchema registered = byId.get(id);
+        if (registered == null) {
+            // Başka bir süreç kaydetmiş olabilir, index bir kez yeniden okunur
+            synchronized (this) {
+                reload();
+            }
+            registered = byId.get(id);
+        }
+        return Optional.ofNullable(registered);
+    }
+
+    @Override
+    public List<RegisteredSchema> history(String subject) {
+        List<RegisteredSchema> history = new ArrayList<>();
+        for (RegisteredSchema registered : byId.values()) {
+            if (registered.schema().subject().equals(subject)) {
+                history.add(registered);
+            }
+        }
+        history.sort((a, b) -> Integer.compare(a.schema().version(), b.schema().version()));
+        return history;
+    }
+
+    private void reload() {
+        Path index = directory.resolve(INDEX);
+        if (!Files.exists(index)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                // Eski dizinlerde sırayla verilmiş id'ler olabilir, id her zaman subject ve sürümden hesaplanır
+                String file = line.split(" ")[1];
+                if (loaded.add(file)) {
+                    EventSchema schema = EventSchema.parse(
+                            Files.readString(directory.resolve(file), StandardCharsets.UTF_8));
+                    int id = RegisteredSchema.idOf(schema.subject(), schema.version());
+                    byId.putIfAbsent(id, new RegisteredSchema(id, schema));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read schema registry index in " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.turkcell.event_schema.schema;
+
+import java.util.List;
+
+public class IncompatibleSchemaException extends RuntimeException {
+
+    private final List<String> violations;
+
+    public IncompatibleSchemaException(EventSchema schema, List<String> violations) {
+        super(schema.subject() + " v" + schema.version() + " cannot be registered: " + String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.event_schema.schema;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A schema version together with the id that identifies it in event frames.
+ */
+public record RegisteredSchema(int id, EventSchema schema) {
+
+    /**
+     * Derives the id of a schema version from its subject and version alone
+     * (31-bit FNV-1a), so every registry assigns the same id no matter which
+     * host or in which order the versions were registered.
+     *
+     * @return a positive id
+     */
+    public static int idOf(String subject, int version) {
+        int hash = 0x811c9dc5;
+        for (byte b : (subject + ".v" + version).getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x01000193;
+        }
+        int id = hash & Integer.MAX_VALUE;
+        return id != 0 ? id : 1;
+    }
+}
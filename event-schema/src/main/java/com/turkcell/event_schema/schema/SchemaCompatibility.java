@@ -0,0 +1,77 @@
+package com.turkcell.event_schema.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evolution rules for event schemas. A new version must stay readable by
+ * consumers built against any earlier version and must be able to read
+ * events written with any of them:
+ * <ol>
+ * <li>versions of a subject are numbered 1, 2, 3... without gaps;</li>
+ * <li>a field number keeps its type forever, also after the field has been
+ * removed, so an old value is never read as something else;</li>
+ * <li>fields may be renamed, the wire format only carries numbers;</li>
+ * <li>new fields must be optional and readers must tolerate their absence;</li>
+ * <li>required fields can be neither removed nor made optional, and optional
+ * fields cannot become required.</li>
+ * </ol>
+ * Readers skip field numbers they do not know, which is what makes adding
+ * optional fields safe in both directions.
+ */
+public final class SchemaCompatibility {
+
+    private SchemaCompatibility() {
+    }
+
+    /**
+     * @param history   registered versions of the subject, oldest first
+     * @param candidate the version to add
+     * @return rule violations, empty if the candidate can be registered
+     */
+    public static List<String> check(List<EventSchema> history, EventSchema candidate) {
+        List<String> violations = new ArrayList<>();
+        int expectedVersion = history.isEmpty() ? 1 : history.get(history.size() - 1).version() + 1;
+        if (candidate.version() != expectedVersion) {
+            violations.add("expected version " + expectedVersion + " but got " + candidate.version());
+        }
+
+        for (FieldDefinition field : candidate.fields()) {
+            boolean known = false;
+            for (EventSchema previous : history) {
+                FieldDefinition old = previous.field(field.number()).orElse(null);
+                if (old == null) {
+                    continue;
+                }
+                known = true;
+                if (old.type() != field.type()) {
+                    violations.add("field " + field.number() + " was " + old.type() + " in v" + previous.version()
+                            + " and cannot become " + field.type());
+                }
+            }
+            if (!known && !history.isEmpty() && field.required()) {
+                violations.add("new field " + field.number() + " (" + field.name() + ") must be optional");
+            }
+        }
+
+        if (!history.isEmpty()) {
+            EventSchema latest = history.get(history.size() - 1);
+            for (FieldDefinition old : latest.fields()) {
+                FieldDefinition current = candidate.field(old.number()).orElse(null);
+                if (current == null) {
+                    if (old.required()) {
+                        violations.add("required field " + old.number() + " (" + old.name() + ") cannot be removed");
+                    }
+                } else if (current.required() != old.required()) {
+                    violations.add("field " + old.number() + " (" + old.name() + ") cannot change from "
+                            + presence(old) + " to " + presence(current));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static String presence(FieldDefinition field) {
+        return field.required() ? "required" : "optional";
+    }
+}
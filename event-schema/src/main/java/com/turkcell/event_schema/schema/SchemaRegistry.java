@@ -0,0 +1,28 @@
+package com.turkcell.event_schema.schema;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Assigns ids to event schema versions and enforces the SchemaCompatibility
+ * rules when a version is added.
+ */
+public interface SchemaRegistry {
+
+    /**
+     * Registers a schema version, or returns the existing registration if the
+     * same version with the same content is already known.
+     *
+     * @throws IncompatibleSchemaException if the version breaks the evolution
+     *                                     rules or differs from an already
+     *                                     registered one
+     */
+    RegisteredSchema register(EventSchema schema);
+
+    Optional<RegisteredSchema> findById(int id);
+
+    /**
+     * @return registered versions of the subject, oldest first
+     */
+    List<RegisteredSchema> history(String subject);
+}
@@ -0,0 +1,120 @@
+package com.turkcell.event_schema.wire;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads fields written by WireWriter. Malformed or truncated input raises
+ * IllegalArgumentException, the same as any other event that cannot be
+ * parsed. Not thread-safe.
+ */
+public final class WireReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public WireReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public WireReader(byte[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") out of bounds");
+        }
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    /**
+     * @return the next tag; compare it with {@link WireType#tag(int)} and pass
+     *         unknown ones to {@link #skip(int)}
+     */
+    public int readTag() {
+        long tag = readRawVarint();
+        if (tag <= 0 || tag > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid field tag " + tag);
+        }
+        return (int) tag;
+    }
+
+    public String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = readLength();
+        byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return value;
+    }
+
+    public long readLong() {
+        long raw = readRawVarint();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readInt() {
+        long value = readLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value does not fit in an int: " + value);
+        }
+        return (int) value;
+    }
+
+    public boolean readBoolean() {
+        return readRawVarint() != 0;
+    }
+
+    public byte readRawByte() {
+        if (position >= limit) {
+            throw truncated();
+        }
+        return buffer[position++];
+    }
+
+    public long readRawVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readRawByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Skips the value of a field this reader does not know.
+     */
+    public void skip(int tag) {
+        switch (WireType.of(tag)) {
+            case VARINT -> readRawVarint();
+            case LEN -> {
+                int length = readLength();
+                position += length;
+            }
+        }
+    }
+
+    private int readLength() {
+        long length = readRawVarint();
+        if (length < 0 || length > limit - position) {
+            throw truncated();
+        }
+        return (int) length;
+    }
+
+    private static IllegalArgumentException truncated() {
+        return new IllegalArgumentException("Truncated event payload");
+    }
+}
@@ -0,0 +1,43 @@
+package com.turkcell.event_schema.wire;
+
+/**
+ * How a field value is laid out after its tag. Unknown fields can be skipped
+ * by wire type alone, which is what lets old readers accept newer events.
+ */
+public enum WireType {
+
+    /** Base-128 varint: int, long (both zigzag) and boolean. */
+    VARINT(0),
+
+    /** Varint length followed by that many bytes: string and bytes. */
+    LEN(2);
+
+    private final int id;
+
+    WireType(int id) {
+        this.id = id;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    /**
+     * @param fieldNumber field number from the schema, at least 1
+     * @return the tag that precedes a value of this type for the field
+     */
+    public int tag(int fieldNumber) {
+        if (fieldNumber < 1 || fieldNumber > (Integer.MAX_VALUE >>> 3)) {
+            throw new IllegalArgumentException("Field number out of range: " + fieldNumber);
+        }
+        return fieldNumber << 3 | id;
+    }
+
+    static WireType of(int tag) {
+        return switch (tag & 7) {
+            case 0 -> VARINT;
+            case 2 -> LEN;
+            default -> throw new IllegalArgumentException("Unknown wire type in tag " + tag);
+        };
+    }
+}
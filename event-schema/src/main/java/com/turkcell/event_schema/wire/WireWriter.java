@@ -0,0 +1,105 @@
+package com.turkcell.event_schema.wire;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Appends tag-length-value encoded fields to a growable byte array. Integers
+ * are zigzag varints, so small values of either sign take one or two bytes.
+ * Not thread-safe.
+ */
+public final class WireWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public WireWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public WireWriter writeString(int fieldNumber, String value) {
+        writeRawVarint(WireType.LEN.tag(fieldNumber));
+        int length = value.length();
+        if (isAscii(value, length)) {
+            // ASCII metinde karakter başına bir byte, ara dizi oluşturmadan yazılır
+            writeRawVarint(length);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return this;
+        }
+        return writeLengthDelimited(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public WireWriter writeBytes(int fieldNumber, byte[] value) {
+        writeRawVarint(WireType.LEN.tag(fieldNumber));
+        return writeLengthDelimited(value);
+    }
+
+    public WireWriter writeLong(int fieldNumber, long value) {
+        writeRawVarint(WireType.VARINT.tag(fieldNumber));
+        writeRawVarint((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    public WireWriter writeInt(int fieldNumber, int value) {
+        return writeLong(fieldNumber, value);
+    }
+
+    public WireWriter writeBoolean(int fieldNumber, boolean value) {
+        writeRawVarint(WireType.VARINT.tag(fieldNumber));
+        writeRawVarint(value ? 1 : 0);
+        return this;
+    }
+
+    /**
+     * Writes an unsigned varint without a tag, e.g. for a frame header.
+     */
+    public WireWriter writeRawVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public WireWriter writeRawByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private WireWriter writeLengthDelimited(byte[] value) {
+        writeRawVarint(value.length);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+        return this;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (buffer.length - position < additional) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+
+    private static boolean isAscii(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
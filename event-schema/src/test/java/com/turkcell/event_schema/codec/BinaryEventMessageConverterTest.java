@@ -0,0 +1,118 @@
+package com.turkcell.event_schema.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.turkcell.event_schema.events.OrderCreatedEvent;
+import com.turkcell.event_schema.events.OrderCreatedEventCodec;
+import com.turkcell.event_schema.events.ProductChangedEvent;
+import com.turkcell.event_schema.events.ProductChangedEventCodec;
+import com.turkcell.event_schema.events.ProductDeletedEvent;
+import com.turkcell.event_schema.events.ProductDeletedEventCodec;
+import com.turkcell.event_schema.schema.FileSchemaRegistry;
+import com.turkcell.event_schema.schema.RegisteredSchema;
+import com.turkcell.event_schema.wire.WireWriter;
+
+class BinaryEventMessageConverterTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void roundTripsThroughSpringMessages() {
+		BinaryEventMessageConverter converter = converter();
+		OrderCreatedEvent event = new OrderCreatedEvent(UUID.randomUUID().toString(), 3);
+
+		Message<?> message = converter.toMessage(event, new MessageHeaders(
+				Map.of(MessageHeaders.CONTENT_TYPE, BinaryEventMessageConverter.CONTENT_TYPE)));
+
+		byte[] payload = (byte[]) message.getPayload();
+		assertThat(BinaryEventMessageConverter.isEncoded(payload)).isTrue();
+		assertThat(payload.length).isLessThan("{\"productId\":\"\"}".length() + event.productId().length());
+		assertThat(converter.fromMessage(message, OrderCreatedEvent.class)).isEqualTo(event);
+	}
+
+	@Test
+	void fieldsOfNewerVersionsAreSkipped() {
+		WireWriter newer = new WireWriter(64)
+				.writeRawByte(BinaryEventMessageConverter.MAGIC)
+				.writeRawVarint(99)
+				.writeLong(7, -42)
+				.writeString(1, "p-1")
+				.writeBytes(8, new byte[] { 1, 2, 3 });
+
+		assertThat(converter().decode(newer.toByteArray(), OrderCreatedEvent.class))
+				.isEqualTo(new OrderCreatedEvent("p-1", 1));
+	}
+
+	@Test
+	void versionOneOrdersReadAsOneUnit() {
+		WireWriter v1 = new WireWriter(64)
+				.writeRawByte(BinaryEventMessageConverter.MAGIC)
+				.writeRawVarint(RegisteredSchema.idOf("OrderCreated", 1))
+				.writeString(1, "p-1");
+
+		assertThat(converter().decode(v1.toByteArray(), OrderCreatedEvent.class).quantity()).isEqualTo(1);
+	}
+
+	@Test
+	void invalidPayloadsAreRejected() {
+		BinaryEventMessageConverter converter = converter();
+		byte[] json = "{\"productId\":\"p-1\"}".getBytes(StandardCharsets.UTF_8);
+		byte[] truncated = converter.encode(new OrderCreatedEvent("p-1", 2));
+
+		assertThat(BinaryEventMessageConverter.isEncoded(json)).isFalse();
+		assertThatThrownBy(() -> converter.decode(json, OrderCreatedEvent.class))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> converter.decode(Arrays.copyOf(truncated, truncated.length - 1),
+				OrderCreatedEvent.class))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(converter.fromMessage(MessageBuilder.withPayload(truncated).build(), String.class)).isNull();
+	}
+
+	@Test
+	void productEventsRoundTripAndAreNotReadAsEachOther() {
+		BinaryEventMessageConverter converter = converter();
+		ProductChangedEvent changed = new ProductChangedEvent(UUID.randomUUID().toString(), 3, "Laptop", 129_990,
+				"TRY", 0);
+
+		byte[] payload = converter.encode(changed);
+
+		assertThat(converter.decode(payload, ProductChangedEvent.class)).isEqualTo(changed);
+		assertThatThrownBy(() -> converter.decode(payload, ProductDeletedEvent.class))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("ProductChanged");
+		assertThat(converter.decode(converter.encode(new ProductDeletedEvent("p-1")), ProductDeletedEvent.class))
+				.isEqualTo(new ProductDeletedEvent("p-1"));
+	}
+
+	@Test
+	void eventsDecodeOnHostsThatRegisteredSchemasInAnotherOrder(@TempDir Path otherHost) {
+		BinaryEventMessageConverter producer = converter();
+		BinaryEventMessageConverter consumer = new BinaryEventMessageConverter(new FileSchemaRegistry(otherHost),
+				List.of(new ProductDeletedEventCodec(), new ProductChangedEventCodec(), new OrderCreatedEventCodec()));
+		ProductDeletedEvent deleted = new ProductDeletedEvent(UUID.randomUUID().toString());
+
+		assertThat(consumer.decode(producer.encode(deleted), ProductDeletedEvent.class)).isEqualTo(deleted);
+		assertThatThrownBy(() -> consumer.decode(producer.encode(deleted), OrderCreatedEvent.class))
+				.hasMessageContaining("Expected a OrderCreated event");
+	}
+
+	private BinaryEventMessageConverter converter() {
+		return new BinaryEventMessageConverter(new FileSchemaRegistry(directory), List.of(new OrderCreatedEventCodec(),
+				new ProductChangedEventCodec(), new ProductDeletedEventCodec()));
+	}
+}
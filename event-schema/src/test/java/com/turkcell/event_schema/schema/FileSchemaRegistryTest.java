@@ -0,0 +1,103 @@
+package com.turkcell.event_schema.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSchemaRegistryTest {
+
+	private static final EventSchema V1 = EventSchema.parse("""
+			event OrderCreated
+			version 1
+			field 1 productId string required
+			""");
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void registrationIsIdempotentAndSharedThroughTheDirectory() {
+		FileSchemaRegistry registry = new FileSchemaRegistry(directory);
+		RegisteredSchema first = registry.register(V1);
+
+		assertThat(registry.register(V1)).isEqualTo(first);
+		assertThat(new FileSchemaRegistry(directory).findById(first.id())).contains(first);
+	}
+
+	@Test
+	void optionalFieldCanBeAddedAndRenamed() {
+		FileSchemaRegistry registry = new FileSchemaRegistry(directory);
+		registry.register(V1);
+
+		RegisteredSchema v2 = registry.register(EventSchema.parse("""
+				event OrderCreated
+				version 2
+				field 1 product string required
+				field 2 quantity int optional
+				"""));
+
+		assertThat(registry.history("OrderCreated")).extracting(r -> r.schema().version()).containsExactly(1, 2);
+		assertThat(v2.id()).isEqualTo(RegisteredSchema.idOf("OrderCreated", 2));
+	}
+
+	@Test
+	void idsAgreeAcrossRegistriesThatShareNoDirectory(@TempDir Path otherHost) {
+		EventSchema other = EventSchema.parse("""
+				event ProductDeleted
+				version 1
+				field 1 productId string required
+				""");
+		FileSchemaRegistry registry = new FileSchemaRegistry(directory);
+		FileSchemaRegistry remote = new FileSchemaRegistry(otherHost);
+
+		RegisteredSchema local = registry.register(V1);
+		remote.register(other);
+
+		assertThat(remote.register(V1).id()).isEqualTo(local.id());
+		assertThat(registry.register(other)).isEqualTo(remote.register(other));
+	}
+
+	@Test
+	void breakingChangesAreRejected() {
+		FileSchemaRegistry registry = new FileSchemaRegistry(directory);
+		registry.register(V1);
+		registry.register(EventSchema.parse("""
+				event OrderCreated
+				version 2
+				field 1 productId string required
+				field 2 quantity int optional
+				"""));
+
+		assertThatThrownBy(() -> registry.register(EventSchema.parse("""
+				event OrderCreated
+				version 3
+				field 1 productId string required
+				field 3 customerId string required
+				""")))
+				.isInstanceOf(IncompatibleSchemaException.class)
+				.hasMessageContaining("must be optional");
+		assertThatThrownBy(() -> registry.register(EventSchema.parse("""
+				event OrderCreated
+				version 3
+				field 1 productId string required
+				field 2 quantity string optional
+				""")))
+				.hasMessageContaining("cannot become STRING");
+		assertThatThrownBy(() -> registry.register(EventSchema.parse("""
+				event OrderCreated
+				version 3
+				field 2 quantity int optional
+				""")))
+				.hasMessageContaining("cannot be removed");
+		assertThatThrownBy(() -> registry.register(EventSchema.parse("""
+				event OrderCreated
+				version 1
+				field 1 productId long required
+				""")))
+				.hasMessageContaining("different content");
+	}
+}
@@ -2,8 +2,12 @@ package com.turkcell.gateway_server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import com.turkcell.tracing.TracingConfiguration;
 
 @SpringBootApplication
+@Import(TracingConfiguration.class)
 public class GatewayServerApplication {
 
 	public static void main(String[] args) {
@@ -6,15 +6,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 
+import com.turkcell.gateway_server.security.EdgeAuthenticationFilter;
+
 @Configuration
 public class GatewayConfig {
     @Bean
-    public RouteLocator routeLocator(RouteLocatorBuilder builder) {
+    public RouteLocator routeLocator(RouteLocatorBuilder builder, EdgeAuthenticationFilter edgeAuthentication) {
         return builder
                 .routes()
                 .route("product-service", r -> r
                         .path("/api/v1/products/**")
                         .filters(f -> f
+                                .filter(edgeAuthentication)
                                 .retry(config -> config.setRetries(3)))
                         .uri("lb://product-service"))
 
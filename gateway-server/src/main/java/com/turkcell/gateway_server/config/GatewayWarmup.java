@@ -0,0 +1,158 @@
+package com.turkcell.gateway_server.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Warms the gateway up before it takes traffic. The instance registers with
+ * Eureka as STARTING ({@code eureka.instance.initial-status}); once the
+ * application is ready this creates the load balancer of every {@code lb://}
+ * route and opens pooled connections to the chosen upstream instances, then
+ * sends synthetic requests through the gateway's own server and route
+ * matching until {@code warmup.iterations} or {@code warmup.max-duration} is
+ * reached, whichever comes first, and only then reports UP. The synthetic
+ * requests match the fallback route, so no traffic reaches the upstream
+ * services besides the connection probes.
+ */
+@Component
+public class GatewayWarmup implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayWarmup.class);
+
+    private static final Duration STEP_TIMEOUT = Duration.ofSeconds(5);
+    // Hiçbir rotaya özel eşleşmez, fallback rotası 404 döner
+    private static final String PROBE_PATH = "/__warmup";
+
+    private final RouteLocator routeLocator;
+    private final ObjectProvider<ReactiveLoadBalancer.Factory<ServiceInstance>> loadBalancers;
+    private final ObjectProvider<HttpClient> upstreamClient;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration maxDuration;
+    private final int upstreamConnections;
+    private final AtomicLong warmupNanos = new AtomicLong();
+    private final AtomicLong completedIterations = new AtomicLong();
+
+    public GatewayWarmup(RouteLocator routeLocator,
+            ObjectProvider<ReactiveLoadBalancer.Factory<ServiceInstance>> loadBalancers,
+            ObjectProvider<HttpClient> upstreamClient,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager, MeterRegistry meterRegistry,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.iterations:1000}") int iterations,
+            @Value("${warmup.max-duration:30s}") Duration maxDuration,
+            @Value("${warmup.upstream-connections:8}") int upstreamConnections) {
+        this.routeLocator = routeLocator;
+        this.loadBalancers = loadBalancers;
+        this.upstreamClient = upstreamClient;
+        this.applicationInfoManager = applicationInfoManager;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+        this.upstreamConnections = upstreamConnections;
+        TimeGauge.builder("application.warmup.time", warmupNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .description("Time spent warming up before reporting UP to Eureka")
+                .register(meterRegistry);
+        Gauge.builder("application.warmup.iterations", completedIterations, AtomicLong::get)
+                .description("Warm-up iterations completed before reporting UP to Eureka")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (enabled) {
+            Integer port = event.getApplicationContext().getEnvironment().getProperty("local.server.port",
+                    Integer.class);
+            warmUp(port);
+        }
+        applicationInfoManager.ifAvailable(manager -> manager.setInstanceStatus(InstanceStatus.UP));
+    }
+
+    private void warmUp(Integer port) {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+
+        List<Route> routes = routeLocator.getRoutes().collectList().block(STEP_TIMEOUT);
+        if (routes != null) {
+            for (Route route : routes) {
+                if ("lb".equals(route.getUri().getScheme())) {
+                    warmUpstream(route.getUri().getHost());
+                }
+            }
+        }
+
+        int iteration = 0;
+        if (port != null) {
+            HttpClient self = HttpClient.create().baseUrl("http://localhost:" + port);
+            while (iteration < iterations && System.nanoTime() < deadline) {
+                try {
+                    self.get().uri(PROBE_PATH).response().block(STEP_TIMEOUT);
+                } catch (RuntimeException e) {
+                    log.warn("Warm-up request to the gateway failed, stopping the request loop", e);
+                    break;
+                }
+                iteration++;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        warmupNanos.set(elapsed);
+        completedIterations.set(iteration);
+        log.info("Warmed up with {} requests in {} ms", iteration, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Creates the service's load balancer (a child context built on first
+     * use) and opens connections to the instance it chooses. The probes go to
+     * the actuator health endpoint; any response leaves a pooled connection.
+     */
+    private void warmUpstream(String serviceId) {
+        ReactiveLoadBalancer.Factory<ServiceInstance> factory = loadBalancers.getIfAvailable();
+        HttpClient client = upstreamClient.getIfUnique();
+        if (factory == null || serviceId == null) {
+            return;
+        }
+        try {
+            Response<ServiceInstance> chosen = Mono.from(factory.getInstance(serviceId).choose())
+                    .block(STEP_TIMEOUT);
+            if (chosen == null || !chosen.hasServer() || client == null) {
+                log.info("No {} instance to open warm-up connections to", serviceId);
+                return;
+            }
+            URI health = chosen.getServer().getUri().resolve("/actuator/health");
+            Flux.range(0, upstreamConnections)
+                    .flatMap(i -> client.get().uri(health).response().onErrorResume(e -> Mono.empty()),
+                            upstreamConnections)
+                    .then()
+                    .block(STEP_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Could not warm up connections to {}", serviceId, e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.turkcell.gateway_server.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.autoconfigure.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Connection pool of the routing HttpClient. Reactor Netty keeps a separate
+ * pool per upstream address; its size, idle eviction and metrics come from
+ * {@code spring.cloud.gateway.server.webflux.httpclient.pool}, this adds a
+ * bound on waiting acquires so a burst fails fast instead of queueing without
+ * limit. Requests can be multiplexed over h2c, see upstreamProtocolCustomizer.
+ */
+@Configuration
+public class UpstreamHttpClientConfig {
+
+    @Bean
+    public HttpClientFactory gatewayHttpClientFactory(HttpClientProperties properties,
+            ServerProperties serverProperties, List<HttpClientCustomizer> customizers,
+            HttpClientSslConfigurer sslConfigurer,
+            @Value("${upstream.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount) {
+        return new HttpClientFactory(properties, serverProperties, sslConfigurer, customizers) {
+            @Override
+            protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+                HttpClientProperties.Pool pool = properties.getPool();
+                if (pool.getType() != HttpClientProperties.Pool.PoolType.FIXED) {
+                    return super.buildConnectionProvider(properties);
+                }
+                ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                        .maxConnections(pool.getMaxConnections())
+                        .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                        .pendingAcquireTimeout(Duration.ofMillis(pool.getAcquireTimeout()))
+                        .metrics(pool.isMetrics())
+                        .lifo();
+                if (pool.getMaxIdleTime() != null) {
+                    builder.maxIdleTime(pool.getMaxIdleTime());
+                }
+                if (pool.getMaxLifeTime() != null) {
+                    builder.maxLifeTime(pool.getMaxLifeTime());
+                }
+                if (pool.getEvictionInterval() != null && !pool.getEvictionInterval().isZero()) {
+                    builder.evictInBackground(pool.getEvictionInterval());
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    /**
+     * {@code upstream.http2.mode}: {@code off} keeps HTTP/1.1, {@code upgrade}
+     * tries an h2c upgrade on each new connection and falls back to HTTP/1.1,
+     * {@code prior-knowledge} speaks h2c only.
+     */
+    @Bean
+    public HttpClientCustomizer upstreamProtocolCustomizer(@Value("${upstream.http2.mode:off}") String mode) {
+        HttpProtocol[] protocols = switch (mode) {
+            case "off" -> new HttpProtocol[] { HttpProtocol.HTTP11 };
+            case "upgrade" -> new HttpProtocol[] { HttpProtocol.H2C, HttpProtocol.HTTP11 };
+            case "prior-knowledge" -> new HttpProtocol[] { HttpProtocol.H2C };
+            default -> throw new IllegalArgumentException(
+                    "upstream.http2.mode must be off, upgrade or prior-knowledge: " + mode);
+        };
+        return httpClient -> httpClient.protocol(protocols);
+    }
+}
@@ -0,0 +1,64 @@
+package com.turkcell.gateway_server.security;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Route filter that lets only requests with a valid bearer token through
+ * (see EdgeTokenVerifier). Others get 401 with an RFC 6750 challenge, or 503
+ * while the JWK set has never been fetched, and never reach the service.
+ * <p>
+ * Accepted requests carry the verified claims in the
+ * {@value EdgeClaimsSigner#HEADER} header instead of the token, so the
+ * service checks a single HMAC. Without {@code edge-claims.secret} the token
+ * is forwarded as is. A claims header sent by the client is always dropped.
+ */
+@Component
+public class EdgeAuthenticationFilter implements GatewayFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final EdgeTokenVerifier verifier;
+
+    public EdgeAuthenticationFilter(EdgeTokenVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return challenge(exchange.getResponse(), "Bearer");
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return verifier.verify(token)
+                .flatMap(verified -> chain.filter(exchange.mutate()
+                        .request(request -> request.headers(headers -> {
+                            headers.remove(EdgeClaimsSigner.HEADER);
+                            if (verified.claimsHeader() != null) {
+                                headers.set(EdgeClaimsSigner.HEADER, verified.claimsHeader());
+                                headers.remove(HttpHeaders.AUTHORIZATION);
+                            }
+                        }))
+                        .build()))
+                .onErrorResume(InvalidTokenException.class, e -> challenge(exchange.getResponse(),
+                        "Bearer error=\"invalid_token\", error_description=\"" + e.getMessage() + "\""))
+                .onErrorResume(SigningKeysUnavailableException.class, e -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    private static Mono<Void> challenge(ServerHttpResponse response, String challenge) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        return response.setComplete();
+    }
+}
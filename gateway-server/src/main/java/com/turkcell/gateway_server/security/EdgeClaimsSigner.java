@@ -0,0 +1,113 @@
+package com.turkcell.gateway_server.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Signs the claims forwarded to downstream services in the
+ * {@value #HEADER} header: {@code base64url(json) "." base64url(HMAC-SHA256)}
+ * with the secret shared through {@code edge-claims.secret}. A service holding
+ * the secret checks one HMAC instead of parsing and verifying the JWT again.
+ * <p>
+ * Every header names this gateway as {@code iss} and the services behind it as
+ * {@code aud}, and expires after {@code edge-claims.ttl} even when the token
+ * lives longer, so a captured header is only good for a short while.
+ */
+@Component
+public class EdgeClaimsSigner {
+
+    public static final String HEADER = "X-Edge-Claims";
+
+    /**
+     * HMAC-SHA256 keys shorter than the hash output weaken the signature.
+     */
+    static final int MIN_SECRET_BYTES = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+    private final String issuer;
+    private final String audience;
+    private final Duration ttl;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Autowired
+    public EdgeClaimsSigner(@Value("${edge-claims.secret:}") String secret,
+            @Value("${edge-claims.issuer:gateway-server}") String issuer,
+            @Value("${edge-claims.audience:turkcell-services}") String audience,
+            @Value("${edge-claims.ttl:60s}") Duration ttl) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length > 0 && secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("edge-claims.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = secretBytes.length == 0 ? null : new SecretKeySpec(secretBytes, ALGORITHM);
+        this.issuer = issuer;
+        this.audience = audience;
+        this.ttl = ttl;
+    }
+
+    EdgeClaimsSigner(String secret) {
+        this(secret, "gateway-server", "turkcell-services", Duration.ofSeconds(60));
+    }
+
+    /**
+     * Whether a secret is configured; without one no claims header is sent
+     * and the token itself is forwarded instead.
+     */
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    /**
+     * Signs {@code claims} for a token expiring at {@code tokenExpiresAt}; the
+     * header expires at the earlier of that and {@code now} plus the TTL.
+     */
+    SignedClaims sign(Map<String, Object> claims, Instant tokenExpiresAt, Instant now) {
+        Instant expiresAt = now.plus(ttl).isBefore(tokenExpiresAt) ? now.plus(ttl) : tokenExpiresAt;
+        Map<String, Object> signed = new LinkedHashMap<>(claims);
+        signed.put("iss", issuer);
+        signed.put("aud", audience);
+        signed.put("iat", now.getEpochSecond());
+        signed.put("exp", expiresAt.getEpochSecond());
+        String payload = BASE64_URL.encodeToString(jsonMapper.writeValueAsBytes(signed));
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            return new SignedClaims(payload + "." + BASE64_URL.encodeToString(signature), expiresAt);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign the edge claims", e);
+        }
+    }
+
+    /**
+     * Whether a header should be signed again before it is forwarded: it is
+     * cut short by the TTL rather than by the token and has used up half of
+     * it, so the service always gets a header with time left.
+     */
+    boolean needsRefresh(Instant claimsExpiresAt, Instant tokenExpiresAt, Instant now) {
+        return claimsExpiresAt.isBefore(tokenExpiresAt) && !now.isBefore(claimsExpiresAt.minus(ttl.dividedBy(2)));
+    }
+
+    /**
+     * @param header    the {@value #HEADER} value
+     * @param expiresAt when the service stops accepting it
+     */
+    record SignedClaims(String header, Instant expiresAt) {
+    }
+}
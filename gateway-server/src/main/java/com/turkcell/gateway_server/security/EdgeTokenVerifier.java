@@ -0,0 +1,266 @@
+package com.turkcell.gateway_server.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies bearer tokens at the edge: signature against the cached JWK set
+ * (see JwksCache), expiry, not-before, issuer and, when configured, audience.
+ * The issuer is required whenever a JWK set is configured.
+ * <p>
+ * A verified token is remembered under the SHA-256 of its text until it
+ * expires, so the many requests a client sends with the same token cost one
+ * hash and one map lookup after the first. The cache holds at most
+ * {@code edge-auth.token-cache.max-entries} tokens; when it is full, expired
+ * entries are dropped first, then an arbitrary half. Rejected tokens are not
+ * cached, since a client could fill the cache with garbage. The signed claims
+ * header of a cached token expires sooner than the token (see
+ * EdgeClaimsSigner) and is signed again when a request finds it half used.
+ */
+@Component
+public class EdgeTokenVerifier {
+
+    private final JwksCache jwks;
+    private final EdgeClaimsSigner claimsSigner;
+    private final String issuer;
+    private final String audience;
+    private final Duration clockSkew;
+    private final int maxEntries;
+    private final Map<TokenHash, VerifiedToken> verified = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Counter cachedTokens;
+    private final Counter verifiedTokens;
+    private final Counter rejectedTokens;
+
+    public EdgeTokenVerifier(JwksCache jwks, EdgeClaimsSigner claimsSigner, MeterRegistry meterRegistry,
+            @Value("${edge-auth.issuer:}") String issuer,
+            @Value("${edge-auth.audience:}") String audience,
+            @Value("${edge-auth.clock-skew:30s}") Duration clockSkew,
+            @Value("${edge-auth.token-cache.max-entries:10000}") int maxEntries) {
+        if (jwks.isConfigured() && issuer.isEmpty()) {
+            // Aksi halde JWK setindeki anahtarla imzalanmış her token, kimin için verildiğine bakılmadan kabul edilir
+            throw new IllegalStateException("edge-auth.issuer must be set when edge-auth.jwk-set-uri is");
+        }
+        this.jwks = jwks;
+        this.claimsSigner = claimsSigner;
+        this.issuer = issuer;
+        this.audience = audience;
+        this.clockSkew = clockSkew;
+        this.maxEntries = maxEntries;
+        this.cachedTokens = tokens(meterRegistry, "cached");
+        this.verifiedTokens = tokens(meterRegistry, "verified");
+        this.rejectedTokens = tokens(meterRegistry, "rejected");
+        Gauge.builder("gateway.auth.token.cache.size", verified, Map::size)
+                .description("Verified tokens remembered until they expire")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the verified token, an InvalidTokenException error, or a
+     *         SigningKeysUnavailableException error while the JWK set has
+     *         never been fetched
+     */
+    public Mono<VerifiedToken> verify(String token) {
+        Instant now = Instant.now();
+        TokenHash hash = TokenHash.of(token);
+        VerifiedToken cached = verified.get(hash);
+        if (cached != null) {
+            if (!expired(cached.expiresAt(), now)) {
+                cachedTokens.increment();
+                if (cached.claimsHeader() != null
+                        && claimsSigner.needsRefresh(cached.claimsExpiresAt(), cached.expiresAt(), now)) {
+                    VerifiedToken refreshed = signed(cached.subject(), cached.expiresAt(), cached.claims(), now);
+                    verified.replace(hash, cached, refreshed);
+                    return Mono.just(refreshed);
+                }
+                return Mono.just(cached);
+            }
+            verified.remove(hash, cached);
+        }
+
+        SignedJWT jwt;
+        JWTClaimsSet claims;
+        try {
+            jwt = SignedJWT.parse(token);
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            return reject("Malformed token");
+        }
+        String keyId = jwt.getHeader().getKeyID();
+        if (keyId == null) {
+            return reject("Token has no key id");
+        }
+        // Süresi dolmuş token için imza doğrulamasına gerek yok
+        String problem = checkClaims(claims, now);
+        if (problem != null) {
+            return reject(problem);
+        }
+        return jwks.key(keyId)
+                .switchIfEmpty(Mono.error(() -> jwks.isLoaded()
+                        ? new InvalidTokenException("Unknown signing key")
+                        : new SigningKeysUnavailableException()))
+                .map(key -> {
+                    checkSignature(jwt, key);
+                    VerifiedToken result = toVerifiedToken(claims, now);
+                    remember(hash, result);
+                    verifiedTokens.increment();
+                    return result;
+                })
+                .doOnError(InvalidTokenException.class, e -> rejectedTokens.increment());
+    }
+
+    private String checkClaims(JWTClaimsSet claims, Instant now) {
+        if (claims.getExpirationTime() == null) {
+            return "Token has no expiry";
+        }
+        if (expired(claims.getExpirationTime().toInstant(), now)) {
+            return "Token expired";
+        }
+        if (claims.getNotBeforeTime() != null && now.plus(clockSkew).isBefore(claims.getNotBeforeTime().toInstant())) {
+            return "Token not yet valid";
+        }
+        if (claims.getSubject() == null) {
+            return "Token has no subject";
+        }
+        if (!issuer.equals(claims.getIssuer())) {
+            return "Unexpected issuer";
+        }
+        if (!audience.isEmpty() && (claims.getAudience() == null || !claims.getAudience().contains(audience))) {
+            return "Unexpected audience";
+        }
+        return null;
+    }
+
+    private static void checkSignature(SignedJWT jwt, JwksCache.VerificationKey key) {
+        JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
+        // Anahtarın ilan ettiği algoritma dışında imzalanmış token kabul edilmez
+        if ((key.algorithm() != null && !key.algorithm().equals(algorithm))
+                || !key.verifier().supportedJWSAlgorithms().contains(algorithm)) {
+            throw new InvalidTokenException("Unexpected signing algorithm");
+        }
+        try {
+            if (!jwt.verify(key.verifier())) {
+                throw new InvalidTokenException("Invalid signature");
+            }
+        } catch (JOSEException e) {
+            throw new InvalidTokenException("Invalid signature");
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(JWTClaimsSet claims, Instant now) {
+        Instant expiresAt = claims.getExpirationTime().toInstant();
+        if (!claimsSigner.isEnabled()) {
+            return new VerifiedToken(claims.getSubject(), expiresAt, null, null, null);
+        }
+        Map<String, Object> forwarded = new LinkedHashMap<>();
+        forwarded.put("sub", claims.getSubject());
+        putIfPresent(forwarded, "name", claims.getClaim("preferred_username"));
+        putIfPresent(forwarded, "scope", claims.getClaim("scope"));
+        putIfPresent(forwarded, "roles", realmRoles(claims));
+        return signed(claims.getSubject(), expiresAt, Collections.unmodifiableMap(forwarded), now);
+    }
+
+    private VerifiedToken signed(String subject, Instant expiresAt, Map<String, Object> claims, Instant now) {
+        EdgeClaimsSigner.SignedClaims signed = claimsSigner.sign(claims, expiresAt, now);
+        return new VerifiedToken(subject, expiresAt, claims, signed.header(), signed.expiresAt());
+    }
+
+    private static List<?> realmRoles(JWTClaimsSet claims) {
+        // Keycloak realm rolleri realm_access.roles altında taşır
+        if (claims.getClaim("realm_access") instanceof Map<?, ?> realmAccess
+                && realmAccess.get("roles") instanceof List<?> roles) {
+            return roles;
+        }
+        return null;
+    }
+
+    private static void putIfPresent(Map<String, Object> claims, String name, Object value) {
+        if (value != null) {
+            claims.put(name, value);
+        }
+    }
+
+    private void remember(TokenHash hash, VerifiedToken token) {
+        if (verified.size() >= maxEntries) {
+            evict();
+        }
+        if (verified.size() < maxEntries) {
+            verified.put(hash, token);
+        }
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            verified.values().removeIf(token -> expired(token.expiresAt(), now));
+            // Hepsi geçerliyse yarısı atılır, her eklemede tüm tablo taranmasın diye
+            Iterator<TokenHash> keys = verified.keySet().iterator();
+            while (verified.size() > maxEntries / 2 && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean expired(Instant expiresAt, Instant now) {
+        return now.isAfter(expiresAt.plus(clockSkew));
+    }
+
+    private Mono<VerifiedToken> reject(String reason) {
+        rejectedTokens.increment();
+        return Mono.error(new InvalidTokenException(reason));
+    }
+
+    private static Counter tokens(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.auth.tokens")
+                .description("Bearer tokens checked at the edge")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * SHA-256 of a token; the token text itself is not kept.
+     */
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+
+        static TokenHash of(String token) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.UTF_8)));
+                return new TokenHash(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.turkcell.gateway_server.security;
+
+/**
+ * A bearer token that the gateway does not accept. The message is safe to
+ * return to the client as the {@code error_description} of the challenge.
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,195 @@
+package com.turkcell.gateway_server.security;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Local copy of the identity provider's signing keys. The JWK set is fetched
+ * at startup and again every {@code edge-auth.jwks.refresh-interval} in the
+ * background, so token verification never waits for the network. A token
+ * signed with a key id that is not known yet (key rotation) triggers an
+ * immediate refresh, at most once per {@code edge-auth.jwks.min-refresh-interval};
+ * concurrent lookups share the same fetch. A failed fetch keeps the previous
+ * keys.
+ */
+@Component
+public class JwksCache implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksCache.class);
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String jwkSetUri;
+    private final Duration refreshInterval;
+    private final long minRefreshIntervalNanos;
+    private final HttpClient client = HttpClient.create().responseTimeout(FETCH_TIMEOUT);
+    private volatile Map<String, VerificationKey> keys = Map.of();
+    private volatile boolean loaded;
+    private Mono<Map<String, VerificationKey>> inFlight;
+    private long lastFetchNanos;
+    private Disposable refresher;
+
+    public JwksCache(@Value("${edge-auth.jwk-set-uri:}") String jwkSetUri,
+            @Value("${edge-auth.jwks.refresh-interval:5m}") Duration refreshInterval,
+            @Value("${edge-auth.jwks.min-refresh-interval:30s}") Duration minRefreshInterval) {
+        this.jwkSetUri = jwkSetUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.lastFetchNanos = System.nanoTime() - minRefreshIntervalNanos;
+    }
+
+    /**
+     * A key to verify a signature, together with the algorithm it is meant
+     * for when the JWK declares one.
+     */
+    record VerificationKey(JWSVerifier verifier, JWSAlgorithm algorithm) {
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (jwkSetUri.isEmpty()) {
+            log.warn("edge-auth.jwk-set-uri is not set, every request to a protected route will be rejected");
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refresh(true))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Whether {@code edge-auth.jwk-set-uri} is set, i.e. tokens can be verified at all.
+     */
+    public boolean isConfigured() {
+        return !jwkSetUri.isEmpty();
+    }
+
+    /**
+     * Whether a JWK set has been fetched at least once.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * The key with the given id; an unknown id refreshes the set first.
+     * Completes empty if the id is still unknown afterwards.
+     */
+    Mono<VerificationKey> key(String keyId) {
+        VerificationKey key = keys.get(keyId);
+        if (key != null) {
+            return Mono.just(key);
+        }
+        return refresh(false).mapNotNull(refreshed -> refreshed.get(keyId));
+    }
+
+    private Mono<Map<String, VerificationKey>> refresh(boolean scheduled) {
+        if (jwkSetUri.isEmpty()) {
+            return Mono.just(keys);
+        }
+        synchronized (this) {
+            if (inFlight != null) {
+                return inFlight;
+            }
+            long now = System.nanoTime();
+            // Bilinmeyen kid ile gelen istekler IdP'yi sürekli sorgulatamaz
+            if (!scheduled && now - lastFetchNanos < minRefreshIntervalNanos) {
+                return Mono.just(keys);
+            }
+            lastFetchNanos = now;
+            Mono<Map<String, VerificationKey>> fetch = fetch()
+                    .doOnNext(fetched -> {
+                        keys = fetched;
+                        loaded = true;
+                    })
+                    .onErrorResume(e -> {
+                        log.warn("Could not refresh the JWK set from {}, keeping {} known keys", jwkSetUri,
+                                keys.size(), e);
+                        return Mono.just(keys);
+                    })
+                    .doFinally(signal -> clearInFlight())
+                    .cache();
+            inFlight = fetch;
+            return fetch;
+        }
+    }
+
+    private synchronized void clearInFlight() {
+        inFlight = null;
+    }
+
+    private Mono<Map<String, VerificationKey>> fetch() {
+        return client.get()
+                .uri(jwkSetUri)
+                .responseSingle((response, body) -> {
+                    if (response.status().code() != 200) {
+                        return Mono.error(new IllegalStateException("JWK set request returned " + response.status()));
+                    }
+                    return body.asString();
+                })
+                .timeout(FETCH_TIMEOUT)
+                .map(JwksCache::parse);
+    }
+
+    static Map<String, VerificationKey> parse(String json) {
+        JWKSet set;
+        try {
+            set = JWKSet.parse(json);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Malformed JWK set", e);
+        }
+        Map<String, VerificationKey> parsed = new HashMap<>();
+        for (JWK jwk : set.getKeys()) {
+            if (jwk.getKeyID() == null || (jwk.getKeyUse() != null && !KeyUse.SIGNATURE.equals(jwk.getKeyUse()))) {
+                continue;
+            }
+            try {
+                JWSVerifier verifier = switch (jwk) {
+                    case RSAKey rsa -> new RSASSAVerifier(rsa);
+                    case ECKey ec -> new ECDSAVerifier(ec);
+                    default -> null;
+                };
+                if (verifier != null) {
+                    JWSAlgorithm algorithm = jwk.getAlgorithm() != null
+                            ? JWSAlgorithm.parse(jwk.getAlgorithm().getName())
+                            : null;
+                    parsed.put(jwk.getKeyID(), new VerificationKey(verifier, algorithm));
+                }
+            } catch (JOSEException e) {
+                log.warn("Skipping unusable key {} in the JWK set", jwk.getKeyID(), e);
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+}
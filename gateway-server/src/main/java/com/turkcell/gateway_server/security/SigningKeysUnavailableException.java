@@ -0,0 +1,13 @@
+package com.turkcell.gateway_server.security;
+
+/**
+ * The JWK set has never been fetched, so no token can be verified. Says
+ * nothing about the token itself, so the client is not told to
+ * re-authenticate.
+ */
+public class SigningKeysUnavailableException extends RuntimeException {
+
+    public SigningKeysUnavailableException() {
+        super("Signing keys are not available");
+    }
+}
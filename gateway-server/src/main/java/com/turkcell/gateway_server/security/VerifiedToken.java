@@ -0,0 +1,17 @@
+package com.turkcell.gateway_server.security;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Outcome of a successful token verification, kept until the token expires.
+ *
+ * @param claims           claims forwarded to downstream services, null when
+ *                         {@code edge-claims.secret} is not set
+ * @param claimsHeader     {@code claims} signed for downstream services
+ * @param claimsExpiresAt  when downstream services stop accepting
+ *                         {@code claimsHeader}; it is signed again before then
+ */
+public record VerifiedToken(String subject, Instant expiresAt, Map<String, Object> claims, String claimsHeader,
+        Instant claimsExpiresAt) {
+}
@@ -0,0 +1,126 @@
+package com.turkcell.gateway_server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class EdgeAuthenticationFilterTest {
+
+	private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+	private final GatewayFilterChain chain = exchange -> {
+		forwarded.set(exchange);
+		return Mono.empty();
+	};
+
+	private LocalJwtIssuer issuer;
+	private EdgeAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		issuer = LocalJwtIssuer.start();
+		filter = filter(issuer.jwkSetUri(), "test-edge-claims-secret-0123456789");
+	}
+
+	@AfterEach
+	void tearDown() {
+		issuer.close();
+	}
+
+	@Test
+	void validTokenIsReplacedWithSignedClaims() throws Exception {
+		MockServerWebExchange exchange = exchange(request()
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + issuer.token("alice", inMinutes(5)))
+				.header(EdgeClaimsSigner.HEADER, "spoofed"));
+
+		filter.filter(exchange, chain).block();
+
+		HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+		assertThat(headers.getFirst(EdgeClaimsSigner.HEADER)).isNotEqualTo("spoofed").contains(".");
+		assertThat(headers.containsHeader(HttpHeaders.AUTHORIZATION)).isFalse();
+	}
+
+	@Test
+	void tokenIsForwardedAsIsWithoutAClaimsSecret() throws Exception {
+		filter = filter(issuer.jwkSetUri(), "");
+		String authorization = "Bearer " + issuer.token("alice", inMinutes(5));
+		MockServerWebExchange exchange = exchange(request()
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.header(EdgeClaimsSigner.HEADER, "spoofed"));
+
+		filter.filter(exchange, chain).block();
+
+		HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+		assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo(authorization);
+		assertThat(headers.containsHeader(EdgeClaimsSigner.HEADER)).isFalse();
+	}
+
+	@Test
+	void missingTokenIsChallenged() {
+		MockServerWebExchange exchange = exchange(request());
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(forwarded.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+	}
+
+	@Test
+	void expiredTokenIsRejectedAtTheEdge() throws Exception {
+		MockServerWebExchange exchange = exchange(request().header(HttpHeaders.AUTHORIZATION,
+				"Bearer " + issuer.token("alice", Instant.now().minus(Duration.ofMinutes(5)))));
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(forwarded.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE))
+				.isEqualTo("Bearer error=\"invalid_token\", error_description=\"Token expired\"");
+	}
+
+	@Test
+	void unavailableKeysAnswerServiceUnavailable() throws Exception {
+		filter = filter("", "test-edge-claims-secret-0123456789");
+		MockServerWebExchange exchange = exchange(request()
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + issuer.token("alice", inMinutes(5))));
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(forwarded.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	private EdgeAuthenticationFilter filter(String jwkSetUri, String secret) {
+		JwksCache jwks = new JwksCache(jwkSetUri, Duration.ofMinutes(5), Duration.ZERO);
+		EdgeTokenVerifier verifier = new EdgeTokenVerifier(jwks, new EdgeClaimsSigner(secret),
+				new SimpleMeterRegistry(), issuer.issuer(), "", Duration.ofSeconds(30), 100);
+		return new EdgeAuthenticationFilter(verifier);
+	}
+
+	private static MockServerHttpRequest.BaseBuilder<?> request() {
+		return MockServerHttpRequest.get("/api/v1/products");
+	}
+
+	private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+		return MockServerWebExchange.from(request);
+	}
+
+	private static Instant inMinutes(long minutes) {
+		return Instant.now().plus(Duration.ofMinutes(minutes));
+	}
+}
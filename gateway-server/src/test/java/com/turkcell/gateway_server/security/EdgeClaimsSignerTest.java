@@ -0,0 +1,61 @@
+package com.turkcell.gateway_server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class EdgeClaimsSignerTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+	private final EdgeClaimsSigner signer = new EdgeClaimsSigner("test-edge-claims-secret-0123456789",
+			"gateway-server", "turkcell-services", Duration.ofSeconds(60));
+
+	@Test
+	void headerIsBoundToIssuerAndAudienceAndExpiresAfterTheTtl() {
+		EdgeClaimsSigner.SignedClaims signed = signer.sign(Map.of("sub", "alice"), NOW.plusSeconds(3600), NOW);
+
+		assertThat(signed.expiresAt()).isEqualTo(NOW.plusSeconds(60));
+		assertThat(payload(signed)).contains("\"sub\":\"alice\"", "\"iss\":\"gateway-server\"",
+				"\"aud\":\"turkcell-services\"", "\"iat\":" + NOW.getEpochSecond(),
+				"\"exp\":" + NOW.plusSeconds(60).getEpochSecond());
+	}
+
+	@Test
+	void headerNeverOutlivesTheToken() {
+		EdgeClaimsSigner.SignedClaims signed = signer.sign(Map.of("sub", "alice"), NOW.plusSeconds(20), NOW);
+
+		assertThat(signed.expiresAt()).isEqualTo(NOW.plusSeconds(20));
+		assertThat(signer.needsRefresh(signed.expiresAt(), NOW.plusSeconds(20), NOW.plusSeconds(15))).isFalse();
+	}
+
+	@Test
+	void headerIsSignedAgainOnceHalfItsTtlIsUsed() {
+		Instant tokenExpiresAt = NOW.plusSeconds(3600);
+		EdgeClaimsSigner.SignedClaims signed = signer.sign(Map.of("sub", "alice"), tokenExpiresAt, NOW);
+
+		assertThat(signer.needsRefresh(signed.expiresAt(), tokenExpiresAt, NOW.plusSeconds(29))).isFalse();
+		assertThat(signer.needsRefresh(signed.expiresAt(), tokenExpiresAt, NOW.plusSeconds(30))).isTrue();
+	}
+
+	@Test
+	void shortSecretIsRejected() {
+		assertThatThrownBy(() -> new EdgeClaimsSigner("too-short"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("at least 32 bytes");
+		assertThat(new EdgeClaimsSigner("").isEnabled()).isFalse();
+	}
+
+	private static String payload(EdgeClaimsSigner.SignedClaims signed) {
+		String header = signed.header();
+		return new String(Base64.getUrlDecoder().decode(header.substring(0, header.indexOf('.'))),
+				StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,174 @@
+package com.turkcell.gateway_server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EdgeTokenVerifierTest {
+
+	private static final String SECRET = "test-edge-claims-secret-0123456789";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private LocalJwtIssuer issuer;
+	private EdgeTokenVerifier verifier;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		issuer = LocalJwtIssuer.start();
+		verifier = verifier(100, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		issuer.close();
+	}
+
+	@Test
+	void validTokenIsVerifiedAndItsClaimsAreSigned() throws Exception {
+		VerifiedToken verified = verifier.verify(issuer.token("alice", inMinutes(5))).block();
+
+		assertThat(verified.subject()).isEqualTo("alice");
+		String[] parts = verified.claimsHeader().split("\\.");
+		assertThat(parts).hasSize(2);
+		assertThat(new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8))
+				.contains("\"sub\":\"alice\"", "\"name\":\"alice\"", "\"scope\":\"openid profile\"",
+						"\"roles\":[\"user\"]", "\"iss\":\"gateway-server\"", "\"aud\":\"turkcell-services\"",
+						"\"exp\":");
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		assertThat(Base64.getUrlDecoder().decode(parts[1]))
+				.isEqualTo(mac.doFinal(parts[0].getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	@Test
+	void claimsHeaderExpiresBeforeALongLivedToken() throws Exception {
+		Instant before = Instant.now();
+		VerifiedToken verified = verifier.verify(issuer.token("alice", inMinutes(60))).block();
+
+		assertThat(verified.claimsExpiresAt()).isBetween(before.plusSeconds(59), Instant.now().plusSeconds(60));
+		assertThat(verified.expiresAt()).isAfter(verified.claimsExpiresAt());
+	}
+
+	@Test
+	void repeatedTokenIsServedFromTheCache() throws Exception {
+		String token = issuer.token("alice", inMinutes(5));
+
+		VerifiedToken first = verifier.verify(token).block();
+		VerifiedToken second = verifier.verify(token).block();
+
+		assertThat(second).isSameAs(first);
+		assertThat(issuer.jwksRequests()).isEqualTo(1);
+		assertThat(tokens("verified")).isEqualTo(1);
+		assertThat(tokens("cached")).isEqualTo(1);
+	}
+
+	@Test
+	void expiredTokenIsRejectedWithoutFetchingKeys() throws Exception {
+		String token = issuer.token("alice", Instant.now().minus(Duration.ofMinutes(5)));
+
+		assertThatThrownBy(() -> verifier.verify(token).block())
+				.isInstanceOf(InvalidTokenException.class)
+				.hasMessage("Token expired");
+		assertThat(issuer.jwksRequests()).isZero();
+		assertThat(tokens("rejected")).isEqualTo(1);
+	}
+
+	@Test
+	void tokenFromAnotherIssuerIsRejected() throws Exception {
+		String token = issuer.sign(issuer.claims("alice", inMinutes(5)).issuer("http://elsewhere").build());
+
+		assertThatThrownBy(() -> verifier.verify(token).block())
+				.isInstanceOf(InvalidTokenException.class)
+				.hasMessage("Unexpected issuer");
+	}
+
+	@Test
+	void issuerIsRequiredWhenKeysAreConfigured() {
+		JwksCache jwks = new JwksCache(issuer.jwkSetUri(), Duration.ofMinutes(5), Duration.ZERO);
+
+		assertThatThrownBy(() -> new EdgeTokenVerifier(jwks, new EdgeClaimsSigner(SECRET), meterRegistry, "", "",
+				Duration.ofSeconds(30), 100))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("edge-auth.issuer");
+	}
+
+	@Test
+	void tamperedTokenIsRejected() throws Exception {
+		String alice = issuer.token("alice", inMinutes(5));
+		String mallory = issuer.token("mallory", inMinutes(5));
+		String[] a = alice.split("\\.");
+		String[] m = mallory.split("\\.");
+		String forged = a[0] + "." + m[1] + "." + a[2];
+
+		assertThatThrownBy(() -> verifier.verify(forged).block())
+				.isInstanceOf(InvalidTokenException.class)
+				.hasMessage("Invalid signature");
+	}
+
+	@Test
+	void tokenSignedWithAnUnpublishedKeyIsRejected() throws Exception {
+		String token = LocalJwtIssuer.sign(issuer.unpublishedKey(), issuer.claims("alice", inMinutes(5)).build());
+
+		assertThatThrownBy(() -> verifier.verify(token).block())
+				.isInstanceOf(InvalidTokenException.class)
+				.hasMessage("Unknown signing key");
+	}
+
+	@Test
+	void malformedTokenIsRejected() {
+		assertThatThrownBy(() -> verifier.verify("not-a-jwt").block())
+				.isInstanceOf(InvalidTokenException.class)
+				.hasMessage("Malformed token");
+	}
+
+	@Test
+	void rotatedKeyIsFetchedOnFirstUse() throws Exception {
+		verifier.verify(issuer.token("alice", inMinutes(5))).block();
+		issuer.rotate();
+
+		VerifiedToken verified = verifier.verify(issuer.token("bob", inMinutes(5))).block();
+
+		assertThat(verified.subject()).isEqualTo("bob");
+		assertThat(issuer.jwksRequests()).isEqualTo(2);
+	}
+
+	@Test
+	void cacheStaysWithinItsBound() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		EdgeTokenVerifier bounded = verifier(4, registry);
+
+		for (int i = 0; i < 10; i++) {
+			bounded.verify(issuer.token("user-" + i, inMinutes(5))).block();
+		}
+
+		assertThat(registry.get("gateway.auth.token.cache.size").gauge().value()).isLessThanOrEqualTo(4);
+	}
+
+	private EdgeTokenVerifier verifier(int maxEntries, SimpleMeterRegistry registry) {
+		// Arka plan yenilemesi başlatılmaz, anahtarlar ilk kullanımda alınır
+		JwksCache jwks = new JwksCache(issuer.jwkSetUri(), Duration.ofMinutes(5), Duration.ZERO);
+		return new EdgeTokenVerifier(jwks, new EdgeClaimsSigner(SECRET), registry, issuer.issuer(), "",
+				Duration.ofSeconds(30), maxEntries);
+	}
+
+	private double tokens(String result) {
+		return meterRegistry.get("gateway.auth.tokens").tag("result", result).counter().count();
+	}
+
+	private static Instant inMinutes(long minutes) {
+		return Instant.now().plus(Duration.ofMinutes(minutes));
+	}
+}
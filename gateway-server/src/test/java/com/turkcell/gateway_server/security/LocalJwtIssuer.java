@@ -0,0 +1,127 @@
+package com.turkcell.gateway_server.security;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stands in for Keycloak in tests: publishes the JWK set of locally generated
+ * RSA keys over HTTP and signs RS256 tokens with them. Keys can be rotated,
+ * and JWK set requests are counted.
+ */
+final class LocalJwtIssuer implements AutoCloseable {
+
+	private static final String REALM_PATH = "/realms/test";
+
+	private final HttpServer server;
+	private final AtomicInteger jwksRequests = new AtomicInteger();
+	private volatile List<RSAKey> published;
+	private volatile RSAKey signingKey;
+	private int generatedKeys;
+
+	private LocalJwtIssuer() throws IOException, JOSEException {
+		signingKey = generateKey();
+		published = List.of(signingKey);
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext(REALM_PATH + "/protocol/openid-connect/certs", exchange -> {
+			jwksRequests.incrementAndGet();
+			byte[] body = new JWKSet(List.<JWK>copyOf(published)).toString().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	static LocalJwtIssuer start() throws IOException, JOSEException {
+		return new LocalJwtIssuer();
+	}
+
+	String issuer() {
+		return "http://localhost:" + server.getAddress().getPort() + REALM_PATH;
+	}
+
+	String jwkSetUri() {
+		return issuer() + "/protocol/openid-connect/certs";
+	}
+
+	int jwksRequests() {
+		return jwksRequests.get();
+	}
+
+	/**
+	 * Publishes a new key next to the current one and signs with it from now
+	 * on.
+	 */
+	void rotate() throws JOSEException {
+		RSAKey next = generateKey();
+		published = List.of(next, signingKey);
+		signingKey = next;
+	}
+
+	/**
+	 * A key of the same shape that is never published.
+	 */
+	RSAKey unpublishedKey() throws JOSEException {
+		return generateKey();
+	}
+
+	String token(String subject, Instant expiresAt) throws JOSEException {
+		return sign(signingKey, claims(subject, expiresAt).build());
+	}
+
+	JWTClaimsSet.Builder claims(String subject, Instant expiresAt) {
+		return new JWTClaimsSet.Builder()
+				.issuer(issuer())
+				.subject(subject)
+				.issueTime(new Date())
+				.expirationTime(Date.from(expiresAt))
+				.claim("preferred_username", subject)
+				.claim("scope", "openid profile")
+				.claim("realm_access", Map.of("roles", List.of("user")));
+	}
+
+	String sign(JWTClaimsSet claims) throws JOSEException {
+		return sign(signingKey, claims);
+	}
+
+	static String sign(RSAKey key, JWTClaimsSet claims) throws JOSEException {
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+		jwt.sign(new RSASSASigner(key));
+		return jwt.serialize();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private synchronized RSAKey generateKey() throws JOSEException {
+		return new RSAKeyGenerator(2048)
+				.keyID("test-" + generatedKeys++)
+				.keyUse(KeyUse.SIGNATURE)
+				.algorithm(JWSAlgorithm.RS256)
+				.generate();
+	}
+}
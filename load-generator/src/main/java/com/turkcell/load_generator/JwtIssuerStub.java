@@ -0,0 +1,102 @@
+package com.turkcell.load_generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stands in for Keycloak: serves the JWK set of a freshly generated RSA key
+ * on the Keycloak certs path and signs RS256 access tokens with it.
+ */
+final class JwtIssuerStub implements AutoCloseable {
+
+    private static final String REALM_PATH = "/realms/load-test";
+    private static final String KEY_ID = "load-test";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final KeyPair keyPair;
+    private final HttpServer server;
+
+    private JwtIssuerStub(KeyPair keyPair, HttpServer server) {
+        this.keyPair = keyPair;
+        this.server = server;
+    }
+
+    static JwtIssuerStub start() throws IOException, GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        byte[] jwks = jwks((RSAPublicKey) keyPair.getPublic()).getBytes(StandardCharsets.UTF_8);
+        server.createContext(REALM_PATH + "/protocol/openid-connect/certs", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+        return new JwtIssuerStub(keyPair, server);
+    }
+
+    URI issuerUri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + REALM_PATH);
+    }
+
+    URI jwkSetUri() {
+        return URI.create(issuerUri() + "/protocol/openid-connect/certs");
+    }
+
+    /**
+     * Signs an access token valid for the given number of seconds.
+     */
+    String token(long validSeconds) throws GeneralSecurityException {
+        long now = Instant.now().getEpochSecond();
+        String header = "{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"" + KEY_ID + "\"}";
+        String claims = "{\"iss\":\"" + issuerUri() + "\",\"sub\":\"load-generator\","
+                + "\"preferred_username\":\"load-generator\",\"scope\":\"openid profile\","
+                + "\"iat\":" + now + ",\"exp\":" + (now + validSeconds) + "}";
+        String signingInput = encode(header) + "." + encode(claims);
+
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static String jwks(RSAPublicKey key) {
+        return "{\"keys\":[{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"" + KEY_ID + "\","
+                + "\"n\":\"" + unsigned(key.getModulus()) + "\",\"e\":\"" + unsigned(key.getPublicExponent())
+                + "\"}]}";
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        byte[] magnitude = new byte[bytes.length - offset];
+        System.arraycopy(bytes, offset, magnitude, 0, magnitude.length);
+        return BASE64_URL.encodeToString(magnitude);
+    }
+
+    private static String encode(String json) {
+        return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
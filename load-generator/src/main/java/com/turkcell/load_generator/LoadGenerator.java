@@ -0,0 +1,238 @@
+package com.turkcell.load_generator;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs product-service, order-service and the gateway offline (H2, an
+ * embedded Kafka broker and a stub JWT issuer instead of Keycloak), drives
+ * each scenario at a constant arrival rate and writes an HdrHistogram based
+ * JSON report.
+ *
+ * <pre>
+ * java -jar load-generator/target/load-generator.jar --rate=100 --duration=60
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final String ORDER_TOPIC = "order-topic";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(5);
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String startedAt = Instant.now().toString();
+        Path workDir = options.workDir();
+
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 3, ORDER_TOPIC);
+        kafka.afterPropertiesSet();
+        String brokers = kafka.getBrokersAsString();
+        log.info("Embedded Kafka on {}", brokers);
+
+        List<ServiceProcess> services = new ArrayList<>();
+        try (JwtIssuerStub issuer = JwtIssuerStub.start();
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+
+            URI productUri = localhost(freePort());
+            URI orderUri = localhost(freePort());
+            URI gatewayUri = localhost(freePort());
+            // Gateway doğruladığı claim'leri bu anahtarla imzalar, product-service JWT'yi tekrar doğrulamaz;
+            // her çalıştırmada yeni anahtar, komut satırında görünmesin diye ortam değişkeniyle verilir
+            Map<String, String> edgeClaims = Map.of("EDGE_CLAIMS_SECRET", UUID.randomUUID().toString());
+
+            ServiceProcess product = ServiceProcess.start("product-service", options.productJar(),
+                    productArgs(options, productUri, brokers, issuer, workDir), edgeClaims, workDir);
+            services.add(product);
+            ServiceProcess order = ServiceProcess.start("order-service", options.orderJar(),
+                    orderArgs(options, orderUri, brokers, workDir), Map.of(), workDir);
+            services.add(order);
+            ServiceProcess gateway = null;
+            if (!options.direct()) {
+                gateway = ServiceProcess.start("gateway-server", options.gatewayJar(),
+                        gatewayArgs(options, gatewayUri, productUri, issuer, workDir), edgeClaims, workDir);
+                services.add(gateway);
+            }
+
+            product.awaitReady(client, productUri, STARTUP_TIMEOUT);
+            order.awaitReady(client, orderUri, STARTUP_TIMEOUT);
+            if (gateway != null) {
+                gateway.awaitReady(client, gatewayUri, STARTUP_TIMEOUT);
+            }
+
+            String token = issuer.token(Duration.ofHours(12).toSeconds());
+            Scenarios scenarios = new Scenarios(client, options.direct() ? productUri : gatewayUri, orderUri, token);
+            OpenModelRunner runner = new OpenModelRunner(client, options.ratePerSecond(), options.warmup(),
+                    options.duration());
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (String name : options.scenarios()) {
+                Scenario scenario = scenarios.create(name, options.requestsPerScenario());
+                log.info("Running {} at {}/s for {}s (+{}s warm-up)", name, options.ratePerSecond(),
+                        options.duration().toSeconds(), options.warmup().toSeconds());
+                ScenarioResult result = runner.run(scenario);
+                log.info("{}: {}/s, p50 {} ms, p99 {} ms, p99.9 {} ms, {} errors", name,
+                        Math.round(result.throughputPerSecond()), result.latencyMillis().p50(),
+                        result.latencyMillis().p99(), result.latencyMillis().p999(), result.errors());
+                results.add(result);
+            }
+
+            Map<String, Double> delivery = options.scenarios().contains("order-create")
+                    ? orderEventDelivery(client, productUri, token)
+                    : Map.of();
+
+            LoadTestReport report = new LoadTestReport(startedAt, options.direct() ? "direct" : "gateway",
+                    options.ratePerSecond(), options.warmup().toSeconds(), options.duration().toSeconds(), results,
+                    delivery);
+            writeReport(report, options.out());
+        } finally {
+            for (ServiceProcess service : services) {
+                service.close();
+            }
+            kafka.destroy();
+        }
+    }
+
+    private static List<String> productArgs(LoadTestOptions options, URI uri, String brokers, JwtIssuerStub issuer,
+            Path workDir) {
+        List<String> args = new ArrayList<>(common(uri, workDir, "product-service"));
+        args.add("--spring.datasource.url=jdbc:h2:mem:product;DB_CLOSE_DELAY=-1");
+        args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        args.add("--spring.jpa.hibernate.ddl-auto=create");
+        args.add("--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.jwkSetUri());
+        args.add("--spring.cloud.stream.kafka.binder.brokers=" + brokers);
+        args.add("--spring.cloud.stream.bindings.orderCreated-in-0.destination=" + ORDER_TOPIC);
+        args.add("--spring.cloud.stream.bindings.orderCreated-in-0.group=product-service");
+        args.addAll(options.productArgs());
+        return args;
+    }
+
+    private static List<String> orderArgs(LoadTestOptions options, URI uri, String brokers, Path workDir) {
+        List<String> args = new ArrayList<>(common(uri, workDir, "order-service"));
+        args.add("--spring.datasource.url=jdbc:h2:mem:order;DB_CLOSE_DELAY=-1");
+        args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        args.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        args.add("--spring.jpa.hibernate.ddl-auto=create");
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--spring.kafka.bootstrap-servers=" + brokers);
+        args.add("--spring.cloud.stream.kafka.binder.brokers=" + brokers);
+        // Önceki çalıştırmanın ürün kopyası yeni broker'daki product-topic'e ait değil
+        args.add("--product-replica.snapshot.path="
+                + workDir.toAbsolutePath().resolve("order-service/product-replica.snapshot"));
+        args.addAll(options.orderArgs());
+        return args;
+    }
+
+    private static List<String> gatewayArgs(LoadTestOptions options, URI uri, URI productUri, JwtIssuerStub issuer,
+            Path workDir) {
+        List<String> args = new ArrayList<>(common(uri, workDir, "gateway-server"));
+        // Eureka yerine sabit instance listesi, lb://product-service yine load balancer'dan geçer
+        args.add("--spring.cloud.discovery.client.simple.instances.product-service[0].uri=" + productUri);
+        args.add("--edge-auth.jwk-set-uri=" + issuer.jwkSetUri());
+        args.add("--edge-auth.issuer=" + issuer.issuerUri());
+        args.addAll(options.gatewayArgs());
+        return args;
+    }
+
+    private static List<String> common(URI uri, Path workDir, String name) {
+        return List.of(
+                "--server.port=" + uri.getPort(),
+                "--spring.config.import=",
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.enabled=false",
+                "--tracing.export.file=" + workDir.toAbsolutePath().resolve("traces/" + name + ".jsonl"));
+    }
+
+    /**
+     * Reads the end-to-end latency of order events from product-service once
+     * the outbox relayer (every 5 s) has had time to publish the backlog.
+     */
+    private static Map<String, Double> orderEventDelivery(HttpClient client, URI productUri, String token)
+            throws IOException, InterruptedException {
+        Thread.sleep(Duration.ofSeconds(15));
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        Map<String, Double> delivery = new LinkedHashMap<>();
+        JsonNode timer = metric(client, jsonMapper, productUri, token, "order.event.end-to-end.latency", null);
+        if (timer == null) {
+            return delivery;
+        }
+        for (JsonNode measurement : timer.get("measurements")) {
+            String statistic = measurement.get("statistic").asString();
+            double value = measurement.get("value").asDouble();
+            switch (statistic) {
+                case "COUNT" -> delivery.put("count", value);
+                case "MAX" -> delivery.put("maxMillis", value * 1000);
+                default -> {
+                }
+            }
+        }
+        Map<String, String> percentiles = Map.of("p50Millis", "0.5", "p99Millis", "0.99");
+        for (Map.Entry<String, String> entry : percentiles.entrySet()) {
+            JsonNode percentile = metric(client, jsonMapper, productUri, token,
+                    "order.event.end-to-end.latency.percentile", "phi:" + entry.getValue());
+            if (percentile != null) {
+                delivery.put(entry.getKey(), percentile.get("measurements").get(0).get("value").asDouble() * 1000);
+            }
+        }
+        return delivery;
+    }
+
+    private static JsonNode metric(HttpClient client, JsonMapper jsonMapper, URI productUri, String token,
+            String name, String tag) throws IOException, InterruptedException {
+        String path = "/actuator/metrics/" + name + (tag != null ? "?tag=" + tag : "");
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(productUri.resolve(path))
+                .header("Authorization", "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() == 200 ? jsonMapper.readTree(response.body()) : null;
+    }
+
+    private static void writeReport(LoadTestReport report, Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build().writeValue(out.toFile(), report);
+        log.info("Report written to {}", out);
+    }
+
+    private static URI localhost(int port) {
+        return URI.create("http://localhost:" + port);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
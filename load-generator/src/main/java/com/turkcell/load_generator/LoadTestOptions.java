@@ -0,0 +1,102 @@
+package com.turkcell.load_generator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line options of the load generator, all in {@code --name=value}
+ * form. Jar paths default to the build outputs relative to the repository
+ * root; the {@code --*-arg} options pass extra arguments to a service, e.g. a
+ * local Postgres URL instead of H2.
+ */
+record LoadTestOptions(
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        List<String> scenarios,
+        boolean direct,
+        Path out,
+        Path workDir,
+        Path productJar,
+        Path orderJar,
+        Path gatewayJar,
+        List<String> productArgs,
+        List<String> orderArgs,
+        List<String> gatewayArgs) {
+
+    static final List<String> ALL_SCENARIOS = List.of("product-list", "product-get", "product-update",
+            "product-create", "product-delete", "order-create");
+
+    static LoadTestOptions parse(String[] args) {
+        double rate = 50;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        List<String> scenarios = ALL_SCENARIOS;
+        boolean direct = false;
+        Path root = Path.of(".");
+        Path out = null;
+        Path workDir = null;
+        Path productJar = null;
+        Path orderJar = null;
+        Path gatewayJar = null;
+        List<String> productArgs = new ArrayList<>();
+        List<String> orderArgs = new ArrayList<>();
+        List<String> gatewayArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.equals("--direct")) {
+                direct = true;
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "rate" -> rate = Double.parseDouble(value);
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "scenarios" -> scenarios = List.of(value.split(","));
+                case "root" -> root = Path.of(value);
+                case "out" -> out = Path.of(value);
+                case "work-dir" -> workDir = Path.of(value);
+                case "product-jar" -> productJar = Path.of(value);
+                case "order-jar" -> orderJar = Path.of(value);
+                case "gateway-jar" -> gatewayJar = Path.of(value);
+                case "product-arg" -> productArgs.add(value);
+                case "order-arg" -> orderArgs.add(value);
+                case "gateway-arg" -> gatewayArgs.add(value);
+                default -> throw new IllegalArgumentException("Unrecognized option: --" + name);
+            }
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        for (String scenario : scenarios) {
+            if (!ALL_SCENARIOS.contains(scenario)) {
+                throw new IllegalArgumentException("Unknown scenario " + scenario + ", expected one of " + ALL_SCENARIOS);
+            }
+        }
+
+        return new LoadTestOptions(rate, warmup, duration, scenarios, direct,
+                out != null ? out : root.resolve("load-generator/results/report.json"),
+                workDir != null ? workDir : root.resolve("load-generator/target/run"),
+                productJar != null ? productJar
+                        : root.resolve("product-service/target/product-service-0.0.1-SNAPSHOT-exec.jar"),
+                orderJar != null ? orderJar : root.resolve("order-service/target/order-service-0.0.1-SNAPSHOT.jar"),
+                gatewayJar != null ? gatewayJar
+                        : root.resolve("gateway-server/target/gateway-server-0.0.1-SNAPSHOT.jar"),
+                productArgs, orderArgs, gatewayArgs);
+    }
+
+    /**
+     * Requests sent by one scenario, warm-up included.
+     */
+    long requestsPerScenario() {
+        return (long) Math.ceil(ratePerSecond * (warmup.toNanos() + duration.toNanos()) / 1e9);
+    }
+}
@@ -0,0 +1,20 @@
+package com.turkcell.load_generator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JSON report of a run.
+ *
+ * @param orderEventDelivery outbox to consumer latency of the orders created
+ *                           during the run, read from product-service metrics
+ */
+record LoadTestReport(
+        String startedAt,
+        String target,
+        double ratePerSecond,
+        long warmupSeconds,
+        long durationSeconds,
+        List<ScenarioResult> scenarios,
+        Map<String, Double> orderEventDelivery) {
+}
@@ -0,0 +1,104 @@
+package com.turkcell.load_generator;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Drives a scenario at a constant arrival rate (open model): requests are
+ * sent on a fixed schedule whether or not earlier ones have completed, so a
+ * slow system builds up a backlog instead of slowing the load down.
+ */
+final class OpenModelRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final HttpClient client;
+    private final double ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+
+    OpenModelRunner(HttpClient client, double ratePerSecond, Duration warmup, Duration duration) {
+        this.client = client;
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    ScenarioResult run(Scenario scenario) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        long requests = 0;
+        long dropped = 0;
+
+        long interval = Math.round(1e9 / ratePerSecond);
+        long begin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        long measureFrom = begin + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long sequence = 0;; sequence++) {
+            long intended = begin + sequence * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = intended >= measureFrom;
+            if (measured) {
+                requests++;
+            }
+            if (inFlight.get() >= MAX_IN_FLIGHT) {
+                // Sistem tamamen tıkandı; sınırsız bellek yerine düşürülen istek olarak raporlanır
+                if (measured) {
+                    dropped++;
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(scenario.request(sequence), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latencyMicros = (System.nanoTime() - intended) / 1000;
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        if (error != null) {
+                            errors.increment();
+                            return;
+                        }
+                        statusCodes.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+                        if (response.statusCode() >= 400) {
+                            errors.increment();
+                            return;
+                        }
+                        latencies.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        Map<Integer, Long> codes = new TreeMap<>();
+        statusCodes.forEach((code, count) -> codes.put(code, count.sum()));
+        double seconds = duration.toNanos() / 1e9;
+        return new ScenarioResult(scenario.name(), ratePerSecond, requests, errors.sum(), dropped,
+                latencies.getTotalCount() / seconds, ScenarioResult.Latency.of(latencies), codes);
+    }
+}
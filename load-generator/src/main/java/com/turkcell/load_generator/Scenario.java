@@ -0,0 +1,14 @@
+package com.turkcell.load_generator;
+
+import java.net.http.HttpRequest;
+import java.util.function.LongFunction;
+
+/**
+ * A named workload: the request to send for each sequence number.
+ */
+record Scenario(String name, LongFunction<HttpRequest> requests) {
+
+    HttpRequest request(long sequence) {
+        return requests.apply(sequence);
+    }
+}
@@ -0,0 +1,38 @@
+package com.turkcell.load_generator;
+
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one scenario over its measured window. Latencies are in
+ * milliseconds and measured from the intended send time, so queueing caused
+ * by a slow system is included rather than hidden (no coordinated omission).
+ */
+record ScenarioResult(
+        String name,
+        double targetRatePerSecond,
+        long requests,
+        long errors,
+        long dropped,
+        double throughputPerSecond,
+        Latency latencyMillis,
+        Map<Integer, Long> statusCodes) {
+
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Latency of(Histogram micros) {
+            return new Latency(
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(90)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue()),
+                    Math.round(micros.getMean()) / 1000.0);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
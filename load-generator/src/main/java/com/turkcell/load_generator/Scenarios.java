@@ -0,0 +1,161 @@
+package com.turkcell.load_generator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Builds the scenarios against product-service (through the gateway unless
+ * run direct) and order-service. Scenarios that need existing products seed
+ * them up front, so the measured phase only sends the request under test.
+ */
+final class Scenarios {
+
+    private static final int SHARED_PRODUCTS = 200;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration REPLICATION_TIMEOUT = Duration.ofSeconds(60);
+    private static final String CREATE_BODY = """
+            {"name":"Load test product","description":"Created by the load generator",\
+            "price":{"amount":149.90,"currency":"TRY"},"stock":{"quantity":100000}}""";
+
+    private final HttpClient client;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final URI products;
+    private final URI orders;
+    private final String authorization;
+    private List<String> sharedProductIds;
+
+    Scenarios(HttpClient client, URI productBaseUri, URI orderBaseUri, String accessToken) {
+        this.client = client;
+        this.products = productBaseUri.resolve("/api/v1/products");
+        this.orders = orderBaseUri.resolve("/api/v1/orders");
+        this.authorization = "Bearer " + accessToken;
+    }
+
+    Scenario create(String name, long requests) throws IOException, InterruptedException {
+        return switch (name) {
+            case "product-list" -> productList();
+            case "product-get" -> productGet(sharedProductIds());
+            case "product-update" -> productUpdate(sharedProductIds());
+            case "product-create" -> productCreate();
+            case "product-delete" -> productDelete(seedProducts((int) requests));
+            case "order-create" -> orderCreate(replicated(sharedProductIds()));
+            default -> throw new IllegalArgumentException("Unknown scenario " + name);
+        };
+    }
+
+    private Scenario productList() {
+        HttpRequest request = authorized(products).GET().build();
+        return new Scenario("product-list", sequence -> request);
+    }
+
+    private Scenario productGet(List<String> ids) {
+        return new Scenario("product-get", sequence -> authorized(productUri(ids, sequence)).GET().build());
+    }
+
+    private Scenario productUpdate(List<String> ids) {
+        return new Scenario("product-update", sequence -> authorized(productUri(ids, sequence))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(
+                        "{\"price\":{\"amount\":" + (100 + sequence % 100) + ".90,\"currency\":\"TRY\"}}"))
+                .build());
+    }
+
+    private Scenario productCreate() {
+        return new Scenario("product-create", sequence -> createRequest());
+    }
+
+    private Scenario productDelete(List<String> ids) {
+        return new Scenario("product-delete", sequence -> authorized(productUri(ids, sequence)).DELETE().build());
+    }
+
+    private Scenario orderCreate(List<String> ids) {
+        return new Scenario("order-create", sequence -> HttpRequest.newBuilder(orders)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"productId\":\"" + ids.get((int) (sequence % ids.size())) + "\"}"))
+                .build());
+    }
+
+    /**
+     * Waits until order-service's product replica has the given products, so
+     * the measured orders are not rejected while product-topic catches up.
+     * Each probe that succeeds is a real order.
+     */
+    private List<String> replicated(List<String> ids) throws IOException, InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(orders)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"productId\":\"" + ids.getLast() + "\"}"))
+                .build();
+        long deadline = System.nanoTime() + REPLICATION_TIMEOUT.toNanos();
+        while (true) {
+            HttpResponse<String> response = client.send(probe, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                return ids;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IOException("order-service did not see the seeded products: " + response.statusCode()
+                        + " " + response.body());
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private List<String> sharedProductIds() throws IOException, InterruptedException {
+        if (sharedProductIds == null) {
+            sharedProductIds = seedProducts(SHARED_PRODUCTS);
+        }
+        return sharedProductIds;
+    }
+
+    /**
+     * Creates products concurrently, a bounded batch at a time, and returns
+     * their IDs.
+     */
+    List<String> seedProducts(int count) throws IOException, InterruptedException {
+        List<String> ids = new ArrayList<>(count);
+        int batch = 64;
+        for (int from = 0; from < count; from += batch) {
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(batch);
+            for (int i = from; i < Math.min(count, from + batch); i++) {
+                responses.add(client.sendAsync(createRequest(), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> future : responses) {
+                HttpResponse<String> response = future.join();
+                if (response.statusCode() != 201) {
+                    throw new IOException("Seeding products failed with " + response.statusCode() + ": "
+                            + response.body());
+                }
+                ids.add(jsonMapper.readTree(response.body()).get("id").asString());
+            }
+        }
+        return ids;
+    }
+
+    private HttpRequest createRequest() {
+        return authorized(products)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_BODY))
+                .build();
+    }
+
+    private URI productUri(List<String> ids, long sequence) {
+        return URI.create(products + "/" + ids.get((int) (sequence % ids.size())));
+    }
+
+    private HttpRequest.Builder authorized(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization);
+    }
+}
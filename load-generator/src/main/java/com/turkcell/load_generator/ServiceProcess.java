@@ -0,0 +1,97 @@
+package com.turkcell.load_generator;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One service started from its executable jar in a child JVM, with its
+ * output captured in a log file under the work directory.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceProcess.class);
+
+    private final String name;
+    private final Process process;
+    private final Path logFile;
+
+    private ServiceProcess(String name, Process process, Path logFile) {
+        this.name = name;
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    static ServiceProcess start(String name, Path jar, List<String> args, Map<String, String> environment,
+            Path workDir) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found, build " + name + " first");
+        }
+        Files.createDirectories(workDir);
+        Path logFile = workDir.resolve(name + ".log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.addAll(args);
+
+        log.info("Starting {} (log: {})", name, logFile);
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        builder.environment().putAll(environment);
+        Process process = builder.start();
+        return new ServiceProcess(name, process, logFile);
+    }
+
+    /**
+     * Polls the actuator health endpoint until the service answers. A 401 also
+     * counts: the endpoint is up, just behind the resource server.
+     */
+    void awaitReady(HttpClient client, URI baseUri, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200 || status == 401) {
+                    log.info("{} is up on {}", name, baseUri);
+                    return;
+                }
+            } catch (ConnectException e) {
+                // Henüz port dinlenmiyor
+            } catch (IOException e) {
+                log.debug("{} health check failed: {}", name, e.getMessage());
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException(name + " did not start within " + timeout + ", see " + logFile);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
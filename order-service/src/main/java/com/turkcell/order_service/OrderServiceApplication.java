@@ -2,9 +2,13 @@ package com.turkcell.order_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.turkcell.tracing.TracingConfiguration;
+
 @SpringBootApplication
+@Import(TracingConfiguration.class)
 @EnableScheduling
 public class OrderServiceApplication {
 
@@ -0,0 +1,36 @@
+package com.turkcell.order_service.config;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.turkcell.event_schema.codec.BinaryEventMessageConverter;
+import com.turkcell.event_schema.events.OrderCreatedEventCodec;
+import com.turkcell.event_schema.events.ProductChangedEventCodec;
+import com.turkcell.event_schema.events.ProductDeletedEventCodec;
+import com.turkcell.event_schema.schema.FileSchemaRegistry;
+import com.turkcell.event_schema.schema.SchemaRegistry;
+
+/**
+ * Binary encoding of the events published on and consumed from Kafka. Spring Cloud Stream picks
+ * up the converter for bindings with content type
+ * {@value BinaryEventMessageConverter#CONTENT_TYPE}.
+ */
+@Configuration
+public class EventSchemaConfig {
+
+    @Bean
+    public SchemaRegistry schemaRegistry(
+            @Value("${event-schema.registry.dir:${java.io.tmpdir}/event-schema-registry}") String directory) {
+        return new FileSchemaRegistry(Path.of(directory));
+    }
+
+    @Bean
+    public BinaryEventMessageConverter binaryEventMessageConverter(SchemaRegistry schemaRegistry) {
+        return new BinaryEventMessageConverter(schemaRegistry, List.of(new OrderCreatedEventCodec(),
+                new ProductChangedEventCodec(), new ProductDeletedEventCodec()));
+    }
+}
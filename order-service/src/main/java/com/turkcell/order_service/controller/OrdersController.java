@@ -5,29 +5,43 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.event_schema.events.OrderCreatedEvent;
 import com.turkcell.order_service.messaging.outbox.OutboxMessage;
 import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.messaging.outbox.OutboxTracing;
+import com.turkcell.order_service.replica.ProductReplica;
+import com.turkcell.order_service.replica.ReplicatedProduct;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrdersController {
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final OutboxTracing outboxTracing;
+    private final ProductReplica productReplica;
 
-    public OrdersController(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+    public OrdersController(OutboxRepository outboxRepository, ObjectMapper objectMapper,
+            OutboxTracing outboxTracing, ProductReplica productReplica) {
         this.outboxRepository = outboxRepository;
         this.objectMapper = objectMapper;
+        this.outboxTracing = outboxTracing;
+        this.productReplica = productReplica;
     }
 
     @PostMapping()
     public String createOrder(@RequestBody CreateOrderDto dto) throws JsonProcessingException {
-        /// .........
-        OrderCreatedEvent event = new OrderCreatedEvent(dto.productId());
+        int quantity = validate(dto);
+
+        OrderCreatedEvent event = new OrderCreatedEvent(dto.productId(), quantity);
 
         OutboxMessage outboxMessage = new OutboxMessage();
         outboxMessage.setAggregateId(UUID.randomUUID()); // normalde db'de oluşan order'ın idsi
@@ -35,6 +49,7 @@ public class OrdersController {
         outboxMessage.setEventId(UUID.randomUUID());
         outboxMessage.setEventType("OrderCreatedEvent");
         outboxMessage.setPayloadJson(objectMapper.writeValueAsString(event));
+        outboxMessage.setTraceParent(outboxTracing.currentTraceParent());
         outboxRepository.save(outboxMessage);
 
         // Message<OrderCreatedEvent> message =
@@ -52,9 +67,46 @@ public class OrdersController {
         return dto.productId();
     }
 
-    record CreateOrderDto(String productId) {
+    /**
+     * Checks the order against the local product replica, without calling
+     * product-service.
+     *
+     * @return the quantity ordered
+     */
+    private int validate(CreateOrderDto dto) {
+        if (dto.productId() == null || dto.productId().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "productId zorunludur");
+        }
+        int quantity = dto.quantity() != null ? dto.quantity() : 1;
+        if (quantity < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Adet en az 1 olmalıdır");
+        }
+        // Replica product-topic'i yetişmeden verilen ret yanlış olabilir, istemci tekrar dener
+        if (!productReplica.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ürün kataloğu henüz yükleniyor");
+        }
+        ReplicatedProduct product = productReplica.find(dto.productId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNPROCESSABLE_CONTENT,
+                        "Ürün bulunamadı: " + dto.productId()));
+        // product-service'teki Money.toMinorUnits ile aynı yuvarlama
+        if (dto.unitPrice() != null && (!product.currency().equals(dto.currency())
+                || BigDecimal.valueOf(product.priceMinor(), 2)
+                        .compareTo(dto.unitPrice().setScale(2, RoundingMode.HALF_UP)) != 0)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ürün fiyatı değişti: "
+                    + BigDecimal.valueOf(product.priceMinor(), 2) + " " + product.currency());
+        }
+        if (product.stock() < quantity) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Yetersiz stok: " + product.stock());
+        }
+        return quantity;
     }
 
-    public record OrderCreatedEvent(String productId) {
+    /**
+     * @param quantity  units to order, 1 if omitted
+     * @param unitPrice price the client showed, checked against the current
+     *                  price if given
+     * @param currency  currency of unitPrice
+     */
+    record CreateOrderDto(String productId, Integer quantity, BigDecimal unitPrice, String currency) {
     }
 }
\ No newline at end of file
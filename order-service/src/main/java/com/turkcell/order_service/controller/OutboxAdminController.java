@@ -0,0 +1,28 @@
+package com.turkcell.order_service.controller;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+
+@RestController
+@RequestMapping("/api/v1/admin/outbox")
+public class OutboxAdminController {
+    private final OutboxRepository outboxRepository;
+
+    public OutboxAdminController(OutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    // FAILED satırlar sıfır denemeyle PENDING'e döner, relayer bir sonraki turda batch boyutu kadarını alır
+    @PostMapping("/requeue")
+    public RequeueResult requeueFailed() {
+        return new RequeueResult(outboxRepository.requeueFailed(OffsetDateTime.now()));
+    }
+
+    public record RequeueResult(int requeued) {
+    }
+}
@@ -8,7 +8,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "outbox", indexes = {
         @Index(name = "ix_outbox_event_id", columnList = "eventId", unique = true),
-        @Index(name = "ix_outbox_status_created", columnList = "status, createdAt")
+        @Index(name = "ix_outbox_status_created", columnList = "status, createdAt"),
+        @Index(name = "ix_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
 })
 public class OutboxMessage {
     @Id
@@ -32,6 +33,13 @@ public class OutboxMessage {
     private OffsetDateTime createdAt = OffsetDateTime.now();
     private OffsetDateTime processedAt;
 
+    // Relayer satırı bu zamandan önce tekrar denemez, başarısız gönderimlerde geri çekilme ile ileri atılır
+    private OffsetDateTime nextAttemptAt = createdAt;
+
+    // Satırı oluşturan isteğin W3C traceparent değeri, relayer Kafka mesajına taşır
+    @Column(length = 55)
+    private String traceParent;
+
     public UUID getId() {
         return id;
     }
@@ -111,4 +119,20 @@ public class OutboxMessage {
     public void setProcessedAt(OffsetDateTime processedAt) {
         this.processedAt = processedAt;
     }
+
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(OffsetDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getTraceParent() {
+        return traceParent;
+    }
+
+    public void setTraceParent(String traceParent) {
+        this.traceParent = traceParent;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer metrics for the outbox table and the relayer.
+ * Backlog counts are refreshed on their own schedule, independent of the
+ * relayer, so a stuck relayer shows up as a growing backlog and oldest
+ * PENDING age instead of frozen values.
+ */
+@Component
+public class OutboxMetrics {
+
+    private final MeterRegistry registry;
+    private final OutboxRepository outboxRepository;
+    private final Map<OutboxStatus, AtomicLong> backlog = new EnumMap<>(OutboxStatus.class);
+    private final AtomicReference<OffsetDateTime> oldestPending = new AtomicReference<>();
+    private final DistributionSummary batchSize;
+    private final Timer batchDuration;
+
+    public OutboxMetrics(MeterRegistry registry, OutboxRepository outboxRepository) {
+        this.registry = registry;
+        this.outboxRepository = outboxRepository;
+
+        for (OutboxStatus status : OutboxStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            backlog.put(status, count);
+            Gauge.builder("outbox.backlog", count, AtomicLong::get)
+                    .description("Outbox rows by status")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        Gauge.builder("outbox.pending.oldest.age", this, OutboxMetrics::oldestPendingAgeSeconds)
+                .description("Age of the oldest PENDING outbox row, 0 when there is none")
+                .baseUnit("seconds")
+                .register(registry);
+
+        this.batchSize = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("Number of PENDING rows picked up per relayer run")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchDuration = Timer.builder("outbox.relay.batch.duration")
+                .description("Time taken by one relayer run")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval:5000}")
+    public void refresh() {
+        Map<OutboxStatus, Long> counts = new EnumMap<>(OutboxStatus.class);
+        for (OutboxRepository.StatusCount row : outboxRepository.countGroupedByStatus()) {
+            counts.put(row.getStatus(), row.getCount());
+        }
+        backlog.forEach((status, count) -> count.set(counts.getOrDefault(status, 0L)));
+        oldestPending.set(outboxRepository.findOldestCreatedAt(OutboxStatus.PENDING));
+    }
+
+    public void recordBatch(int size, long durationNanos) {
+        batchSize.record(size);
+        batchDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a message the relayer could not hand to the binder.
+     *
+     * @param cause short reason, e.g. {@code not-accepted} or the exception
+     *              class name
+     */
+    public void recordFailure(String cause) {
+        Counter.builder("outbox.relay.failures")
+                .description("Outbox messages that could not be sent")
+                .tag("cause", cause)
+                .register(registry)
+                .increment();
+    }
+
+    private double oldestPendingAgeSeconds() {
+        OffsetDateTime oldest = oldestPending.get();
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, OffsetDateTime.now()).toMillis() / 1000.0);
+    }
+}
@@ -1,10 +1,53 @@
 package com.turkcell.order_service.messaging.outbox;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OutboxRepository extends JpaRepository<OutboxMessage, UUID> {
     List<OutboxMessage> findByStatusOrderByCreatedAtAsc(OutboxStatus status);
-}
\ No newline at end of file
+
+    // ix_outbox_status_next_attempt üzerinden sadece vadesi gelmiş satırlar okunur
+    List<OutboxMessage> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(OutboxStatus status,
+            OffsetDateTime now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage o set o.nextAttemptAt = o.createdAt where o.nextAttemptAt is null")
+    int backfillNextAttemptAt();
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update OutboxMessage o
+            set o.status = com.turkcell.order_service.messaging.outbox.OutboxStatus.PENDING,
+                o.retryCount = 0, o.nextAttemptAt = :now
+            where o.status = com.turkcell.order_service.messaging.outbox.OutboxStatus.FAILED""")
+    int requeueFailed(OffsetDateTime now);
+
+    // ix_outbox_status_created üzerinden silinir; gönderilmiş satır artık yalnızca denetim kaydıdır
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from OutboxMessage o
+            where o.status = com.turkcell.order_service.messaging.outbox.OutboxStatus.SENT and o.createdAt < :before""")
+    int deleteSentCreatedBefore(OffsetDateTime before);
+
+    @Query("select o.status as status, count(o) as count from OutboxMessage o group by o.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @Query("select min(o.createdAt) from OutboxMessage o where o.status = :status")
+    OffsetDateTime findOldestCreatedAt(OutboxStatus status);
+
+    interface StatusCount {
+        OutboxStatus getStatus();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,68 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Back-off schedule for outbox rows the relayer could not send. The delay
+ * doubles with every attempt up to {@code outbox.retry.max-delay}, and half of
+ * it is randomised so rows that failed together do not come back together.
+ */
+@Component
+public class OutboxRetryPolicy {
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxRetries;
+
+    public OutboxRetryPolicy(
+            @Value("${outbox.retry.initial-delay:1s}") Duration initialDelay,
+            @Value("${outbox.retry.max-delay:5m}") Duration maxDelay,
+            @Value("${outbox.retry.max-retries:5}") int maxRetries) {
+        if (initialDelay.isNegative() || initialDelay.isZero() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("outbox.retry delays must satisfy 0 < initial-delay <= max-delay");
+        }
+        this.initialDelayMillis = initialDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Records a failed attempt: the row is either scheduled for another try or
+     * marked FAILED once {@code outbox.retry.max-retries} is exceeded.
+     *
+     * @param message the row that could not be sent
+     * @param now     time of the failed attempt
+     */
+    public void onFailure(OutboxMessage message, OffsetDateTime now) {
+        int retryCount = message.getRetryCount() + 1;
+        message.setRetryCount(retryCount);
+        message.setProcessedAt(now);
+        if (retryCount > maxRetries) {
+            message.setStatus(OutboxStatus.FAILED);
+            return;
+        }
+        message.setNextAttemptAt(now.plus(Duration.ofMillis(delayMillis(retryCount))));
+    }
+
+    /**
+     * Delay before the given retry, between half and all of the capped
+     * exponential delay.
+     *
+     * @param retryCount number of failed attempts so far, starting at 1
+     * @return delay in milliseconds
+     */
+    long delayMillis(int retryCount) {
+        int shift = Math.min(retryCount - 1, 30);
+        long delay = Math.min(maxDelayMillis, initialDelayMillis << shift);
+        if (delay < 0) {
+            delay = maxDelayMillis;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
+/**
+ * Carries the trace of the request that wrote an outbox row across the
+ * asynchronous hop to Kafka: the W3C traceparent is captured on the row and
+ * the relayer publishes under a span that continues it.
+ */
+@Component
+public class OutboxTracing {
+
+    static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public OutboxTracing(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * @return the traceparent of the current span, or null outside a trace
+     */
+    public String currentTraceParent() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>(4);
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT);
+    }
+
+    /**
+     * Starts the producer span of a relayed message as a child of the stored
+     * trace context; rows without one start a new trace.
+     */
+    public Span startPublishSpan(OutboxMessage message, String destination) {
+        String traceParent = message.getTraceParent();
+        Span.Builder builder = traceParent != null
+                ? propagator.extract(traceParent, (carrier, key) -> TRACEPARENT.equals(key) ? carrier : null)
+                : tracer.spanBuilder();
+        return builder.kind(Span.Kind.PRODUCER)
+                .name(destination + " publish")
+                .tag("outbox.event_id", String.valueOf(message.getEventId()))
+                .start();
+    }
+
+    /**
+     * Adds the span's trace context to the outgoing message. Values are
+     * written as raw bytes so the Kafka header mapper does not JSON-encode
+     * them.
+     */
+    public void inject(Span span, MessageBuilder<?> message) {
+        propagator.inject(span.context(), message,
+                (carrier, key, value) -> carrier.setHeader(key, value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public Tracer.SpanInScope withSpan(Span span) {
+        return tracer.withSpan(span);
+    }
+}
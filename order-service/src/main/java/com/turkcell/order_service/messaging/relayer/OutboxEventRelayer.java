@@ -1,9 +1,18 @@
 package com.turkcell.order_service.messaging.relayer;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,57 +20,131 @@ import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.turkcell.order_service.controller.OrdersController.OrderCreatedEvent;
+import com.turkcell.event_schema.events.OrderCreatedEvent;
 import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
 import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.messaging.outbox.OutboxRetryPolicy;
 import com.turkcell.order_service.messaging.outbox.OutboxStatus;
+import com.turkcell.order_service.messaging.outbox.OutboxTracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 
 @Service
 public class OutboxEventRelayer {
+    // Outbox satırının oluşturulma zamanı (epoch ms), tüketici uçtan uca gecikmeyi buradan ölçer
+    public static final String EVENT_CREATED_AT_HEADER = "x-event-created-at";
+    private static final String BINDING = "orderCreated-out-0";
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventRelayer.class);
+
     private final OutboxRepository outboxRepository;
     private final StreamBridge streamBridge;
     private final ObjectMapper objectMapper;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxTracing outboxTracing;
+    private final OutboxRetryPolicy retryPolicy;
+    private final int batchSize;
+    private final Duration sentRetention;
 
-    public OutboxEventRelayer(OutboxRepository outboxRepository, StreamBridge streamBridge, ObjectMapper objectMapper) {
+    public OutboxEventRelayer(OutboxRepository outboxRepository, StreamBridge streamBridge, ObjectMapper objectMapper,
+            OutboxMetrics outboxMetrics, OutboxTracing outboxTracing, OutboxRetryPolicy retryPolicy,
+            @Value("${outbox.relay.batch-size:500}") int batchSize,
+            @Value("${outbox.cleanup.sent-retention:1h}") Duration sentRetention) {
         this.outboxRepository = outboxRepository;
         this.streamBridge = streamBridge;
         this.objectMapper = objectMapper;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxTracing = outboxTracing;
+        this.retryPolicy = retryPolicy;
+        this.batchSize = batchSize;
+        this.sentRetention = sentRetention;
+    }
+
+    /**
+     * Gives rows written before nextAttemptAt existed a schedule, so the due
+     * query picks them up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSchedule() {
+        int backfilled = outboxRepository.backfillNextAttemptAt();
+        if (backfilled > 0) {
+            log.info("Scheduled {} outbox rows written before nextAttemptAt existed", backfilled);
+        }
     }
 
     @Scheduled(fixedRate = 5000)
-    public void publishPendingEvents() throws JsonProcessingException {
-        System.out.println("Publish pending events çalıştı..");
+    public void publishPendingEvents() {
+        long start = System.nanoTime();
+        // Geri çekilmedeki satırlar vadesi gelene kadar okunmaz, yeni olaylar onların arkasında beklemez
+        List<OutboxMessage> pendingEvents = outboxRepository
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(OutboxStatus.PENDING,
+                        OffsetDateTime.now(), Limit.of(batchSize));
+        try {
+            publish(pendingEvents);
+        } finally {
+            outboxMetrics.recordBatch(pendingEvents.size(), System.nanoTime() - start);
+        }
+    }
 
-        List<OutboxMessage> pendingEvents = outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING);
+    /**
+     * Deletes rows that were sent longer than the retention ago, so the table
+     * only grows with the backlog. FAILED rows are kept for requeueing.
+     */
+    @Scheduled(fixedDelayString = "${outbox.cleanup.interval:60000}")
+    public void purgeSentEvents() {
+        int purged = outboxRepository.deleteSentCreatedBefore(OffsetDateTime.now().minus(sentRetention));
+        if (purged > 0) {
+            log.debug("Purged {} sent outbox rows", purged);
+        }
+    }
 
+    private void publish(List<OutboxMessage> pendingEvents) {
         for (OutboxMessage pendingEvent : pendingEvents) {
-            // Deserialize
-            OrderCreatedEvent event = objectMapper.readValue(pendingEvent.getPayloadJson(), OrderCreatedEvent.class);
+            // Siparişi oluşturan isteğin trace'i satırdan okunup mesajla birlikte devam ettirilir
+            Span span = outboxTracing.startPublishSpan(pendingEvent, BINDING);
+            try (Tracer.SpanInScope scope = outboxTracing.withSpan(span)) {
+                // Deserialize
+                OrderCreatedEvent event = objectMapper.readValue(pendingEvent.getPayloadJson(),
+                        OrderCreatedEvent.class);
 
-            Message<OrderCreatedEvent> message = MessageBuilder.withPayload(event).build();
+                // Anahtar productId: aynı ürünün olayları aynı partition'a düşer ve tüketicide sıralı işlenir
+                MessageBuilder<OrderCreatedEvent> builder = MessageBuilder.withPayload(event)
+                        .setHeader(KafkaHeaders.KEY, event.productId().getBytes(StandardCharsets.UTF_8))
+                        .setHeader(EVENT_CREATED_AT_HEADER,
+                                String.valueOf(pendingEvent.getCreatedAt().toInstant().toEpochMilli()));
+                outboxTracing.inject(span, builder);
+                send(pendingEvent, builder.build(), span);
+            } catch (JsonProcessingException e) {
+                fail(pendingEvent, span, e);
+            } finally {
+                span.end();
+            }
+        }
+    }
 
-            try {
-                boolean isSent = streamBridge.send("orderCreated-out-0", message);
-                if (!isSent) {
-                    pendingEvent.setRetryCount(pendingEvent.getRetryCount() + 1);
-                    if (pendingEvent.getRetryCount() > 5) {
-                        pendingEvent.setStatus(OutboxStatus.FAILED);
-                    }
-                } else {
-                    pendingEvent.setStatus(OutboxStatus.SENT);
-                }
+    private void send(OutboxMessage pendingEvent, Message<OrderCreatedEvent> message, Span span) {
+        try {
+            boolean isSent = streamBridge.send(BINDING, message);
+            if (!isSent) {
+                outboxMetrics.recordFailure("not-accepted");
+                span.event("not-accepted");
+                retryPolicy.onFailure(pendingEvent, OffsetDateTime.now());
+            } else {
+                pendingEvent.setStatus(OutboxStatus.SENT);
                 pendingEvent.setProcessedAt(OffsetDateTime.now());
-                outboxRepository.save(pendingEvent);
-            } catch (Exception e) {
-                pendingEvent.setRetryCount(pendingEvent.getRetryCount() + 1);
-                if (pendingEvent.getRetryCount() > 5) {
-                    pendingEvent.setStatus(OutboxStatus.FAILED);
-                }
-                pendingEvent.setProcessedAt(OffsetDateTime.now());
-                outboxRepository.save(pendingEvent);
             }
-
+            outboxRepository.save(pendingEvent);
+        } catch (Exception e) {
+            fail(pendingEvent, span, e);
         }
     }
 
-}
\ No newline at end of file
+    private void fail(OutboxMessage pendingEvent, Span span, Exception e) {
+        outboxMetrics.recordFailure(e.getClass().getSimpleName());
+        span.error(e);
+        retryPolicy.onFailure(pendingEvent, OffsetDateTime.now());
+        outboxRepository.save(pendingEvent);
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.turkcell.order_service.replica;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.turkcell.event_schema.events.ProductChangedEvent;
+import com.turkcell.event_schema.events.ProductDeletedEvent;
+
+/**
+ * In-memory copy of the product catalog, built from the compacted
+ * product-topic. Besides the products it tracks the next offset to read per
+ * partition, so a snapshot written to disk lets a restart resume from where it
+ * stopped instead of replaying the whole topic.
+ * <p>
+ * Events are applied by the single consumer thread; lookups may come from any
+ * thread. Applying an event is idempotent, so a snapshot may hold products
+ * newer than its offsets and the replay after a restore simply catches up.
+ * The replica is ready once every assigned partition has been read up to the
+ * end offset it had when it was assigned.
+ */
+public class ProductReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductReplica.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x50525031; // "PRP1"
+
+    private final Map<String, ReplicatedProduct> products = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> nextOffsets = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Map<Integer, Long> catchUpTargets;
+    private volatile boolean ready;
+
+    public Optional<ReplicatedProduct> find(String productId) {
+        return Optional.ofNullable(products.get(productId));
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return the offset to resume the partition from, empty if it was never
+     *         read
+     */
+    public Optional<Long> nextOffset(int partition) {
+        return Optional.ofNullable(nextOffsets.get(partition));
+    }
+
+    /**
+     * Starts catching up with the given partitions. Offsets past a partition's
+     * end mean the snapshot belongs to an earlier incarnation of the topic, so
+     * the replica is cleared and rebuilt from the beginning.
+     *
+     * @param endOffsets end offset per assigned partition
+     * @return false if the replica was cleared and every partition must be
+     *         read from the beginning
+     */
+    public boolean assigned(Map<Integer, Long> endOffsets) {
+        boolean valid = true;
+        for (Map.Entry<Integer, Long> end : endOffsets.entrySet()) {
+            Long next = nextOffsets.get(end.getKey());
+            if (next != null && next > end.getValue()) {
+                valid = false;
+            }
+        }
+        if (!valid) {
+            log.warn("Product replica snapshot is ahead of product-topic, rebuilding from the beginning");
+            products.clear();
+            nextOffsets.clear();
+            dirty.set(true);
+        }
+        catchUpTargets = Map.copyOf(endOffsets);
+        checkCaughtUp();
+        return valid;
+    }
+
+    public void apply(int partition, long offset, ProductChangedEvent event) {
+        ReplicatedProduct product = new ReplicatedProduct(event.version(), event.priceMinor(), event.currency(),
+                event.stock());
+        // Daha eski bir sürüm (ör. snapshot sonrası tekrar okunan kayıt) mevcut durumu ezmez
+        products.merge(event.productId(), product,
+                (current, changed) -> changed.version() >= current.version() ? changed : current);
+        advance(partition, offset);
+    }
+
+    public void apply(int partition, long offset, ProductDeletedEvent event) {
+        products.remove(event.productId());
+        advance(partition, offset);
+    }
+
+    /**
+     * Records a record that carried no product, e.g. a tombstone or an event
+     * type this version does not know.
+     */
+    public void skip(int partition, long offset) {
+        advance(partition, offset);
+    }
+
+    private void advance(int partition, long offset) {
+        nextOffsets.merge(partition, offset + 1, Math::max);
+        dirty.set(true);
+        if (!ready) {
+            checkCaughtUp();
+        }
+    }
+
+    private void checkCaughtUp() {
+        Map<Integer, Long> targets = catchUpTargets;
+        if (targets == null) {
+            return;
+        }
+        for (Map.Entry<Integer, Long> target : targets.entrySet()) {
+            if (target.getValue() > nextOffsets.getOrDefault(target.getKey(), 0L)) {
+                return;
+            }
+        }
+        if (!ready) {
+            ready = true;
+            log.info("Product replica caught up with product-topic: {} products", products.size());
+        }
+    }
+
+    /**
+     * Writes the replica to the given file if it changed since the last
+     * snapshot. The file is replaced atomically, so a crash mid-write leaves
+     * the previous snapshot in place.
+     *
+     * @return true if a snapshot was written
+     */
+    public synchronized boolean snapshot(Path file) {
+        if (!dirty.getAndSet(false)) {
+            return false;
+        }
+        // Offset'ler ürünlerden önce kopyalanır: ürünler hiçbir zaman offset'lerden eski olmaz
+        Map<Integer, Long> offsets = new HashMap<>(nextOffsets);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                    out.writeInt(SNAPSHOT_MAGIC);
+                    out.writeInt(offsets.size());
+                    for (Map.Entry<Integer, Long> offset : offsets.entrySet()) {
+                        out.writeInt(offset.getKey());
+                        out.writeLong(offset.getValue());
+                    }
+                    Map<String, ReplicatedProduct> copy = new HashMap<>(products);
+                    out.writeInt(copy.size());
+                    for (Map.Entry<String, ReplicatedProduct> entry : copy.entrySet()) {
+                        ReplicatedProduct product = entry.getValue();
+                        out.writeUTF(entry.getKey());
+                        out.writeLong(product.version());
+                        out.writeLong(product.priceMinor());
+                        out.writeUTF(product.currency());
+                        out.writeInt(product.stock());
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return true;
+        } catch (IOException e) {
+            dirty.set(true);
+            throw new UncheckedIOException("Could not write product replica snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Loads a snapshot written by {@link #snapshot(Path)}. A missing or
+     * unreadable file leaves the replica empty, so it is rebuilt from the
+     * topic.
+     *
+     * @return true if a snapshot was loaded
+     */
+    public synchronized boolean restore(Path file) {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("not a product replica snapshot");
+            }
+            Map<Integer, Long> offsets = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                offsets.put(in.readInt(), in.readLong());
+            }
+            Map<String, ReplicatedProduct> restored = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                restored.put(in.readUTF(),
+                        new ReplicatedProduct(in.readLong(), in.readLong(), in.readUTF(), in.readInt()));
+            }
+            products.clear();
+            products.putAll(restored);
+            nextOffsets.clear();
+            nextOffsets.putAll(offsets);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable product replica snapshot {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+}
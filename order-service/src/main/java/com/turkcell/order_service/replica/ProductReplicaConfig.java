@@ -0,0 +1,117 @@
+package com.turkcell.order_service.replica;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.binder.kafka.KafkaBindingRebalanceListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+import com.turkcell.event_schema.codec.BinaryEventMessageConverter;
+import com.turkcell.event_schema.events.ProductChangedEvent;
+import com.turkcell.event_schema.events.ProductDeletedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds the ProductReplica from product-topic. The binding has no consumer
+ * group: every instance reads all partitions, starting from the offsets of
+ * its last snapshot, or from the beginning if it has none.
+ */
+@Configuration
+public class ProductReplicaConfig {
+
+    // product-service'in ProductEventRelayer'ı ile aynı başlık
+    static final String EVENT_TYPE_HEADER = "x-event-type";
+    private static final String BINDING = "productChanged-in-0";
+    private static final Logger log = LoggerFactory.getLogger(ProductReplicaConfig.class);
+
+    @Bean
+    public ProductReplica productReplica(
+            @Value("${product-replica.snapshot.path:${java.io.tmpdir}/order-service/product-replica.snapshot}") Path snapshot,
+            MeterRegistry meterRegistry) {
+        ProductReplica replica = new ProductReplica();
+        long start = System.nanoTime();
+        if (replica.restore(snapshot)) {
+            log.info("Restored {} products from {} in {} ms", replica.size(), snapshot,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        Gauge.builder("product.replica.size", replica, ProductReplica::size)
+                .description("Products in the local replica of product-topic")
+                .register(meterRegistry);
+        Gauge.builder("product.replica.ready", replica, r -> r.isReady() ? 1 : 0)
+                .description("1 once the replica has caught up with product-topic")
+                .register(meterRegistry);
+        return replica;
+    }
+
+    @Bean
+    public Consumer<Message<byte[]>> productChanged(ProductReplica replica, BinaryEventMessageConverter converter) {
+        return message -> {
+            MessageHeaders headers = message.getHeaders();
+            int partition = headers.get(KafkaHeaders.RECEIVED_PARTITION, Integer.class);
+            long offset = headers.get(KafkaHeaders.OFFSET, Long.class);
+            byte[] payload = message.getPayload();
+            String type = text(headers.get(EVENT_TYPE_HEADER));
+            if (payload.length == 0 || type == null) {
+                replica.skip(partition, offset);
+                return;
+            }
+            switch (type) {
+                case "ProductChanged" ->
+                    replica.apply(partition, offset, converter.decode(payload, ProductChangedEvent.class));
+                case "ProductDeleted" ->
+                    replica.apply(partition, offset, converter.decode(payload, ProductDeletedEvent.class));
+                default -> {
+                    log.debug("Skipping unknown product event type {} at {}@{}", type, partition, offset);
+                    replica.skip(partition, offset);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public KafkaBindingRebalanceListener productReplicaRebalanceListener(ProductReplica replica) {
+        return new KafkaBindingRebalanceListener() {
+
+            @Override
+            public void onPartitionsAssigned(String bindingName, org.apache.kafka.clients.consumer.Consumer<?, ?> consumer,
+                    Collection<TopicPartition> partitions, boolean initial) {
+                if (!BINDING.equals(bindingName) || partitions.isEmpty()) {
+                    return;
+                }
+                Map<Integer, Long> endOffsets = new HashMap<>();
+                consumer.endOffsets(partitions).forEach((partition, end) -> endOffsets.put(partition.partition(), end));
+                boolean resume = replica.assigned(endOffsets);
+                for (TopicPartition partition : partitions) {
+                    Long next = resume ? replica.nextOffset(partition.partition()).orElse(null) : null;
+                    if (next != null) {
+                        consumer.seek(partition, next);
+                    } else {
+                        consumer.seekToBeginning(List.of(partition));
+                    }
+                }
+            }
+        };
+    }
+
+    private static String text(Object header) {
+        if (header instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return header != null ? header.toString() : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.turkcell.order_service.replica;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the ProductReplica to disk periodically and on shutdown, so a restart
+ * replays only the records published since.
+ */
+@Component
+public class ProductReplicaSnapshots implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductReplicaSnapshots.class);
+
+    private final ProductReplica replica;
+    private final Path snapshot;
+
+    public ProductReplicaSnapshots(ProductReplica replica,
+            @Value("${product-replica.snapshot.path:${java.io.tmpdir}/order-service/product-replica.snapshot}") Path snapshot) {
+        this.replica = replica;
+        this.snapshot = snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${product-replica.snapshot.interval:30s}")
+    public void snapshot() {
+        try {
+            long start = System.nanoTime();
+            if (replica.snapshot(snapshot)) {
+                log.debug("Wrote {} products to {} in {} ms", replica.size(), snapshot,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not snapshot the product replica: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        snapshot();
+    }
+}
@@ -0,0 +1,12 @@
+package com.turkcell.order_service.replica;
+
+/**
+ * What order-service needs to know about a product to accept an order for it.
+ *
+ * @param version    product-service's version of the product
+ * @param priceMinor unit price in minor units (kuruş, cents)
+ * @param currency   ISO 4217 code of the price
+ * @param stock      units in stock as of the last event
+ */
+public record ReplicatedProduct(long version, long priceMinor, String currency, int stock) {
+}
@@ -0,0 +1,41 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class OutboxRetryPolicyTest {
+
+	private final OutboxRetryPolicy policy = new OutboxRetryPolicy(Duration.ofSeconds(1), Duration.ofSeconds(30), 5);
+
+	@Test
+	void delayDoublesWithJitterUpToTheCap() {
+		for (int i = 0; i < 100; i++) {
+			assertThat(policy.delayMillis(1)).isBetween(500L, 1000L);
+			assertThat(policy.delayMillis(3)).isBetween(2000L, 4000L);
+			assertThat(policy.delayMillis(10)).isBetween(15_000L, 30_000L);
+			assertThat(policy.delayMillis(64)).isBetween(15_000L, 30_000L);
+		}
+	}
+
+	@Test
+	void failedAttemptIsScheduledUntilRetriesAreExhausted() {
+		OutboxMessage message = new OutboxMessage();
+		OffsetDateTime now = OffsetDateTime.now();
+
+		policy.onFailure(message, now);
+
+		assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(message.getRetryCount()).isEqualTo(1);
+		assertThat(message.getNextAttemptAt()).isAfter(now);
+
+		message.setRetryCount(5);
+		policy.onFailure(message, now);
+
+		assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(message.getRetryCount()).isEqualTo(6);
+	}
+}
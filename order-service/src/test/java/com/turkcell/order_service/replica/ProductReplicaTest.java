@@ -0,0 +1,65 @@
+package com.turkcell.order_service.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.turkcell.event_schema.events.ProductChangedEvent;
+import com.turkcell.event_schema.events.ProductDeletedEvent;
+
+class ProductReplicaTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void olderVersionsAreIgnoredAndDeletesRemove() {
+		ProductReplica replica = new ProductReplica();
+
+		replica.apply(0, 0, new ProductChangedEvent("p1", 2, "Klavye", 124_990, "TRY", 5));
+		replica.apply(0, 1, new ProductChangedEvent("p1", 1, "Klavye", 99_990, "TRY", 9));
+		replica.apply(1, 0, new ProductChangedEvent("p2", 0, "Fare", 49_900, "TRY", 3));
+		replica.apply(1, 1, new ProductDeletedEvent("p2"));
+
+		assertThat(replica.find("p1")).contains(new ReplicatedProduct(2, 124_990, "TRY", 5));
+		assertThat(replica.find("p2")).isEmpty();
+		assertThat(replica.nextOffset(0)).contains(2L);
+		assertThat(replica.nextOffset(1)).contains(2L);
+	}
+
+	@Test
+	void becomesReadyOnceAssignedPartitionsAreReadToTheirEnd() {
+		ProductReplica replica = new ProductReplica();
+		replica.assigned(Map.of(0, 2L, 1, 0L));
+		assertThat(replica.isReady()).isFalse();
+
+		replica.apply(0, 0, new ProductChangedEvent("p1", 0, "Klavye", 124_990, "TRY", 5));
+		assertThat(replica.isReady()).isFalse();
+		replica.skip(0, 1);
+		assertThat(replica.isReady()).isTrue();
+	}
+
+	@Test
+	void snapshotRestoresProductsAndOffsets() {
+		Path file = dir.resolve("replica.snapshot");
+		ProductReplica replica = new ProductReplica();
+		replica.apply(2, 41, new ProductChangedEvent("p1", 3, "Klavye", 124_990, "TRY", 5));
+
+		assertThat(replica.snapshot(file)).isTrue();
+		assertThat(replica.snapshot(file)).isFalse();
+
+		ProductReplica restored = new ProductReplica();
+		assertThat(restored.restore(file)).isTrue();
+		assertThat(restored.find("p1")).contains(new ReplicatedProduct(3, 124_990, "TRY", 5));
+		assertThat(restored.nextOffset(2)).contains(42L);
+
+		// Konudan geride kalmayan snapshot korunur, konunun ötesindeki snapshot atılır
+		assertThat(restored.assigned(Map.of(2, 42L))).isTrue();
+		assertThat(restored.assigned(Map.of(2, 10L))).isFalse();
+		assertThat(restored.size()).isZero();
+	}
+}
@@ -2,8 +2,14 @@ package com.turkcell.product_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.turkcell.tracing.TracingConfiguration;
 
 @SpringBootApplication
+@Import(TracingConfiguration.class)
+@EnableScheduling
 public class ProductServiceApplication {
 
 	public static void main(String[] args) {
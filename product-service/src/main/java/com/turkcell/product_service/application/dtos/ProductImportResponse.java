@@ -0,0 +1,25 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.time.Instant;
+
+/**
+ * Progress of a bulk product import.
+ *
+ * @param status       QUEUED, RUNNING, MERGING, COMPLETED or FAILED
+ * @param rowsRead     data rows parsed so far
+ * @param rowsStaged   valid rows loaded into staging so far
+ * @param rowsRejected rows that failed validation so far
+ * @param rowsMerged   products inserted or replaced, set once COMPLETED
+ * @param error        why the import failed, if it did
+ */
+public record ProductImportResponse(
+        String id,
+        String status,
+        long rowsRead,
+        long rowsStaged,
+        long rowsRejected,
+        long rowsMerged,
+        Instant startedAt,
+        Instant finishedAt,
+        String error) {
+}
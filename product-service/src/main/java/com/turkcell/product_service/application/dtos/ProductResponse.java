@@ -1,12 +1,14 @@
 package com.turkcell.product_service.application.dtos;
 
 /**
- * Response DTO for a single product.
+ * Response DTO for a single product. The version changes on every write and
+ * is also sent as the ETag.
  */
 public record ProductResponse(
                 String id,
                 String name,
                 String description,
                 PriceDto price,
-                StockDto stock) {
+                StockDto stock,
+                long version) {
 }
@@ -0,0 +1,38 @@
+package com.turkcell.product_service.application.dtos;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for filtering and sorting the product catalog. All filters are
+ * optional, but price filters and price sorting require a currency: prices are
+ * compared in minor units, which mean nothing across currencies. Without a
+ * sort, results are ordered by price when a currency is given and by stock
+ * otherwise.
+ */
+public record ProductSearchRequest(
+        String currency,
+
+        @PositiveOrZero(message = "Minimum fiyat negatif olamaz") BigDecimal minPrice,
+
+        @PositiveOrZero(message = "Maksimum fiyat negatif olamaz") BigDecimal maxPrice,
+
+        Boolean inStock,
+
+        ProductSort sort,
+
+        @Min(value = 1, message = "Limit en az 1 olmalıdır") @Max(value = 500, message = "Limit en fazla 500 olabilir") Integer limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    @AssertTrue(message = "Fiyat filtresi ve fiyat sıralaması için para birimi belirtilmelidir")
+    public boolean isCurrencyGivenForPriceQuery() {
+        boolean byPrice = minPrice != null || maxPrice != null
+                || sort == ProductSort.PRICE_ASC || sort == ProductSort.PRICE_DESC;
+        return !byPrice || (currency != null && !currency.isBlank());
+    }
+}
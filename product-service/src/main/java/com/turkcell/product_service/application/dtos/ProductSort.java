@@ -0,0 +1,11 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Sort orders supported by product search.
+ */
+public enum ProductSort {
+    PRICE_ASC,
+    PRICE_DESC,
+    STOCK_ASC,
+    STOCK_DESC
+}
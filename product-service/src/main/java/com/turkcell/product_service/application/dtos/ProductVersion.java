@@ -0,0 +1,10 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * ID and version of a product, enough to tell whether a client's copy is
+ * current without reading the product.
+ */
+public record ProductVersion(
+        String id,
+        long version) {
+}
@@ -0,0 +1,12 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Versions of the products of a list response, in the same order and with the
+ * same total count.
+ */
+public record ProductVersionList(
+        List<ProductVersion> products,
+        int totalCount) {
+}
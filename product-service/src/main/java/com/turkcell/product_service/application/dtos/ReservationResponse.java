@@ -0,0 +1,13 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for an active stock reservation.
+ */
+public record ReservationResponse(
+        String id,
+        String productId,
+        int quantity,
+        Instant expiresAt) {
+}
@@ -0,0 +1,16 @@
+package com.turkcell.product_service.application.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO for holding stock of a product for a limited time.
+ */
+public record ReserveStockRequest(
+        @NotNull(message = "Rezervasyon miktarı zorunludur") @Positive(message = "Rezervasyon miktarı pozitif olmalıdır") Integer quantity,
+
+        @Positive(message = "Rezervasyon süresi pozitif olmalıdır") @Max(value = 3600, message = "Rezervasyon süresi en fazla 3600 saniye olabilir") Integer ttlSeconds) {
+
+    public static final int DEFAULT_TTL_SECONDS = 900;
+}
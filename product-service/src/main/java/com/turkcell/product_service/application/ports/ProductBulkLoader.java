@@ -0,0 +1,42 @@
+package com.turkcell.product_service.application.ports;
+
+import java.util.List;
+
+/**
+ * Loads validated import rows into a staging area and merges them into the
+ * products, the read model and the catalog in one step. Rows are inserted or,
+ * when a product with the same ID exists, replace it; for an ID repeated in
+ * the same import the row from the latest line wins.
+ */
+public interface ProductBulkLoader {
+
+    /**
+     * Opens an empty staging area. The caller must close it.
+     *
+     * @return the staging area
+     */
+    Staging begin();
+
+    interface Staging extends AutoCloseable {
+
+        /**
+         * Appends rows to the staging area.
+         *
+         * @param rows the rows in source order
+         */
+        void append(List<ProductImportRow> rows);
+
+        /**
+         * Merges the staged rows in a single transaction.
+         *
+         * @return the number of products inserted or replaced
+         */
+        long merge();
+
+        /**
+         * Drops the staging area; staged rows that were not merged are lost.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+/**
+ * Filter and sort index over the whole catalog.
+ * Holds only the attributes that queries filter and sort on; product details
+ * are read from the read model for the returned IDs. Kept up to date by the
+ * write use cases.
+ */
+public interface ProductCatalog {
+
+    /**
+     * Adds or replaces the indexed attributes of a product once the current
+     * transaction commits.
+     *
+     * @param product the product as it was saved
+     */
+    void upsert(Product product);
+
+    /**
+     * Removes a product from the index once the current transaction commits.
+     *
+     * @param id the product ID
+     */
+    void remove(ProductId id);
+
+    /**
+     * Runs a query over the catalog.
+     *
+     * @param criteria the filters, sort order and limit
+     * @return the matching product IDs in order and the total match count
+     */
+    ProductSearchResult search(ProductSearchCriteria criteria);
+}
@@ -0,0 +1,19 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+/**
+ * Records that a product was written, so its state is published to other
+ * services. Joins the caller's transaction: a rolled back write publishes
+ * nothing.
+ */
+public interface ProductEventOutbox {
+
+    /**
+     * Queues the product's state as of publishing time: ProductChanged if it
+     * still exists then, ProductDeleted otherwise.
+     *
+     * @param id the product ID
+     */
+    void productChanged(ProductId id);
+}
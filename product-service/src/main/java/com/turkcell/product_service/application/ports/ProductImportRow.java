@@ -0,0 +1,20 @@
+package com.turkcell.product_service.application.ports;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A validated row of a product import, in the canonical form of the value
+ * objects it was checked with.
+ *
+ * @param line the line of the source file the row started on
+ */
+public record ProductImportRow(
+        long line,
+        UUID id,
+        String name,
+        String description,
+        BigDecimal priceAmount,
+        String priceCurrency,
+        int stockQuantity) {
+}
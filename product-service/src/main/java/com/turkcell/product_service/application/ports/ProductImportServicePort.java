@@ -0,0 +1,43 @@
+package com.turkcell.product_service.application.ports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import com.turkcell.product_service.application.dtos.ProductImportResponse;
+
+/**
+ * Application Service Port for bulk product imports from CSV files.
+ */
+public interface ProductImportServicePort {
+
+    /**
+     * Stores the file and queues its import. Imports run one at a time in the
+     * background.
+     *
+     * @param csv a CSV file with a header row; {@code name}, {@code price},
+     *            {@code currency} and {@code stock} columns are required,
+     *            {@code id} and {@code description} are optional
+     * @return the queued import
+     * @throws IOException if the file could not be stored
+     */
+    ProductImportResponse startImport(InputStream csv) throws IOException;
+
+    /**
+     * Retrieves the progress of an import.
+     *
+     * @param id the import ID
+     * @return the import, or empty if it is unknown or no longer retained
+     */
+    Optional<ProductImportResponse> getImport(String id);
+
+    /**
+     * Retrieves the rejected rows of an import as CSV: the line number, the
+     * reason and the original fields.
+     *
+     * @param id the import ID
+     * @return the file, or empty if the import is unknown or still running
+     */
+    Optional<Path> getRejectedRows(String id);
+}
@@ -0,0 +1,80 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Query side of the Product use cases.
+ * Holds a denormalized copy of each product that is updated on every write
+ * and read straight into response DTOs, without loading the aggregate.
+ */
+public interface ProductReadModel {
+
+    /**
+     * Inserts or replaces the projection of a product.
+     *
+     * @param product the product as it was saved
+     */
+    void project(Product product);
+
+    /**
+     * Removes the projection of a product.
+     *
+     * @param id the product ID
+     */
+    void remove(ProductId id);
+
+    /**
+     * Finds the projection of a product by its ID.
+     *
+     * @param id the product ID
+     * @return an Optional containing the product response if found
+     */
+    Optional<ProductResponse> findById(ProductId id);
+
+    /**
+     * Finds the projections of all products.
+     *
+     * @return a list of all product responses
+     */
+    List<ProductResponse> findAll();
+
+    /**
+     * Finds the projections of the given products.
+     *
+     * @param ids the product IDs
+     * @return the product responses in the order of the IDs, skipping products
+     *         that no longer exist
+     */
+    List<ProductResponse> findAllById(List<ProductId> ids);
+
+    /**
+     * Finds only the version of a product, without reading its details.
+     *
+     * @param id the product ID
+     * @return the version, empty if the product does not exist
+     */
+    OptionalLong findVersion(ProductId id);
+
+    /**
+     * Finds the versions of all products, in the order of {@link #findAll()}.
+     *
+     * @return the ID and version of every product
+     */
+    List<ProductVersion> findAllVersions();
+
+    /**
+     * Finds the versions of the given products.
+     *
+     * @param ids the product IDs
+     * @return the versions in the order of the IDs, skipping products that no
+     *         longer exist
+     */
+    List<ProductVersion> findVersionsById(List<ProductId> ids);
+}
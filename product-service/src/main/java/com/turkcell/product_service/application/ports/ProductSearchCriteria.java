@@ -0,0 +1,23 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductSort;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+
+/**
+ * A catalog query with its bounds already in minor units.
+ *
+ * @param currency       the currency to match, or null for any
+ * @param minPriceMinor  inclusive lower price bound
+ * @param maxPriceMinor  inclusive upper price bound
+ * @param inStockOnly    whether to skip products without stock
+ * @param sort           the order of the returned products
+ * @param limit          the maximum number of products to return
+ */
+public record ProductSearchCriteria(
+        Currency currency,
+        long minPriceMinor,
+        long maxPriceMinor,
+        boolean inStockOnly,
+        ProductSort sort,
+        int limit) {
+}
@@ -0,0 +1,14 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+import java.util.List;
+
+/**
+ * The first products of a catalog query in sort order, and how many products
+ * matched the filters in total.
+ */
+public record ProductSearchResult(
+        List<ProductId> productIds,
+        int totalMatches) {
+}
@@ -24,6 +24,15 @@ public interface ProductServicePort {
      */
     ProductResponse getProductById(String id);
 
+    /**
+     * Retrieves only the version of a product, e.g. to answer a conditional
+     * request without loading the product.
+     *
+     * @param id the product ID
+     * @return the current version
+     */
+    long getProductVersion(String id);
+
     /**
      * Retrieves all products.
      *
@@ -31,14 +40,42 @@ public interface ProductServicePort {
      */
     ProductListResponse getAllProducts();
 
+    /**
+     * Retrieves the versions of the products {@link #getAllProducts()} would
+     * return.
+     *
+     * @return the IDs and versions of all products
+     */
+    ProductVersionList getAllProductVersions();
+
+    /**
+     * Filters and sorts the catalog.
+     *
+     * @param request the filters, sort order and limit
+     * @return the first matching products and the total match count
+     */
+    ProductListResponse searchProducts(ProductSearchRequest request);
+
+    /**
+     * Retrieves the versions of the products
+     * {@link #searchProducts(ProductSearchRequest)} would return.
+     *
+     * @param request the filters, sort order and limit
+     * @return the IDs and versions of the first matching products and the
+     *         total match count
+     */
+    ProductVersionList searchProductVersions(ProductSearchRequest request);
+
     /**
      * Updates an existing product.
      *
-     * @param id      the product ID
-     * @param request the update request
+     * @param id              the product ID
+     * @param request         the update request
+     * @param expectedVersion the version the client last saw, or null to
+     *                        update whatever the current version is
      * @return the updated product response
      */
-    ProductResponse updateProduct(String id, UpdateProductRequest request);
+    ProductResponse updateProduct(String id, UpdateProductRequest request, Long expectedVersion);
 
     /**
      * Deletes a product by its ID.
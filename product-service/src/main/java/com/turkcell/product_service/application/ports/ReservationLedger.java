@@ -0,0 +1,74 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.domain.entities.StockReservation;
+import com.turkcell.product_service.domain.exceptions.InsufficientStockException;
+import com.turkcell.product_service.domain.exceptions.ReservationNotFoundException;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Book of active stock reservations.
+ * Tracks how much of each product is held, admits new holds only against
+ * unreserved stock and lets holds lapse when their time is up.
+ */
+public interface ReservationLedger {
+
+    /**
+     * Holds stock of a product if enough of it is not reserved yet. The stock
+     * is read while the product's reservations are locked, so a confirmation
+     * committing at the same time is either reflected in the stock or still
+     * counted as held, never neither.
+     *
+     * @param productId the product
+     * @param quantity  the quantity to hold
+     * @param stock     reads the committed stock of the product
+     * @param ttl       how long the hold lasts unless confirmed
+     * @return the new reservation
+     * @throws InsufficientStockException if the unreserved stock is smaller
+     *                                    than quantity
+     */
+    StockReservation hold(ProductId productId, int quantity, Supplier<Stock> stock, Duration ttl);
+
+    /**
+     * Checks that a new stock level of a product still covers its active
+     * holds. Until the current transaction completes, new holds are admitted
+     * against the lower of the new and the committed stock.
+     *
+     * @param productId the product
+     * @param stock     the stock the product is about to be set to
+     * @throws InsufficientStockException if the new stock is smaller than the
+     *                                    reserved quantity
+     */
+    void restrictStock(ProductId productId, Stock stock);
+
+    /**
+     * Returns the quantity of a product held by active reservations.
+     *
+     * @param productId the product
+     * @return the reserved quantity
+     */
+    int reservedQuantity(ProductId productId);
+
+    /**
+     * Claims an active reservation for confirmation. The reservation keeps
+     * holding its quantity until the current transaction commits and is then
+     * removed; on rollback it becomes active again.
+     *
+     * @param id the reservation ID
+     * @return the claimed reservation
+     * @throws ReservationNotFoundException if no active reservation has the ID
+     */
+    StockReservation claim(ReservationId id);
+
+    /**
+     * Releases an active reservation.
+     *
+     * @param id the reservation ID
+     * @return true if an active reservation was released
+     */
+    boolean release(ReservationId id);
+}
@@ -0,0 +1,33 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ReservationResponse;
+import com.turkcell.product_service.application.dtos.ReserveStockRequest;
+
+/**
+ * Application Service Port for stock reservations.
+ */
+public interface ReservationServicePort {
+
+    /**
+     * Holds stock of a product for a limited time.
+     *
+     * @param productId the product ID
+     * @param request   the quantity and time to live
+     * @return the created reservation
+     */
+    ReservationResponse reserveStock(String productId, ReserveStockRequest request);
+
+    /**
+     * Confirms a reservation, permanently decrementing the product's stock.
+     *
+     * @param reservationId the reservation ID
+     */
+    void confirmReservation(String reservationId);
+
+    /**
+     * Releases a reservation, returning its quantity to the available stock.
+     *
+     * @param reservationId the reservation ID
+     */
+    void releaseReservation(String reservationId);
+}
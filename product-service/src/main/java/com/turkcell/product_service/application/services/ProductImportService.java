@@ -0,0 +1,483 @@
+package com.turkcell.product_service.application.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.turkcell.product_service.application.dtos.ProductImportResponse;
+import com.turkcell.product_service.application.ports.ProductBulkLoader;
+import com.turkcell.product_service.application.ports.ProductImportRow;
+import com.turkcell.product_service.application.ports.ProductImportServicePort;
+import com.turkcell.product_service.application.ports.ReservationLedger;
+import com.turkcell.product_service.domain.exceptions.InsufficientStockException;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Description;
+import com.turkcell.product_service.domain.valueobjects.Money;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ProductName;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+
+/**
+ * Application Service implementation for bulk product imports.
+ * The uploaded file is spooled to disk and imported in the background: one
+ * thread parses it into chunks, chunks are validated through the value
+ * objects in parallel, and valid rows are handed to the ProductBulkLoader in
+ * file order while invalid ones go to a rejected-rows file. Only a bounded
+ * number of chunks is in flight, so memory does not depend on the file size.
+ * Staged rows are merged at the end in a single transaction.
+ * <p>
+ * A row whose stock is below the quantity its product has reserved is
+ * rejected like an invalid one. Staged rows restrict their product's stock in
+ * the ReservationLedger until the merge has completed, so no hold admitted
+ * meanwhile can outgrow the imported stock.
+ */
+@Service
+public class ProductImportService implements ProductImportServicePort, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    private final ProductBulkLoader bulkLoader;
+    private final ReservationLedger reservationLedger;
+    private final TransactionTemplate restrictionScope;
+    private final Path workDir;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int retainedImports;
+    private final ExecutorService runner;
+    private final ExecutorService validators;
+
+    // Eklenme sıralı, eski ve bitmiş içe aktarmalar dosyalarıyla birlikte silinir
+    private final Map<String, ImportJob> imports = new LinkedHashMap<>();
+
+    public ProductImportService(ProductBulkLoader bulkLoader, ReservationLedger reservationLedger,
+            PlatformTransactionManager transactionManager,
+            @Value("${product-import.work-dir:${java.io.tmpdir}/product-imports}") Path workDir,
+            @Value("${product-import.chunk-size:10000}") int chunkSize,
+            @Value("${product-import.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int parallelism,
+            @Value("${product-import.retained-imports:20}") int retainedImports) {
+        if (chunkSize <= 0 || parallelism <= 0 || retainedImports <= 0) {
+            throw new IllegalArgumentException("Chunk size, parallelism and retained imports must be positive");
+        }
+        this.bulkLoader = bulkLoader;
+        this.reservationLedger = reservationLedger;
+        // Bağlantı açmayan, yalnızca senkronizasyon taşıyan kapsam: stok kısıtları birleştirme bitince kalkar
+        this.restrictionScope = new TransactionTemplate(transactionManager);
+        this.restrictionScope.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        this.workDir = workDir;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.retainedImports = retainedImports;
+        this.runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.validators = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "product-import-validator-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public ProductImportResponse startImport(InputStream csv) throws IOException {
+        Files.createDirectories(workDir);
+        String id = UUID.randomUUID().toString();
+        ImportJob job = new ImportJob(id, workDir.resolve(id + ".csv"), workDir.resolve(id + ".rejected.csv"));
+        try {
+            Files.copy(csv, job.source);
+        } catch (IOException e) {
+            Files.deleteIfExists(job.source);
+            throw e;
+        }
+        synchronized (imports) {
+            imports.put(id, job);
+            evictFinishedImports();
+        }
+        runner.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    @Override
+    public Optional<ProductImportResponse> getImport(String id) {
+        synchronized (imports) {
+            return Optional.ofNullable(imports.get(id)).map(ImportJob::toResponse);
+        }
+    }
+
+    @Override
+    public Optional<Path> getRejectedRows(String id) {
+        ImportJob job;
+        synchronized (imports) {
+            job = imports.get(id);
+        }
+        if (job == null || !job.isFinished() || !Files.exists(job.rejected)) {
+            return Optional.empty();
+        }
+        return Optional.of(job.rejected);
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+        validators.shutdownNow();
+    }
+
+    private void run(ImportJob job) {
+        job.status = Status.RUNNING;
+        job.startedAt = Instant.now();
+        try {
+            restrictionScope.executeWithoutResult(status -> importFile(job));
+            job.status = Status.COMPLETED;
+            log.info("Product import {} merged {} of {} rows, rejected {}", job.id, job.rowsMerged, job.rowsRead,
+                    job.rowsRejected);
+        } catch (ImportInterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(job, "Import was interrupted");
+        } catch (IllegalArgumentException e) {
+            // Dosya biçimi hatası: yığın izi gerekmez
+            fail(job, e.getMessage());
+            log.warn("Product import {} failed: {}", job.id, e.getMessage());
+        } catch (Exception e) {
+            fail(job, e.getMessage());
+            log.warn("Product import {} failed after {} rows", job.id, job.rowsRead, e);
+        } finally {
+            job.finishedAt = Instant.now();
+            try {
+                Files.deleteIfExists(job.source);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", job.source, e);
+            }
+        }
+    }
+
+    private void importFile(ImportJob job) {
+        try (CsvRecordReader csv = new CsvRecordReader(
+                new InputStreamReader(Files.newInputStream(job.source), StandardCharsets.UTF_8));
+                Writer rejected = Files.newBufferedWriter(job.rejected, StandardCharsets.UTF_8);
+                ProductBulkLoader.Staging staging = bulkLoader.begin()) {
+            String[] header = csv.next();
+            if (header == null) {
+                throw new IllegalArgumentException("File is empty");
+            }
+            Columns columns = Columns.of(header);
+            rejected.write("line,reason");
+            writeFields(rejected, header);
+
+            Deque<Future<Chunk>> pending = new ArrayDeque<>();
+            Chunk chunk = new Chunk(chunkSize);
+            String[] record;
+            while ((record = csv.next()) != null) {
+                chunk.add(csv.recordLine(), record);
+                if (chunk.size() == chunkSize) {
+                    job.rowsRead += chunk.size();
+                    submit(chunk, columns, pending);
+                    chunk = new Chunk(chunkSize);
+                    // Doğrulama sırası bekleyen parça sayısıyla sınırlanır, bellek dosya boyutundan bağımsızdır
+                    if (pending.size() >= parallelism * 2) {
+                        load(pending.poll(), staging, rejected, job);
+                    }
+                }
+            }
+            if (chunk.size() > 0) {
+                job.rowsRead += chunk.size();
+                submit(chunk, columns, pending);
+            }
+            while (!pending.isEmpty()) {
+                load(pending.poll(), staging, rejected, job);
+            }
+
+            job.status = Status.MERGING;
+            job.rowsMerged = staging.merge();
+        } catch (InterruptedException e) {
+            throw new ImportInterruptedException();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void submit(Chunk chunk, Columns columns, Deque<Future<Chunk>> pending) {
+        pending.add(validators.submit(() -> {
+            chunk.validate(columns);
+            return chunk;
+        }));
+    }
+
+    private void load(Future<Chunk> future, ProductBulkLoader.Staging staging, Writer rejected, ImportJob job)
+            throws InterruptedException, IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Validation failed", e.getCause());
+        }
+        chunk.restrictStock(reservationLedger);
+        if (!chunk.rows.isEmpty()) {
+            staging.append(chunk.rows);
+            job.rowsStaged += chunk.rows.size();
+        }
+        for (int i = 0; i < chunk.rejectedLines.size(); i++) {
+            rejected.write(Long.toString(chunk.rejectedLines.get(i)));
+            rejected.write(',');
+            writeField(rejected, chunk.rejectedReasons.get(i));
+            writeFields(rejected, chunk.rejectedRecords.get(i));
+        }
+        job.rowsRejected += chunk.rejectedLines.size();
+    }
+
+    private static void fail(ImportJob job, String error) {
+        job.status = Status.FAILED;
+        job.error = error;
+    }
+
+    private void evictFinishedImports() {
+        Iterator<ImportJob> it = imports.values().iterator();
+        while (imports.size() > retainedImports && it.hasNext()) {
+            ImportJob job = it.next();
+            if (job.isFinished()) {
+                it.remove();
+                try {
+                    Files.deleteIfExists(job.rejected);
+                } catch (IOException e) {
+                    log.warn("Could not delete rejected rows file {}", job.rejected, e);
+                }
+            }
+        }
+    }
+
+    private static void writeFields(Writer out, String[] fields) throws IOException {
+        for (String field : fields) {
+            out.write(',');
+            writeField(out, field);
+        }
+        out.write('\n');
+    }
+
+    private static void writeField(Writer out, String field) throws IOException {
+        boolean quote = field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0
+                || field.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        out.write(field.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * Carries an interrupt out of the restriction scope, which only passes
+     * unchecked exceptions.
+     */
+    private static final class ImportInterruptedException extends RuntimeException {
+    }
+
+    private enum Status {
+        QUEUED, RUNNING, MERGING, COMPLETED, FAILED
+    }
+
+    /**
+     * Positions of the known columns in the header; -1 for an optional column
+     * that is not present.
+     */
+    record Columns(int width, int id, int name, int description, int price, int currency, int stock) {
+
+        static Columns of(String[] header) {
+            Map<String, Integer> positions = new LinkedHashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                String column = header[i].trim().toLowerCase(Locale.ROOT);
+                // UTF-8 BOM ile başlayan dosyalar
+                if (i == 0 && column.startsWith("\uFEFF")) {
+                    column = column.substring(1);
+                }
+                positions.put(column, i);
+            }
+            return new Columns(header.length,
+                    positions.getOrDefault("id", -1),
+                    required(positions, "name"),
+                    positions.getOrDefault("description", -1),
+                    required(positions, "price"),
+                    required(positions, "currency"),
+                    required(positions, "stock"));
+        }
+
+        private static int required(Map<String, Integer> positions, String column) {
+            Integer position = positions.get(column);
+            if (position == null) {
+                throw new IllegalArgumentException("Header is missing the required column: " + column);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * A slice of the file: raw records on the way in, validated rows and
+     * rejections once a validator has processed it.
+     */
+    static final class Chunk {
+
+        private final List<String[]> records;
+        private final long[] lines;
+        private final List<ProductImportRow> rows;
+        // Geçerli satırların ham kayıtları, rezervasyon nedeniyle reddedilirse dosyaya yazılır
+        private final List<String[]> rowRecords;
+        private final List<Long> rejectedLines = new ArrayList<>();
+        private final List<String> rejectedReasons = new ArrayList<>();
+        private final List<String[]> rejectedRecords = new ArrayList<>();
+
+        Chunk(int capacity) {
+            this.records = new ArrayList<>(capacity);
+            this.lines = new long[capacity];
+            this.rows = new ArrayList<>(capacity);
+            this.rowRecords = new ArrayList<>(capacity);
+        }
+
+        void add(long line, String[] record) {
+            lines[records.size()] = line;
+            records.add(record);
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        void validate(Columns columns) {
+            for (int i = 0; i < records.size(); i++) {
+                String[] record = records.get(i);
+                try {
+                    rows.add(toRow(lines[i], record, columns));
+                    rowRecords.add(record);
+                } catch (IllegalArgumentException e) {
+                    rejectedLines.add(lines[i]);
+                    rejectedReasons.add(e.getMessage());
+                    rejectedRecords.add(record);
+                }
+            }
+            // Ham kayıtlar artık gerekmez
+            records.clear();
+        }
+
+        /**
+         * Restricts the stock of each valid row's product to the imported
+         * quantity, moving rows whose product has more reserved than that to
+         * the rejections. Runs on the import thread, whose transaction scope
+         * keeps the restrictions until the merge has completed.
+         */
+        void restrictStock(ReservationLedger reservationLedger) {
+            int kept = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                ProductImportRow row = rows.get(i);
+                try {
+                    reservationLedger.restrictStock(ProductId.of(row.id()), Stock.of(row.stockQuantity()));
+                    rows.set(kept, row);
+                    rowRecords.set(kept, rowRecords.get(i));
+                    kept++;
+                } catch (InsufficientStockException e) {
+                    rejectedLines.add(row.line());
+                    rejectedReasons.add(e.getMessage());
+                    rejectedRecords.add(rowRecords.get(i));
+                }
+            }
+            rows.subList(kept, rows.size()).clear();
+            rowRecords.clear();
+        }
+
+        private static ProductImportRow toRow(long line, String[] record, Columns columns) {
+            if (record.length != columns.width()) {
+                throw new IllegalArgumentException(
+                        String.format("Expected %d fields but found %d", columns.width(), record.length));
+            }
+            Currency currency = Currency.fromCode(record[columns.currency()]);
+            Money price = Money.of(parsePrice(record[columns.price()]), currency);
+            Stock stock = Stock.of(parseStock(record[columns.stock()]));
+            ProductName name = ProductName.of(record[columns.name()]);
+            Description description = Description.of(columns.description() >= 0 ? record[columns.description()] : null);
+            ProductId id = columns.id() >= 0 && !record[columns.id()].isBlank()
+                    ? ProductId.of(record[columns.id()].trim())
+                    : ProductId.create();
+            return new ProductImportRow(line, id.getValue(), name.getValue(), description.getValue(),
+                    price.getAmount(), currency.getCode(), stock.getQuantity());
+        }
+
+        private static BigDecimal parsePrice(String value) {
+            try {
+                return new BigDecimal(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Price is not a number: " + value);
+            }
+        }
+
+        private static int parseStock(String value) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Stock quantity is not a whole number: " + value);
+            }
+        }
+    }
+
+    /**
+     * Progress of one import. Counters are only written by the import thread.
+     */
+    private static final class ImportJob {
+
+        private final String id;
+        private final Path source;
+        private final Path rejected;
+        private volatile Status status = Status.QUEUED;
+        private volatile long rowsRead;
+        private volatile long rowsStaged;
+        private volatile long rowsRejected;
+        private volatile long rowsMerged;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private ImportJob(String id, Path source, Path rejected) {
+            this.id = id;
+            this.source = source;
+            this.rejected = rejected;
+        }
+
+        private boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        private ProductImportResponse toResponse() {
+            return new ProductImportResponse(id, status.name(), rowsRead, rowsStaged, rowsRejected, rowsMerged,
+                    startedAt, finishedAt, error);
+        }
+    }
+}
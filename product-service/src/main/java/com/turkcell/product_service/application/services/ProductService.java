@@ -1,30 +1,53 @@
 package com.turkcell.product_service.application.services;
 
 import com.turkcell.product_service.application.dtos.*;
+import com.turkcell.product_service.application.ports.ProductCatalog;
+import com.turkcell.product_service.application.ports.ProductEventOutbox;
+import com.turkcell.product_service.application.ports.ProductReadModel;
+import com.turkcell.product_service.application.ports.ProductSearchCriteria;
+import com.turkcell.product_service.application.ports.ProductSearchResult;
 import com.turkcell.product_service.application.ports.ProductServicePort;
+import com.turkcell.product_service.application.ports.ReservationLedger;
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.exceptions.ProductNotFoundException;
+import com.turkcell.product_service.domain.exceptions.ProductVersionMismatchException;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.domain.valueobjects.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Application Service implementation for Product operations.
  * Implements all product use cases.
+ * Commands go through the aggregate and refresh the read model in the same
+ * transaction; queries are answered from the read model only. Catalog
+ * searches are filtered and sorted by the in-memory ProductCatalog, which
+ * picks up writes once they commit. Every write is queued on the
+ * ProductEventOutbox for publishing to other services. Version lookups read
+ * only IDs and versions, so conditional requests skip loading the products.
  */
 @Service
 public class ProductService implements ProductServicePort {
 
     private final ProductRepository productRepository;
+    private final ProductReadModel productReadModel;
+    private final ProductCatalog productCatalog;
+    private final ProductEventOutbox productEventOutbox;
+    private final ReservationLedger reservationLedger;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ProductReadModel productReadModel,
+            ProductCatalog productCatalog, ProductEventOutbox productEventOutbox, ReservationLedger reservationLedger) {
         this.productRepository = productRepository;
+        this.productReadModel = productReadModel;
+        this.productCatalog = productCatalog;
+        this.productEventOutbox = productEventOutbox;
+        this.reservationLedger = reservationLedger;
     }
 
     @Override
+    @Transactional
     public ProductResponse createProduct(CreateProductRequest request) {
         // Convert DTO to domain value objects
         ProductName name = ProductName.of(request.name());
@@ -37,31 +60,83 @@ public class ProductService implements ProductServicePort {
 
         // Save and return response
         Product savedProduct = productRepository.save(product);
+        productReadModel.project(savedProduct);
+        productCatalog.upsert(savedProduct);
+        productEventOutbox.productChanged(savedProduct.getId());
         return toProductResponse(savedProduct);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProductResponse getProductById(String id) {
         ProductId productId = ProductId.of(id);
-        Product product = productRepository.findById(productId)
+        return productReadModel.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
-        return toProductResponse(product);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public long getProductVersion(String id) {
+        ProductId productId = ProductId.of(id);
+        return productReadModel.findVersion(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public ProductListResponse getAllProducts() {
-        List<Product> products = productRepository.findAll();
-        List<ProductResponse> responses = products.stream()
-                .map(this::toProductResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = productReadModel.findAll();
         return new ProductListResponse(responses, responses.size());
     }
 
     @Override
-    public ProductResponse updateProduct(String id, UpdateProductRequest request) {
+    @Transactional(readOnly = true)
+    public ProductVersionList getAllProductVersions() {
+        List<ProductVersion> versions = productReadModel.findAllVersions();
+        return new ProductVersionList(versions, versions.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductListResponse searchProducts(ProductSearchRequest request) {
+        // Filtering and sorting run in memory; the database is only read for the products on the page
+        ProductSearchResult result = productCatalog.search(toCriteria(request));
+        return new ProductListResponse(productReadModel.findAllById(result.productIds()), result.totalMatches());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductVersionList searchProductVersions(ProductSearchRequest request) {
+        ProductSearchResult result = productCatalog.search(toCriteria(request));
+        return new ProductVersionList(productReadModel.findVersionsById(result.productIds()), result.totalMatches());
+    }
+
+    private static ProductSearchCriteria toCriteria(ProductSearchRequest request) {
+        Currency currency = request.currency() != null && !request.currency().isBlank()
+                ? Currency.fromCode(request.currency())
+                : null;
+        long minPrice = request.minPrice() != null ? Money.toMinorUnits(request.minPrice()) : 0L;
+        long maxPrice = request.maxPrice() != null ? Money.toMinorUnits(request.maxPrice()) : Long.MAX_VALUE;
+        return new ProductSearchCriteria(
+                currency,
+                minPrice,
+                maxPrice,
+                Boolean.TRUE.equals(request.inStock()),
+                request.sort() != null ? request.sort()
+                        : currency != null ? ProductSort.PRICE_ASC : ProductSort.STOCK_DESC,
+                request.limit() != null ? request.limit() : ProductSearchRequest.DEFAULT_LIMIT);
+    }
+
+    @Override
+    @Transactional
+    public ProductResponse updateProduct(String id, UpdateProductRequest request, Long expectedVersion) {
         ProductId productId = ProductId.of(id);
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
+        // Okuma ile kayıt arasındaki eşzamanlı yazmayı @Version kontrolü yakalar
+        if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+            throw new ProductVersionMismatchException(productId, expectedVersion, product.getVersion());
+        }
 
         // Update only provided fields
         if (request.name() != null && !request.name().isBlank()) {
@@ -75,21 +150,30 @@ public class ProductService implements ProductServicePort {
             product.updatePrice(newPrice);
         }
         if (request.stock() != null) {
-            product.setStock(Stock.of(request.stock().quantity()));
+            Stock newStock = Stock.of(request.stock().quantity());
+            // Stock held by active reservations cannot be taken away
+            reservationLedger.restrictStock(productId, newStock);
+            product.setStock(newStock);
         }
 
         // Save and return response
         Product updatedProduct = productRepository.save(product);
+        productReadModel.project(updatedProduct);
+        productCatalog.upsert(updatedProduct);
+        productEventOutbox.productChanged(productId);
         return toProductResponse(updatedProduct);
     }
 
     @Override
+    @Transactional
     public void deleteProduct(String id) {
         ProductId productId = ProductId.of(id);
-        if (!productRepository.existsById(productId)) {
+        if (!productRepository.deleteById(productId)) {
             throw new ProductNotFoundException(productId);
         }
-        productRepository.deleteById(productId);
+        productReadModel.remove(productId);
+        productCatalog.remove(productId);
+        productEventOutbox.productChanged(productId);
     }
 
     /**
@@ -106,6 +190,7 @@ public class ProductService implements ProductServicePort {
                 product.getName().getValue(),
                 product.getDescription().getValue(),
                 priceDto,
-                stockDto);
+                stockDto,
+                product.getVersion());
     }
 }
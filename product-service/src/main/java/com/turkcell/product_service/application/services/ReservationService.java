@@ -0,0 +1,87 @@
+package com.turkcell.product_service.application.services;
+
+import com.turkcell.product_service.application.dtos.ReservationResponse;
+import com.turkcell.product_service.application.dtos.ReserveStockRequest;
+import com.turkcell.product_service.application.ports.ProductCatalog;
+import com.turkcell.product_service.application.ports.ProductEventOutbox;
+import com.turkcell.product_service.application.ports.ProductReadModel;
+import com.turkcell.product_service.application.ports.ReservationLedger;
+import com.turkcell.product_service.application.ports.ReservationServicePort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.entities.StockReservation;
+import com.turkcell.product_service.domain.exceptions.ProductNotFoundException;
+import com.turkcell.product_service.domain.exceptions.ReservationNotFoundException;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Application Service implementation for stock reservations.
+ * Holds live in the ReservationLedger and never touch the product row; only
+ * confirming a reservation writes the decrement through the aggregate.
+ */
+@Service
+public class ReservationService implements ReservationServicePort {
+
+    private final ReservationLedger reservationLedger;
+    private final ProductRepository productRepository;
+    private final ProductReadModel productReadModel;
+    private final ProductCatalog productCatalog;
+    private final ProductEventOutbox productEventOutbox;
+
+    public ReservationService(ReservationLedger reservationLedger, ProductRepository productRepository,
+            ProductReadModel productReadModel, ProductCatalog productCatalog, ProductEventOutbox productEventOutbox) {
+        this.reservationLedger = reservationLedger;
+        this.productRepository = productRepository;
+        this.productReadModel = productReadModel;
+        this.productCatalog = productCatalog;
+        this.productEventOutbox = productEventOutbox;
+    }
+
+    @Override
+    public ReservationResponse reserveStock(String productId, ReserveStockRequest request) {
+        ProductId id = ProductId.of(productId);
+        int ttlSeconds = request.ttlSeconds() != null ? request.ttlSeconds() : ReserveStockRequest.DEFAULT_TTL_SECONDS;
+
+        // Stok read model'den, transaction dışında yani primary'den okunur; ledger bunu rezervasyonlarla
+        // aynı kilit altında yapar
+        StockReservation reservation = reservationLedger.hold(id, request.quantity(),
+                () -> productReadModel.findById(id)
+                        .map(product -> Stock.of(product.stock().quantity()))
+                        .orElseThrow(() -> new ProductNotFoundException(id)),
+                Duration.ofSeconds(ttlSeconds));
+        return new ReservationResponse(
+                reservation.getId().toString(),
+                reservation.getProductId().toString(),
+                reservation.getQuantity(),
+                reservation.getExpiresAt());
+    }
+
+    @Override
+    @Transactional
+    public void confirmReservation(String reservationId) {
+        StockReservation reservation = reservationLedger.claim(ReservationId.of(reservationId));
+        Product product = productRepository.findById(reservation.getProductId())
+                .orElseThrow(() -> new ProductNotFoundException(reservation.getProductId()));
+
+        product.removeStock(reservation.getQuantity());
+
+        Product updatedProduct = productRepository.save(product);
+        productReadModel.project(updatedProduct);
+        productCatalog.upsert(updatedProduct);
+        productEventOutbox.productChanged(updatedProduct.getId());
+    }
+
+    @Override
+    public void releaseReservation(String reservationId) {
+        ReservationId id = ReservationId.of(reservationId);
+        if (!reservationLedger.release(id)) {
+            throw new ReservationNotFoundException(id);
+        }
+    }
+}
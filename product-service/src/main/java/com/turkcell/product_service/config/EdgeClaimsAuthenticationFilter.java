@@ -0,0 +1,143 @@
+package com.turkcell.product_service.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Authenticates requests forwarded by the gateway with the claims it already
+ * verified: the {@value #HEADER} header is {@code base64url(json) "."
+ * base64url(HMAC-SHA256)} over the secret shared through
+ * {@code edge-claims.secret}. A valid, unexpired header issued by the gateway
+ * ({@code iss}) for the services behind it ({@code aud}) becomes the same
+ * JwtAuthenticationToken a bearer token would, with SCOPE_ authorities;
+ * anything else is ignored and the bearer token check runs as before. The
+ * gateway keeps the header's lifetime short, so a captured header cannot be
+ * replayed for long.
+ */
+public class EdgeClaimsAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Edge-Claims";
+
+    /**
+     * HMAC-SHA256 keys shorter than the hash output weaken the signature.
+     */
+    static final int MIN_SECRET_BYTES = 32;
+
+    private static final Logger log = LoggerFactory.getLogger(EdgeClaimsAuthenticationFilter.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final TypeReference<Map<String, Object>> CLAIMS = new TypeReference<>() {
+    };
+
+    private final SecretKeySpec key;
+    private final String issuer;
+    private final String audience;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+
+    public EdgeClaimsAuthenticationFilter(String secret, String issuer, String audience) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("edge-claims.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.issuer = issuer;
+        this.audience = audience;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HEADER);
+        if (header != null) {
+            Jwt claims = decode(header);
+            if (claims != null) {
+                SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+                context.setAuthentication(new JwtAuthenticationToken(claims, authorities(claims), claims.getSubject()));
+                securityContextHolderStrategy.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Jwt decode(String header) {
+        int dot = header.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String payload = header.substring(0, dot);
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] expected = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            if (!MessageDigest.isEqual(expected, BASE64_URL.decode(header.substring(dot + 1)))) {
+                log.debug("Ignoring {} header with an invalid signature", HEADER);
+                return null;
+            }
+            Map<String, Object> claims = jsonMapper.readValue(BASE64_URL.decode(payload), CLAIMS);
+            if (!(claims.get("sub") instanceof String) || !(claims.get("exp") instanceof Number exp)) {
+                return null;
+            }
+            if (!issuer.equals(claims.get("iss")) || !audience.equals(claims.get("aud"))) {
+                log.debug("Ignoring {} header issued by {} for {}", HEADER, claims.get("iss"), claims.get("aud"));
+                return null;
+            }
+            Instant expiresAt = Instant.ofEpochSecond(exp.longValue());
+            if (Instant.now().isAfter(expiresAt)) {
+                return null;
+            }
+            return Jwt.withTokenValue(header)
+                    .header("alg", "HS256")
+                    .claims(all -> all.putAll(claims))
+                    .expiresAt(expiresAt)
+                    .build();
+        } catch (IllegalArgumentException | JacksonException | GeneralSecurityException e) {
+            log.debug("Ignoring malformed {} header", HEADER, e);
+            return null;
+        }
+    }
+
+    private static List<GrantedAuthority> authorities(Jwt claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        String scope = claims.getClaimAsString("scope");
+        if (scope != null) {
+            for (String name : scope.split(" ")) {
+                if (!name.isBlank()) {
+                    authorities.add(new SimpleGrantedAuthority("SCOPE_" + name));
+                }
+            }
+        }
+        return authorities;
+    }
+}
@@ -1,5 +1,6 @@
 package com.turkcell.product_service.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -7,13 +8,22 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+            @Value("${edge-claims.secret:}") String edgeClaimsSecret,
+            @Value("${edge-claims.issuer:gateway-server}") String edgeClaimsIssuer,
+            @Value("${edge-claims.audience:turkcell-services}") String edgeClaimsAudience) throws Exception {
+        if (!edgeClaimsSecret.isEmpty()) {
+            // Gateway'in doğruladığı claim'ler varsa JWT tekrar doğrulanmaz (bkz. EdgeClaimsAuthenticationFilter)
+            http.addFilterBefore(new EdgeClaimsAuthenticationFilter(edgeClaimsSecret, edgeClaimsIssuer,
+                    edgeClaimsAudience), BearerTokenAuthenticationFilter.class);
+        }
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(req -> req.anyRequest().authenticated())
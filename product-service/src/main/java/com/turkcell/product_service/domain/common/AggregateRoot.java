@@ -9,6 +9,8 @@ package com.turkcell.product_service.domain.common;
  */
 public abstract class AggregateRoot<TId> extends Entity<TId> {
 
+    private Long version;
+
     protected AggregateRoot() {
         super();
     }
@@ -16,4 +18,18 @@ public abstract class AggregateRoot<TId> extends Entity<TId> {
     protected AggregateRoot(TId id) {
         super(id);
     }
+
+    protected AggregateRoot(TId id, Long version) {
+        super(id);
+        this.version = version;
+    }
+
+    /**
+     * Returns the persisted version used for optimistic concurrency control.
+     *
+     * @return the version, or null if the aggregate has never been persisted
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
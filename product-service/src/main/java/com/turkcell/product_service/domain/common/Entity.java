@@ -36,6 +36,6 @@ public abstract class Entity<TId> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hashCode(id);
     }
 }
@@ -5,49 +5,43 @@ package com.turkcell.product_service.domain.common;
  * Value objects are immutable objects that describe some characteristic or
  * attribute
  * but carry no identity. They are compared by their attribute values.
+ * <p>
+ * Equality and hash codes are delegated to typed computations in the
+ * subclasses so that no arrays or boxed values are allocated. The hash code is
+ * not cached: a field for it would push single-attribute value objects from
+ * 16 to 24 bytes, and they are created far more often than hashed.
  */
 public abstract class ValueObject {
 
     /**
-     * Returns the attributes of this value object for equality comparison.
-     * Subclasses must implement this to define which attributes are used for
-     * equality.
+     * Compares the attributes of this value object with another instance of
+     * the same class.
      *
-     * @return an array of objects representing the attributes of this value object
+     * @param other a value object of exactly the same class as this one
+     * @return true if all attributes are equal
      */
-    protected abstract Object[] getEqualityComponents();
+    protected abstract boolean equalsComponents(ValueObject other);
+
+    /**
+     * Computes the hash code from the attributes used in
+     * {@link #equalsComponents(ValueObject)}.
+     *
+     * @return the hash code of this value object
+     */
+    protected abstract int computeHashCode();
 
     @Override
-    public boolean equals(Object o) {
+    public final boolean equals(Object o) {
         if (this == o)
             return true;
         if (o == null || getClass() != o.getClass())
             return false;
 
-        ValueObject that = (ValueObject) o;
-        Object[] thisComponents = getEqualityComponents();
-        Object[] thatComponents = that.getEqualityComponents();
-
-        if (thisComponents.length != thatComponents.length)
-            return false;
-
-        for (int i = 0; i < thisComponents.length; i++) {
-            if (thisComponents[i] == null) {
-                if (thatComponents[i] != null)
-                    return false;
-            } else if (!thisComponents[i].equals(thatComponents[i])) {
-                return false;
-            }
-        }
-        return true;
+        return equalsComponents((ValueObject) o);
     }
 
     @Override
-    public int hashCode() {
-        int result = 1;
-        for (Object component : getEqualityComponents()) {
-            result = 31 * result + (component == null ? 0 : component.hashCode());
-        }
-        return result;
+    public final int hashCode() {
+        return computeHashCode();
     }
 }
@@ -22,8 +22,9 @@ public class Product extends AggregateRoot<ProductId> {
         super();
     }
 
-    private Product(ProductId id, ProductName name, Description description, Money price, Stock stock) {
-        super(id);
+    private Product(ProductId id, ProductName name, Description description, Money price, Stock stock,
+            Long version) {
+        super(id, version);
         this.name = name;
         this.description = description;
         this.price = price;
@@ -51,7 +52,8 @@ public class Product extends AggregateRoot<ProductId> {
                 name,
                 description != null ? description : Description.empty(),
                 price,
-                stock);
+                stock,
+                null);
     }
 
     /**
@@ -85,6 +87,24 @@ public class Product extends AggregateRoot<ProductId> {
      */
     public static Product reconstitute(ProductId id, ProductName name, Description description, Money price,
             Stock stock) {
+        return reconstitute(id, name, description, price, stock, null);
+    }
+
+    /**
+     * Reconstitutes a Product from persistence layer together with the version
+     * it was read at, so that saving it again is checked for concurrent
+     * modification.
+     *
+     * @param id          the product ID
+     * @param name        the product name
+     * @param description the product description
+     * @param price       the product price
+     * @param stock       the stock quantity
+     * @param version     the persisted version
+     * @return a Product instance with the specified ID and version
+     */
+    public static Product reconstitute(ProductId id, ProductName name, Description description, Money price,
+            Stock stock, Long version) {
         validateNotNull(id, "Product ID");
         validateNotNull(name, "Product name");
         validateNotNull(price, "Price");
@@ -95,7 +115,8 @@ public class Product extends AggregateRoot<ProductId> {
                 name,
                 description != null ? description : Description.empty(),
                 price,
-                stock);
+                stock,
+                version);
     }
 
     // ==================== Getters ====================
@@ -0,0 +1,93 @@
+package com.turkcell.product_service.domain.entities;
+
+import com.turkcell.product_service.domain.common.Entity;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+
+import java.time.Instant;
+
+/**
+ * A time-limited hold on part of a product's stock.
+ * While active, the held quantity is not available to other reservations.
+ * Confirming a reservation turns it into a stock decrement; releasing it or
+ * letting it expire returns the quantity.
+ */
+public final class StockReservation extends Entity<ReservationId> {
+
+    private final ProductId productId;
+    private final int quantity;
+    private final Instant expiresAt;
+
+    private StockReservation(ReservationId id, ProductId productId, int quantity, Instant expiresAt) {
+        super(id);
+        if (productId == null) {
+            throw new IllegalArgumentException("Product ID cannot be null");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Reserved quantity must be positive");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Expiry cannot be null");
+        }
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates a new reservation with a generated ID.
+     *
+     * @param productId the reserved product
+     * @param quantity  the reserved quantity
+     * @param expiresAt when the reservation lapses unless confirmed
+     * @return a new StockReservation instance
+     */
+    public static StockReservation create(ProductId productId, int quantity, Instant expiresAt) {
+        return new StockReservation(ReservationId.create(), productId, quantity, expiresAt);
+    }
+
+    /**
+     * Reconstitutes a reservation from persistence.
+     *
+     * @param id        the reservation ID
+     * @param productId the reserved product
+     * @param quantity  the reserved quantity
+     * @param expiresAt when the reservation lapses unless confirmed
+     * @return a StockReservation instance with the specified ID
+     */
+    public static StockReservation reconstitute(ReservationId id, ProductId productId, int quantity,
+            Instant expiresAt) {
+        if (id == null) {
+            throw new IllegalArgumentException("Reservation ID cannot be null");
+        }
+        return new StockReservation(id, productId, quantity, expiresAt);
+    }
+
+    public ProductId getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Checks if the reservation has lapsed.
+     *
+     * @param now the current time
+     * @return true if the expiry is not after now
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StockReservation{id=%s, productId=%s, quantity=%d, expiresAt=%s}",
+                getId(), productId, quantity, expiresAt);
+    }
+}
@@ -0,0 +1,14 @@
+package com.turkcell.product_service.domain.exceptions;
+
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+/**
+ * Exception thrown when a conditional write expected a version of the product
+ * other than the current one.
+ */
+public class ProductVersionMismatchException extends DomainException {
+
+    public ProductVersionMismatchException(ProductId id, long expected, Long actual) {
+        super(String.format("Product %s is at version %s, expected %d", id, actual, expected));
+    }
+}
@@ -0,0 +1,14 @@
+package com.turkcell.product_service.domain.exceptions;
+
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+
+/**
+ * Exception thrown when a reservation does not exist, has expired or has
+ * already been confirmed or released.
+ */
+public class ReservationNotFoundException extends DomainException {
+
+    public ReservationNotFoundException(ReservationId id) {
+        super(String.format("Active reservation not found with ID: %s", id));
+    }
+}
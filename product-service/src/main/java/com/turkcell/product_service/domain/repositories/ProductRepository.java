@@ -15,6 +15,8 @@ public interface ProductRepository {
 
     /**
      * Saves a product.
+     * A product without a version is inserted; otherwise it is updated under
+     * an optimistic check against the version it was read at.
      *
      * @param product the product to save
      * @return the saved product
@@ -40,8 +42,9 @@ public interface ProductRepository {
      * Deletes a product by its ID.
      *
      * @param id the product ID to delete
+     * @return true if a product was deleted, false if it did not exist
      */
-    void deleteById(ProductId id);
+    boolean deleteById(ProductId id);
 
     /**
      * Checks if a product exists by its ID.
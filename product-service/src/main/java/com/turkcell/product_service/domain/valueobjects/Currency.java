@@ -1,5 +1,8 @@
 package com.turkcell.product_service.domain.valueobjects;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum representing supported currencies.
  * ISO 4217 currency codes are used.
@@ -11,6 +14,15 @@ public enum Currency {
     EUR("EUR", "Euro", "€"),
     GBP("GBP", "British Pound", "£");
 
+    private static final Currency[] VALUES = values();
+    private static final Map<String, Currency> BY_CODE = new HashMap<>();
+
+    static {
+        for (Currency currency : VALUES) {
+            BY_CODE.put(currency.code, currency);
+        }
+    }
+
     private final String code;
     private final String displayName;
     private final String symbol;
@@ -41,12 +53,29 @@ public enum Currency {
      * @throws IllegalArgumentException if no matching currency is found
      */
     public static Currency fromCode(String code) {
-        if (code == null || code.isBlank()) {
+        if (code == null) {
             throw new IllegalArgumentException("Currency code cannot be null or blank");
         }
-        for (Currency currency : values()) {
-            if (currency.code.equalsIgnoreCase(code.trim())) {
-                return currency;
+        // Codes read back from the database are already canonical
+        Currency currency = BY_CODE.get(code);
+        if (currency != null) {
+            return currency;
+        }
+        if (code.isBlank()) {
+            throw new IllegalArgumentException("Currency code cannot be null or blank");
+        }
+        int start = 0;
+        int end = code.length();
+        while (Character.isWhitespace(code.charAt(start))) {
+            start++;
+        }
+        while (Character.isWhitespace(code.charAt(end - 1))) {
+            end--;
+        }
+        for (Currency candidate : VALUES) {
+            if (candidate.code.length() == end - start
+                    && candidate.code.regionMatches(true, 0, code, start, end - start)) {
+                return candidate;
             }
         }
         throw new IllegalArgumentException("Unknown currency code: " + code);
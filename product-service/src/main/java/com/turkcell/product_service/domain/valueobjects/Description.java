@@ -2,6 +2,8 @@ package com.turkcell.product_service.domain.valueobjects;
 
 import com.turkcell.product_service.domain.common.ValueObject;
 
+import java.util.Objects;
+
 /**
  * Value object representing the description of a Product.
  * Description can be optional but if provided, it must not exceed the maximum
@@ -54,8 +56,13 @@ public final class Description extends ValueObject {
     }
 
     @Override
-    protected Object[] getEqualityComponents() {
-        return new Object[] { value };
+    protected boolean equalsComponents(ValueObject other) {
+        return Objects.equals(value, ((Description) other).value);
+    }
+
+    @Override
+    protected int computeHashCode() {
+        return Objects.hashCode(value);
     }
 
     @Override
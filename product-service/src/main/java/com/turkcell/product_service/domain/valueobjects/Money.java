@@ -8,16 +8,21 @@ import java.math.RoundingMode;
 /**
  * Value object representing monetary value with amount and currency.
  * Encapsulates both Price and Currency as a single cohesive concept.
- * Uses BigDecimal for precise monetary calculations.
+ * The amount is held as a long count of minor units (cents, kuruş) with two
+ * decimal places, so arithmetic is exact and allocation-free; BigDecimal is
+ * only used at the API boundary and its view is created at most once.
  */
 public final class Money extends ValueObject {
 
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
+
+    private final long minorUnits;
     private final Currency currency;
+    private BigDecimal amount;
 
-    private Money(BigDecimal amount, Currency currency) {
-        validate(amount, currency);
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+    private Money(long minorUnits, Currency currency) {
+        validate(minorUnits, currency);
+        this.minorUnits = minorUnits;
         this.currency = currency;
     }
 
@@ -31,7 +36,18 @@ public final class Money extends ValueObject {
      *                                  is null
      */
     public static Money of(BigDecimal amount, Currency currency) {
-        return new Money(amount, currency);
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        // Checked before rounding, otherwise -0.001 would round to zero and pass
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        Money money = new Money(toMinorUnits(amount), currency);
+        if (amount.scale() == SCALE) {
+            money.amount = amount;
+        }
+        return money;
     }
 
     /**
@@ -42,7 +58,20 @@ public final class Money extends ValueObject {
      * @return a new Money instance
      */
     public static Money of(double amount, Currency currency) {
-        return new Money(BigDecimal.valueOf(amount), currency);
+        return of(BigDecimal.valueOf(amount), currency);
+    }
+
+    /**
+     * Creates a Money instance from an amount in minor units.
+     *
+     * @param minorUnits the amount in minor units, e.g. 1999 for 19.99
+     * @param currency   the currency
+     * @return a new Money instance
+     * @throws IllegalArgumentException if minorUnits is negative or currency is
+     *                                  null
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
     }
 
     /**
@@ -52,14 +81,27 @@ public final class Money extends ValueObject {
      * @return a new Money instance with zero amount
      */
     public static Money zero(Currency currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        return new Money(0L, currency);
     }
 
-    private void validate(BigDecimal amount, Currency currency) {
-        if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
+    /**
+     * Converts an amount to minor units with the same rounding as
+     * {@link #of(BigDecimal, Currency)}.
+     *
+     * @param amount the monetary amount
+     * @return the amount in minor units
+     * @throws IllegalArgumentException if the amount does not fit in a long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is out of range: " + amount);
         }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+    }
+
+    private void validate(long minorUnits, Currency currency) {
+        if (minorUnits < 0) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
         if (currency == null) {
@@ -68,7 +110,16 @@ public final class Money extends ValueObject {
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        BigDecimal a = amount;
+        if (a == null) {
+            a = BigDecimal.valueOf(minorUnits, SCALE);
+            amount = a;
+        }
+        return a;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
     }
 
     public Currency getCurrency() {
@@ -87,7 +138,11 @@ public final class Money extends ValueObject {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot add money with different currencies");
         }
-        return new Money(this.amount.add(other.amount), this.currency);
+        try {
+            return new Money(Math.addExact(this.minorUnits, other.minorUnits), this.currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Money amount overflow");
+        }
     }
 
     /**
@@ -103,11 +158,10 @@ public final class Money extends ValueObject {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot subtract money with different currencies");
         }
-        BigDecimal result = this.amount.subtract(other.amount);
-        if (result.compareTo(BigDecimal.ZERO) < 0) {
+        if (other.minorUnits > this.minorUnits) {
             throw new IllegalArgumentException("Result cannot be negative");
         }
-        return new Money(result, this.currency);
+        return new Money(this.minorUnits - other.minorUnits, this.currency);
     }
 
     /**
@@ -120,7 +174,11 @@ public final class Money extends ValueObject {
         if (factor < 0) {
             throw new IllegalArgumentException("Factor cannot be negative");
         }
-        return new Money(this.amount.multiply(BigDecimal.valueOf(factor)), this.currency);
+        try {
+            return new Money(Math.multiplyExact(this.minorUnits, factor), this.currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Money amount overflow");
+        }
     }
 
     /**
@@ -134,7 +192,7 @@ public final class Money extends ValueObject {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot compare money with different currencies");
         }
-        return this.amount.compareTo(other.amount) > 0;
+        return this.minorUnits > other.minorUnits;
     }
 
     /**
@@ -148,7 +206,7 @@ public final class Money extends ValueObject {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot compare money with different currencies");
         }
-        return this.amount.compareTo(other.amount) < 0;
+        return this.minorUnits < other.minorUnits;
     }
 
     /**
@@ -157,16 +215,22 @@ public final class Money extends ValueObject {
      * @return true if amount is zero
      */
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return minorUnits == 0;
+    }
+
+    @Override
+    protected boolean equalsComponents(ValueObject other) {
+        Money that = (Money) other;
+        return minorUnits == that.minorUnits && currency == that.currency;
     }
 
     @Override
-    protected Object[] getEqualityComponents() {
-        return new Object[] { amount, currency };
+    protected int computeHashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return currency.getSymbol() + amount.toPlainString();
+        return currency.getSymbol() + getAmount().toPlainString();
     }
 }
@@ -57,8 +57,13 @@ public final class ProductId extends ValueObject {
     }
 
     @Override
-    protected Object[] getEqualityComponents() {
-        return new Object[] { value };
+    protected boolean equalsComponents(ValueObject other) {
+        return value.equals(((ProductId) other).value);
+    }
+
+    @Override
+    protected int computeHashCode() {
+        return value.hashCode();
     }
 
     @Override
@@ -49,8 +49,13 @@ public final class ProductName extends ValueObject {
     }
 
     @Override
-    protected Object[] getEqualityComponents() {
-        return new Object[] { value };
+    protected boolean equalsComponents(ValueObject other) {
+        return value.equals(((ProductName) other).value);
+    }
+
+    @Override
+    protected int computeHashCode() {
+        return value.hashCode();
     }
 
     @Override
@@ -0,0 +1,72 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+import com.turkcell.product_service.domain.common.ValueObject;
+
+import java.util.UUID;
+
+/**
+ * Value object representing the unique identifier of a StockReservation.
+ */
+public final class ReservationId extends ValueObject {
+
+    private final UUID value;
+
+    private ReservationId(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("ReservationId value cannot be null");
+        }
+        this.value = value;
+    }
+
+    /**
+     * Creates a new ReservationId with a random UUID.
+     *
+     * @return a new ReservationId instance
+     */
+    public static ReservationId create() {
+        return new ReservationId(UUID.randomUUID());
+    }
+
+    /**
+     * Creates a ReservationId from an existing UUID.
+     *
+     * @param value the UUID value
+     * @return a new ReservationId instance
+     */
+    public static ReservationId of(UUID value) {
+        return new ReservationId(value);
+    }
+
+    /**
+     * Creates a ReservationId from a string representation of a UUID.
+     *
+     * @param value the string representation of the UUID
+     * @return a new ReservationId instance
+     * @throws IllegalArgumentException if the string is not a valid UUID
+     */
+    public static ReservationId of(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("ReservationId string value cannot be null or blank");
+        }
+        return new ReservationId(UUID.fromString(value));
+    }
+
+    public UUID getValue() {
+        return value;
+    }
+
+    @Override
+    protected boolean equalsComponents(ValueObject other) {
+        return value.equals(((ReservationId) other).value);
+    }
+
+    @Override
+    protected int computeHashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
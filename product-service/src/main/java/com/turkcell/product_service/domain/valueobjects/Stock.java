@@ -73,6 +73,29 @@ public final class Stock extends ValueObject {
         return quantity >= requiredQuantity;
     }
 
+    /**
+     * Checks if the stock left after existing reservations covers the required
+     * quantity.
+     *
+     * @param requiredQuantity the required quantity
+     * @param reservedQuantity the quantity already held by active reservations
+     * @return true if quantity minus reservedQuantity is at least
+     *         requiredQuantity
+     */
+    public boolean hasAtLeast(int requiredQuantity, int reservedQuantity) {
+        return (long) quantity - reservedQuantity >= requiredQuantity;
+    }
+
+    /**
+     * Returns the quantity not held by reservations.
+     *
+     * @param reservedQuantity the quantity held by active reservations
+     * @return the unreserved quantity, never negative
+     */
+    public int available(int reservedQuantity) {
+        return Math.max(0, quantity - reservedQuantity);
+    }
+
     /**
      * Adds quantity to the stock.
      *
@@ -107,8 +130,13 @@ public final class Stock extends ValueObject {
     }
 
     @Override
-    protected Object[] getEqualityComponents() {
-        return new Object[] { quantity };
+    protected boolean equalsComponents(ValueObject other) {
+        return quantity == ((Stock) other).quantity;
+    }
+
+    @Override
+    protected int computeHashCode() {
+        return Integer.hashCode(quantity);
     }
 
     @Override
@@ -0,0 +1,328 @@
+package com.turkcell.product_service.infrastructure.bulkimport;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.ports.ProductBulkLoader;
+import com.turkcell.product_service.application.ports.ProductImportRow;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Money;
+import com.turkcell.product_service.infrastructure.catalog.ColumnarProductCatalog;
+
+/**
+ * JDBC implementation of ProductBulkLoader.
+ * Rows are staged in a temporary table on a connection held for the whole
+ * import: on PostgreSQL through a single {@code COPY ... FROM STDIN} stream,
+ * elsewhere (H2) through batched inserts. The merge deduplicates the staging
+ * table by ID, upserts {@code products} and {@code product_view} with
+ * {@code MERGE} in one transaction, queueing the products on the outbox in
+ * the same transaction, and then refreshes the catalog index from the staged
+ * rows.
+ */
+@Component
+public class JdbcProductBulkLoader implements ProductBulkLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcProductBulkLoader.class);
+
+    private static final String STAGING = "product_import_staging";
+
+    private static final String COLUMNS = "line_no, id, name, description, price_amount, price_currency, stock_quantity";
+
+    private final DataSource dataSource;
+    private final ColumnarProductCatalog catalog;
+
+    public JdbcProductBulkLoader(DataSource dataSource, ColumnarProductCatalog catalog) {
+        this.dataSource = dataSource;
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Staging begin() {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + STAGING);
+                statement.execute("CREATE LOCAL TEMPORARY TABLE " + STAGING + " ("
+                        + "line_no BIGINT NOT NULL, "
+                        + "id UUID NOT NULL, "
+                        + "name VARCHAR(255) NOT NULL, "
+                        + "description VARCHAR(2000), "
+                        + "price_amount NUMERIC(19, 2) NOT NULL, "
+                        + "price_currency VARCHAR(3) NOT NULL, "
+                        + "stock_quantity INTEGER NOT NULL)");
+            }
+            return connection.isWrapperFor(PGConnection.class)
+                    ? new CopyStaging(connection)
+                    : new BatchStaging(connection);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new DataAccessResourceFailureException("Could not create the import staging table", e);
+        }
+    }
+
+    private abstract class JdbcStaging implements Staging {
+
+        protected final Connection connection;
+
+        JdbcStaging(Connection connection) {
+            this.connection = connection;
+        }
+
+        protected abstract void finishLoad() throws SQLException;
+
+        @Override
+        public long merge() {
+            try {
+                finishLoad();
+                connection.setAutoCommit(false);
+                long merged;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE INDEX ix_" + STAGING + "_id ON " + STAGING + " (id, line_no)");
+                    // Aynı ID birden çok satırda geçiyorsa dosyadaki son satır geçerlidir
+                    statement.executeUpdate("DELETE FROM " + STAGING + " s WHERE EXISTS (SELECT 1 FROM " + STAGING
+                            + " d WHERE d.id = s.id AND d.line_no > s.line_no)");
+                    merged = statement.executeLargeUpdate("""
+                            MERGE INTO products p
+                            USING product_import_staging s ON p.id = s.id
+                            WHEN MATCHED THEN UPDATE SET
+                                name = s.name, description = s.description, price_amount = s.price_amount,
+                                price_currency = s.price_currency, stock_quantity = s.stock_quantity,
+                                version = p.version + 1
+                            WHEN NOT MATCHED THEN INSERT
+                                (id, name, description, price_amount, price_currency, stock_quantity, version)
+                                VALUES (s.id, s.name, s.description, s.price_amount, s.price_currency,
+                                    s.stock_quantity, 0)""");
+                    statement.executeLargeUpdate("""
+                            MERGE INTO product_view v
+                            USING (SELECT s.*, p.version FROM product_import_staging s
+                                JOIN products p ON p.id = s.id) s ON v.id = s.id
+                            WHEN MATCHED THEN UPDATE SET
+                                name = s.name, description = s.description, price_amount = s.price_amount,
+                                price_currency = s.price_currency, stock_quantity = s.stock_quantity,
+                                version = s.version
+                            WHEN NOT MATCHED THEN INSERT
+                                (id, name, description, price_amount, price_currency, stock_quantity, version)
+                                VALUES (s.id, s.name, s.description, s.price_amount, s.price_currency,
+                                    s.stock_quantity, s.version)""");
+                    // Yayınlanacak ürünler aynı transaction içinde outbox'a yazılır (bkz. ProductEventRelayer)
+                    statement.executeLargeUpdate("INSERT INTO outbox (aggregate_id, status, created_at) "
+                            + "SELECT id, 'PENDING', CURRENT_TIMESTAMP FROM " + STAGING);
+                }
+                connection.commit();
+                refreshCatalog();
+                return merged;
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw new UncategorizedSQLException("Merge imported products", null, e);
+            }
+        }
+
+        private void refreshCatalog() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                // Sürücü tüm sonucu belleğe almasın diye satırlar parça parça okunur
+                statement.setFetchSize(10_000);
+                ResultSet rs = statement.executeQuery("SELECT s.id, p.version, s.price_amount, s.price_currency, "
+                        + "s.stock_quantity FROM " + STAGING + " s JOIN products p ON p.id = s.id");
+                while (rs.next()) {
+                    catalog.put(rs.getObject(1, UUID.class), rs.getLong(2), Money.toMinorUnits(rs.getBigDecimal(3)),
+                            Currency.fromCode(rs.getString(4)), rs.getInt(5));
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            try (Statement statement = connection.createStatement()) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                statement.execute("DROP TABLE IF EXISTS " + STAGING);
+            } catch (SQLException e) {
+                log.warn("Could not drop the import staging table: {}", e.getMessage());
+            } finally {
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    /**
+     * Streams rows as COPY text format: tab separated, {@code \N} for null,
+     * backslash escapes for tab, newline, carriage return and backslash.
+     */
+    private final class CopyStaging extends JdbcStaging {
+
+        private final CopyIn copyIn;
+        private byte[] buffer = new byte[256 * 1024];
+        private int length;
+
+        CopyStaging(Connection connection) throws SQLException {
+            super(connection);
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + STAGING + " (" + COLUMNS + ") FROM STDIN");
+        }
+
+        @Override
+        public void append(List<ProductImportRow> rows) {
+            for (ProductImportRow row : rows) {
+                ascii(Long.toString(row.line()));
+                tab();
+                ascii(row.id().toString());
+                tab();
+                text(row.name());
+                tab();
+                if (row.description() == null) {
+                    ascii("\\N");
+                } else {
+                    text(row.description());
+                }
+                tab();
+                ascii(row.priceAmount().toPlainString());
+                tab();
+                ascii(row.priceCurrency());
+                tab();
+                ascii(Integer.toString(row.stockQuantity()));
+                put((byte) '\n');
+            }
+            try {
+                copyIn.writeToCopy(buffer, 0, length);
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("Could not stream rows to the staging table", e);
+            }
+            length = 0;
+        }
+
+        @Override
+        protected void finishLoad() throws SQLException {
+            long rows = copyIn.endCopy();
+            log.debug("Copied {} rows into {}", rows, STAGING);
+            try (Statement statement = connection.createStatement()) {
+                // Birleştirme planı için tablo istatistikleri güncellenir
+                statement.execute("ANALYZE " + STAGING);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (copyIn.isActive()) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException e) {
+                    log.warn("Could not cancel the staging COPY: {}", e.getMessage());
+                }
+            }
+            super.close();
+        }
+
+        private void text(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            for (byte b : bytes) {
+                byte escaped = switch (b) {
+                    case '\\' -> '\\';
+                    case '\t' -> 't';
+                    case '\n' -> 'n';
+                    case '\r' -> 'r';
+                    default -> 0;
+                };
+                if (escaped == 0) {
+                    put(b);
+                } else {
+                    put((byte) '\\');
+                    put(escaped);
+                }
+            }
+        }
+
+        private void ascii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                put((byte) value.charAt(i));
+            }
+        }
+
+        private void tab() {
+            put((byte) '\t');
+        }
+
+        private void put(byte b) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[length++] = b;
+        }
+    }
+
+    private final class BatchStaging extends JdbcStaging {
+
+        private final PreparedStatement insert;
+
+        BatchStaging(Connection connection) throws SQLException {
+            super(connection);
+            this.insert = connection.prepareStatement(
+                    "INSERT INTO " + STAGING + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        @Override
+        public void append(List<ProductImportRow> rows) {
+            try {
+                for (ProductImportRow row : rows) {
+                    insert.setLong(1, row.line());
+                    insert.setObject(2, row.id());
+                    insert.setString(3, row.name());
+                    insert.setString(4, row.description());
+                    insert.setBigDecimal(5, row.priceAmount());
+                    insert.setString(6, row.priceCurrency());
+                    insert.setInt(7, row.stockQuantity());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("Could not insert rows into the staging table", e);
+            }
+        }
+
+        @Override
+        protected void finishLoad() throws SQLException {
+            insert.close();
+        }
+    }
+
+    private static void rollbackQuietly(Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not roll back the import merge: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Could not close the import connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.turkcell.product_service.infrastructure.catalog;
+
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Money;
+
+/**
+ * Fills the ColumnarProductCatalog from {@code product_view} at startup.
+ * Rows are streamed straight into the columns without building DTOs, so
+ * loading a large catalog needs no memory beyond the columns themselves.
+ */
+@Component
+@DependsOn("jdbcProductReadModel")
+public class CatalogSnapshotLoader implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotLoader.class);
+
+    private final JdbcClient jdbcClient;
+    private final ColumnarProductCatalog catalog;
+
+    public CatalogSnapshotLoader(JdbcClient jdbcClient, ColumnarProductCatalog catalog) {
+        this.jdbcClient = jdbcClient;
+        this.catalog = catalog;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long start = System.nanoTime();
+        jdbcClient.sql("SELECT id, version, price_amount, price_currency, stock_quantity FROM product_view")
+                .query(rs -> {
+                    catalog.put(rs.getObject(1, UUID.class),
+                            rs.getLong(2),
+                            Money.toMinorUnits(rs.getBigDecimal(3)),
+                            Currency.fromCode(rs.getString(4)),
+                            rs.getInt(5));
+                });
+        log.info("Loaded {} products into the catalog index in {} ms", catalog.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
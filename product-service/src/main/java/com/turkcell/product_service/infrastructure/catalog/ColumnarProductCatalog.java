@@ -0,0 +1,286 @@
+package com.turkcell.product_service.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.turkcell.product_service.application.dtos.ProductSort;
+import com.turkcell.product_service.application.ports.ProductCatalog;
+import com.turkcell.product_service.application.ports.ProductSearchCriteria;
+import com.turkcell.product_service.application.ports.ProductSearchResult;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+/**
+ * In-memory ProductCatalog that stores the catalog column by column in
+ * primitive arrays (price in minor units, currency ordinal, stock), so a
+ * query is one sequential scan without object access or BigDecimal
+ * comparisons. Top-N sorting uses a heap bounded by the limit, so a query
+ * allocates in proportion to the page, not the catalog.
+ * Writes update a single row in place; a delete moves the last row into the
+ * freed slot. Queries share a read lock, writes take the write lock.
+ * <p>
+ * Each row keeps the product version it was written with and a write carrying
+ * an older version is ignored, so after-commit callbacks racing each other and
+ * product-topic events (see ProductCatalogSyncConfig) can arrive in any order.
+ */
+@Component
+public class ColumnarProductCatalog implements ProductCatalog {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private byte[] currencies = new byte[INITIAL_CAPACITY];
+    private int[] stocks = new int[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void upsert(Product product) {
+        UUID id = product.getId().getValue();
+        long version = product.getVersion();
+        long price = product.getPrice().getMinorUnits();
+        Currency currency = product.getPrice().getCurrency();
+        int stock = product.getStock().getQuantity();
+        afterCommit(() -> put(id, version, price, currency, stock));
+    }
+
+    @Override
+    public void remove(ProductId id) {
+        UUID value = id.getValue();
+        afterCommit(() -> delete(value));
+    }
+
+    /**
+     * Adds or replaces a row immediately, outside any transaction. Used to load
+     * the snapshot and to apply product-topic events.
+     *
+     * @return false if the row already holds a newer version and was left as is
+     */
+    public boolean put(UUID id, long version, long priceMinor, Currency currency, int stock) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.get(id);
+            int index;
+            if (row != null) {
+                index = row;
+                if (versions[index] > version) {
+                    return false;
+                }
+            } else {
+                if (size == ids.length) {
+                    grow();
+                }
+                index = size++;
+                ids[index] = id;
+                rowsById.put(id, index);
+            }
+            versions[index] = version;
+            prices[index] = priceMinor;
+            currencies[index] = (byte) currency.ordinal();
+            stocks[index] = stock;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a row immediately, outside any transaction.
+     */
+    public void delete(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                versions[row] = versions[last];
+                prices[row] = prices[last];
+                currencies[row] = currencies[last];
+                stocks[row] = stocks[last];
+                rowsById.put(ids[row], row);
+            }
+            ids[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ProductSearchResult search(ProductSearchCriteria criteria) {
+        int currency = criteria.currency() != null ? criteria.currency().ordinal() : -1;
+        long minPrice = criteria.minPriceMinor();
+        long maxPrice = criteria.maxPriceMinor();
+        boolean inStockOnly = criteria.inStockOnly();
+        ProductSort sort = criteria.sort();
+        boolean byPrice = sort == ProductSort.PRICE_ASC || sort == ProductSort.PRICE_DESC;
+        boolean descending = sort == ProductSort.PRICE_DESC || sort == ProductSort.STOCK_DESC;
+        TopN top = new TopN(criteria.limit());
+
+        lock.readLock().lock();
+        try {
+            long[] prices = this.prices;
+            byte[] currencies = this.currencies;
+            int[] stocks = this.stocks;
+            int matches = 0;
+            for (int row = 0; row < size; row++) {
+                if (currency >= 0 && currencies[row] != currency) {
+                    continue;
+                }
+                long price = prices[row];
+                if (price < minPrice || price > maxPrice) {
+                    continue;
+                }
+                int stock = stocks[row];
+                if (inStockOnly && stock <= 0) {
+                    continue;
+                }
+                matches++;
+                long key = byPrice ? price : stock;
+                top.offer(row, descending ? -key : key);
+            }
+
+            int[] rows = top.drainSorted();
+            List<ProductId> productIds = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                productIds.add(ProductId.of(ids[row]));
+            }
+            return new ProductSearchResult(productIds, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        currencies = Arrays.copyOf(currencies, capacity);
+        stocks = Arrays.copyOf(stocks, capacity);
+    }
+
+    private static void afterCommit(Runnable change) {
+        // Geri alınan bir yazma indekse hiç yansımamalı
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Keeps the rows with the smallest keys seen so far in a max-heap of at
+     * most limit entries, so each candidate costs O(log limit). Equal keys are
+     * ordered by row.
+     */
+    static final class TopN {
+
+        private final int[] rows;
+        private final long[] keys;
+        private int count;
+
+        TopN(int limit) {
+            this.rows = new int[limit];
+            this.keys = new long[limit];
+        }
+
+        void offer(int row, long key) {
+            if (count < rows.length) {
+                rows[count] = row;
+                keys[count] = key;
+                siftUp(count++);
+            } else if (rows.length > 0 && key < keys[0]) {
+                rows[0] = row;
+                keys[0] = key;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * @return the kept rows in ascending key order; the heap is empty
+         *         afterwards
+         */
+        int[] drainSorted() {
+            int[] sorted = new int[count];
+            for (int i = count - 1; i >= 0; i--) {
+                sorted[i] = rows[0];
+                count--;
+                rows[0] = rows[count];
+                keys[0] = keys[count];
+                siftDown(0);
+            }
+            return sorted;
+        }
+
+        private boolean above(int a, int b) {
+            return keys[a] > keys[b] || (keys[a] == keys[b] && rows[a] > rows[b]);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!above(index, parent)) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= count) {
+                    return;
+                }
+                int largest = left + 1 < count && above(left + 1, left) ? left + 1 : left;
+                if (!above(largest, index)) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+            long key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.turkcell.product_service.infrastructure.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+
+import com.turkcell.event_schema.codec.BinaryEventMessageConverter;
+import com.turkcell.event_schema.events.ProductChangedEvent;
+import com.turkcell.event_schema.events.ProductDeletedEvent;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.messaging.relayer.ProductEventRelayer;
+
+/**
+ * Keeps the ColumnarProductCatalog in step with writes made by other
+ * instances. The binding has no consumer group, so every instance reads all
+ * of product-topic from the beginning; events for this instance's own writes
+ * and events older than the loaded snapshot are dropped by the catalog's
+ * version check.
+ */
+@Configuration
+public class ProductCatalogSyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCatalogSyncConfig.class);
+
+    @Bean
+    public Consumer<Message<byte[]>> productCatalogSync(ColumnarProductCatalog catalog,
+            BinaryEventMessageConverter converter) {
+        return message -> {
+            byte[] payload = message.getPayload();
+            String type = text(message.getHeaders().get(ProductEventRelayer.EVENT_TYPE_HEADER));
+            if (payload.length == 0 || type == null) {
+                return;
+            }
+            switch (type) {
+                case "ProductChanged" -> {
+                    ProductChangedEvent event = converter.decode(payload, ProductChangedEvent.class);
+                    catalog.put(UUID.fromString(event.productId()), event.version(), event.priceMinor(),
+                            Currency.fromCode(event.currency()), event.stock());
+                }
+                case "ProductDeleted" -> {
+                    ProductDeletedEvent event = converter.decode(payload, ProductDeletedEvent.class);
+                    catalog.delete(UUID.fromString(event.productId()));
+                }
+                default -> log.debug("Skipping unknown product event type {}", type);
+            }
+        };
+    }
+
+    private static String text(Object header) {
+        if (header instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return header != null ? header.toString() : null;
+    }
+}
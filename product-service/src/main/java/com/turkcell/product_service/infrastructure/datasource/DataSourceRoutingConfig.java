@@ -0,0 +1,95 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Splits database access between the primary and read replicas. The
+ * application's DataSource is a lazy proxy: it only takes a physical
+ * connection at the first statement, by which time the transaction's
+ * read-only flag is known. Read-only transactions then go through
+ * ReplicaRoutingDataSource, everything else to the primary pool.
+ * <p>
+ * Replicas are listed in {@code datasource-routing.replica-urls}; each gets a
+ * Hikari pool configured like the primary's and its own
+ * {@code hikaricp.connections.*} metrics. Without replicas all reads stay on
+ * the primary.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWrites recentWrites(
+            @Value("${datasource-routing.read-your-writes.window:3s}") Duration window,
+            @Value("${datasource-routing.read-your-writes.slots:65536}") int slots) {
+        return new RecentWrites(slots, window);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary, RecentWrites recentWrites,
+            MeterRegistry meterRegistry,
+            @Value("${datasource-routing.replica-urls:}") List<String> replicaUrls,
+            @Value("${datasource-routing.replica-username:}") String username,
+            @Value("${datasource-routing.replica-password:}") String password,
+            @Value("${datasource-routing.max-lag:2s}") Duration maxLag,
+            @Value("${datasource-routing.lag-query}") String lagQuery) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setPoolName("replica-" + replicas.size());
+            config.setJdbcUrl(url.trim());
+            if (!username.isEmpty()) {
+                config.setUsername(username);
+                config.setPassword(password);
+            }
+            config.setReadOnly(true);
+            // Kapalı bir replika uygulamanın açılmasını engellemez, gecikme ölçümü onu devre dışı tutar
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, recentWrites, maxLag, lagQuery, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+            ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
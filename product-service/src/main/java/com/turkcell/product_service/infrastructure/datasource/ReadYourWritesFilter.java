@@ -0,0 +1,50 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import java.io.IOException;
+import java.security.Principal;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds the caller of an API request as the current client of RecentWrites
+ * and records a write once a modifying request has completed. The caller is
+ * the authenticated principal (the JWT subject), or the remote address for
+ * anonymous requests. Runs after the security filter chain, so the principal
+ * is known.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final RecentWrites recentWrites;
+
+    public ReadYourWritesFilter(RecentWrites recentWrites) {
+        this.recentWrites = recentWrites;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Principal principal = request.getUserPrincipal();
+        String client = principal != null ? principal.getName() : request.getRemoteAddr();
+        try (RecentWrites.Scope scope = RecentWrites.bind(client)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Yazma commit edildikten sonra işaretlenir; hata alan istek de yazmış olabilir
+            if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+                recentWrites.markWrite(client);
+            }
+        }
+    }
+}
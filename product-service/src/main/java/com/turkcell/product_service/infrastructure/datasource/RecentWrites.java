@@ -0,0 +1,87 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * When each client last wrote, so that its reads can be kept on the primary
+ * until replicas have certainly caught up. Clients are hashed into a fixed
+ * number of slots: memory stays bounded however many clients there are, and
+ * a collision can only send another client's read to the primary too, never
+ * a read to a stale replica.
+ * <p>
+ * The client of the current thread is bound per request by
+ * ReadYourWritesFilter; threads without a client (Kafka consumers,
+ * schedulers) are never held on the primary.
+ */
+public class RecentWrites {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    // Hiç yazmamış slot: pencere ne olursa olsun "yakın zamanda" sayılmaz
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final AtomicLongArray lastWrite;
+    private final int mask;
+    private final long windowNanos;
+
+    /**
+     * @param slots  number of slots, rounded up to a power of two
+     * @param window how long after a write the client reads from the primary
+     */
+    public RecentWrites(int slots, Duration window) {
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.lastWrite = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            lastWrite.set(i, NEVER);
+        }
+        this.mask = size - 1;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Binds the client of the current thread until the returned scope is
+     * closed.
+     */
+    public static Scope bind(String client) {
+        String previous = CURRENT_CLIENT.get();
+        CURRENT_CLIENT.set(client);
+        return () -> {
+            if (previous == null) {
+                CURRENT_CLIENT.remove();
+            } else {
+                CURRENT_CLIENT.set(previous);
+            }
+        };
+    }
+
+    public void markWrite(String client) {
+        lastWrite.set(slot(client), System.nanoTime());
+    }
+
+    /**
+     * Whether the current thread's client wrote within the window.
+     */
+    public boolean currentClientWroteRecently() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        long last = lastWrite.get(slot(client));
+        return last != NEVER && System.nanoTime() - last < windowNanos;
+    }
+
+    private int slot(String client) {
+        int hash = client.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * A bound client; closing restores the previous binding.
+     */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
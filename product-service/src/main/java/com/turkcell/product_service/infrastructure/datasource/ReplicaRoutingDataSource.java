@@ -0,0 +1,163 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Connections for read-only transactions. Each call picks the next replica
+ * pool in turn whose last measured lag is within {@code maxLag}; it falls back
+ * to the primary when every replica lags or is unreachable, and when the
+ * current client wrote recently (see RecentWrites). Lag is measured
+ * periodically with a configurable query on each replica.
+ * <p>
+ * Every connection handed out is counted under
+ * {@code product.datasource.reads} with the pool it came from and the reason.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // Ölçülemeyen gecikme: replika sınır ne olursa olsun seçilmez
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final RecentWrites recentWrites;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryRecentWrite;
+    private final Counter primaryNoReplica;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+            RecentWrites recentWrites, Duration maxLag, String lagQuery, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.recentWrites = recentWrites;
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+        this.replicas = new ArrayList<>();
+        for (HikariDataSource pool : replicaPools) {
+            Replica replica = new Replica(pool, reads(meterRegistry, pool.getPoolName(), "replica"));
+            TimeGauge.builder("product.datasource.replica.lag", replica,
+                    TimeUnit.MILLISECONDS, r -> r.lagMillis == UNKNOWN_LAG ? Double.NaN : r.lagMillis)
+                    .description("Replication lag last measured on the replica, NaN while unreachable")
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+            replicas.add(replica);
+        }
+        this.primaryRecentWrite = reads(meterRegistry, "primary", "recent_write");
+        this.primaryNoReplica = reads(meterRegistry, "primary", "no_replica");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    private DataSource target() {
+        if (recentWrites.currentClientWroteRecently()) {
+            primaryRecentWrite.increment();
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMillis <= maxLagMillis) {
+                replica.reads.increment();
+                return replica.pool;
+            }
+        }
+        primaryNoReplica.increment();
+        return primary;
+    }
+
+    /**
+     * Measures every replica's lag. A replica that cannot be queried is
+     * skipped until a later check succeeds.
+     */
+    @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval:1000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            long lag = UNKNOWN_LAG;
+            try (Connection connection = replica.pool.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(1);
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    if (rs.next()) {
+                        lag = Math.max(0, Math.round(rs.getDouble(1)));
+                    }
+                }
+            } catch (SQLException e) {
+                if (replica.lagMillis != UNKNOWN_LAG) {
+                    log.warn("Replica {} is unreachable, its reads go elsewhere", replica.pool.getPoolName(), e);
+                }
+            }
+            if (lag != UNKNOWN_LAG && lag > maxLagMillis && replica.lagMillis <= maxLagMillis) {
+                log.warn("Replica {} lags {} ms behind the primary, its reads go elsewhere",
+                        replica.pool.getPoolName(), lag);
+            }
+            replica.lagMillis = lag;
+        }
+    }
+
+    /**
+     * The replica pools, in the order of {@code datasource-routing.replica-urls}.
+     */
+    public List<HikariDataSource> replicaPools() {
+        return replicas.stream().map(replica -> replica.pool).toList();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("product.datasource.reads")
+                .description("Connections handed out for read-only transactions")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private final Counter reads;
+        // İlk ölçüm gelene kadar replika kullanılmaz
+        private volatile long lagMillis = UNKNOWN_LAG;
+
+        Replica(HikariDataSource pool, Counter reads) {
+            this.pool = pool;
+            this.reads = reads;
+        }
+    }
+}
@@ -3,17 +3,24 @@ package com.turkcell.product_service.infrastructure.entities;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 
 /**
  * JPA Entity representing a Product in the persistence layer.
  * This is a data-oriented representation used for persistence,
  * separate from the domain entity.
+ * Updates only write the columns that changed and are guarded by the version
+ * column; a null version marks a new row, so it is inserted without a
+ * preceding SELECT.
  */
 // Note: JPA annotations are commented out since we're using in-memory storage
 // for now
 @Entity
 @Table(name = "products")
+@DynamicUpdate
 public class ProductEntity {
 
     @Id
@@ -34,6 +41,12 @@ public class ProductEntity {
     @Column(nullable = false)
     private int stockQuantity;
 
+    // Default lets schema updates backfill rows written before versioning
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // Default constructor for JPA
     public ProductEntity() {
     }
@@ -96,4 +109,8 @@ public class ProductEntity {
     public void setStockQuantity(int stockQuantity) {
         this.stockQuantity = stockQuantity;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -51,6 +51,22 @@ public final class ProductMapper {
                 ProductName.of(entity.getName()),
                 Description.of(entity.getDescription()),
                 Money.of(entity.getPriceAmount(), Currency.fromCode(entity.getPriceCurrency())),
-                Stock.of(entity.getStockQuantity()));
+                Stock.of(entity.getStockQuantity()),
+                entity.getVersion());
+    }
+
+    /**
+     * Copies the state of a Domain Product onto an existing ProductEntity.
+     * Used with managed entities so that only changed columns are written.
+     *
+     * @param product the domain Product
+     * @param entity  the ProductEntity to update
+     */
+    public static void copyToEntity(Product product, ProductEntity entity) {
+        entity.setName(product.getName().getValue());
+        entity.setDescription(product.getDescription().getValue());
+        entity.setPriceAmount(product.getPrice().getAmount());
+        entity.setPriceCurrency(product.getPrice().getCurrency().getCode());
+        entity.setStockQuantity(product.getStock().getQuantity());
     }
 }
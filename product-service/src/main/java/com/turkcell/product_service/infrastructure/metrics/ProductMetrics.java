@@ -0,0 +1,100 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.domain.exceptions.DomainException;
+import com.turkcell.product_service.domain.exceptions.ProductNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Registers the product-service timers up front so that the hot path only
+ * indexes into arrays: no tags, names or meter lookups are built per call.
+ */
+@Component
+public class ProductMetrics {
+
+    /**
+     * Result of a use case, as exposed in the {@code outcome} tag.
+     */
+    public enum Outcome {
+        SUCCESS("success"),
+        NOT_FOUND("not_found"),
+        VALIDATION_ERROR("validation_error"),
+        CONFLICT("conflict"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        static Outcome of(Throwable error) {
+            if (error instanceof ProductNotFoundException) {
+                return NOT_FOUND;
+            }
+            if (error instanceof IllegalArgumentException || error instanceof DomainException) {
+                return VALIDATION_ERROR;
+            }
+            if (error instanceof OptimisticLockingFailureException) {
+                return CONFLICT;
+            }
+            return ERROR;
+        }
+    }
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final MeterRegistry registry;
+    private final Timer[] dbPhase;
+    private final Timer[] mappingPhase;
+    private final Timer[] serializationPhase;
+
+    public ProductMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.dbPhase = timersByOutcome("product.request.phase", "phase", "db");
+        this.mappingPhase = timersByOutcome("product.request.phase", "phase", "mapping");
+        this.serializationPhase = timersByOutcome("product.request.phase", "phase", "serialization");
+    }
+
+    /**
+     * Creates one timer per outcome for a use case, indexed by
+     * {@link Outcome#ordinal()}.
+     */
+    Timer[] useCaseTimers(String useCase) {
+        return timersByOutcome("product.usecase", "usecase", useCase);
+    }
+
+    Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    void recordPhases(RequestTimings timings, Outcome outcome) {
+        int index = outcome.ordinal();
+        dbPhase[index].record(timings.getDbNanos(), TimeUnit.NANOSECONDS);
+        mappingPhase[index].record(timings.getMappingNanos(), TimeUnit.NANOSECONDS);
+        serializationPhase[index].record(timings.getSerializationNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] timersByOutcome(String name, String tagKey, String tagValue) {
+        Timer[] timers = new Timer[OUTCOMES.length];
+        for (Outcome outcome : OUTCOMES) {
+            timers[outcome.ordinal()] = Timer.builder(name)
+                    .tag(tagKey, tagValue)
+                    .tag("outcome", outcome.tag)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        return timers;
+    }
+}
@@ -0,0 +1,51 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens the per-request timing scope for API calls and, once the response is
+ * written, records the DB / mapping / serialization breakdown under the
+ * outcome of the use case that served it.
+ */
+@Component
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final ProductMetrics metrics;
+
+    public RequestTimingFilter(ProductMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ProductMetrics.Outcome outcome = timings.getOutcome();
+            if (outcome == null && response.getStatus() == HttpStatus.BAD_REQUEST.value()) {
+                // Bean validation hatası: istek use case'e hiç ulaşmadı
+                outcome = ProductMetrics.Outcome.VALIDATION_ERROR;
+            }
+            if (outcome != null) {
+                metrics.recordPhases(timings, outcome);
+            }
+            RequestTimings.end();
+        }
+    }
+}
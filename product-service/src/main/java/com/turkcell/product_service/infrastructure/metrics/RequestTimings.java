@@ -0,0 +1,77 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+/**
+ * Per-request accumulator for the time spent in the database, in mapping and
+ * in serialization. Instances are reused per thread, so recording a phase
+ * does not allocate. Outside a request (no active timings) all calls are
+ * no-ops.
+ */
+final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private boolean active;
+    private long dbNanos;
+    private long mappingNanos;
+    private long serializationNanos;
+    private ProductMetrics.Outcome outcome;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = CURRENT.get();
+        timings.active = true;
+        timings.dbNanos = 0;
+        timings.mappingNanos = 0;
+        timings.serializationNanos = 0;
+        timings.outcome = null;
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.get().active = false;
+    }
+
+    static long dbNanos() {
+        return CURRENT.get().dbNanos;
+    }
+
+    static void addDb(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.dbNanos += nanos;
+        }
+    }
+
+    static void addSerialization(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.serializationNanos += nanos;
+        }
+    }
+
+    static void useCaseCompleted(ProductMetrics.Outcome outcome, long mappingNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.outcome = outcome;
+            timings.mappingNanos += Math.max(0, mappingNanos);
+        }
+    }
+
+    long getDbNanos() {
+        return dbNanos;
+    }
+
+    long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    ProductMetrics.Outcome getOutcome() {
+        return outcome;
+    }
+}
@@ -0,0 +1,37 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JSON converter that adds the time spent writing response bodies to the
+ * serialization phase of the current request. Registered as a bean, it
+ * replaces the converter Spring Boot would otherwise configure with the same
+ * JsonMapper.
+ */
+@Component
+public class TimedJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    public TimedJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        super(jsonMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, ResolvableType resolvableType, HttpOutputMessage outputMessage,
+            Map<String, Object> hints) throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, resolvableType, outputMessage, hints);
+        } finally {
+            RequestTimings.addSerialization(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.ports.ProductReadModel;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.infrastructure.readmodel.JdbcProductReadModel;
+import com.turkcell.product_service.infrastructure.tracing.ChildSpans;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+
+/**
+ * Times every read model call and counts it as database time of the current
+ * request; queries are served from here, so this is most of the DB time of
+ * the read use cases. Sampled traces get a child span per call.
+ */
+@Component
+@Primary
+public class TimedProductReadModel implements ProductReadModel {
+
+    private final ProductReadModel delegate;
+    private final ChildSpans spans;
+    private final Timer project;
+    private final Timer remove;
+    private final Timer findById;
+    private final Timer findAll;
+    private final Timer findAllById;
+    private final Timer findVersion;
+    private final Timer findAllVersions;
+    private final Timer findVersionsById;
+
+    public TimedProductReadModel(JdbcProductReadModel delegate, ProductMetrics metrics, ChildSpans spans) {
+        this.delegate = delegate;
+        this.spans = spans;
+        this.project = metrics.timer("product.readmodel", "method", "project");
+        this.remove = metrics.timer("product.readmodel", "method", "remove");
+        this.findById = metrics.timer("product.readmodel", "method", "findById");
+        this.findAll = metrics.timer("product.readmodel", "method", "findAll");
+        this.findAllById = metrics.timer("product.readmodel", "method", "findAllById");
+        this.findVersion = metrics.timer("product.readmodel", "method", "findVersion");
+        this.findAllVersions = metrics.timer("product.readmodel", "method", "findAllVersions");
+        this.findVersionsById = metrics.timer("product.readmodel", "method", "findVersionsById");
+    }
+
+    @Override
+    public void project(Product product) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.project");
+        try {
+            delegate.project(product);
+        } finally {
+            record(project, start, span);
+        }
+    }
+
+    @Override
+    public void remove(ProductId id) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.remove");
+        try {
+            delegate.remove(id);
+        } finally {
+            record(remove, start, span);
+        }
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(ProductId id) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.findById");
+        try {
+            return delegate.findById(id);
+        } finally {
+            record(findById, start, span);
+        }
+    }
+
+    @Override
+    public List<ProductResponse> findAll() {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.findAll");
+        try {
+            return delegate.findAll();
+        } finally {
+            record(findAll, start, span);
+        }
+    }
+
+    @Override
+    public List<ProductResponse> findAllById(List<ProductId> ids) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.findAllById");
+        try {
+            return delegate.findAllById(ids);
+        } finally {
+            record(findAllById, start, span);
+        }
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.findVersion");
+        try {
+            return delegate.findVersion(id);
+        } finally {
+            record(findVersion, start, span);
+        }
+    }
+
+    @Override
+    public List<ProductVersion> findAllVersions() {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.findAllVersions");
+        try {
+            return delegate.findAllVersions();
+        } finally {
+            record(findAllVersions, start, span);
+        }
+    }
+
+    @Override
+    public List<ProductVersion> findVersionsById(List<ProductId> ids) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductReadModel.findVersionsById");
+        try {
+            return delegate.findVersionsById(ids);
+        } finally {
+            record(findVersionsById, start, span);
+        }
+    }
+
+    private static void record(Timer timer, long start, Span span) {
+        long elapsed = System.nanoTime() - start;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        RequestTimings.addDb(elapsed);
+        ChildSpans.end(span);
+    }
+}
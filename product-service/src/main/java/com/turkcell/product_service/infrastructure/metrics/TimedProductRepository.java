@@ -0,0 +1,119 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.infrastructure.repositories.ProductRepositoryImpl;
+import com.turkcell.product_service.infrastructure.tracing.ChildSpans;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+
+/**
+ * Times every ProductRepository call, counts it as database time of the
+ * current request and, for sampled traces, records it as a child span.
+ */
+@Component
+@Primary
+public class TimedProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final ChildSpans spans;
+    private final Timer save;
+    private final Timer findById;
+    private final Timer findAll;
+    private final Timer deleteById;
+    private final Timer existsById;
+    private final Timer findByNameContaining;
+
+    public TimedProductRepository(ProductRepositoryImpl delegate, ProductMetrics metrics, ChildSpans spans) {
+        this.delegate = delegate;
+        this.spans = spans;
+        this.save = metrics.timer("product.repository", "method", "save");
+        this.findById = metrics.timer("product.repository", "method", "findById");
+        this.findAll = metrics.timer("product.repository", "method", "findAll");
+        this.deleteById = metrics.timer("product.repository", "method", "deleteById");
+        this.existsById = metrics.timer("product.repository", "method", "existsById");
+        this.findByNameContaining = metrics.timer("product.repository", "method", "findByNameContaining");
+    }
+
+    @Override
+    public Product save(Product product) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductRepository.save");
+        try {
+            return delegate.save(product);
+        } finally {
+            record(save, start, span);
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductRepository.findById");
+        try {
+            return delegate.findById(id);
+        } finally {
+            record(findById, start, span);
+        }
+    }
+
+    @Override
+    public List<Product> findAll() {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductRepository.findAll");
+        try {
+            return delegate.findAll();
+        } finally {
+            record(findAll, start, span);
+        }
+    }
+
+    @Override
+    public boolean deleteById(ProductId id) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductRepository.deleteById");
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            record(deleteById, start, span);
+        }
+    }
+
+    @Override
+    public boolean existsById(ProductId id) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductRepository.existsById");
+        try {
+            return delegate.existsById(id);
+        } finally {
+            record(existsById, start, span);
+        }
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        long start = System.nanoTime();
+        Span span = spans.start("ProductRepository.findByNameContaining");
+        try {
+            return delegate.findByNameContaining(name);
+        } finally {
+            record(findByNameContaining, start, span);
+        }
+    }
+
+    private static void record(Timer timer, long start, Span span) {
+        long elapsed = System.nanoTime() - start;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        RequestTimings.addDb(elapsed);
+        ChildSpans.end(span);
+    }
+}
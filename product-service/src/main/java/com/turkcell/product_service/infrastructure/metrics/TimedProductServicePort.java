@@ -0,0 +1,192 @@
+package com.turkcell.product_service.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchRequest;
+import com.turkcell.product_service.application.dtos.ProductVersionList;
+import com.turkcell.product_service.application.dtos.UpdateProductRequest;
+import com.turkcell.product_service.application.ports.ProductServicePort;
+import com.turkcell.product_service.application.services.ProductService;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every use case by outcome and attributes the time not spent in the
+ * database to mapping. Methods are written out instead of going through a
+ * shared lambda so that the happy path does not allocate.
+ */
+@Component
+@Primary
+public class TimedProductServicePort implements ProductServicePort {
+
+    private final ProductServicePort delegate;
+    private final Timer[] createProduct;
+    private final Timer[] getProductById;
+    private final Timer[] getProductVersion;
+    private final Timer[] getAllProducts;
+    private final Timer[] getAllProductVersions;
+    private final Timer[] searchProducts;
+    private final Timer[] searchProductVersions;
+    private final Timer[] updateProduct;
+    private final Timer[] deleteProduct;
+
+    public TimedProductServicePort(ProductService delegate, ProductMetrics metrics) {
+        this.delegate = delegate;
+        this.createProduct = metrics.useCaseTimers("createProduct");
+        this.getProductById = metrics.useCaseTimers("getProductById");
+        this.getProductVersion = metrics.useCaseTimers("getProductVersion");
+        this.getAllProducts = metrics.useCaseTimers("getAllProducts");
+        this.getAllProductVersions = metrics.useCaseTimers("getAllProductVersions");
+        this.searchProducts = metrics.useCaseTimers("searchProducts");
+        this.searchProductVersions = metrics.useCaseTimers("searchProductVersions");
+        this.updateProduct = metrics.useCaseTimers("updateProduct");
+        this.deleteProduct = metrics.useCaseTimers("deleteProduct");
+    }
+
+    @Override
+    public ProductResponse createProduct(CreateProductRequest request) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.createProduct(request);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(createProduct, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public ProductResponse getProductById(String id) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.getProductById(id);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(getProductById, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public long getProductVersion(String id) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.getProductVersion(id);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(getProductVersion, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public ProductListResponse getAllProducts() {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.getAllProducts();
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(getAllProducts, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public ProductVersionList getAllProductVersions() {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.getAllProductVersions();
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(getAllProductVersions, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public ProductListResponse searchProducts(ProductSearchRequest request) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.searchProducts(request);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(searchProducts, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public ProductVersionList searchProductVersions(ProductSearchRequest request) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.searchProductVersions(request);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(searchProductVersions, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public ProductResponse updateProduct(String id, UpdateProductRequest request, Long expectedVersion) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            return delegate.updateProduct(id, request, expectedVersion);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(updateProduct, outcome, start, dbStart);
+        }
+    }
+
+    @Override
+    public void deleteProduct(String id) {
+        long start = System.nanoTime();
+        long dbStart = RequestTimings.dbNanos();
+        ProductMetrics.Outcome outcome = ProductMetrics.Outcome.SUCCESS;
+        try {
+            delegate.deleteProduct(id);
+        } catch (RuntimeException e) {
+            outcome = ProductMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            record(deleteProduct, outcome, start, dbStart);
+        }
+    }
+
+    private static void record(Timer[] timers, ProductMetrics.Outcome outcome, long start, long dbStart) {
+        long elapsed = System.nanoTime() - start;
+        timers[outcome.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+        RequestTimings.useCaseCompleted(outcome, elapsed - (RequestTimings.dbNanos() - dbStart));
+    }
+}
@@ -0,0 +1,230 @@
+package com.turkcell.product_service.infrastructure.readmodel;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductReadModel;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of ProductReadModel.
+ * Keeps one flat {@code product_view} row per product and maps rows directly
+ * to ProductResponse, bypassing the persistence context and the domain model.
+ * Writes join the caller's transaction, so the projection commits or rolls
+ * back together with the aggregate. Version lookups are answered from the
+ * {@code (id, version)} index alone, without touching the description.
+ */
+@Repository
+@DependsOn("entityManagerFactory")
+public class JdbcProductReadModel implements ProductReadModel, InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcProductReadModel.class);
+
+    private static final String COLUMNS = "id, name, description, price_amount, price_currency, stock_quantity, version";
+
+    private static final RowMapper<ProductResponse> ROW_MAPPER = (rs, rowNum) -> new ProductResponse(
+            rs.getString(1),
+            rs.getString(2),
+            rs.getString(3),
+            new PriceDto(rs.getBigDecimal(4), rs.getString(5)),
+            new StockDto(rs.getInt(6)),
+            rs.getLong(7));
+
+    private static final RowMapper<ProductVersion> VERSION_MAPPER = (rs, rowNum) -> new ProductVersion(
+            rs.getString(1),
+            rs.getLong(2));
+
+    private final JdbcClient jdbcClient;
+
+    public JdbcProductReadModel(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Creates the view table if needed and backfills products written before
+     * the read model existed. Runs after Hibernate has created its schema.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        jdbcClient.sql("""
+                CREATE TABLE IF NOT EXISTS product_view (
+                    id UUID PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    description VARCHAR(2000),
+                    price_amount NUMERIC(19, 2) NOT NULL,
+                    price_currency VARCHAR(3) NOT NULL,
+                    stock_quantity INTEGER NOT NULL,
+                    version BIGINT DEFAULT 0 NOT NULL)""").update();
+        addVersionColumn();
+        jdbcClient.sql("CREATE INDEX IF NOT EXISTS ix_product_view_id_version ON product_view (id, version)").update();
+        try {
+            int backfilled = jdbcClient.sql("INSERT INTO product_view (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM products p WHERE NOT EXISTS (SELECT 1 FROM product_view v WHERE v.id = p.id)")
+                    .update();
+            if (backfilled > 0) {
+                log.info("Backfilled {} products into product_view", backfilled);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not backfill product_view from products: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the version column to a product_view created before it existed and
+     * copies the versions over from products.
+     */
+    private void addVersionColumn() {
+        Integer columns = jdbcClient.sql("""
+                SELECT COUNT(*) FROM information_schema.columns
+                WHERE LOWER(table_name) = 'product_view' AND LOWER(column_name) = 'version'""")
+                .query(Integer.class)
+                .single();
+        if (columns > 0) {
+            return;
+        }
+        jdbcClient.sql("ALTER TABLE product_view ADD COLUMN version BIGINT DEFAULT 0 NOT NULL").update();
+        int updated = jdbcClient.sql("""
+                UPDATE product_view SET version = (SELECT p.version FROM products p WHERE p.id = product_view.id)
+                WHERE EXISTS (SELECT 1 FROM products p WHERE p.id = product_view.id)""")
+                .update();
+        log.info("Added the version column to product_view for {} products", updated);
+    }
+
+    @Override
+    public void project(Product product) {
+        int updated = jdbcClient.sql("""
+                UPDATE product_view
+                SET name = ?, description = ?, price_amount = ?, price_currency = ?, stock_quantity = ?, version = ?
+                WHERE id = ?""")
+                .param(product.getName().getValue())
+                .param(product.getDescription().getValue())
+                .param(product.getPrice().getAmount())
+                .param(product.getPrice().getCurrency().getCode())
+                .param(product.getStock().getQuantity())
+                .param(product.getVersion())
+                .param(product.getId().getValue())
+                .update();
+        if (updated == 0) {
+            jdbcClient.sql("INSERT INTO product_view (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)")
+                    .param(product.getId().getValue())
+                    .param(product.getName().getValue())
+                    .param(product.getDescription().getValue())
+                    .param(product.getPrice().getAmount())
+                    .param(product.getPrice().getCurrency().getCode())
+                    .param(product.getStock().getQuantity())
+                    .param(product.getVersion())
+                    .update();
+        }
+    }
+
+    @Override
+    public void remove(ProductId id) {
+        jdbcClient.sql("DELETE FROM product_view WHERE id = ?")
+                .param(id.getValue())
+                .update();
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(ProductId id) {
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM product_view WHERE id = ?")
+                .param(id.getValue())
+                .query(ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public List<ProductResponse> findAll() {
+        // Sabit sıra: aynı içerik aynı liste ETag'ini verir (bkz. findAllVersions)
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM product_view ORDER BY id")
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<ProductResponse> findAllById(List<ProductId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> values = new ArrayList<>(ids.size());
+        for (ProductId id : ids) {
+            values.add(id.getValue());
+        }
+        Map<String, ProductResponse> byId = new HashMap<>();
+        for (ProductResponse response : jdbcClient.sql("SELECT " + COLUMNS + " FROM product_view WHERE id IN (:ids)")
+                .param("ids", values)
+                .query(ROW_MAPPER)
+                .list()) {
+            byId.put(response.id(), response);
+        }
+        // IN sorgusu sıra garanti etmez, katalogun verdiği sıraya geri dönülür
+        List<ProductResponse> ordered = new ArrayList<>(byId.size());
+        for (ProductId id : ids) {
+            ProductResponse response = byId.get(id.toString());
+            if (response != null) {
+                ordered.add(response);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        return jdbcClient.sql("SELECT version FROM product_view WHERE id = ?")
+                .param(id.getValue())
+                .query(Long.class)
+                .optional()
+                .map(OptionalLong::of)
+                .orElse(OptionalLong.empty());
+    }
+
+    @Override
+    public List<ProductVersion> findAllVersions() {
+        return jdbcClient.sql("SELECT id, version FROM product_view ORDER BY id")
+                .query(VERSION_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<ProductVersion> findVersionsById(List<ProductId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> values = new ArrayList<>(ids.size());
+        for (ProductId id : ids) {
+            values.add(id.getValue());
+        }
+        Map<String, ProductVersion> byId = new HashMap<>();
+        for (ProductVersion version : jdbcClient.sql("SELECT id, version FROM product_view WHERE id IN (:ids)")
+                .param("ids", values)
+                .query(VERSION_MAPPER)
+                .list()) {
+            byId.put(version.id(), version);
+        }
+        List<ProductVersion> ordered = new ArrayList<>(byId.size());
+        for (ProductId id : ids) {
+            ProductVersion version = byId.get(id.toString());
+            if (version != null) {
+                ordered.add(version);
+            }
+        }
+        return ordered;
+    }
+}
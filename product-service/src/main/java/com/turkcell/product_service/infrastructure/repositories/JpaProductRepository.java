@@ -2,6 +2,9 @@ package com.turkcell.product_service.infrastructure.repositories;
 
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +20,13 @@ public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID>
      * Finds products by name containing the given string (case-insensitive).
      */
     List<ProductEntity> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Deletes a product with a single statement, without loading it first.
+     *
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("delete from ProductEntity p where p.id = :id")
+    int deleteDirectlyById(@Param("id") UUID id);
 }
@@ -5,7 +5,9 @@ import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.domain.valueobjects.ProductId;
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
 import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,10 +27,26 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
+    @Transactional
     public Product save(Product product) {
-        ProductEntity entity = ProductMapper.toEntity(product);
-        ProductEntity savedEntity = jpaRepository.save(entity);
-        return ProductMapper.toDomain(savedEntity);
+        ProductEntity entity;
+        if (product.getVersion() == null) {
+            // Null @Version makes Spring Data persist instead of merge
+            entity = jpaRepository.save(ProductMapper.toEntity(product));
+        } else {
+            // Usually already in the persistence context from the read that
+            // produced the aggregate, so this does not hit the database
+            entity = jpaRepository.findById(product.getId().getValue())
+                    .orElseThrow(() -> new ObjectOptimisticLockingFailureException(
+                            ProductEntity.class, product.getId().getValue()));
+            if (!entity.getVersion().equals(product.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(ProductEntity.class, product.getId().getValue());
+            }
+            ProductMapper.copyToEntity(product, entity);
+        }
+        // Flush so the returned aggregate carries the incremented version
+        jpaRepository.flush();
+        return ProductMapper.toDomain(entity);
     }
 
     @Override
@@ -45,8 +63,9 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public void deleteById(ProductId id) {
-        jpaRepository.deleteById(id.getValue());
+    @Transactional
+    public boolean deleteById(ProductId id) {
+        return jpaRepository.deleteDirectlyById(id.getValue()) > 0;
     }
 
     @Override
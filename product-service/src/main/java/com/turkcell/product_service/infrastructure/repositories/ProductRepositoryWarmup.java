@@ -0,0 +1,51 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.turkcell.product_service.application.dtos.ProductSort;
+import com.turkcell.product_service.application.ports.ProductCatalog;
+import com.turkcell.product_service.application.ports.ProductSearchCriteria;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.infrastructure.warmup.WarmupTask;
+
+/**
+ * Loads sample products through Hibernate and ProductMapper, the way updates
+ * and deletes read the aggregate, in read-only transactions so nothing is
+ * flushed.
+ */
+@Component
+class ProductRepositoryWarmup implements WarmupTask {
+
+    private static final int SAMPLE_SIZE = 50;
+
+    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
+    private final TransactionTemplate readOnly;
+    private List<ProductId> sampleIds;
+
+    ProductRepositoryWarmup(ProductRepository productRepository, ProductCatalog productCatalog,
+            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productCatalog = productCatalog;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public void run(int iteration) {
+        if (sampleIds == null) {
+            sampleIds = productCatalog.search(new ProductSearchCriteria(null, 0, Long.MAX_VALUE, false,
+                    ProductSort.STOCK_DESC, SAMPLE_SIZE)).productIds();
+        }
+        ProductId id = sampleIds.isEmpty() ? ProductId.create() : sampleIds.get(iteration % sampleIds.size());
+        readOnly.executeWithoutResult(status -> {
+            productRepository.findById(id);
+            productRepository.existsById(id);
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.turkcell.product_service.infrastructure.reservations;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.turkcell.product_service.domain.entities.StockReservation;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+
+/**
+ * Write-behind persistence of active reservations in
+ * {@code stock_reservations}, so holds survive a restart.
+ * Changes are collected per reservation and written in batches on a fixed
+ * delay; a hold that is confirmed, released or expired before the next flush
+ * never reaches the database at all.
+ */
+@Repository
+public class JdbcReservationStore implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcReservationStore.class);
+
+    // Bekleyen değişiklik: StockReservation yazılacak, REMOVED silinecek
+    private static final Object REMOVED = new Object();
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<UUID, Object> pending = new ConcurrentHashMap<>();
+
+    public JdbcReservationStore(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcClient.sql("""
+                CREATE TABLE IF NOT EXISTS stock_reservations (
+                    id UUID PRIMARY KEY,
+                    product_id UUID NOT NULL,
+                    quantity INTEGER NOT NULL,
+                    expires_at TIMESTAMP NOT NULL)""").update();
+    }
+
+    void saved(StockReservation reservation) {
+        pending.put(reservation.getId().getValue(), reservation);
+    }
+
+    void removed(ReservationId id) {
+        // Henüz yazılmamış bir kayıt için iki değişiklik de düşer
+        pending.compute(id.getValue(), (key, change) -> change == null ? REMOVED : null);
+    }
+
+    /**
+     * Drops expired rows and returns the reservations that are still active.
+     */
+    List<StockReservation> loadActive(Instant now) {
+        int expired = jdbcClient.sql("DELETE FROM stock_reservations WHERE expires_at <= ?")
+                .param(Timestamp.from(now))
+                .update();
+        if (expired > 0) {
+            log.info("Dropped {} reservations that expired while the service was down", expired);
+        }
+        return jdbcClient.sql("SELECT id, product_id, quantity, expires_at FROM stock_reservations")
+                .query((rs, rowNum) -> StockReservation.reconstitute(
+                        ReservationId.of(rs.getObject(1, UUID.class)),
+                        ProductId.of(rs.getObject(2, UUID.class)),
+                        rs.getInt(3),
+                        rs.getTimestamp(4).toInstant()))
+                .list();
+    }
+
+    @Scheduled(fixedDelayString = "${reservations.write-behind.flush-interval:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<StockReservation> inserts = new ArrayList<>();
+        List<UUID> deletes = new ArrayList<>();
+        for (UUID id : pending.keySet()) {
+            Object change = pending.remove(id);
+            if (change instanceof StockReservation reservation) {
+                inserts.add(reservation);
+            } else if (change == REMOVED) {
+                deletes.add(id);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO stock_reservations (id, product_id, quantity, expires_at) VALUES (?, ?, ?, ?)",
+                        inserts, inserts.size(), (ps, reservation) -> {
+                            ps.setObject(1, reservation.getId().getValue());
+                            ps.setObject(2, reservation.getProductId().getValue());
+                            ps.setInt(3, reservation.getQuantity());
+                            ps.setTimestamp(4, Timestamp.from(reservation.getExpiresAt()));
+                        });
+            } catch (DataAccessException e) {
+                log.warn("Could not write {} reservations, retrying: {}", inserts.size(), e.getMessage());
+                for (StockReservation reservation : inserts) {
+                    requeue(reservation.getId().getValue(), reservation);
+                }
+            }
+        }
+        if (!deletes.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate("DELETE FROM stock_reservations WHERE id = ?",
+                        deletes, deletes.size(), (ps, id) -> ps.setObject(1, id));
+            } catch (DataAccessException e) {
+                log.warn("Could not delete {} reservations, retrying: {}", deletes.size(), e.getMessage());
+                for (UUID id : deletes) {
+                    requeue(id, REMOVED);
+                }
+            }
+        }
+    }
+
+    private void requeue(UUID id, Object change) {
+        // Bu arada gelen daha yeni bir değişiklik varsa o geçerlidir
+        pending.compute(id, (key, newer) -> {
+            if (newer == null) {
+                return change;
+            }
+            return change instanceof StockReservation && newer == REMOVED ? null : newer;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,89 @@
+package com.turkcell.product_service.infrastructure.reservations;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes sure only one product-service instance runs the reservation ledger.
+ * StripedReservationLedger keeps holds in memory, so a second instance would
+ * neither see the first one's holds when admitting new ones nor find them when
+ * asked to confirm or release; two instances would sell the same stock.
+ * <p>
+ * Ownership is a PostgreSQL session-level advisory lock taken on a connection
+ * kept open for the lifetime of the instance. The database drops the lock as
+ * soon as that session ends, so a crashed owner never blocks a replacement.
+ * Starting a second instance against the same database fails instead of
+ * silently splitting the ledger; scaling out needs the holds moved into the
+ * database first.
+ */
+@Component
+public class ReservationLedgerLease implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationLedgerLease.class);
+
+    private final DataSource dataSource;
+    private final long lockKey;
+    private Connection connection;
+
+    public ReservationLedgerLease(DataSource dataSource,
+            @Value("${reservations.single-instance.lock-key:7370041}") long lockKey) {
+        this.dataSource = dataSource;
+        this.lockKey = lockKey;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        Connection candidate = dataSource.getConnection();
+        try {
+            String database = candidate.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equals(database)) {
+                // Gömülü veritabanında (testler) tek instance zaten garanti
+                log.warn("Reservation ledger ownership is not enforced on {}", database);
+                candidate.close();
+                return;
+            }
+            try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, lockKey);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    if (!rs.getBoolean(1)) {
+                        throw new IllegalStateException("Another product-service instance owns the reservation "
+                                + "ledger (advisory lock " + lockKey + "); reservations support a single instance");
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            candidate.close();
+            throw e;
+        }
+        connection = candidate;
+        log.info("Acquired reservation ledger ownership (advisory lock {})", lockKey);
+    }
+
+    @Override
+    public void destroy() {
+        if (connection == null) {
+            return;
+        }
+        // Bağlantı havuza döner ve oturum açık kalır, kilit açıkça bırakılmalı
+        try (Connection owned = connection;
+                PreparedStatement statement = owned.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, lockKey);
+            statement.execute();
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Release reservation ledger ownership", null, e);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.turkcell.product_service.infrastructure.reservations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.turkcell.product_service.application.ports.ReservationLedger;
+import com.turkcell.product_service.domain.entities.StockReservation;
+import com.turkcell.product_service.domain.exceptions.InsufficientStockException;
+import com.turkcell.product_service.domain.exceptions.ReservationNotFoundException;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory ReservationLedger.
+ * Reserved quantities are kept per product in lock stripes chosen by product
+ * ID, so holds on different products rarely contend and the availability
+ * check and the hold happen atomically. Expiry is driven by a TimingWheel
+ * ticked from a single scheduled thread instead of one scheduled task per
+ * hold; holds are persisted write-behind by JdbcReservationStore and loaded
+ * back on startup.
+ * <p>
+ * The ledger is only correct as the single owner of all holds: other
+ * instances can neither see nor confirm them. ReservationLedgerLease enforces
+ * this by refusing to start a second instance.
+ */
+@Component
+@DependsOn("reservationLedgerLease")
+public class StripedReservationLedger implements ReservationLedger {
+
+    private static final int STRIPES = 64;
+
+    private static final int ACTIVE = 0;
+    private static final int CLAIMED = 1;
+    private static final int DONE = 2;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final ConcurrentHashMap<UUID, Hold> holds = new ConcurrentHashMap<>();
+    private final TimingWheel<Hold> wheel;
+    private final JdbcReservationStore store;
+    private final Counter expired;
+
+    public StripedReservationLedger(JdbcReservationStore store, MeterRegistry meterRegistry,
+            @Value("${reservations.wheel.tick-millis:100}") long tickMillis) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.store = store;
+        this.wheel = new TimingWheel<>(tickMillis, System.currentTimeMillis());
+        this.expired = Counter.builder("product.reservations.expired")
+                .description("Reservations that lapsed without being confirmed or released")
+                .register(meterRegistry);
+        Gauge.builder("product.reservations.active", holds, Map::size)
+                .description("Reservations currently holding stock")
+                .register(meterRegistry);
+
+        for (StockReservation reservation : store.loadActive(Instant.now())) {
+            Hold hold = new Hold(reservation);
+            Stripe stripe = stripeOf(reservation.getProductId());
+            stripe.add(reservation.getProductId().getValue(), reservation.getQuantity());
+            holds.put(reservation.getId().getValue(), hold);
+            wheel.schedule(hold);
+        }
+    }
+
+    @Override
+    public StockReservation hold(ProductId productId, int quantity, Supplier<Stock> stock, Duration ttl) {
+        StockReservation reservation = StockReservation.create(productId, quantity, Instant.now().plus(ttl));
+        Hold hold = new Hold(reservation);
+        Stripe stripe = stripeOf(productId);
+        stripe.lock.lock();
+        try {
+            // Stok kilit altında okunur: kilitten önce okunursa, araya giren bir onay hem stoğu düşürüp
+            // hem de rezervasyonunu bırakabilir ve aynı miktar iki kez satılır
+            Stock available = stripe.restricted(productId.getValue(), stock.get());
+            int reserved = stripe.reserved(productId.getValue());
+            if (!available.hasAtLeast(quantity, reserved)) {
+                throw new InsufficientStockException(available.available(reserved), quantity);
+            }
+            stripe.add(productId.getValue(), quantity);
+            holds.put(reservation.getId().getValue(), hold);
+        } finally {
+            stripe.lock.unlock();
+        }
+        wheel.schedule(hold);
+        store.saved(reservation);
+        return reservation;
+    }
+
+    @Override
+    public void restrictStock(ProductId productId, Stock stock) {
+        UUID id = productId.getValue();
+        Stripe stripe = stripeOf(productId);
+        stripe.lock.lock();
+        try {
+            int reserved = stripe.reserved(id);
+            if (!stock.hasAtLeast(reserved)) {
+                throw new InsufficientStockException(String.format(
+                        "Stock cannot be set to %d while %d is reserved", stock.getQuantity(), reserved));
+            }
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return;
+            }
+            stripe.restrict(id, stock.getQuantity());
+        } finally {
+            stripe.lock.unlock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.lock.lock();
+                try {
+                    stripe.unrestrict(id, stock.getQuantity());
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        });
+    }
+
+    @Override
+    public int reservedQuantity(ProductId productId) {
+        Stripe stripe = stripeOf(productId);
+        stripe.lock.lock();
+        try {
+            return stripe.reserved(productId.getValue());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public StockReservation claim(ReservationId id) {
+        Hold hold = holds.get(id.getValue());
+        if (hold == null || !transition(hold, ACTIVE, CLAIMED)) {
+            throw new ReservationNotFoundException(id);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        finish(hold, CLAIMED);
+                    } else {
+                        unclaim(hold);
+                    }
+                }
+            });
+        } else {
+            finish(hold, CLAIMED);
+        }
+        return hold.reservation;
+    }
+
+    @Override
+    public boolean release(ReservationId id) {
+        Hold hold = holds.get(id.getValue());
+        return hold != null && finish(hold, ACTIVE);
+    }
+
+    @Scheduled(fixedRateString = "${reservations.wheel.tick-millis:100}")
+    public void expireDue() {
+        wheel.advance(System.currentTimeMillis(), this::expire);
+    }
+
+    private void expire(Hold hold) {
+        // Onaylanmakta olan rezervasyon atlanır, rollback olursa unclaim süreyi yeniden kontrol eder
+        if (finish(hold, ACTIVE)) {
+            expired.increment();
+        }
+    }
+
+    private void unclaim(Hold hold) {
+        transition(hold, CLAIMED, ACTIVE);
+        if (hold.deadlineMillis() <= System.currentTimeMillis()) {
+            expire(hold);
+        }
+    }
+
+    private boolean transition(Hold hold, int from, int to) {
+        Stripe stripe = stripeOf(hold.reservation.getProductId());
+        stripe.lock.lock();
+        try {
+            if (hold.state != from) {
+                return false;
+            }
+            hold.state = to;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private boolean finish(Hold hold, int from) {
+        StockReservation reservation = hold.reservation;
+        Stripe stripe = stripeOf(reservation.getProductId());
+        stripe.lock.lock();
+        try {
+            if (hold.state != from) {
+                return false;
+            }
+            hold.state = DONE;
+            stripe.add(reservation.getProductId().getValue(), -reservation.getQuantity());
+        } finally {
+            stripe.lock.unlock();
+        }
+        holds.remove(reservation.getId().getValue());
+        store.removed(reservation.getId());
+        return true;
+    }
+
+    private Stripe stripeOf(ProductId productId) {
+        int hash = productId.getValue().hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * Reserved quantity per product of one stripe, and the stock levels of
+     * uncommitted stock updates, guarded by its lock.
+     */
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, int[]> reservedByProduct = new HashMap<>();
+        private final Map<UUID, List<Integer>> pendingStock = new HashMap<>();
+
+        Stock restricted(UUID productId, Stock committed) {
+            List<Integer> pending = pendingStock.get(productId);
+            if (pending == null) {
+                return committed;
+            }
+            int quantity = committed.getQuantity();
+            for (int level : pending) {
+                quantity = Math.min(quantity, level);
+            }
+            return Stock.of(quantity);
+        }
+
+        void restrict(UUID productId, int quantity) {
+            pendingStock.computeIfAbsent(productId, id -> new ArrayList<>(1)).add(quantity);
+        }
+
+        void unrestrict(UUID productId, int quantity) {
+            List<Integer> pending = pendingStock.get(productId);
+            pending.remove(Integer.valueOf(quantity));
+            if (pending.isEmpty()) {
+                pendingStock.remove(productId);
+            }
+        }
+
+        int reserved(UUID productId) {
+            int[] reserved = reservedByProduct.get(productId);
+            return reserved != null ? reserved[0] : 0;
+        }
+
+        void add(UUID productId, int delta) {
+            int[] reserved = reservedByProduct.computeIfAbsent(productId, id -> new int[1]);
+            reserved[0] += delta;
+            if (reserved[0] == 0) {
+                reservedByProduct.remove(productId);
+            }
+        }
+    }
+
+    /**
+     * A reservation as tracked by the ledger; its state is guarded by the lock
+     * of the product's stripe.
+     */
+    private static final class Hold extends TimingWheel.Timeout {
+
+        private final StockReservation reservation;
+        private int state = ACTIVE;
+
+        Hold(StockReservation reservation) {
+            super(reservation.getExpiresAt().toEpochMilli());
+            this.reservation = reservation;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.turkcell.product_service.infrastructure.reservations;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: four levels of 64 slots, each level ticking 64
+ * times slower than the one below. A timeout is put in the slot of the
+ * coarsest level that still separates it from the current tick and moves down
+ * a level every time that slot comes round, so scheduling and expiring are
+ * O(1) no matter how many timeouts are pending. With 100 ms ticks the wheel
+ * spans about 19 days; later deadlines wait in the top level and are placed
+ * again when it wraps.
+ * <p>
+ * Any thread may schedule; timeouts are handed over through a queue and
+ * placed by the single thread that calls {@link #advance}. Timeouts cannot be
+ * cancelled, the expiry callback is expected to ignore ones that no longer
+ * matter.
+ *
+ * @param <T> the timeout type
+ */
+public final class TimingWheel<T extends TimingWheel.Timeout> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private final ConcurrentLinkedQueue<T> scheduled = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis  the resolution of the wheel
+     * @param startMillis the time of tick zero
+     */
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * Schedules a timeout. Safe to call from any thread.
+     */
+    public void schedule(T timeout) {
+        scheduled.add(timeout);
+    }
+
+    /**
+     * Moves the wheel up to the given time and hands every timeout whose
+     * deadline has passed to the callback. Must only be called by one thread
+     * at a time.
+     *
+     * @param nowMillis the current time
+     * @param expired   receives the expired timeouts
+     */
+    public void advance(long nowMillis, Consumer<? super T> expired) {
+        T timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            place(timeout, expired);
+        }
+
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    // Üst seviyedeki dilim sırası geldi, içindekiler alt seviyelere dağıtılır
+                    cascade(level, (int) (currentTick >>> shift) & SLOT_MASK, expired);
+                }
+            }
+            cascade(0, (int) currentTick & SLOT_MASK, expired);
+        }
+    }
+
+    private void cascade(int level, int slot, Consumer<? super T> expired) {
+        Timeout head = slots[level][slot];
+        slots[level][slot] = null;
+        while (head != null) {
+            Timeout next = head.next;
+            head.next = null;
+            place(cast(head), expired);
+            head = next;
+        }
+    }
+
+    private void place(T timeout, Consumer<? super T> expired) {
+        long deadlineTick = Math.ceilDiv(timeout.deadlineMillis() - startMillis, tickMillis);
+        if (deadlineTick <= currentTick) {
+            expired.accept(timeout);
+            return;
+        }
+        long target = Math.min(deadlineTick, currentTick + MAX_SPAN);
+        int level = 0;
+        while (level < LEVELS - 1
+                && (target >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) (target >>> (SLOT_BITS * level)) & SLOT_MASK;
+        Timeout node = timeout;
+        node.next = slots[level][slot];
+        slots[level][slot] = node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(Timeout timeout) {
+        return (T) timeout;
+    }
+
+    /**
+     * Base class of everything the wheel can time out. The wheel links pending
+     * timeouts through {@link #next}, so slots need no collections.
+     */
+    public abstract static class Timeout {
+
+        private final long deadlineMillis;
+        private Timeout next;
+
+        protected Timeout(long deadlineMillis) {
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.turkcell.product_service.infrastructure.tracing;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Starts leaf spans under the current span, but only when the current trace
+ * is sampled, so that unsampled requests pay nothing beyond a lookup.
+ */
+@Component
+public class ChildSpans {
+
+    private final Tracer tracer;
+
+    public ChildSpans(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * @return the started span, or null when there is no sampled parent
+     */
+    public Span start(String name) {
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return null;
+        }
+        return tracer.nextSpan(parent).name(name).start();
+    }
+
+    public static void end(Span span) {
+        if (span != null) {
+            span.end();
+        }
+    }
+}
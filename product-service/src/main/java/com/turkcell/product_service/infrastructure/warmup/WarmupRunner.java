@@ -0,0 +1,135 @@
+package com.turkcell.product_service.infrastructure.warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.turkcell.product_service.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Warms the instance up before it takes traffic. The instance registers with
+ * Eureka as STARTING ({@code eureka.instance.initial-status}); once the
+ * application is ready this fills the connection pools, the read replicas'
+ * included, runs every WarmupTask until {@code warmup.iterations} or
+ * {@code warmup.max-duration} is reached, whichever comes first, and only
+ * then reports UP. Readiness is
+ * held back for the same time, since the listener runs on the startup
+ * thread. A failing task is logged and skipped, it never keeps the instance
+ * out of service.
+ */
+@Component
+public class WarmupRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final List<WarmupTask> tasks;
+    private final ObjectProvider<HikariDataSource> pools;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration maxDuration;
+    private final AtomicLong warmupNanos = new AtomicLong();
+    private final AtomicLong completedIterations = new AtomicLong();
+
+    public WarmupRunner(List<WarmupTask> tasks, ObjectProvider<HikariDataSource> pools,
+            ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager, MeterRegistry meterRegistry,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.iterations:1000}") int iterations,
+            @Value("${warmup.max-duration:30s}") Duration maxDuration) {
+        this.tasks = tasks;
+        this.pools = pools;
+        this.replicaRouting = replicaRouting;
+        this.applicationInfoManager = applicationInfoManager;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+        TimeGauge.builder("application.warmup.time", warmupNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .description("Time spent warming up before reporting UP to Eureka")
+                .register(meterRegistry);
+        Gauge.builder("application.warmup.iterations", completedIterations, AtomicLong::get)
+                .description("Warm-up iterations completed before reporting UP to Eureka")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (enabled) {
+            warmUp();
+        }
+        applicationInfoManager.ifAvailable(manager -> manager.setInstanceStatus(InstanceStatus.UP));
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        pools.orderedStream().forEach(WarmupRunner::fillPool);
+        // Replika havuzları bean değil, yönlendirici üzerinden doldurulur
+        replicaRouting.ifAvailable(routing -> routing.replicaPools().forEach(WarmupRunner::fillPool));
+
+        List<WarmupTask> active = new ArrayList<>(tasks);
+        int iteration = 0;
+        while (iteration < iterations && !active.isEmpty() && System.nanoTime() < deadline) {
+            for (int i = 0; i < active.size(); i++) {
+                WarmupTask task = active.get(i);
+                try {
+                    task.run(iteration);
+                } catch (RuntimeException e) {
+                    // Bozuk bir görev diğerlerini ve UP bildirimini bekletmesin
+                    log.warn("Warm-up task {} failed, skipping it", task.getClass().getSimpleName(), e);
+                    active.remove(i--);
+                }
+            }
+            iteration++;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        warmupNanos.set(elapsed);
+        completedIterations.set(iteration);
+        log.info("Warmed up with {} iterations of {} tasks in {} ms", iteration, tasks.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Opens the pool's idle connections up front instead of on the first
+     * requests.
+     */
+    private static void fillPool(HikariDataSource pool) {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < pool.getMinimumIdle(); i++) {
+                connections.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("Could not fill connection pool {}", pool.getPoolName(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Could not return a warm-up connection to {}", pool.getPoolName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.turkcell.product_service.infrastructure.warmup;
+
+/**
+ * A piece of representative work run repeatedly by WarmupRunner before the
+ * instance reports UP to Eureka. Tasks must only read: anything they write
+ * would reach the database and other services.
+ */
+public interface WarmupTask {
+
+    /**
+     * Runs one iteration of the task.
+     *
+     * @param iteration zero-based iteration number, e.g. to rotate through
+     *                  sample products
+     */
+    void run(int iteration);
+}
@@ -0,0 +1,80 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks on a fixed number of single-threaded lanes, picking the lane by
+ * key, so tasks with the same key run one after another in submission order
+ * while different keys run in parallel. At most maxInFlight tasks are queued
+ * or running; {@link #execute} blocks the submitter beyond that, which in turn
+ * stops the Kafka consumer thread from polling more records.
+ */
+class KeyOrderedExecutor implements AutoCloseable {
+
+    private final ExecutorService[] lanes;
+    private final Semaphore permits;
+    private final int maxInFlight;
+
+    KeyOrderedExecutor(int laneCount, int maxInFlight) {
+        if (laneCount <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("Lane count and max in-flight must be positive");
+        }
+        this.lanes = new ExecutorService[laneCount];
+        AtomicInteger threadIndex = new AtomicInteger();
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-consumer-lane-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Queues a task behind earlier tasks with the same key.
+     *
+     * @param key  the ordering key
+     * @param task the task
+     * @throws InterruptedException if interrupted while waiting for capacity
+     */
+    void execute(Object key, Runnable task) throws InterruptedException {
+        permits.acquire();
+        int hash = key.hashCode();
+        ExecutorService lane = lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+        try {
+            lane.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * Stops accepting tasks and waits for the queued ones to finish.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -1,20 +1,202 @@
 package com.turkcell.product_service.messaging.consumer;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 
+import com.turkcell.event_schema.events.OrderCreatedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Consumers of order-topic and its retry topics. By default records of a
+ * partition are processed in parallel on key-ordered lanes, so throughput
+ * scales with cores rather than with the 3 partitions: events for the same
+ * product stay in order, offsets are acknowledged manually and only up to the
+ * last contiguous processed record. With
+ * {@code order-events.consumer.parallel.enabled=false} records are processed
+ * one at a time on the consumer thread.
+ * <p>
+ * A record that fails is handed to OrderEventRetryRouter and the partition
+ * moves on; the retry consumer picks it up again once its back-off is over.
+ * A record that cannot be handed over either is never committed: the
+ * sequential consumers rethrow, and the parallel one seeks the partition back
+ * to the record (see PartitionOffsetTracker) when the next record of any
+ * partition arrives, or at the latest after a restart or rebalance.
+ */
 @Configuration
 public class OrderCreatedConsumer {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderCreatedConsumer.class);
+
+    // Vadesi gelmemiş retry kaydı için tüketicinin en fazla bekletileceği süre
+    private static final long MAX_RETRY_PAUSE_MILLIS = 1000;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "order-events.consumer.parallel.enabled", havingValue = "true", matchIfMissing = true)
+    KeyOrderedExecutor orderCreatedExecutor(
+            @Value("${order-events.consumer.parallel.lanes:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int lanes,
+            @Value("${order-events.consumer.parallel.max-in-flight:1000}") int maxInFlight,
+            MeterRegistry meterRegistry) {
+        KeyOrderedExecutor executor = new KeyOrderedExecutor(lanes, maxInFlight);
+        Gauge.builder("order.event.consumer.in-flight", executor, KeyOrderedExecutor::inFlight)
+                .description("Order events queued or being processed on the consumer lanes")
+                .register(meterRegistry);
+        return executor;
+    }
+
     @Bean
-    public Consumer<OrderCreatedEvent> orderCreated() {
-        return event -> {
-            System.out.println("Order created: " + event.productId());
+    public Consumer<Message<byte[]>> orderCreated(OrderCreatedHandler handler, OrderEventRetryRouter retryRouter,
+            ObjectProvider<KeyOrderedExecutor> orderCreatedExecutor) {
+        KeyOrderedExecutor executor = orderCreatedExecutor.getIfAvailable();
+        if (executor == null) {
+            return message -> {
+                process(handler, retryRouter, message);
+                acknowledgment(message.getHeaders()).ifPresent(Acknowledgment::acknowledge);
+            };
+        }
+
+        PartitionOffsetTracker offsets = new PartitionOffsetTracker();
+        return message -> {
+            MessageHeaders headers = message.getHeaders();
+            rewindFailedPartitions(offsets, headers);
+            PartitionOffsetTracker.Completion completion = offsets.track(
+                    headers.get(KafkaHeaders.RECEIVED_TOPIC, String.class),
+                    headers.get(KafkaHeaders.RECEIVED_PARTITION, Integer.class),
+                    headers.get(KafkaHeaders.OFFSET, Long.class),
+                    acknowledgment(headers).orElse(null));
+            if (completion == null) {
+                // Partition başarısız kayda geri sarıldı; bu kayıt oradan itibaren yeniden okunacak
+                return;
+            }
+
+            OrderCreatedEvent event;
+            try {
+                event = handler.parse(message);
+            } catch (RuntimeException e) {
+                // Okunamayan kayıt sıraya girmeden doğrudan DLT'ye gider
+                if (forward(retryRouter, message, e)) {
+                    completion.complete();
+                } else {
+                    completion.fail();
+                    rewindFailedPartitions(offsets, headers);
+                }
+                return;
+            }
+            try {
+                executor.execute(event.productId(), () -> {
+                    boolean settled = false;
+                    try {
+                        handler.handle(message, event);
+                        settled = true;
+                    } catch (RuntimeException e) {
+                        settled = forward(retryRouter, message, e);
+                    } finally {
+                        if (settled) {
+                            completion.complete();
+                        } else {
+                            completion.fail();
+                        }
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a free consumer lane", e);
+            }
         };
     }
 
-    record OrderCreatedEvent(String productId) {
+    @Bean
+    public Consumer<Message<byte[]>> orderCreatedRetry(OrderCreatedHandler handler,
+            OrderEventRetryRouter retryRouter) {
+        return message -> {
+            Optional<Acknowledgment> acknowledgment = acknowledgment(message.getHeaders());
+            long wait = OrderEventHeaders.longValue(message.getHeaders().get(OrderEventHeaders.RETRY_NOT_BEFORE))
+                    - System.currentTimeMillis();
+            if (wait > 0) {
+                if (acknowledgment.isPresent()) {
+                    // Poll döngüsü bloklanmaz: tüketici kısa süre duraklatılır ve kayıt yeniden okunur
+                    acknowledgment.get().nack(Duration.ofMillis(Math.min(wait, MAX_RETRY_PAUSE_MILLIS)));
+                    return;
+                }
+                sleep(wait);
+            }
+
+            retryRouter.taken(message);
+            process(handler, retryRouter, message);
+            acknowledgment.ifPresent(Acknowledgment::acknowledge);
+        };
+    }
+
+    private static void process(OrderCreatedHandler handler, OrderEventRetryRouter retryRouter,
+            Message<byte[]> message) {
+        try {
+            handler.handle(message, handler.parse(message));
+        } catch (RuntimeException e) {
+            retryRouter.forward(message, e);
+        }
+    }
+
+    /**
+     * @return whether the record is now in a retry topic or the DLT; if not it
+     *         must stay uncommitted
+     */
+    private static boolean forward(OrderEventRetryRouter retryRouter, Message<byte[]> message,
+            RuntimeException error) {
+        try {
+            retryRouter.forward(message, error);
+            return true;
+        } catch (RuntimeException e) {
+            MessageHeaders headers = message.getHeaders();
+            log.error("Could not move failed order event at {}-{}@{} to a retry topic; it will be redelivered",
+                    headers.get(KafkaHeaders.RECEIVED_TOPIC), headers.get(KafkaHeaders.RECEIVED_PARTITION),
+                    headers.get(KafkaHeaders.OFFSET), e);
+            return false;
+        }
+    }
+
+    /**
+     * Seeks partitions with a failed record back to it. Runs on the consumer
+     * thread, the only thread allowed to use the Kafka consumer.
+     */
+    private static void rewindFailedPartitions(PartitionOffsetTracker offsets, MessageHeaders headers) {
+        org.apache.kafka.clients.consumer.Consumer<?, ?> consumer = headers.get(KafkaHeaders.CONSUMER,
+                org.apache.kafka.clients.consumer.Consumer.class);
+        if (consumer == null) {
+            // Geri sarılamazsa başarısız kayıt bekler ve ötesi commit edilmez; restart'ta yeniden okunur
+            return;
+        }
+        for (PartitionOffsetTracker.Rewind rewind : offsets.rewinds()) {
+            log.warn("Rewinding {}-{} to failed order event at offset {}", rewind.topic(), rewind.partition(),
+                    rewind.offset());
+            consumer.seek(new TopicPartition(rewind.topic(), rewind.partition()), rewind.offset());
+        }
+    }
+
+    private static Optional<Acknowledgment> acknowledgment(MessageHeaders headers) {
+        return Optional.ofNullable(headers.get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a retry to become due", e);
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.event_schema.codec.BinaryEventMessageConverter;
+import com.turkcell.event_schema.events.OrderCreatedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Processing of a single OrderCreated event, shared by the main and the retry
+ * consumer.
+ */
+@Component
+class OrderCreatedHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCreatedHandler.class);
+
+    private final BinaryEventMessageConverter eventConverter;
+    private final JsonMapper jsonMapper;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final Timer endToEndLatency;
+
+    OrderCreatedHandler(BinaryEventMessageConverter eventConverter, JsonMapper jsonMapper, Tracer tracer,
+            Propagator propagator, MeterRegistry meterRegistry) {
+        this.eventConverter = eventConverter;
+        this.jsonMapper = jsonMapper;
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.endToEndLatency = Timer.builder("order.event.end-to-end.latency")
+                .description("Time from outbox row creation in order-service to processing here")
+                .tag("event", "OrderCreatedEvent")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the binary event format and, for records written before it, JSON.
+     *
+     * @throws IllegalArgumentException or JacksonException if the payload is
+     *                                  not an OrderCreated event
+     */
+    OrderCreatedEvent parse(Message<byte[]> message) {
+        byte[] payload = message.getPayload();
+        // Biçim içerikten anlaşılır: retry ve DLT kopyalarında contentType başlığı değişmiş olabilir
+        if (BinaryEventMessageConverter.isEncoded(payload)) {
+            return eventConverter.decode(payload, OrderCreatedEvent.class);
+        }
+        return jsonMapper.readValue(payload, OrderCreatedEvent.class);
+    }
+
+    void handle(Message<byte[]> message, OrderCreatedEvent event) {
+        // Outbox satırında saklanan traceparent, siparişi oluşturan isteğin trace'ini buraya taşır
+        Span span = propagator.extract(message, (carrier, key) -> OrderEventHeaders.text(carrier.getHeaders().get(key)))
+                .kind(Span.Kind.CONSUMER)
+                .name("order-topic receive")
+                .start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            log.info("Order created for {} of product {}", event.quantity(), event.productId());
+
+            long createdAt = OrderEventHeaders.longValue(message.getHeaders().get(OrderEventHeaders.EVENT_CREATED_AT));
+            if (createdAt > 0) {
+                endToEndLatency.record(Math.max(0, System.currentTimeMillis() - createdAt), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Failures that will not go away by trying again skip the retry topics.
+     */
+    static boolean isRetryable(Throwable error) {
+        return !(error instanceof JacksonException || error instanceof IllegalArgumentException);
+    }
+}
@@ -0,0 +1,135 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Re-injects records from the order-topic DLT into the topic they originally
+ * came from, one batch per call. Progress is kept as the committed offset of
+ * a dedicated consumer group, so every DLT record is replayed once.
+ */
+@Component
+public class OrderEventDeadLetterReplayer {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+
+    private final KafkaProperties kafkaProperties;
+    private final StreamBridge streamBridge;
+    private final String topic;
+    private final String groupId;
+    private final Counter replayed;
+    private final Function<Map<String, Object>, Consumer<byte[], byte[]>> consumerFactory;
+
+    @Autowired
+    public OrderEventDeadLetterReplayer(KafkaProperties kafkaProperties, StreamBridge streamBridge,
+            MeterRegistry meterRegistry,
+            @Value("${spring.cloud.stream.bindings.orderCreated-in-0.destination:order-topic}") String topic,
+            @Value("${spring.application.name}") String applicationName) {
+        this(kafkaProperties, streamBridge, meterRegistry, topic, applicationName, KafkaConsumer::new);
+    }
+
+    OrderEventDeadLetterReplayer(KafkaProperties kafkaProperties, StreamBridge streamBridge,
+            MeterRegistry meterRegistry, String topic, String applicationName,
+            Function<Map<String, Object>, Consumer<byte[], byte[]>> consumerFactory) {
+        this.kafkaProperties = kafkaProperties;
+        this.streamBridge = streamBridge;
+        this.topic = topic;
+        this.groupId = applicationName + "-dlt-replay";
+        this.replayed = Counter.builder("order.event.dlt.replayed")
+                .description("Order events re-injected from the dead-letter topic")
+                .register(meterRegistry);
+        this.consumerFactory = consumerFactory;
+    }
+
+    /**
+     * Replays up to batchSize of the oldest records not replayed yet.
+     *
+     * @param batchSize the maximum number of records to replay
+     * @return the result of the replay
+     */
+    public synchronized ReplayResult replay(int batchSize) {
+        String deadLetterTopic = topic + ".dlt";
+        Map<String, Object> properties = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.apply(properties)) {
+            consumer.subscribe(List.of(deadLetterTopic));
+            // İlk poll'lar grup ataması ile geçebilir, kayıt gelene veya süre dolana kadar denenir
+            ConsumerRecords<byte[], byte[]> records = ConsumerRecords.empty();
+            long deadline = System.nanoTime() + POLL_TIMEOUT.toNanos();
+            while (records.isEmpty() && System.nanoTime() < deadline) {
+                records = consumer.poll(Duration.ofMillis(500));
+            }
+
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            int count = 0;
+            for (ConsumerRecord<byte[], byte[]> record : records) {
+                String destination = originalTopic(record);
+                MessageBuilder<byte[]> builder = MessageBuilder.withPayload(record.value());
+                for (Header header : record.headers()) {
+                    if (!OrderEventHeaders.isFailureHeader(header.key())) {
+                        builder.setHeader(header.key(), header.value());
+                    }
+                }
+                if (record.key() != null) {
+                    builder.setHeader(KafkaHeaders.KEY, record.key());
+                }
+                if (!streamBridge.send(destination, builder.build())) {
+                    break;
+                }
+                offsets.put(new TopicPartition(record.topic(), record.partition()),
+                        new OffsetAndMetadata(record.offset() + 1));
+                count++;
+            }
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+            replayed.increment(count);
+            return new ReplayResult(deadLetterTopic, count);
+        }
+    }
+
+    private String originalTopic(ConsumerRecord<byte[], byte[]> record) {
+        Header header = record.headers().lastHeader(OrderEventHeaders.ORIGINAL_TOPIC);
+        String original = header != null
+                ? OrderEventHeaders.text(new String(header.value(), StandardCharsets.UTF_8))
+                : null;
+        return original != null && !original.isEmpty() ? original : topic;
+    }
+
+    /**
+     * @param topic    the dead-letter topic read from
+     * @param replayed the number of records sent back to their original topic
+     */
+    public record ReplayResult(String topic, int replayed) {
+    }
+}
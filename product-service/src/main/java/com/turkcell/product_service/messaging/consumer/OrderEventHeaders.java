@@ -0,0 +1,65 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Header names of order events and helpers to read them back, whichever way
+ * the Kafka header mapper delivered the value.
+ */
+final class OrderEventHeaders {
+
+    // order-service outbox relayer'ı tarafından eklenir (epoch ms)
+    static final String EVENT_CREATED_AT = "x-event-created-at";
+
+    static final String RETRY_ATTEMPT = "x-retry-attempt";
+    static final String RETRY_NOT_BEFORE = "x-retry-not-before";
+    static final String ORIGINAL_TOPIC = "x-original-topic";
+    static final String ORIGINAL_PARTITION = "x-original-partition";
+    static final String ORIGINAL_OFFSET = "x-original-offset";
+    static final String EXCEPTION_CLASS = "x-exception-class";
+    static final String EXCEPTION_MESSAGE = "x-exception-message";
+    static final String FAILED_AT = "x-failed-at";
+
+    private OrderEventHeaders() {
+        // Utility class, prevent instantiation
+    }
+
+    static boolean isFailureHeader(String name) {
+        return name.equals(RETRY_ATTEMPT) || name.equals(RETRY_NOT_BEFORE) || name.equals(ORIGINAL_TOPIC)
+                || name.equals(ORIGINAL_PARTITION) || name.equals(ORIGINAL_OFFSET) || name.equals(EXCEPTION_CLASS)
+                || name.equals(EXCEPTION_MESSAGE) || name.equals(FAILED_AT);
+    }
+
+    static String text(Object header) {
+        String text;
+        if (header instanceof byte[] bytes) {
+            text = new String(bytes, StandardCharsets.UTF_8);
+        } else if (header instanceof String value) {
+            text = value;
+        } else if (header instanceof Number number) {
+            return number.toString();
+        } else {
+            return null;
+        }
+        // Header mapper bazı sürümlerde String değerleri JSON olarak (tırnaklı) yazar
+        return text.replace("\"", "").trim();
+    }
+
+    /**
+     * @return the header as a long, or -1 if it is missing or malformed
+     */
+    static long longValue(Object header) {
+        if (header instanceof Number number) {
+            return number.longValue();
+        }
+        String text = text(header);
+        if (text == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
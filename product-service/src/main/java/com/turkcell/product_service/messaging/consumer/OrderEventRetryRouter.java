@@ -0,0 +1,170 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves a record that failed processing off its partition: to the next retry
+ * topic ({@code <topic>.retry-<n>}), which is consumed only once its back-off
+ * has passed, or after the last tier, or for failures that cannot succeed on a
+ * retry, to the dead-letter topic ({@code <topic>.dlt}). The failure is
+ * recorded in headers so a DLT record explains itself.
+ * <p>
+ * The retry consumer must be bound to exactly one topic per configured delay;
+ * startup fails if {@code order-events.retry.delays} and the
+ * {@code orderCreatedRetry-in-0} destinations disagree, since records sent to
+ * an unbound tier would never be retried.
+ */
+@Component
+class OrderEventRetryRouter {
+
+    private final StreamBridge streamBridge;
+    private final List<Duration> delays;
+    private final MeterRegistry meterRegistry;
+    private final Counter[] scheduled;
+    private final AtomicLong[] depth;
+
+    OrderEventRetryRouter(StreamBridge streamBridge, MeterRegistry meterRegistry,
+            @Value("${order-events.retry.delays:1s,10s,60s}") List<Duration> delays,
+            @Value("${spring.cloud.stream.bindings.orderCreated-in-0.destination:order-topic}") String topic,
+            @Value("${spring.cloud.stream.bindings.orderCreatedRetry-in-0.destination:}") String retryTopics) {
+        checkRetryTopics(delays, topic, retryTopics);
+        this.streamBridge = streamBridge;
+        this.meterRegistry = meterRegistry;
+        this.delays = List.copyOf(delays);
+        this.scheduled = new Counter[delays.size()];
+        this.depth = new AtomicLong[delays.size()];
+        for (int i = 0; i < delays.size(); i++) {
+            String tier = String.valueOf(i + 1);
+            scheduled[i] = Counter.builder("order.event.retry.scheduled")
+                    .description("Order events moved to a retry topic")
+                    .tag("tier", tier)
+                    .register(meterRegistry);
+            depth[i] = new AtomicLong();
+            // Bu instance'ın gönderip henüz geri almadığı kayıtlar, restart'ta sıfırlanır
+            Gauge.builder("order.event.retry.depth", depth[i], AtomicLong::get)
+                    .description("Order events waiting in a retry topic")
+                    .tag("tier", tier)
+                    .register(meterRegistry);
+        }
+    }
+
+    static void checkRetryTopics(List<Duration> delays, String topic, String retryTopics) {
+        Set<String> expected = new LinkedHashSet<>();
+        for (int i = 1; i <= delays.size(); i++) {
+            expected.add(topic + ".retry-" + i);
+        }
+        Set<String> bound = new LinkedHashSet<>();
+        for (String destination : retryTopics.split(",")) {
+            if (!destination.isBlank()) {
+                bound.add(destination.trim());
+            }
+        }
+        if (!bound.equals(expected)) {
+            throw new IllegalStateException("orderCreatedRetry-in-0 must be bound to " + String.join(",", expected)
+                    + " to match order-events.retry.delays, but is bound to " + String.join(",", bound));
+        }
+    }
+
+    /**
+     * Sends a failed record to its next retry tier or to the dead-letter topic.
+     *
+     * @throws IllegalStateException if the record could not be sent
+     */
+    void forward(Message<byte[]> message, Throwable error) {
+        MessageHeaders headers = message.getHeaders();
+        int attempt = attempt(message);
+        String originalTopic = OrderEventHeaders.text(headers.get(OrderEventHeaders.ORIGINAL_TOPIC));
+        if (originalTopic == null) {
+            originalTopic = headers.get(KafkaHeaders.RECEIVED_TOPIC, String.class);
+        }
+
+        MessageBuilder<byte[]> builder = copy(message);
+        if (attempt == 0) {
+            builder.setHeader(OrderEventHeaders.ORIGINAL_TOPIC, originalTopic)
+                    .setHeader(OrderEventHeaders.ORIGINAL_PARTITION,
+                            String.valueOf(headers.get(KafkaHeaders.RECEIVED_PARTITION)))
+                    .setHeader(OrderEventHeaders.ORIGINAL_OFFSET, String.valueOf(headers.get(KafkaHeaders.OFFSET)));
+        }
+        builder.setHeader(OrderEventHeaders.EXCEPTION_CLASS, error.getClass().getName())
+                .setHeader(OrderEventHeaders.EXCEPTION_MESSAGE, String.valueOf(error.getMessage()))
+                .setHeader(OrderEventHeaders.FAILED_AT, Instant.now().toString());
+
+        String destination;
+        if (OrderCreatedHandler.isRetryable(error) && attempt < delays.size()) {
+            destination = originalTopic + ".retry-" + (attempt + 1);
+            builder.setHeader(OrderEventHeaders.RETRY_ATTEMPT, String.valueOf(attempt + 1))
+                    .setHeader(OrderEventHeaders.RETRY_NOT_BEFORE,
+                            String.valueOf(System.currentTimeMillis() + delays.get(attempt).toMillis()));
+        } else {
+            destination = originalTopic + ".dlt";
+        }
+
+        if (!streamBridge.send(destination, builder.build())) {
+            throw new IllegalStateException("Could not send order event to " + destination);
+        }
+        if (destination.endsWith(".dlt")) {
+            meterRegistry.counter("order.event.dlt.inflow", "exception", error.getClass().getSimpleName())
+                    .increment();
+        } else {
+            scheduled[attempt].increment();
+            depth[attempt].incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that a retry-topic record is being processed again.
+     */
+    void taken(Message<byte[]> message) {
+        int attempt = attempt(message);
+        if (attempt > 0 && attempt <= depth.length) {
+            depth[attempt - 1].updateAndGet(value -> value > 0 ? value - 1 : 0);
+        }
+    }
+
+    private static int attempt(Message<byte[]> message) {
+        long attempt = OrderEventHeaders.longValue(message.getHeaders().get(OrderEventHeaders.RETRY_ATTEMPT));
+        return attempt > 0 ? (int) attempt : 0;
+    }
+
+    /**
+     * Copies the payload, the key and the application headers; Kafka
+     * metadata of the consumed record is left behind.
+     */
+    static MessageBuilder<byte[]> copy(Message<byte[]> message) {
+        MessageBuilder<byte[]> builder = MessageBuilder.withPayload(message.getPayload());
+        for (Map.Entry<String, Object> header : message.getHeaders().entrySet()) {
+            String name = header.getKey();
+            Object value = header.getValue();
+            if (name.startsWith(KafkaHeaders.PREFIX) || name.equals(MessageHeaders.ID)
+                    || name.equals(MessageHeaders.TIMESTAMP)) {
+                continue;
+            }
+            if (value instanceof String || value instanceof byte[]) {
+                builder.setHeader(name, value);
+            }
+        }
+        Object key = message.getHeaders().get(KafkaHeaders.RECEIVED_KEY);
+        if (key != null) {
+            builder.setHeader(KafkaHeaders.KEY, key);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.util.UUID;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.event_schema.codec.BinaryEventMessageConverter;
+import com.turkcell.event_schema.events.OrderCreatedEvent;
+import com.turkcell.product_service.infrastructure.warmup.WarmupTask;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Parses synthetic OrderCreated records in both formats the consumers accept,
+ * binary and JSON, through the same OrderCreatedHandler path. Nothing is
+ * handled or sent to Kafka.
+ */
+@Component
+class OrderEventWarmup implements WarmupTask {
+
+    private final OrderCreatedHandler handler;
+    private final Message<byte[]> binary;
+    private final Message<byte[]> json;
+
+    OrderEventWarmup(OrderCreatedHandler handler, BinaryEventMessageConverter eventConverter, JsonMapper jsonMapper) {
+        this.handler = handler;
+        OrderCreatedEvent event = new OrderCreatedEvent(UUID.randomUUID().toString(), 1);
+        this.binary = MessageBuilder.withPayload(eventConverter.encode(event)).build();
+        this.json = MessageBuilder.withPayload(jsonMapper.writeValueAsBytes(event)).build();
+    }
+
+    @Override
+    public void run(int iteration) {
+        handler.parse(binary);
+        handler.parse(json);
+    }
+}
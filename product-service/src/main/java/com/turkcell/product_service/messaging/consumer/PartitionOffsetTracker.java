@@ -0,0 +1,151 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Tracks records handed out for parallel processing, per partition in offset
+ * order, and acknowledges a record only when it and every earlier record of
+ * its partition have completed. The committed offset therefore never moves
+ * past a record that is still being processed, however the records finish.
+ * <p>
+ * A record that could neither be processed nor parked in a retry topic is
+ * marked failed and never completes. The consumer thread then asks for
+ * {@link #rewinds()}, seeks the partition back to the failed record and skips
+ * the records it had already polled beyond it, so the failed record and
+ * everything after it is delivered again.
+ */
+class PartitionOffsetTracker {
+
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a record in the order it was polled. Must be called from the
+     * consumer thread.
+     *
+     * @return the handle to complete once the record is processed, or null if
+     *         the partition is being rewound to an earlier offset and the
+     *         record will be delivered again
+     */
+    Completion track(String topic, int partition, long offset, Acknowledgment acknowledgment) {
+        Partition state = partitions.computeIfAbsent(topic + "-" + partition, key -> new Partition(topic, partition));
+        synchronized (state) {
+            if (state.rewindingTo >= 0) {
+                if (offset > state.rewindingTo) {
+                    return null;
+                }
+                state.rewindingTo = -1;
+            }
+            Completion last = state.pending.peekLast();
+            if (last != null && offset <= last.offset) {
+                // Rebalance veya seek sonrası kayıtlar yeniden okunuyor, eski bekleyenler artık commit edilemez
+                state.pending.clear();
+            }
+            Completion completion = new Completion(state, offset, acknowledgment);
+            state.pending.addLast(completion);
+            return completion;
+        }
+    }
+
+    /**
+     * Collects the partitions that have a failed record and forgets the
+     * records from that offset on; records polled past it are skipped by
+     * {@link #track} until the partition is read again from the failed
+     * offset. Must be called from the consumer thread, which seeks each
+     * returned partition to its offset.
+     */
+    List<Rewind> rewinds() {
+        List<Rewind> rewinds = new ArrayList<>();
+        for (Partition state : partitions.values()) {
+            synchronized (state) {
+                if (state.failedOffset < 0) {
+                    continue;
+                }
+                long offset = state.failedOffset;
+                Iterator<Completion> pending = state.pending.descendingIterator();
+                while (pending.hasNext()) {
+                    Completion completion = pending.next();
+                    if (completion.offset < offset) {
+                        break;
+                    }
+                    // Bu kayıtlar yeniden okunacak; işlenmekte olanların sonucu artık commit'i etkilemez
+                    completion.dropped = true;
+                    pending.remove();
+                }
+                state.failedOffset = -1;
+                state.rewindingTo = offset;
+                rewinds.add(new Rewind(state.topic, state.partition, offset));
+            }
+        }
+        return rewinds;
+    }
+
+    record Rewind(String topic, int partition, long offset) {
+    }
+
+    private static final class Partition {
+
+        private final String topic;
+        private final int partition;
+        private final ArrayDeque<Completion> pending = new ArrayDeque<>();
+        // En düşük başarısız offset, yoksa -1
+        private long failedOffset = -1;
+        // Geri sarılan partition'da bu offset'e kadar gelen eski kayıtlar atlanır, yoksa -1
+        private long rewindingTo = -1;
+
+        private Partition(String topic, int partition) {
+            this.topic = topic;
+            this.partition = partition;
+        }
+    }
+
+    static final class Completion {
+
+        private final Partition partition;
+        private final long offset;
+        private final Acknowledgment acknowledgment;
+        private boolean done;
+        private boolean dropped;
+
+        private Completion(Partition partition, long offset, Acknowledgment acknowledgment) {
+            this.partition = partition;
+            this.offset = offset;
+            this.acknowledgment = acknowledgment;
+        }
+
+        /**
+         * Marks the record processed and acknowledges the highest offset up to
+         * which everything has been processed, if that moved.
+         */
+        void complete() {
+            synchronized (partition) {
+                done = true;
+                Completion committable = null;
+                while (!partition.pending.isEmpty() && partition.pending.peekFirst().done) {
+                    committable = partition.pending.pollFirst();
+                }
+                // Ack kilit altında verilir ki iki iş parçacığı eski bir offset'i yenisinin üzerine yazamasın
+                if (committable != null && committable.acknowledgment != null) {
+                    committable.acknowledgment.acknowledge();
+                }
+            }
+        }
+
+        /**
+         * Marks the record failed: it stays pending, so no later offset of the
+         * partition is acknowledged, and the partition is rewound to it.
+         */
+        void fail() {
+            synchronized (partition) {
+                if (!dropped && (partition.failedOffset < 0 || offset < partition.failedOffset)) {
+                    partition.failedOffset = offset;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.turkcell.product_service.messaging.outbox;
+
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.ports.ProductEventOutbox;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+@Component
+public class JpaProductEventOutbox implements ProductEventOutbox {
+
+    private final OutboxRepository outboxRepository;
+
+    public JpaProductEventOutbox(OutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public void productChanged(ProductId id) {
+        outboxRepository.save(new OutboxMessage(id.getValue()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.turkcell.product_service.messaging.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A product write waiting to be published. The row holds no payload: the
+ * relayer publishes the product's state at publishing time, which on a
+ * compacted topic is all consumers need.
+ */
+@Entity
+@Table(name = "outbox", indexes = {
+        @Index(name = "ix_outbox_status_id", columnList = "status, id")
+})
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "uuid")
+    private UUID aggregateId;
+
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+    private OffsetDateTime processedAt;
+
+    public OutboxMessage() {
+    }
+
+    public OutboxMessage(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OutboxStatus status) {
+        this.status = status;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(OffsetDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
@@ -0,0 +1,43 @@
+package com.turkcell.product_service.messaging.outbox;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // ix_outbox_status_id üzerinden yazılma sırasıyla okunur
+    List<OutboxMessage> findByStatusOrderByIdAsc(OutboxStatus status, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update OutboxMessage o
+            set o.status = com.turkcell.product_service.messaging.outbox.OutboxStatus.SENT, o.processedAt = :now
+            where o.id in :ids""")
+    int markSent(Collection<Long> ids, OffsetDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from OutboxMessage o
+            where o.status = com.turkcell.product_service.messaging.outbox.OutboxStatus.SENT and o.processedAt < :before""")
+    int deleteSentBefore(OffsetDateTime before);
+
+    /**
+     * Queues every product for publishing, e.g. for products written before
+     * the outbox existed or to rebuild a consumer's replica.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox (aggregate_id, status, created_at)
+            SELECT id, 'PENDING', CURRENT_TIMESTAMP FROM products""", nativeQuery = true)
+    int enqueueAllProducts();
+}
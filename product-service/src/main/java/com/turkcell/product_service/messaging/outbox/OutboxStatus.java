@@ -0,0 +1,6 @@
+package com.turkcell.product_service.messaging.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT
+}
@@ -0,0 +1,143 @@
+package com.turkcell.product_service.messaging.relayer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.turkcell.event_schema.events.ProductChangedEvent;
+import com.turkcell.event_schema.events.ProductDeletedEvent;
+import com.turkcell.product_service.domain.valueobjects.Money;
+import com.turkcell.product_service.messaging.outbox.OutboxMessage;
+import com.turkcell.product_service.messaging.outbox.OutboxRepository;
+import com.turkcell.product_service.messaging.outbox.OutboxStatus;
+
+/**
+ * Publishes queued product writes to product-topic, keyed by product ID. The
+ * topic is compacted, so each product keeps its latest event and a consumer
+ * reading from the beginning rebuilds the full catalog.
+ * <p>
+ * Each event carries the product's state as of publishing, not of the write:
+ * several rows for one product become one event, and a product that no longer
+ * exists is published as ProductDeleted. A failed send stops the batch; its
+ * rows stay pending and are picked up on the next run.
+ */
+@Service
+public class ProductEventRelayer {
+    // Tüketici olayın tipini payload'ı çözmeden bu başlıktan okur
+    public static final String EVENT_TYPE_HEADER = "x-event-type";
+    private static final String BINDING = "productChanged-out-0";
+    private static final Logger log = LoggerFactory.getLogger(ProductEventRelayer.class);
+
+    private final OutboxRepository outboxRepository;
+    private final StreamBridge streamBridge;
+    private final JdbcClient jdbcClient;
+    private final int batchSize;
+    private final Duration sentRetention;
+
+    public ProductEventRelayer(OutboxRepository outboxRepository, StreamBridge streamBridge, JdbcClient jdbcClient,
+            @Value("${product-events.relay.batch-size:1000}") int batchSize,
+            @Value("${product-events.cleanup.sent-retention:1h}") Duration sentRetention) {
+        this.outboxRepository = outboxRepository;
+        this.streamBridge = streamBridge;
+        this.jdbcClient = jdbcClient;
+        this.batchSize = batchSize;
+        this.sentRetention = sentRetention;
+    }
+
+    @Scheduled(fixedDelayString = "${product-events.relay.interval:500}")
+    public void publishPendingEvents() {
+        List<OutboxMessage> pending = outboxRepository.findByStatusOrderByIdAsc(OutboxStatus.PENDING,
+                Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> productIds = new LinkedHashSet<>();
+        for (OutboxMessage message : pending) {
+            productIds.add(message.getAggregateId());
+        }
+        Map<UUID, ProductChangedEvent> current = loadProducts(productIds);
+
+        Set<UUID> published = new LinkedHashSet<>();
+        for (UUID productId : productIds) {
+            Object event = current.containsKey(productId)
+                    ? current.get(productId)
+                    : new ProductDeletedEvent(productId.toString());
+            if (!send(productId, event)) {
+                break;
+            }
+            published.add(productId);
+        }
+
+        List<Long> sent = new ArrayList<>();
+        for (OutboxMessage message : pending) {
+            if (published.contains(message.getAggregateId())) {
+                sent.add(message.getId());
+            }
+        }
+        if (!sent.isEmpty()) {
+            outboxRepository.markSent(sent, OffsetDateTime.now());
+        }
+    }
+
+    /**
+     * Deletes rows published longer than the retention ago; the topic, not the
+     * outbox, is the record of what was published.
+     */
+    @Scheduled(fixedDelayString = "${product-events.cleanup.interval:60000}")
+    public void purgeSentEvents() {
+        int purged = outboxRepository.deleteSentBefore(OffsetDateTime.now().minus(sentRetention));
+        if (purged > 0) {
+            log.debug("Purged {} sent outbox rows", purged);
+        }
+    }
+
+    private Map<UUID, ProductChangedEvent> loadProducts(Set<UUID> productIds) {
+        Map<UUID, ProductChangedEvent> products = new HashMap<>();
+        jdbcClient.sql("""
+                SELECT id, version, name, price_amount, price_currency, stock_quantity
+                FROM products WHERE id IN (:ids)""")
+                .param("ids", productIds)
+                .query(rs -> {
+                    UUID id = rs.getObject(1, UUID.class);
+                    products.put(id, new ProductChangedEvent(id.toString(), rs.getLong(2), rs.getString(3),
+                            Money.toMinorUnits(rs.getBigDecimal(4)), rs.getString(5), rs.getInt(6)));
+                });
+        return products;
+    }
+
+    private boolean send(UUID productId, Object event) {
+        String type = event instanceof ProductDeletedEvent ? "ProductDeleted" : "ProductChanged";
+        try {
+            boolean sent = streamBridge.send(BINDING, MessageBuilder.withPayload(event)
+                    .setHeader(KafkaHeaders.KEY, productId.toString().getBytes(StandardCharsets.UTF_8))
+                    .setHeader(EVENT_TYPE_HEADER, type)
+                    .build());
+            if (!sent) {
+                log.warn("{} for product {} was not accepted, retrying on the next run", type, productId);
+            }
+            return sent;
+        } catch (RuntimeException e) {
+            log.warn("Could not publish {} for product {}, retrying on the next run", type, productId, e);
+            return false;
+        }
+    }
+}
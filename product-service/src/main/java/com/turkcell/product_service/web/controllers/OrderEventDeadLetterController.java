@@ -0,0 +1,31 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.messaging.consumer.OrderEventDeadLetterReplayer;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for operating the order event dead-letter topic.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/order-events/dlt")
+public class OrderEventDeadLetterController {
+
+    private final OrderEventDeadLetterReplayer replayer;
+
+    public OrderEventDeadLetterController(OrderEventDeadLetterReplayer replayer) {
+        this.replayer = replayer;
+    }
+
+    /**
+     * POST /api/v1/admin/order-events/dlt/replay?batchSize=100 - Sends the
+     * next batch of dead-lettered order events back to order-topic.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<OrderEventDeadLetterReplayer.ReplayResult> replay(
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch boyutu en az 1 olmalıdır") @Max(value = 1000, message = "Batch boyutu en fazla 1000 olabilir") int batchSize) {
+        return ResponseEntity.ok(replayer.replay(batchSize));
+    }
+}
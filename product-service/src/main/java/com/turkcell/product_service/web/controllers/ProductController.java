@@ -3,18 +3,28 @@ package com.turkcell.product_service.web.controllers;
 import com.turkcell.product_service.application.dtos.*;
 import com.turkcell.product_service.application.ports.ProductServicePort;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST Controller for Product operations.
  * Handles all HTTP requests for product CRUD operations.
+ * Reads carry strong ETags derived from product versions (see ProductETags).
+ * An {@code If-None-Match} that still matches is answered with 304 from a
+ * version-only lookup, before the products are loaded; {@code If-Match} on
+ * PUT makes the update conditional on the version the client last saw.
  */
 @RestController
 @RequestMapping("/api/v1/products")
 public class ProductController {
 
+    // İstemci kopyayı saklayabilir ama her kullanımda ETag ile doğrulamalı
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ProductServicePort productService;
 
     public ProductController(ProductServicePort productService) {
@@ -25,18 +35,41 @@ public class ProductController {
      * GET /api/v1/products - Retrieves all products.
      */
     @GetMapping
-    public ResponseEntity<ProductListResponse> getAllProducts() {
+    public ResponseEntity<ProductListResponse> getAllProducts(WebRequest webRequest) {
+        if (isConditional(webRequest)
+                && webRequest.checkNotModified(ProductETags.of(productService.getAllProductVersions()))) {
+            return null;
+        }
         ProductListResponse response = productService.getAllProducts();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(ProductETags.of(response)).body(response);
+    }
+
+    /**
+     * GET /api/v1/products/search - Filters and sorts products by price and
+     * stock, e.g. ?currency=TRY&minPrice=100&inStock=true&sort=PRICE_DESC&limit=20.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductListResponse> searchProducts(@Valid ProductSearchRequest request,
+            WebRequest webRequest) {
+        if (isConditional(webRequest)
+                && webRequest.checkNotModified(ProductETags.of(productService.searchProductVersions(request)))) {
+            return null;
+        }
+        ProductListResponse response = productService.searchProducts(request);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(ProductETags.of(response)).body(response);
     }
 
     /**
      * GET /api/v1/products/{id} - Retrieves a product by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable String id) {
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable String id, WebRequest webRequest) {
+        if (isConditional(webRequest)
+                && webRequest.checkNotModified(ProductETags.of(productService.getProductVersion(id)))) {
+            return null;
+        }
         ProductResponse response = productService.getProductById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(ProductETags.of(response.version())).body(response);
     }
 
     /**
@@ -45,18 +78,20 @@ public class ProductController {
     @PostMapping
     public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody CreateProductRequest request) {
         ProductResponse response = productService.createProduct(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ProductETags.of(response.version())).body(response);
     }
 
     /**
-     * PUT /api/v1/products/{id} - Updates an existing product.
+     * PUT /api/v1/products/{id} - Updates an existing product, only if it is
+     * still at the version given in {@code If-Match} (412 otherwise).
      */
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> updateProduct(
             @PathVariable String id,
-            @Valid @RequestBody UpdateProductRequest request) {
-        ProductResponse response = productService.updateProduct(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody UpdateProductRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductResponse response = productService.updateProduct(id, request, ProductETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ProductETags.of(response.version())).body(response);
     }
 
     /**
@@ -67,4 +102,9 @@ public class ProductController {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Koşulsuz isteklerde sürüm sorgusu atlanır, ETag yüklenen içerikten hesaplanır
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
 }
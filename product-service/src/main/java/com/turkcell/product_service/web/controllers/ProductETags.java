@@ -0,0 +1,84 @@
+package com.turkcell.product_service.web.controllers;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.ProductVersionList;
+
+/**
+ * Strong ETags derived from product versions. A product's tag is its version;
+ * a list's tag is a 64-bit hash of the IDs and versions in order plus the
+ * total count, so it can be computed from a version-only lookup and from a
+ * loaded page alike.
+ */
+final class ProductETags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Hiçbir sürümle eşleşmez: zayıf ETag'ler If-Match'te güçlü karşılaştırmayı geçemez
+    private static final long NO_VERSION = -1;
+
+    private ProductETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String of(ProductListResponse list) {
+        return of(list.products(), ProductResponse::id, ProductResponse::version, list.totalCount());
+    }
+
+    static String of(ProductVersionList list) {
+        return of(list.products(), ProductVersion::id, ProductVersion::version, list.totalCount());
+    }
+
+    private static <T> String of(List<T> products, Function<T, String> id,
+            ToLongFunction<T> version, int totalCount) {
+        long hash = FNV_OFFSET;
+        for (T product : products) {
+            String value = id.apply(product);
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ version.applyAsLong(product)) * FNV_PRIME;
+        }
+        return "\"" + totalCount + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Reads the version an {@code If-Match} header asks for.
+     *
+     * @param header the header value, may be null
+     * @return null if any version is acceptable (no header or {@code *}), the
+     *         requested version otherwise
+     * @throws IllegalArgumentException if the header is not a single ETag or
+     *                                  {@code *}
+     */
+    static Long expectedVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        boolean weak = tag.startsWith("W/");
+        if (weak) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"'
+                || tag.indexOf(',') >= 0) {
+            throw new IllegalArgumentException("If-Match tek bir ETag ya da * olmalıdır");
+        }
+        try {
+            long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+            return weak ? NO_VERSION : version;
+        } catch (NumberFormatException e) {
+            // Başka bir kaynağın ETag'i hiçbir ürün sürümüyle eşleşmez
+            return NO_VERSION;
+        }
+    }
+}
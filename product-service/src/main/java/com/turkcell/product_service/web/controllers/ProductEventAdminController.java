@@ -0,0 +1,32 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.messaging.outbox.OutboxRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for operating the product change-event stream.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/product-events")
+public class ProductEventAdminController {
+
+    private final OutboxRepository outboxRepository;
+
+    public ProductEventAdminController(OutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    /**
+     * POST /api/v1/admin/product-events/republish - Queues every product for
+     * publishing, e.g. to seed product-topic with products written before it
+     * existed.
+     */
+    @PostMapping("/republish")
+    public ResponseEntity<RepublishResult> republish() {
+        return ResponseEntity.ok(new RepublishResult(outboxRepository.enqueueAllProducts()));
+    }
+
+    public record RepublishResult(int queued) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.application.dtos.ProductImportResponse;
+import com.turkcell.product_service.application.ports.ProductImportServicePort;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST Controller for bulk product imports from CSV files.
+ */
+@RestController
+@RequestMapping("/api/v1/products/imports")
+public class ProductImportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ProductImportServicePort importService;
+
+    public ProductImportController(ProductImportServicePort importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * POST /api/v1/products/imports - Queues the CSV request body for import,
+     * e.g. {@code curl --data-binary @products.csv -H 'Content-Type: text/csv'}.
+     */
+    @PostMapping(consumes = { "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<ProductImportResponse> startImport(InputStream csv) throws IOException {
+        ProductImportResponse response = importService.startImport(csv);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(response.id()).toUri())
+                .body(response);
+    }
+
+    /**
+     * GET /api/v1/products/imports/{id} - Retrieves the progress of an import.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductImportResponse> getImport(@PathVariable String id) {
+        return ResponseEntity.of(importService.getImport(id));
+    }
+
+    /**
+     * GET /api/v1/products/imports/{id}/rejected - Downloads the rows that
+     * failed validation once the import has finished.
+     */
+    @GetMapping("/{id}/rejected")
+    public ResponseEntity<Resource> getRejectedRows(@PathVariable String id) {
+        return importService.getRejectedRows(id)
+                .<ResponseEntity<Resource>>map(file -> ResponseEntity.ok()
+                        .contentType(TEXT_CSV)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + id + "-rejected.csv\"")
+                        .body(new FileSystemResource(file)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
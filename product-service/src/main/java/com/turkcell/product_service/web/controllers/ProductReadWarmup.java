@@ -0,0 +1,81 @@
+package com.turkcell.product_service.web.controllers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchRequest;
+import com.turkcell.product_service.application.dtos.ProductSort;
+import com.turkcell.product_service.application.services.ProductService;
+import com.turkcell.product_service.domain.exceptions.ProductNotFoundException;
+import com.turkcell.product_service.infrastructure.warmup.WarmupTask;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs the read paths of ProductController without HTTP: by-ID reads,
+ * catalog searches and their version-only conditional variants, ETag
+ * computation and JSON serialization with the converter's JsonMapper. The
+ * full product list is only read every {@value #LIST_EVERY} iterations, as it
+ * grows with the catalog.
+ * <p>
+ * Calls go to ProductService directly rather than through the timed
+ * ProductServicePort, so warm-up reads stay out of the use-case latency
+ * timers.
+ */
+@Component
+class ProductReadWarmup implements WarmupTask {
+
+    private static final int LIST_EVERY = 100;
+    private static final int SAMPLE_SIZE = 50;
+
+    private static final List<ProductSearchRequest> SEARCHES = List.of(
+            new ProductSearchRequest("TRY", BigDecimal.ONE, BigDecimal.valueOf(10_000), null, ProductSort.PRICE_ASC,
+                    20),
+            new ProductSearchRequest(null, null, null, true, ProductSort.STOCK_DESC, ProductSearchRequest.DEFAULT_LIMIT),
+            new ProductSearchRequest(null, null, null, null, null, null));
+
+    private final ProductService productService;
+    private final JsonMapper jsonMapper;
+    private List<String> sampleIds;
+
+    ProductReadWarmup(ProductService productService, JsonMapper jsonMapper) {
+        this.productService = productService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void run(int iteration) {
+        if (sampleIds == null) {
+            sampleIds = productService.searchProducts(new ProductSearchRequest(null, null, null, null,
+                    ProductSort.STOCK_DESC, SAMPLE_SIZE)).products().stream().map(ProductResponse::id).toList();
+        }
+
+        ProductSearchRequest search = SEARCHES.get(iteration % SEARCHES.size());
+        ProductETags.of(productService.searchProductVersions(search));
+        ProductListResponse found = productService.searchProducts(search);
+        jsonMapper.writeValueAsBytes(found);
+        ProductETags.of(found);
+
+        if (!sampleIds.isEmpty()) {
+            String id = sampleIds.get(iteration % sampleIds.size());
+            try {
+                ProductETags.of(productService.getProductVersion(id));
+                ProductResponse product = productService.getProductById(id);
+                jsonMapper.writeValueAsBytes(product);
+            } catch (ProductNotFoundException e) {
+                // Örnek ürün bu arada silinmiş olabilir, okuma yolu yine de çalıştı
+            }
+        }
+
+        if (iteration % LIST_EVERY == 0) {
+            ProductETags.of(productService.getAllProductVersions());
+            ProductListResponse all = productService.getAllProducts();
+            jsonMapper.writeValueAsBytes(all);
+            ProductETags.of(all);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.application.dtos.ReservationResponse;
+import com.turkcell.product_service.application.dtos.ReserveStockRequest;
+import com.turkcell.product_service.application.ports.ReservationServicePort;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for stock reservations.
+ * Checkout holds stock while the customer pays, then confirms or releases it;
+ * holds that are neither confirmed nor released expire on their own.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ReservationController {
+
+    private final ReservationServicePort reservationService;
+
+    public ReservationController(ReservationServicePort reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * POST /api/v1/products/{id}/reservations - Holds stock of a product.
+     */
+    @PostMapping("/products/{id}/reservations")
+    public ResponseEntity<ReservationResponse> reserveStock(
+            @PathVariable String id,
+            @Valid @RequestBody ReserveStockRequest request) {
+        ReservationResponse response = reservationService.reserveStock(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * POST /api/v1/reservations/{id}/confirm - Turns a reservation into a stock
+     * decrement.
+     */
+    @PostMapping("/reservations/{id}/confirm")
+    public ResponseEntity<Void> confirmReservation(@PathVariable String id) {
+        reservationService.confirmReservation(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * DELETE /api/v1/reservations/{id} - Releases a reservation.
+     */
+    @DeleteMapping("/reservations/{id}")
+    public ResponseEntity<Void> releaseReservation(@PathVariable String id) {
+        reservationService.releaseReservation(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.turkcell.product_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.turkcell.product_service.application.dtos.ProductImportResponse;
+import com.turkcell.product_service.application.ports.ProductBulkLoader;
+import com.turkcell.product_service.application.ports.ProductImportRow;
+import com.turkcell.product_service.application.ports.ReservationLedger;
+import com.turkcell.product_service.domain.exceptions.InsufficientStockException;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+class ProductImportServiceTest {
+
+	@TempDir
+	Path workDir;
+
+	private final RecordingLoader loader = new RecordingLoader();
+	private final ReservationLedger reservationLedger = mock(ReservationLedger.class);
+
+	private ProductImportService service;
+
+	@AfterEach
+	void shutdown() {
+		service.destroy();
+	}
+
+	@Test
+	void validRowsAreStagedInFileOrderAndInvalidRowsRejected() throws Exception {
+		service = new ProductImportService(loader, reservationLedger, new SynchronizationOnlyTransactionManager(),
+				workDir, 2, 2, 5);
+		String csv = """
+				name,description,price,currency,stock
+				Laptop,"15"" screen, 16 GB",1299.90,TRY,10
+				X,too short,10,TRY,1
+				Phone,"two
+				lines",899.5,usd,3
+				Mouse,,abc,TRY,4
+				Cable,,9.99,TRY,-1
+				Monitor,,249,EUR,7
+				""";
+
+		ProductImportResponse finished = importAndWait(csv);
+
+		assertThat(finished.status()).isEqualTo("COMPLETED");
+		assertThat(finished.rowsRead()).isEqualTo(6);
+		assertThat(finished.rowsStaged()).isEqualTo(3);
+		assertThat(finished.rowsRejected()).isEqualTo(3);
+		assertThat(finished.rowsMerged()).isEqualTo(3);
+		assertThat(loader.rows).extracting(ProductImportRow::name).containsExactly("Laptop", "Phone", "Monitor");
+		assertThat(loader.rows.get(0).description()).isEqualTo("15\" screen, 16 GB");
+		assertThat(loader.rows.get(1).priceAmount()).hasToString("899.50");
+		assertThat(loader.rows.get(1).priceCurrency()).isEqualTo("USD");
+		assertThat(loader.rows).extracting(ProductImportRow::line).containsExactly(2L, 4L, 8L);
+		assertThat(loader.merged).isTrue();
+
+		List<String> rejected = Files.readAllLines(service.getRejectedRows(finished.id()).orElseThrow());
+		assertThat(rejected.get(0)).isEqualTo("line,reason,name,description,price,currency,stock");
+		assertThat(rejected).hasSize(4);
+		assertThat(rejected.get(1)).startsWith("3,Product name must be at least 2 characters long,X,");
+		assertThat(rejected.get(2)).startsWith("6,Price is not a number: abc,");
+		assertThat(rejected.get(3)).startsWith("7,Stock quantity cannot be negative,");
+	}
+
+	@Test
+	void rowBelowTheReservedQuantityIsRejectedAndTheRestAreMergedUnderRestriction() throws Exception {
+		service = new ProductImportService(loader, reservationLedger, new SynchronizationOnlyTransactionManager(),
+				workDir, 10, 1, 5);
+		UUID reserved = UUID.randomUUID();
+		doThrow(new InsufficientStockException("Stock cannot be set to 2 while 5 is reserved"))
+				.when(reservationLedger).restrictStock(eq(ProductId.of(reserved)), any());
+
+		ProductImportResponse finished = importAndWait("id,name,price,currency,stock\n"
+				+ reserved + ",Laptop,10,TRY,2\n"
+				+ UUID.randomUUID() + ",Phone,20,TRY,3\n");
+
+		assertThat(finished.status()).isEqualTo("COMPLETED");
+		assertThat(finished.rowsStaged()).isEqualTo(1);
+		assertThat(finished.rowsRejected()).isEqualTo(1);
+		assertThat(loader.rows).extracting(ProductImportRow::name).containsExactly("Phone");
+		// Kısıtlar birleştirme sırasında hâlâ geçerli olmalı
+		assertThat(loader.mergedWithinRestriction).isTrue();
+		List<String> rejected = Files.readAllLines(service.getRejectedRows(finished.id()).orElseThrow());
+		assertThat(rejected.get(1)).isEqualTo("2,Stock cannot be set to 2 while 5 is reserved," + reserved
+				+ ",Laptop,10,TRY,2");
+	}
+
+	@Test
+	void missingRequiredColumnFailsTheImport() throws Exception {
+		service = new ProductImportService(loader, reservationLedger, new SynchronizationOnlyTransactionManager(),
+				workDir, 10, 1, 5);
+
+		ProductImportResponse finished = importAndWait("name,price,stock\nLaptop,10,1\n");
+
+		assertThat(finished.status()).isEqualTo("FAILED");
+		assertThat(finished.error()).isEqualTo("Header is missing the required column: currency");
+		assertThat(loader.merged).isFalse();
+		assertThat(loader.closed).isTrue();
+	}
+
+	private ProductImportResponse importAndWait(String csv) throws Exception {
+		ProductImportResponse started = service.startImport(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+		assertThat(started.status()).isEqualTo("QUEUED");
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (System.nanoTime() < deadline) {
+			ProductImportResponse current = service.getImport(started.id()).orElseThrow();
+			if (current.finishedAt() != null) {
+				return current;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("Import did not finish");
+	}
+
+	private static final class RecordingLoader implements ProductBulkLoader {
+
+		private final List<ProductImportRow> rows = new CopyOnWriteArrayList<>();
+		private volatile boolean merged;
+		private volatile boolean mergedWithinRestriction;
+		private volatile boolean closed;
+
+		@Override
+		public Staging begin() {
+			return new Staging() {
+				@Override
+				public void append(List<ProductImportRow> batch) {
+					rows.addAll(batch);
+				}
+
+				@Override
+				public long merge() {
+					merged = true;
+					mergedWithinRestriction = TransactionSynchronizationManager.isSynchronizationActive();
+					return rows.size();
+				}
+
+				@Override
+				public void close() {
+					closed = true;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Runs callbacks with transaction synchronization and no resources, as the
+	 * real manager does for the import's SUPPORTS scope.
+	 */
+	private static final class SynchronizationOnlyTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.turkcell.product_service.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ReservationResponse;
+import com.turkcell.product_service.application.dtos.ReserveStockRequest;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductCatalog;
+import com.turkcell.product_service.application.ports.ProductEventOutbox;
+import com.turkcell.product_service.application.ports.ProductReadModel;
+import com.turkcell.product_service.application.ports.ReservationLedger;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.entities.StockReservation;
+import com.turkcell.product_service.domain.exceptions.ProductNotFoundException;
+import com.turkcell.product_service.domain.exceptions.ReservationNotFoundException;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Description;
+import com.turkcell.product_service.domain.valueobjects.Money;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.ProductName;
+import com.turkcell.product_service.domain.valueobjects.ReservationId;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+
+class ReservationServiceTest {
+
+	private static final ProductId PRODUCT = ProductId.of(new UUID(0, 1));
+
+	private final ReservationLedger ledger = mock(ReservationLedger.class);
+	private final ProductRepository repository = mock(ProductRepository.class);
+	private final ProductReadModel readModel = mock(ProductReadModel.class);
+	private final ProductCatalog catalog = mock(ProductCatalog.class);
+	private final ProductEventOutbox outbox = mock(ProductEventOutbox.class);
+
+	private final ReservationService service = new ReservationService(ledger, repository, readModel, catalog, outbox);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void stockIsReadByTheLedgerNotBeforeIt() {
+		StockReservation reservation = StockReservation.create(PRODUCT, 2, Instant.now().plusSeconds(60));
+		when(ledger.hold(eq(PRODUCT), eq(2), any(), eq(Duration.ofSeconds(60)))).thenReturn(reservation);
+
+		ReservationResponse response = service.reserveStock(PRODUCT.toString(), new ReserveStockRequest(2, 60));
+
+		assertThat(response.id()).isEqualTo(reservation.getId().toString());
+		verifyNoInteractions(readModel);
+
+		ArgumentCaptor<Supplier<Stock>> stock = ArgumentCaptor.forClass(Supplier.class);
+		verify(ledger).hold(eq(PRODUCT), eq(2), stock.capture(), any());
+		when(readModel.findById(PRODUCT)).thenReturn(Optional.of(new ProductResponse(PRODUCT.toString(), "Laptop",
+				"", new PriceDto(BigDecimal.TEN, "TRY"), new StockDto(7), 3)));
+		assertThat(stock.getValue().get().getQuantity()).isEqualTo(7);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void missingProductFailsWhenTheLedgerReadsTheStock() {
+		when(readModel.findById(PRODUCT)).thenReturn(Optional.empty());
+		when(ledger.hold(eq(PRODUCT), anyInt(), any(), any()))
+				.thenAnswer(invocation -> ((Supplier<Stock>) invocation.getArgument(2)).get());
+
+		assertThatThrownBy(() -> service.reserveStock(PRODUCT.toString(), new ReserveStockRequest(1, null)))
+				.isInstanceOf(ProductNotFoundException.class);
+	}
+
+	@Test
+	void confirmationDecrementsTheProductAndPublishesIt() {
+		StockReservation reservation = StockReservation.create(PRODUCT, 3, Instant.now().plusSeconds(60));
+		Product product = Product.reconstitute(PRODUCT, ProductName.of("Laptop"), Description.empty(),
+				Money.of(BigDecimal.TEN, Currency.TRY), Stock.of(10), 1L);
+		when(ledger.claim(reservation.getId())).thenReturn(reservation);
+		when(repository.findById(PRODUCT)).thenReturn(Optional.of(product));
+		when(repository.save(product)).thenReturn(product);
+
+		service.confirmReservation(reservation.getId().toString());
+
+		assertThat(product.getStock().getQuantity()).isEqualTo(7);
+		verify(readModel).project(product);
+		verify(catalog).upsert(product);
+		verify(outbox).productChanged(PRODUCT);
+	}
+
+	@Test
+	void releasingAnUnknownReservationIsNotFound() {
+		ReservationId id = ReservationId.create();
+		when(ledger.release(id)).thenReturn(false);
+
+		assertThatThrownBy(() -> service.releaseReservation(id.toString()))
+				.isInstanceOf(ReservationNotFoundException.class);
+	}
+}
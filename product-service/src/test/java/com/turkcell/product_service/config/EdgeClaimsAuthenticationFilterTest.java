@@ -0,0 +1,126 @@
+package com.turkcell.product_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Headers are built the way gateway-server's EdgeClaimsSigner builds them.
+ */
+class EdgeClaimsAuthenticationFilterTest {
+
+	private static final String SECRET = "test-edge-claims-secret-0123456789";
+	private static final String ISSUER = "gateway-server";
+	private static final String AUDIENCE = "turkcell-services";
+
+	private final EdgeClaimsAuthenticationFilter filter = new EdgeClaimsAuthenticationFilter(SECRET, ISSUER, AUDIENCE);
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void validHeaderAuthenticatesTheSubject() throws Exception {
+		Authentication authentication = filter(sign(claims("alice", Instant.now().plusSeconds(300)), SECRET));
+
+		assertThat(authentication).isInstanceOf(JwtAuthenticationToken.class);
+		assertThat(authentication.getName()).isEqualTo("alice");
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+				.containsExactly("SCOPE_openid", "SCOPE_profile");
+	}
+
+	@Test
+	void headerSignedWithAnotherSecretIsIgnored() throws Exception {
+		String header = sign(claims("alice", Instant.now().plusSeconds(300)), "other-edge-claims-secret-0123456789");
+
+		assertThat(filter(header)).isNull();
+	}
+
+	@Test
+	void tamperedHeaderIsIgnored() throws Exception {
+		String header = sign(claims("alice", Instant.now().plusSeconds(300)), SECRET);
+		String forged = encode(claims("mallory", Instant.now().plusSeconds(300)))
+				+ header.substring(header.lastIndexOf('.'));
+
+		assertThat(filter(forged)).isNull();
+	}
+
+	@Test
+	void expiredHeaderIsIgnored() throws Exception {
+		assertThat(filter(sign(claims("alice", Instant.now().minusSeconds(1)), SECRET))).isNull();
+	}
+
+	@Test
+	void headerFromAnotherIssuerIsIgnored() throws Exception {
+		Instant expiresAt = Instant.now().plusSeconds(60);
+		assertThat(filter(sign(claims("alice", "other-gateway", AUDIENCE, expiresAt), SECRET))).isNull();
+	}
+
+	@Test
+	void headerForAnotherAudienceIsIgnored() throws Exception {
+		Instant expiresAt = Instant.now().plusSeconds(60);
+		assertThat(filter(sign(claims("alice", ISSUER, "other-services", expiresAt), SECRET))).isNull();
+	}
+
+	@Test
+	void shortSecretIsRejected() {
+		assertThatThrownBy(() -> new EdgeClaimsAuthenticationFilter("too-short", ISSUER, AUDIENCE))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("at least 32 bytes");
+	}
+
+	@Test
+	void malformedHeaderIsIgnored() throws Exception {
+		assertThat(filter("garbage")).isNull();
+		assertThat(filter("bm90LWpzb24.c2ln")).isNull();
+	}
+
+	private Authentication filter(String header) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+		request.addHeader(EdgeClaimsAuthenticationFilter.HEADER, header);
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	private static String claims(String subject, Instant expiresAt) {
+		return claims(subject, ISSUER, AUDIENCE, expiresAt);
+	}
+
+	private static String claims(String subject, String issuer, String audience, Instant expiresAt) {
+		return "{\"sub\":\"" + subject + "\",\"name\":\"" + subject + "\",\"scope\":\"openid profile\","
+				+ "\"roles\":[\"user\"],\"iss\":\"" + issuer + "\",\"aud\":\"" + audience + "\",\"exp\":"
+				+ expiresAt.getEpochSecond() + "}";
+	}
+
+	private static String sign(String json, String secret) throws Exception {
+		String payload = encode(json);
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+		return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+	}
+
+	private static String encode(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
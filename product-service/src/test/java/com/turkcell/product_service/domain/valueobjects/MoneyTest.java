@@ -0,0 +1,26 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+	@Test
+	void negativeAmountIsRejectedEvenWhenItRoundsToZero() {
+		assertThatThrownBy(() -> Money.of(new BigDecimal("-0.001"), Currency.TRY))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Amount cannot be negative");
+		assertThatThrownBy(() -> Money.of(new BigDecimal("-1.00"), Currency.TRY))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void amountIsRoundedHalfUpToMinorUnits() {
+		assertThat(Money.of(new BigDecimal("0.004"), Currency.TRY).getMinorUnits()).isZero();
+		assertThat(Money.of(new BigDecimal("19.995"), Currency.TRY).getMinorUnits()).isEqualTo(2000);
+	}
+}
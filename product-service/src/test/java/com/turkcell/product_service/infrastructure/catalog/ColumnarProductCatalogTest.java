@@ -0,0 +1,95 @@
+package com.turkcell.product_service.infrastructure.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.application.dtos.ProductSort;
+import com.turkcell.product_service.application.ports.ProductSearchCriteria;
+import com.turkcell.product_service.application.ports.ProductSearchResult;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+
+class ColumnarProductCatalogTest {
+
+	private static final UUID CHEAP = new UUID(0, 1);
+	private static final UUID MID = new UUID(0, 2);
+	private static final UUID PRICEY = new UUID(0, 3);
+	private static final UUID SOLD_OUT = new UUID(0, 4);
+	private static final UUID EURO = new UUID(0, 5);
+
+	private final ColumnarProductCatalog catalog = new ColumnarProductCatalog();
+
+	@Test
+	void filtersCountAndReturnsTopNInOrder() {
+		seed();
+
+		ProductSearchResult result = catalog.search(
+				new ProductSearchCriteria(Currency.TRY, 1_000, Long.MAX_VALUE, true, ProductSort.PRICE_DESC, 2));
+
+		assertThat(result.totalMatches()).isEqualTo(3);
+		assertThat(ids(result)).containsExactly(PRICEY, MID);
+	}
+
+	@Test
+	void sortsByStockAcrossCurrencies() {
+		seed();
+
+		ProductSearchResult result = catalog.search(
+				new ProductSearchCriteria(null, 0, Long.MAX_VALUE, false, ProductSort.STOCK_ASC, 10));
+
+		assertThat(result.totalMatches()).isEqualTo(5);
+		assertThat(ids(result)).containsExactly(SOLD_OUT, PRICEY, EURO, MID, CHEAP);
+	}
+
+	@Test
+	void updatesAndDeletesAreVisibleToQueries() {
+		seed();
+		catalog.put(CHEAP, 2, 900_000, Currency.TRY, 50);
+		catalog.remove(ProductId.of(PRICEY));
+
+		ProductSearchResult result = catalog.search(
+				new ProductSearchCriteria(Currency.TRY, 0, Long.MAX_VALUE, false, ProductSort.PRICE_DESC, 10));
+
+		assertThat(catalog.size()).isEqualTo(4);
+		assertThat(ids(result)).containsExactly(CHEAP, SOLD_OUT, MID);
+	}
+
+	@Test
+	void olderVersionDoesNotOverwriteNewerRow() {
+		seed();
+		catalog.put(MID, 3, 70_000, Currency.TRY, 5);
+
+		assertThat(catalog.put(MID, 2, 10, Currency.TRY, 99)).isFalse();
+		assertThat(catalog.put(MID, 3, 80_000, Currency.TRY, 5)).isTrue();
+
+		ProductSearchResult result = catalog.search(
+				new ProductSearchCriteria(Currency.TRY, 75_000, 85_000, false, ProductSort.PRICE_ASC, 10));
+		assertThat(ids(result)).containsExactly(MID);
+	}
+
+	@Test
+	void deleteKeepsVersionsOfMovedRow() {
+		seed();
+		catalog.put(EURO, 5, 60_000, Currency.EUR, 20);
+		catalog.delete(CHEAP);
+
+		assertThat(catalog.put(EURO, 4, 1, Currency.EUR, 0)).isFalse();
+		assertThat(catalog.size()).isEqualTo(4);
+	}
+
+	private void seed() {
+		catalog.put(CHEAP, 1, 1_000, Currency.TRY, 40);
+		catalog.put(MID, 1, 50_000, Currency.TRY, 30);
+		catalog.put(PRICEY, 1, 250_000, Currency.TRY, 10);
+		catalog.put(SOLD_OUT, 1, 90_000, Currency.TRY, 0);
+		catalog.put(EURO, 1, 60_000, Currency.EUR, 20);
+	}
+
+	private static List<UUID> ids(ProductSearchResult result) {
+		return result.productIds().stream().map(ProductId::getValue).toList();
+	}
+}
@@ -0,0 +1,146 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; each
+ * answers with its own name, and the replica's lag is whatever the test
+ * writes into its lag table.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RecentWrites recentWrites = new RecentWrites(1024, Duration.ofMinutes(1));
+
+	private HikariDataSource primary;
+	private HikariDataSource replica;
+	private ReplicaRoutingDataSource routing;
+	private JdbcTemplate jdbc;
+	private TransactionTemplate readOnly;
+	private TransactionTemplate readWrite;
+
+	@BeforeEach
+	void setUp() {
+		primary = pool("primary");
+		replica = pool("replica-0");
+		new JdbcTemplate(replica).execute("CREATE TABLE replication_lag (millis BIGINT)");
+		new JdbcTemplate(replica).update("INSERT INTO replication_lag VALUES (0)");
+
+		routing = new ReplicaRoutingDataSource(primary, List.of(replica), recentWrites, Duration.ofSeconds(2),
+				"SELECT millis FROM replication_lag", meterRegistry);
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(routing);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbc = new JdbcTemplate(dataSource);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readWrite = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		routing.close();
+		primary.close();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToTheReplicaOnceItsLagIsKnown() {
+		assertThat(readOnlyServedBy()).isEqualTo("primary");
+
+		routing.checkLag();
+
+		assertThat(readOnlyServedBy()).isEqualTo("replica-0");
+		assertThat(reads("replica-0", "replica")).isEqualTo(1);
+		assertThat(reads("primary", "no_replica")).isEqualTo(1);
+		assertThat(meterRegistry.get("product.datasource.replica.lag").timeGauge().value()).isZero();
+	}
+
+	@Test
+	void readWriteTransactionsStayOnThePrimary() {
+		routing.checkLag();
+
+		String servedBy = readWrite.execute(status -> jdbc.queryForObject("SELECT name FROM marker", String.class));
+
+		assertThat(servedBy).isEqualTo("primary");
+		assertThat(reads("replica-0", "replica")).isZero();
+	}
+
+	@Test
+	void replicaLaggingBeyondTheBoundIsSkipped() {
+		new JdbcTemplate(replica).update("UPDATE replication_lag SET millis = 5000");
+
+		routing.checkLag();
+
+		assertThat(readOnlyServedBy()).isEqualTo("primary");
+		assertThat(meterRegistry.get("product.datasource.replica.lag").timeGauge().value(TimeUnit.MILLISECONDS))
+				.isEqualTo(5000);
+
+		new JdbcTemplate(replica).update("UPDATE replication_lag SET millis = 100");
+		routing.checkLag();
+
+		assertThat(readOnlyServedBy()).isEqualTo("replica-0");
+	}
+
+	@Test
+	void clientThatWroteRecentlyReadsFromThePrimary() {
+		routing.checkLag();
+		recentWrites.markWrite("alice");
+
+		try (RecentWrites.Scope scope = RecentWrites.bind("alice")) {
+			assertThat(readOnlyServedBy()).isEqualTo("primary");
+		}
+		try (RecentWrites.Scope scope = RecentWrites.bind("bob")) {
+			assertThat(readOnlyServedBy()).isEqualTo("replica-0");
+		}
+		assertThat(reads("primary", "recent_write")).isEqualTo(1);
+	}
+
+	@Test
+	void unreachableReplicaIsSkipped() {
+		routing.checkLag();
+		replica.close();
+
+		routing.checkLag();
+
+		assertThat(readOnlyServedBy()).isEqualTo("primary");
+		assertThat(meterRegistry.get("product.datasource.replica.lag").timeGauge().value()).isNaN();
+	}
+
+	private String readOnlyServedBy() {
+		return readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM marker", String.class));
+	}
+
+	private double reads(String pool, String reason) {
+		return meterRegistry.get("product.datasource.reads").tag("pool", pool).tag("reason", reason).counter()
+				.count();
+	}
+
+	private static HikariDataSource pool(String name) {
+		HikariDataSource pool = new HikariDataSource();
+		pool.setPoolName(name);
+		pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		pool.setMaximumPoolSize(2);
+		JdbcTemplate jdbc = new JdbcTemplate(pool);
+		jdbc.execute("CREATE TABLE marker (name VARCHAR(32))");
+		jdbc.update("INSERT INTO marker VALUES (?)", name);
+		return pool;
+	}
+}
@@ -0,0 +1,116 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Money;
+
+/**
+ * Locks in the number of SQL statements each write use case costs.
+ */
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.turkcell.product_service.infrastructure.repositories.ProductRepositoryImplTest$RecordingStatementInspector" })
+@Import(ProductRepositoryImpl.class)
+class ProductRepositoryImplTest {
+
+	@Autowired
+	private ProductRepositoryImpl repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@BeforeEach
+	void resetStatements() {
+		RecordingStatementInspector.STATEMENTS.clear();
+	}
+
+	@Test
+	void newProductIsInsertedWithoutSelect() {
+		Product saved = repository.save(newProduct());
+
+		assertThat(statements()).singleElement().asString().startsWith("insert into products");
+		assertThat(saved.getVersion()).isZero();
+	}
+
+	@Test
+	void updateWritesOnlyChangedColumnsUnderVersionCheck() {
+		Product product = persistAndDetach();
+
+		Product loaded = repository.findById(product.getId()).orElseThrow();
+		loaded.updatePrice(Money.of(new BigDecimal("899.90"), Currency.TRY));
+		Product updated = repository.save(loaded);
+
+		assertThat(statements()).hasSize(2);
+		assertThat(statements().get(0)).startsWith("select");
+		assertThat(statements().get(1))
+				.isEqualTo("update products set price_amount=?,version=? where id=? and version=?");
+		assertThat(updated.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void staleVersionIsRejected() {
+		Product product = persistAndDetach();
+		Product first = repository.findById(product.getId()).orElseThrow();
+		first.updatePrice(Money.of(new BigDecimal("899.90"), Currency.TRY));
+		repository.save(first);
+
+		Product stale = Product.reconstitute(product.getId(), product.getName(), product.getDescription(),
+				Money.of(new BigDecimal("799.90"), Currency.TRY), product.getStock(), product.getVersion());
+
+		assertThatThrownBy(() -> repository.save(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	void deleteIsSingleStatement() {
+		Product product = persistAndDetach();
+
+		assertThat(repository.deleteById(product.getId())).isTrue();
+		assertThat(statements()).singleElement().asString().startsWith("delete from products");
+
+		assertThat(repository.deleteById(product.getId())).isFalse();
+	}
+
+	private Product persistAndDetach() {
+		Product saved = repository.save(newProduct());
+		entityManager.clear();
+		RecordingStatementInspector.STATEMENTS.clear();
+		return saved;
+	}
+
+	private static Product newProduct() {
+		return Product.create("Mechanical keyboard", "Hot-swappable switches", new BigDecimal("1249.90"),
+				Currency.TRY, 25);
+	}
+
+	private static List<String> statements() {
+		return RecordingStatementInspector.STATEMENTS;
+	}
+
+	public static class RecordingStatementInspector implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.turkcell.product_service.infrastructure.reservations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.turkcell.product_service.domain.entities.StockReservation;
+import com.turkcell.product_service.domain.exceptions.InsufficientStockException;
+import com.turkcell.product_service.domain.exceptions.ReservationNotFoundException;
+import com.turkcell.product_service.domain.valueobjects.ProductId;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StripedReservationLedgerTest {
+
+	private static final ProductId PRODUCT = ProductId.of(new UUID(0, 1));
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private final StripedReservationLedger ledger = new StripedReservationLedger(mock(JdbcReservationStore.class),
+			new SimpleMeterRegistry(), 100);
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void holdsOnlyUnreservedStock() {
+		ledger.hold(PRODUCT, 6, () -> Stock.of(10), TTL);
+
+		assertThatThrownBy(() -> ledger.hold(PRODUCT, 5, () -> Stock.of(10), TTL))
+				.isInstanceOf(InsufficientStockException.class)
+				.hasMessageContaining("available=4");
+		assertThat(ledger.reservedQuantity(PRODUCT)).isEqualTo(6);
+	}
+
+	@Test
+	void stockIsReadWhenTheHoldIsAdmitted() {
+		AtomicInteger committedStock = new AtomicInteger(10);
+		StockReservation first = ledger.hold(PRODUCT, 6, () -> Stock.of(committedStock.get()), TTL);
+
+		// Onay stoğu düşürür ve rezervasyonu bırakır; sonraki hold düşmüş stoğu görmeli
+		ledger.claim(first.getId());
+		committedStock.set(4);
+
+		assertThatThrownBy(() -> ledger.hold(PRODUCT, 5, () -> Stock.of(committedStock.get()), TTL))
+				.isInstanceOf(InsufficientStockException.class);
+		ledger.hold(PRODUCT, 4, () -> Stock.of(committedStock.get()), TTL);
+		assertThat(ledger.reservedQuantity(PRODUCT)).isEqualTo(4);
+	}
+
+	@Test
+	void claimedHoldKeepsStockUntilCommit() {
+		StockReservation reservation = ledger.hold(PRODUCT, 6, () -> Stock.of(10), TTL);
+		TransactionSynchronizationManager.initSynchronization();
+
+		ledger.claim(reservation.getId());
+		assertThat(ledger.reservedQuantity(PRODUCT)).isEqualTo(6);
+		assertThatThrownBy(() -> ledger.claim(reservation.getId())).isInstanceOf(ReservationNotFoundException.class);
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+		assertThat(ledger.reservedQuantity(PRODUCT)).isZero();
+		assertThat(ledger.release(reservation.getId())).isFalse();
+	}
+
+	@Test
+	void rolledBackClaimMakesTheHoldActiveAgain() {
+		StockReservation reservation = ledger.hold(PRODUCT, 6, () -> Stock.of(10), TTL);
+		TransactionSynchronizationManager.initSynchronization();
+
+		ledger.claim(reservation.getId());
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(ledger.reservedQuantity(PRODUCT)).isEqualTo(6);
+		assertThat(ledger.release(reservation.getId())).isTrue();
+		assertThat(ledger.reservedQuantity(PRODUCT)).isZero();
+	}
+
+	@Test
+	void releaseFreesTheQuantityOnce() {
+		StockReservation reservation = ledger.hold(PRODUCT, 3, () -> Stock.of(10), TTL);
+
+		assertThat(ledger.release(reservation.getId())).isTrue();
+		assertThat(ledger.release(reservation.getId())).isFalse();
+		assertThatThrownBy(() -> ledger.claim(reservation.getId())).isInstanceOf(ReservationNotFoundException.class);
+	}
+
+	@Test
+	void stockCannotBeSetBelowTheReservedQuantity() {
+		ledger.hold(PRODUCT, 6, () -> Stock.of(10), TTL);
+
+		assertThatThrownBy(() -> ledger.restrictStock(PRODUCT, Stock.of(5)))
+				.isInstanceOf(InsufficientStockException.class)
+				.hasMessageContaining("6 is reserved");
+		ledger.restrictStock(PRODUCT, Stock.of(6));
+	}
+
+	@Test
+	void pendingStockUpdateLimitsHoldsUntilTheTransactionCompletes() {
+		ledger.hold(PRODUCT, 2, () -> Stock.of(10), TTL);
+		TransactionSynchronizationManager.initSynchronization();
+
+		ledger.restrictStock(PRODUCT, Stock.of(4));
+		assertThatThrownBy(() -> ledger.hold(PRODUCT, 3, () -> Stock.of(10), TTL))
+				.isInstanceOf(InsufficientStockException.class);
+
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		ledger.hold(PRODUCT, 3, () -> Stock.of(10), TTL);
+		assertThat(ledger.reservedQuantity(PRODUCT)).isEqualTo(5);
+	}
+
+	private static void complete(int status) {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(status);
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
@@ -0,0 +1,89 @@
+package com.turkcell.product_service.infrastructure.reservations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+	private static final long TICK = 100;
+
+	@Test
+	void timeoutFiresOnTheFirstTickAtOrAfterItsDeadline() {
+		TimingWheel<Entry> wheel = new TimingWheel<>(TICK, 0);
+		List<Entry> fired = new ArrayList<>();
+		wheel.schedule(new Entry(250));
+
+		wheel.advance(200, fired::add);
+		assertThat(fired).isEmpty();
+
+		wheel.advance(300, fired::add);
+		assertThat(fired).extracting(Entry::deadlineMillis).containsExactly(250L);
+	}
+
+	@Test
+	void timeoutsOnEveryLevelFireOnTime() {
+		TimingWheel<Entry> wheel = new TimingWheel<>(TICK, 0);
+		Random random = new Random(7);
+		List<Entry> entries = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			// 0.1 s ile ~2 gün arası, dört seviyenin hepsine düşer
+			Entry entry = new Entry(1 + (long) (random.nextDouble() * 2 * 24 * 3_600_000L));
+			entries.add(entry);
+			wheel.schedule(entry);
+		}
+
+		long now = 0;
+		long end = 2 * 24 * 3_600_000L + TICK;
+		while (now < end) {
+			now += TICK;
+			long tickTime = now;
+			wheel.advance(tickTime, entry -> {
+				assertThat(entry.deadlineMillis()).isLessThanOrEqualTo(tickTime).isGreaterThan(tickTime - TICK);
+				entry.fired = true;
+			});
+		}
+
+		assertThat(entries).allMatch(entry -> entry.fired);
+	}
+
+	@Test
+	void deadlinesBeyondTheWheelSpanAreHeldBack() {
+		TimingWheel<Entry> wheel = new TimingWheel<>(1, 0);
+		List<Entry> fired = new ArrayList<>();
+		long span = 1L << 24;
+		wheel.schedule(new Entry(span + 500));
+
+		for (long now = 1; now < span + 500; now++) {
+			wheel.advance(now, fired::add);
+		}
+		assertThat(fired).isEmpty();
+
+		wheel.advance(span + 500, fired::add);
+		assertThat(fired).hasSize(1);
+	}
+
+	@Test
+	void pastDeadlinesFireOnTheNextAdvance() {
+		TimingWheel<Entry> wheel = new TimingWheel<>(TICK, 1_000);
+		List<Entry> fired = new ArrayList<>();
+		wheel.schedule(new Entry(500));
+
+		wheel.advance(1_000, fired::add);
+
+		assertThat(fired).hasSize(1);
+	}
+
+	private static final class Entry extends TimingWheel.Timeout {
+
+		private boolean fired;
+
+		Entry(long deadlineMillis) {
+			super(deadlineMillis);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.turkcell.product_service.infrastructure.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.turkcell.product_service.infrastructure.datasource.RecentWrites;
+import com.turkcell.product_service.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WarmupRunnerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ApplicationInfoManager applicationInfoManager = mock(ApplicationInfoManager.class);
+
+	@Test
+	void runsTasksForTheConfiguredIterationsThenReportsUp() {
+		List<Integer> seen = new ArrayList<>();
+
+		runner(List.of(seen::add), true, 5, Duration.ofMinutes(1)).onApplicationEvent(readyEvent());
+
+		assertThat(seen).containsExactly(0, 1, 2, 3, 4);
+		assertThat(meterRegistry.get("application.warmup.iterations").gauge().value()).isEqualTo(5);
+		assertThat(meterRegistry.get("application.warmup.time").timeGauge().value()).isPositive();
+		verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	@Test
+	void stopsAtTheMaximumDuration() {
+		List<Integer> seen = new ArrayList<>();
+
+		runner(List.of(iteration -> {
+			seen.add(iteration);
+			sleep(20);
+		}), true, Integer.MAX_VALUE, Duration.ofMillis(100)).onApplicationEvent(readyEvent());
+
+		assertThat(seen).isNotEmpty().hasSizeLessThan(20);
+		verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	@Test
+	void failingTaskIsDroppedAndTheOthersKeepRunning() {
+		List<Integer> seen = new ArrayList<>();
+		WarmupTask failing = iteration -> {
+			throw new IllegalStateException("broken");
+		};
+
+		runner(List.of(failing, seen::add), true, 3, Duration.ofMinutes(1)).onApplicationEvent(readyEvent());
+
+		assertThat(seen).containsExactly(0, 1, 2);
+		verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	@Test
+	void fillsTheReplicaPoolsOfTheRoutingDataSource() throws Exception {
+		HikariDataSource primary = mock(HikariDataSource.class);
+		HikariDataSource replica = mock(HikariDataSource.class);
+		when(replica.getPoolName()).thenReturn("replica-0");
+		when(replica.getMinimumIdle()).thenReturn(2);
+		when(replica.getConnection()).thenReturn(mock(Connection.class));
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica),
+				new RecentWrites(16, Duration.ofSeconds(1)), Duration.ofSeconds(2), "SELECT 0", meterRegistry);
+		StaticListableBeanFactory beans = new StaticListableBeanFactory(
+				Map.of("applicationInfoManager", applicationInfoManager, "replicaRoutingDataSource", routing));
+
+		new WarmupRunner(List.of(), beans.getBeanProvider(HikariDataSource.class),
+				beans.getBeanProvider(ReplicaRoutingDataSource.class), beans.getBeanProvider(ApplicationInfoManager.class),
+				meterRegistry, true, 1, Duration.ofMinutes(1)).onApplicationEvent(readyEvent());
+
+		verify(replica, times(2)).getConnection();
+	}
+
+	@Test
+	void disabledWarmupReportsUpRightAway() {
+		List<Integer> seen = new ArrayList<>();
+
+		runner(List.of(seen::add), false, 5, Duration.ofMinutes(1)).onApplicationEvent(readyEvent());
+
+		assertThat(seen).isEmpty();
+		verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	private WarmupRunner runner(List<WarmupTask> tasks, boolean enabled, int iterations, Duration maxDuration) {
+		StaticListableBeanFactory beans = new StaticListableBeanFactory(
+				Map.of("applicationInfoManager", applicationInfoManager));
+		return new WarmupRunner(tasks, beans.getBeanProvider(HikariDataSource.class),
+				beans.getBeanProvider(ReplicaRoutingDataSource.class), beans.getBeanProvider(ApplicationInfoManager.class),
+				meterRegistry, enabled, iterations, maxDuration);
+	}
+
+	private static ApplicationReadyEvent readyEvent() {
+		return new ApplicationReadyEvent(new SpringApplication(), new String[0], null, Duration.ZERO);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
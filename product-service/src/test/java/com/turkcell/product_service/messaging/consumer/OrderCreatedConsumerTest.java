@@ -0,0 +1,128 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.turkcell.event_schema.events.OrderCreatedEvent;
+
+class OrderCreatedConsumerTest {
+
+	private static final TopicPartition PARTITION = new TopicPartition("order-topic", 0);
+	private static final OrderCreatedEvent EVENT = new OrderCreatedEvent("product-1", 1);
+
+	private final OrderCreatedHandler handler = mock(OrderCreatedHandler.class);
+	private final OrderEventRetryRouter retryRouter = mock(OrderEventRetryRouter.class);
+	@SuppressWarnings("unchecked")
+	private final org.apache.kafka.clients.consumer.Consumer<byte[], byte[]> kafkaConsumer =
+			mock(org.apache.kafka.clients.consumer.Consumer.class);
+	private final List<Long> acknowledged = Collections.synchronizedList(new ArrayList<>());
+	private final KeyOrderedExecutor executor = new KeyOrderedExecutor(1, 10);
+
+	@AfterEach
+	void closeExecutor() throws InterruptedException {
+		executor.close();
+	}
+
+	@Test
+	void recordTheRouterCannotTakeIsNotCommittedAndIsReadAgain() throws Exception {
+		Consumer<Message<byte[]>> consumer = parallel();
+		Message<byte[]> failing = record(10);
+		when(handler.parse(any())).thenReturn(EVENT);
+		doThrow(new IllegalStateException("database down")).when(handler).handle(eq(failing), any());
+		doThrow(new IllegalStateException("broker down")).when(retryRouter).forward(eq(failing), any());
+
+		consumer.accept(failing);
+		consumer.accept(record(11));
+		awaitIdle();
+		assertThat(acknowledged).isEmpty();
+
+		// Sonraki kayıt partition'ı başarısız kayda geri sarar ve kendisi atlanır
+		consumer.accept(record(12));
+		verify(kafkaConsumer).seek(PARTITION, 10);
+		verify(handler, never()).handle(argThat(message -> offset(message) == 12), any());
+
+		doNothing().when(handler).handle(any(), any());
+		consumer.accept(record(10));
+		consumer.accept(record(11));
+		awaitIdle();
+		assertThat(acknowledged).containsExactly(10L, 11L);
+	}
+
+	@Test
+	void unreadableRecordTheRouterCannotTakeRewindsRightAway() {
+		Consumer<Message<byte[]>> consumer = parallel();
+		when(handler.parse(any())).thenThrow(new IllegalArgumentException("not an order event"));
+		doThrow(new IllegalStateException("broker down")).when(retryRouter).forward(any(), any());
+
+		consumer.accept(record(5));
+
+		verify(kafkaConsumer).seek(PARTITION, 5);
+		assertThat(acknowledged).isEmpty();
+	}
+
+	@Test
+	void sequentialConsumerRethrowsWhenTheRouterCannotTakeTheRecord() {
+		@SuppressWarnings("unchecked")
+		ObjectProvider<KeyOrderedExecutor> noExecutor = mock(ObjectProvider.class);
+		Consumer<Message<byte[]>> consumer = new OrderCreatedConsumer().orderCreated(handler, retryRouter, noExecutor);
+		when(handler.parse(any())).thenReturn(EVENT);
+		doThrow(new IllegalStateException("database down")).when(handler).handle(any(), any());
+		doThrow(new IllegalStateException("broker down")).when(retryRouter).forward(any(), any());
+
+		assertThatThrownBy(() -> consumer.accept(record(3))).hasMessage("broker down");
+		assertThat(acknowledged).isEmpty();
+	}
+
+	private Consumer<Message<byte[]>> parallel() {
+		@SuppressWarnings("unchecked")
+		ObjectProvider<KeyOrderedExecutor> provider = mock(ObjectProvider.class);
+		when(provider.getIfAvailable()).thenReturn(executor);
+		return new OrderCreatedConsumer().orderCreated(handler, retryRouter, provider);
+	}
+
+	private Message<byte[]> record(long offset) {
+		Acknowledgment acknowledgment = () -> acknowledged.add(offset);
+		return MessageBuilder.withPayload(new byte[] { 1 })
+				.setHeader(KafkaHeaders.RECEIVED_TOPIC, PARTITION.topic())
+				.setHeader(KafkaHeaders.RECEIVED_PARTITION, PARTITION.partition())
+				.setHeader(KafkaHeaders.OFFSET, offset)
+				.setHeader(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment)
+				.setHeader(KafkaHeaders.CONSUMER, kafkaConsumer)
+				.build();
+	}
+
+	private static long offset(Message<byte[]> message) {
+		return message.getHeaders().get(KafkaHeaders.OFFSET, Long.class);
+	}
+
+	private void awaitIdle() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (executor.inFlight() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(executor.inFlight()).isZero();
+	}
+}
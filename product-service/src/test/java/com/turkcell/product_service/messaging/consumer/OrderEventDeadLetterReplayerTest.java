@@ -0,0 +1,119 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderEventDeadLetterReplayerTest {
+
+	private static final TopicPartition DLT = new TopicPartition("order-topic.dlt", 0);
+
+	@SuppressWarnings("unchecked")
+	private final Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+	private final StreamBridge streamBridge = mock(StreamBridge.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private Map<String, Object> consumerProperties;
+
+	private final OrderEventDeadLetterReplayer replayer = new OrderEventDeadLetterReplayer(new KafkaProperties(),
+			streamBridge, meterRegistry, "order-topic", "product-service", properties -> {
+				consumerProperties = properties;
+				return consumer;
+			});
+
+	@Test
+	void replaysToTheRecordedOriginalTopicWithoutFailureHeadersAndCommitsPastIt() {
+		ConsumerRecord<byte[], byte[]> failed = record(7, "legacy-order-topic");
+		when(consumer.poll(any())).thenReturn(new ConsumerRecords<>(Map.of(DLT, List.of(failed))));
+		when(streamBridge.send(anyString(), any())).thenReturn(true);
+
+		OrderEventDeadLetterReplayer.ReplayResult result = replayer.replay(10);
+
+		assertThat(result).isEqualTo(new OrderEventDeadLetterReplayer.ReplayResult("order-topic.dlt", 1));
+		assertThat(consumerProperties).containsEntry(ConsumerConfig.GROUP_ID_CONFIG, "product-service-dlt-replay")
+				.containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10)
+				.containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+		ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+		verify(streamBridge).send(eq("legacy-order-topic"), sent.capture());
+		assertThat(sent.getValue().getPayload()).isEqualTo(failed.value());
+		assertThat(sent.getValue().getHeaders()).containsKey("traceparent")
+				.doesNotContainKey(OrderEventHeaders.EXCEPTION_CLASS)
+				.doesNotContainKey(OrderEventHeaders.RETRY_ATTEMPT)
+				.doesNotContainKey(OrderEventHeaders.ORIGINAL_TOPIC);
+		assertThat(sent.getValue().getHeaders().get(KafkaHeaders.KEY)).isEqualTo(failed.key());
+		verify(consumer).commitSync(Map.of(DLT, new OffsetAndMetadata(8)));
+		assertThat(meterRegistry.get("order.event.dlt.replayed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void recordWithoutOriginGoesBackToTheMainTopic() {
+		when(consumer.poll(any())).thenReturn(new ConsumerRecords<>(Map.of(DLT, List.of(record(3, null)))));
+		when(streamBridge.send(anyString(), any())).thenReturn(true);
+
+		replayer.replay(10);
+
+		verify(streamBridge).send(eq("order-topic"), any());
+	}
+
+	@Test
+	void failedSendStopsTheBatchAndCommitsOnlyWhatWasSent() {
+		ConsumerRecord<byte[], byte[]> first = record(3, null);
+		ConsumerRecord<byte[], byte[]> second = record(4, null);
+		when(consumer.poll(any())).thenReturn(new ConsumerRecords<>(Map.of(DLT, List.of(first, second))));
+		when(streamBridge.send(anyString(), any())).thenReturn(true, false);
+
+		OrderEventDeadLetterReplayer.ReplayResult result = replayer.replay(10);
+
+		assertThat(result.replayed()).isEqualTo(1);
+		verify(consumer).commitSync(Map.of(DLT, new OffsetAndMetadata(4)));
+	}
+
+	@Test
+	void nothingIsCommittedWhenTheFirstSendFails() {
+		when(consumer.poll(any())).thenReturn(new ConsumerRecords<>(Map.of(DLT, List.of(record(3, null)))));
+		when(streamBridge.send(anyString(), any())).thenReturn(false);
+
+		assertThat(replayer.replay(10).replayed()).isZero();
+		verify(consumer, never()).commitSync(any(Map.class));
+	}
+
+	private static ConsumerRecord<byte[], byte[]> record(long offset, String originalTopic) {
+		ConsumerRecord<byte[], byte[]> record = new ConsumerRecord<>(DLT.topic(), DLT.partition(), offset,
+				bytes("product-1"), bytes("payload-" + offset));
+		record.headers().add("traceparent", bytes("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"));
+		record.headers().add(OrderEventHeaders.EXCEPTION_CLASS, bytes(IllegalArgumentException.class.getName()));
+		record.headers().add(OrderEventHeaders.RETRY_ATTEMPT, bytes("3"));
+		if (originalTopic != null) {
+			record.headers().add(OrderEventHeaders.ORIGINAL_TOPIC, bytes(originalTopic));
+		}
+		return record;
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+}
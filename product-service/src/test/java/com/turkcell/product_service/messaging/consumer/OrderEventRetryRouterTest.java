@@ -0,0 +1,129 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderEventRetryRouterTest {
+
+	private final StreamBridge streamBridge = mock(StreamBridge.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final OrderEventRetryRouter router = new OrderEventRetryRouter(streamBridge, meterRegistry,
+			List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)), "order-topic",
+			"order-topic.retry-1,order-topic.retry-2");
+
+	@BeforeEach
+	void acceptSends() {
+		when(streamBridge.send(anyString(), any())).thenReturn(true);
+	}
+
+	@Test
+	void firstFailureGoesToTheFirstRetryTierWithItsOrigin() {
+		router.forward(consumed("order-topic", null), new IllegalStateException("database down"));
+
+		Message<?> sent = sentTo("order-topic.retry-1");
+		assertThat(header(sent, OrderEventHeaders.RETRY_ATTEMPT)).isEqualTo("1");
+		assertThat(header(sent, OrderEventHeaders.ORIGINAL_TOPIC)).isEqualTo("order-topic");
+		assertThat(header(sent, OrderEventHeaders.ORIGINAL_PARTITION)).isEqualTo("2");
+		assertThat(header(sent, OrderEventHeaders.ORIGINAL_OFFSET)).isEqualTo("42");
+		assertThat(header(sent, OrderEventHeaders.EXCEPTION_CLASS)).isEqualTo(IllegalStateException.class.getName());
+		assertThat(Long.parseLong(header(sent, OrderEventHeaders.RETRY_NOT_BEFORE)))
+				.isGreaterThan(System.currentTimeMillis());
+		assertThat(sent.getHeaders().get(KafkaHeaders.KEY)).isEqualTo(key());
+		assertThat(meterRegistry.get("order.event.retry.depth").tag("tier", "1").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	void retriedFailureMovesToTheNextTier() {
+		router.forward(consumed("order-topic.retry-1", "1"), new IllegalStateException("still down"));
+
+		Message<?> sent = sentTo("order-topic.retry-2");
+		assertThat(header(sent, OrderEventHeaders.RETRY_ATTEMPT)).isEqualTo("2");
+	}
+
+	@Test
+	void failureAfterTheLastTierGoesToTheDeadLetterTopic() {
+		router.forward(consumed("order-topic.retry-2", "2"), new IllegalStateException("still down"));
+
+		sentTo("order-topic.dlt");
+		assertThat(meterRegistry.get("order.event.dlt.inflow").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void unreadableEventSkipsTheRetryTiers() {
+		router.forward(consumed("order-topic", null), new IllegalArgumentException("unknown schema"));
+
+		Message<?> sent = sentTo("order-topic.dlt");
+		assertThat(header(sent, OrderEventHeaders.RETRY_ATTEMPT)).isNull();
+		assertThat(header(sent, OrderEventHeaders.EXCEPTION_MESSAGE)).isEqualTo("unknown schema");
+	}
+
+	@Test
+	void failedSendIsReported() {
+		when(streamBridge.send(anyString(), any())).thenReturn(false);
+
+		assertThatThrownBy(() -> router.forward(consumed("order-topic", null), new IllegalStateException("down")))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("order-topic.retry-1");
+	}
+
+	@Test
+	void retryTopicsMustMatchTheDelays() {
+		List<Duration> delays = List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+		OrderEventRetryRouter.checkRetryTopics(delays, "order-topic",
+				"order-topic.retry-1, order-topic.retry-2, order-topic.retry-3");
+		assertThatThrownBy(() -> OrderEventRetryRouter.checkRetryTopics(delays, "order-topic",
+				"order-topic.retry-1,order-topic.retry-2"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("order-topic.retry-3");
+		assertThatThrownBy(() -> OrderEventRetryRouter.checkRetryTopics(delays, "order-topic", ""))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private Message<?> sentTo(String destination) {
+		ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+		verify(streamBridge).send(eq(destination), message.capture());
+		return message.getValue();
+	}
+
+	private static Message<byte[]> consumed(String topic, String attempt) {
+		MessageBuilder<byte[]> builder = MessageBuilder.withPayload(new byte[] { 1, 2, 3 })
+				.setHeader(KafkaHeaders.RECEIVED_TOPIC, topic)
+				.setHeader(KafkaHeaders.RECEIVED_PARTITION, 2)
+				.setHeader(KafkaHeaders.OFFSET, 42L)
+				.setHeader(KafkaHeaders.RECEIVED_KEY, key());
+		if (attempt != null) {
+			builder.setHeader(OrderEventHeaders.RETRY_ATTEMPT, attempt)
+					.setHeader(OrderEventHeaders.ORIGINAL_TOPIC, "order-topic");
+		}
+		return builder.build();
+	}
+
+	private static byte[] key() {
+		return "product-1".getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String header(Message<?> message, String name) {
+		return OrderEventHeaders.text(message.getHeaders().get(name));
+	}
+}
@@ -0,0 +1,99 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+class PartitionOffsetTrackerTest {
+
+	private final List<Long> acknowledged = Collections.synchronizedList(new ArrayList<>());
+	private final PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+
+	@Test
+	void acknowledgesOnlyUpToTheFirstUnfinishedRecord() {
+		PartitionOffsetTracker.Completion first = track(0, 10);
+		PartitionOffsetTracker.Completion second = track(0, 11);
+		PartitionOffsetTracker.Completion third = track(0, 12);
+
+		third.complete();
+		second.complete();
+		assertThat(acknowledged).isEmpty();
+
+		first.complete();
+		assertThat(acknowledged).containsExactly(12L);
+	}
+
+	@Test
+	void partitionsAreTrackedSeparately() {
+		PartitionOffsetTracker.Completion blocked = track(0, 5);
+		PartitionOffsetTracker.Completion other = track(1, 7);
+
+		other.complete();
+
+		assertThat(acknowledged).containsExactly(7L);
+		blocked.complete();
+		assertThat(acknowledged).containsExactly(7L, 5L);
+	}
+
+	@Test
+	void redeliveredOffsetsStartOver() {
+		PartitionOffsetTracker.Completion stale = track(0, 20);
+		PartitionOffsetTracker.Completion replayed = track(0, 18);
+
+		replayed.complete();
+		assertThat(acknowledged).containsExactly(18L);
+
+		stale.complete();
+		assertThat(acknowledged).containsExactly(18L);
+	}
+
+	@Test
+	void failedRecordHoldsBackLaterOffsetsUntilItIsReadAgain() {
+		PartitionOffsetTracker.Completion failed = track(0, 30);
+		PartitionOffsetTracker.Completion later = track(0, 31);
+
+		failed.fail();
+		later.complete();
+		assertThat(acknowledged).isEmpty();
+
+		assertThat(tracker.rewinds()).containsExactly(new PartitionOffsetTracker.Rewind("order-topic", 0, 30));
+		assertThat(tracker.rewinds()).isEmpty();
+		// Geri sarmadan önce okunmuş kayıtlar atlanır
+		assertThat(track(0, 32)).isNull();
+
+		track(0, 30).complete();
+		assertThat(acknowledged).containsExactly(30L);
+	}
+
+	@Test
+	void sameKeyRunsInOrderAcrossLanes() throws Exception {
+		List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(200);
+		try (KeyOrderedExecutor executor = new KeyOrderedExecutor(4, 8)) {
+			for (int i = 0; i < 200; i++) {
+				int value = i;
+				executor.execute(i % 2 == 0 ? "even" : "odd-" + i, () -> {
+					if (value % 2 == 0) {
+						seen.add(value);
+					}
+					done.countDown();
+				});
+			}
+			assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(seen).isSorted().hasSize(100);
+	}
+
+	private PartitionOffsetTracker.Completion track(int partition, long offset) {
+		Acknowledgment acknowledgment = () -> acknowledged.add(offset);
+		return tracker.track("order-topic", partition, offset, acknowledgment);
+	}
+}
@@ -0,0 +1,47 @@
+package com.turkcell.product_service.web.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductVersion;
+import com.turkcell.product_service.application.dtos.ProductVersionList;
+import com.turkcell.product_service.application.dtos.StockDto;
+
+class ProductETagsTest {
+
+	@Test
+	void listTagFromVersionsMatchesTagOfLoadedPage() {
+		ProductListResponse page = new ProductListResponse(List.of(product("a", 3), product("b", 0)), 7);
+
+		assertThat(ProductETags.of(page)).isEqualTo(ProductETags.of(new ProductVersionList(
+				List.of(new ProductVersion("a", 3), new ProductVersion("b", 0)), 7)));
+		assertThat(ProductETags.of(page)).isNotEqualTo(ProductETags.of(new ProductVersionList(
+				List.of(new ProductVersion("a", 4), new ProductVersion("b", 0)), 7)));
+		assertThat(ProductETags.of(page)).isNotEqualTo(ProductETags.of(new ProductVersionList(
+				List.of(new ProductVersion("b", 0), new ProductVersion("a", 3)), 7)));
+	}
+
+	@Test
+	void ifMatchIsReadAsASingleStrongVersion() {
+		assertThat(ProductETags.expectedVersion(null)).isNull();
+		assertThat(ProductETags.expectedVersion("*")).isNull();
+		assertThat(ProductETags.expectedVersion(ProductETags.of(12))).isEqualTo(12L);
+		// Zayıf ETag güçlü karşılaştırmada hiçbir sürümle eşleşmez
+		assertThat(ProductETags.expectedVersion("W/\"12\"")).isEqualTo(-1L);
+		assertThatThrownBy(() -> ProductETags.expectedVersion("\"1\", \"2\""))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static ProductResponse product(String id, long version) {
+		return new ProductResponse(id, "Klavye", null, new PriceDto(new BigDecimal("10.00"), "TRY"),
+				new StockDto(1), version);
+	}
+}
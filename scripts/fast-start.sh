@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Starts a module built with `mvn -Pfast-startup package` using its AOT
+# initializers and the AppCDS archive recorded during the training run.
+#
+#   scripts/fast-start.sh product-service [--spring.profiles.active=dev ...]
+#
+# gateway-server and product-service need EDGE_CLAIMS_SECRET (at least 32
+# bytes, the same value for both) when they read the shared configuration.
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+    echo "usage: $0 <module> [application args...]" >&2
+    exit 1
+fi
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+module="$1"
+shift
+dir="$root/$module/target/fast-startup"
+jar="$(find "$dir" -maxdepth 1 -name "$module-*.jar" 2>/dev/null | head -n 1)"
+
+if [ -z "$jar" ] || [ ! -f "$dir/application.jsa" ]; then
+    echo "$module has no fast-startup build, run: mvn -f $module/pom.xml -Pfast-startup package" >&2
+    exit 1
+fi
+
+exec "${JAVA:-java}" \
+    -XX:SharedArchiveFile="$dir/application.jsa" \
+    -Xlog:cds=error \
+    -Dspring.aot.enabled=true \
+    -Dspring.cloud.refresh.enabled=false \
+    ${JAVA_OPTS:-} \
+    -jar "$jar" "$@"
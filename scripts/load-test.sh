@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Builds the service jars and the load generator, then runs the open-model
+# load test fully offline (H2, embedded Kafka, stub JWT issuer). The JSON
+# report is written under load-generator/results/ so runs can be compared
+# across commits; service logs and spans go to load-generator/target/run/.
+#
+#   scripts/load-test.sh                                   # all scenarios, 50 req/s
+#   scripts/load-test.sh --rate=200 --duration=60 --scenarios=product-get,order-create
+#   scripts/load-test.sh --direct                          # skip the gateway
+#   scripts/load-test.sh --product-arg=--spring.datasource.url=jdbc:postgresql://localhost:5432/product_service \
+#       --product-arg=--spring.datasource.driver-class-name=org.postgresql.Driver \
+#       --product-arg=--spring.datasource.username=postgres --product-arg=--spring.datasource.password=postgres
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+results="$root/load-generator/results"
+
+mvn -B -q -f "$root/event-schema/pom.xml" install
+mvn -B -q -f "$root/tracing-support/pom.xml" install
+mvn -B -q -f "$root/product-service/pom.xml" package -DskipTests
+mvn -B -q -f "$root/order-service/pom.xml" package -DskipTests
+mvn -B -q -f "$root/gateway-server/pom.xml" package -DskipTests
+mvn -B -q -f "$root/load-generator/pom.xml" clean package
+
+mkdir -p "$results"
+out="$results/$(date +%Y%m%d-%H%M%S)-$(git -C "$root" rev-parse --short HEAD 2>/dev/null || echo local).json"
+
+"${JAVA:-java}" -jar "$root/load-generator/target/load-generator.jar" --root="$root" --out="$out" "$@"
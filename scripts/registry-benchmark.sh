@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+# Runs the discovery-server registry scale benchmark: an in-process Eureka
+# server driven by simulated clients at increasing instance counts. The JSON
+# report is written under discovery-server/results/ so runs can be compared
+# across commits and settings.
+#
+#   scripts/registry-benchmark.sh                                  # 500, 1000, 2000, 5000 instances
+#   scripts/registry-benchmark.sh --instances=1000,5000 --duration=120 --churn-rate=5
+#   scripts/registry-benchmark.sh --server-arg=--eureka.server.use-read-only-response-cache=false
+#   scripts/registry-benchmark.sh --server-arg=--eureka.server.disable-transparent-fallback-to-other-region=false \
+#       --server-arg=--eureka.server.retention-time-in-m-s-in-delta-queue=180000
+#
+# The server runs with the eureka.server tuning read from
+# configurations/discovery-server/application.yml (another file with
+# --server-config=<path>); --server-arg overrides single settings.
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+results="$root/discovery-server/results"
+
+mkdir -p "$results"
+out="$results/$(date +%Y%m%d-%H%M%S)-$(git -C "$root" rev-parse --short HEAD 2>/dev/null || echo local).json"
+
+mvn -B -q -f "$root/discovery-server/pom.xml" -Pregistry-benchmark test-compile exec:exec \
+    -Dregistry-benchmark.args="--out=$out $*"
+echo "Results written to $out"
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Builds the JMH benchmarks against the current event-schema and product-service
+# sources and runs them with the GC profiler. Results are written as JSON under
+# benchmarks/results/ so runs can be compared across commits.
+#
+#   scripts/run-benchmarks.sh                       # all benchmarks
+#   scripts/run-benchmarks.sh ValueObject -p catalogSize=1000
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+results="$root/benchmarks/results"
+
+mvn -B -q -f "$root/event-schema/pom.xml" install
+mvn -B -q -f "$root/tracing-support/pom.xml" install
+mvn -B -q -f "$root/product-service/pom.xml" install -DskipTests
+mvn -B -q -f "$root/benchmarks/pom.xml" clean package
+
+mkdir -p "$results"
+out="$results/$(date +%Y%m%d-%H%M%S)-$(git -C "$root" rev-parse --short HEAD 2>/dev/null || echo local).json"
+
+"${JAVA:-java}" -jar "$root/benchmarks/target/benchmarks.jar" -prof gc -rf json -rff "$out" "$@"
+echo "Results written to $out"
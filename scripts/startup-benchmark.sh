@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Compares cold start of the plain fat jar with the fast-startup build
+# (AOT + AppCDS, see scripts/fast-start.sh). For every module and mode it
+# reports time-to-ready (until "Started ... in" is logged) and the resident
+# set size at that moment.
+#
+#   scripts/startup-benchmark.sh [-n runs] [module ...]
+#
+# Modules must be packaged both ways first:
+#   mvn -f <module>/pom.xml package && mvn -f <module>/pom.xml -Pfast-startup package
+# Extra application arguments can be passed through STARTUP_ARGS.
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+runs=3
+# gateway-server ve product-service config server'dan okuduğu edge-claims.secret için bunu ister; ölçüm için rastgele yeterli
+export EDGE_CLAIMS_SECRET="${EDGE_CLAIMS_SECRET:-$(head -c 32 /dev/urandom | base64)}"
+timeout_s=${STARTUP_TIMEOUT:-120}
+
+if [ "${1:-}" = "-n" ]; then
+    runs="$2"
+    shift 2
+fi
+modules=("$@")
+if [ ${#modules[@]} -eq 0 ]; then
+    modules=(config-server discovery-server gateway-server product-service order-service bff-service)
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the command in the background, waits for the ready line and prints
+# "<ready_ms> <rss_mb>"; prints "- -" when the service does not come up.
+measure() {
+    local log
+    log="$(mktemp)"
+    local start
+    start="$(now_ms)"
+    "$@" ${STARTUP_ARGS:-} >"$log" 2>&1 &
+    local pid=$!
+    local result="- -"
+    while kill -0 "$pid" 2>/dev/null; do
+        if grep -q "Started .* in .* seconds" "$log"; then
+            local ready=$(($(now_ms) - start))
+            local rss_kb
+            rss_kb="$(ps -o rss= -p "$pid" | tr -d ' ')"
+            result="$ready $((rss_kb / 1024))"
+            break
+        fi
+        if [ $(($(now_ms) - start)) -gt $((timeout_s * 1000)) ]; then
+            break
+        fi
+        sleep 0.05
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    echo "$result"
+}
+
+printf "%-18s %-8s %-4s %12s %10s\n" module mode run ready_ms rss_mb
+for module in "${modules[@]}"; do
+    # Modules used as a library keep the runnable jar under the exec classifier
+    jar="$(find "$root/$module/target" -maxdepth 1 -name "$module-*-exec.jar" 2>/dev/null | head -n 1)"
+    if [ -z "$jar" ]; then
+        jar="$(find "$root/$module/target" -maxdepth 1 -name "$module-*.jar" 2>/dev/null | head -n 1)"
+    fi
+    for run in $(seq 1 "$runs"); do
+        if [ -n "$jar" ]; then
+            read -r ready rss < <(measure "${JAVA:-java}" ${JAVA_OPTS:-} -jar "$jar")
+            printf "%-18s %-8s %-4s %12s %10s\n" "$module" default "$run" "$ready" "$rss"
+        fi
+        if [ -f "$root/$module/target/fast-startup/application.jsa" ]; then
+            read -r ready rss < <(measure "$root/scripts/fast-start.sh" "$module")
+            printf "%-18s %-8s %-4s %12s %10s\n" "$module" fast "$run" "$ready" "$rss"
+        fi
+    done
+done
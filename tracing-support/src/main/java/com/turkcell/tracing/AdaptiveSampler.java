@@ -0,0 +1,89 @@
+package com.turkcell.tracing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Head sampler for root spans that keeps the number of sampled traces near a
+ * target rate whatever the traffic: each one second window re-derives the
+ * sampling probability from the smoothed arrival rate of new traces, and a
+ * hard cap per window bounds bursts. Counters are updated without locks, so
+ * the rate is approximate under contention.
+ */
+public final class AdaptiveSampler implements Sampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double tracesPerSecond;
+    private final long maxPerWindow;
+    private final LongSupplier nanoClock;
+    private final AtomicLong windowStart;
+    private final AtomicLong seen = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+    private volatile double arrivalRate;
+    private volatile double probability = 1.0;
+
+    public AdaptiveSampler(double tracesPerSecond) {
+        this(tracesPerSecond, System::nanoTime);
+    }
+
+    AdaptiveSampler(double tracesPerSecond, LongSupplier nanoClock) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("tracesPerSecond must be positive");
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.maxPerWindow = Math.max(1, (long) Math.ceil(tracesPerSecond));
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        rollWindow(nanoClock.getAsLong());
+        seen.incrementAndGet();
+        if (ThreadLocalRandom.current().nextDouble() >= probability) {
+            return SamplingResult.drop();
+        }
+        if (sampled.incrementAndGet() > maxPerWindow) {
+            return SamplingResult.drop();
+        }
+        return SamplingResult.recordAndSample();
+    }
+
+    private void rollWindow(long now) {
+        long start = windowStart.get();
+        long elapsed = now - start;
+        if (elapsed < WINDOW_NANOS || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        double rate = seen.getAndSet(0) * (double) WINDOW_NANOS / elapsed;
+        sampled.set(0);
+        // Üstel ortalama: tek bir sıçrama olasılığı bir anda sıfıra çekmesin
+        double smoothed = arrivalRate == 0 ? rate : 0.7 * arrivalRate + 0.3 * rate;
+        arrivalRate = smoothed;
+        probability = smoothed <= tracesPerSecond ? 1.0 : tracesPerSecond / smoothed;
+    }
+
+    /**
+     * Probability with which a new trace is currently sampled, before the cap.
+     */
+    double probability() {
+        return probability;
+    }
+
+    @Override
+    public String getDescription() {
+        return "AdaptiveSampler{tracesPerSecond=" + tracesPerSecond + "}";
+    }
+}
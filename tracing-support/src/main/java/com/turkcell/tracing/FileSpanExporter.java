@@ -0,0 +1,125 @@
+package com.turkcell.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Appends finished spans to a local file, one JSON object per line, so traces
+ * can be inspected without a collector or any network access.
+ */
+public final class FileSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final BufferedWriter writer;
+
+    public FileSpanExporter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        StringBuilder line = new StringBuilder(512);
+        try {
+            for (SpanData span : spans) {
+                line.setLength(0);
+                appendSpan(line, span);
+                writer.write(line.toString());
+                writer.newLine();
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private static void appendSpan(StringBuilder out, SpanData span) {
+        out.append("{\"traceId\":\"").append(span.getTraceId())
+                .append("\",\"spanId\":\"").append(span.getSpanId()).append('"');
+        if (span.getParentSpanContext().isValid()) {
+            out.append(",\"parentSpanId\":\"").append(span.getParentSpanId()).append('"');
+        }
+        out.append(",\"service\":");
+        appendString(out, span.getResource().getAttribute(SERVICE_NAME));
+        out.append(",\"name\":");
+        appendString(out, span.getName());
+        out.append(",\"kind\":\"").append(span.getKind())
+                .append("\",\"startEpochNanos\":").append(span.getStartEpochNanos())
+                .append(",\"durationMicros\":").append((span.getEndEpochNanos() - span.getStartEpochNanos()) / 1000)
+                .append(",\"status\":\"").append(span.getStatus().getStatusCode())
+                .append("\",\"attributes\":{");
+        boolean[] first = { true };
+        span.getAttributes().forEach((key, value) -> {
+            if (!first[0]) {
+                out.append(',');
+            }
+            first[0] = false;
+            appendString(out, key.getKey());
+            out.append(':');
+            appendString(out, String.valueOf(value));
+        });
+        out.append("}}");
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,37 @@
+package com.turkcell.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * W3C trace context propagation comes from Spring Boot's OpenTelemetry
+ * support; this only replaces its fixed-ratio sampler and supplies an
+ * exporter that needs no network. Services pull it in with
+ * {@code @Import(TracingConfiguration.class)} on their application class.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Parent based: a span follows the decision of the service that started
+     * the trace, only new traces go through the adaptive rate limit.
+     */
+    @Bean
+    public Sampler otelSampler(@Value("${tracing.sampling.traces-per-second:10}") double tracesPerSecond) {
+        return Sampler.parentBased(new AdaptiveSampler(tracesPerSecond));
+    }
+
+    @Bean
+    public SpanExporter fileSpanExporter(
+            @Value("${tracing.export.file:${java.io.tmpdir}/traces/${spring.application.name}.jsonl}") String file)
+            throws IOException {
+        return new FileSpanExporter(Path.of(file));
+    }
+}
@@ -0,0 +1,78 @@
+package com.turkcell.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+
+class AdaptiveSamplerTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final AdaptiveSampler sampler = new AdaptiveSampler(10, now::get);
+
+	@Test
+	void samplesEverythingBelowTheTargetRate() {
+		assertThat(sample(5)).isEqualTo(5);
+		now.addAndGet(SECOND);
+
+		assertThat(sample(5)).isEqualTo(5);
+		assertThat(sampler.probability()).isEqualTo(1.0);
+	}
+
+	@Test
+	void burstIsCappedWithinItsWindow() {
+		assertThat(sample(1000)).isEqualTo(10);
+	}
+
+	@Test
+	void probabilityFollowsTheArrivalRate() {
+		sample(1000);
+		now.addAndGet(SECOND);
+
+		sample(1);
+
+		assertThat(sampler.probability()).isCloseTo(0.01, offset(1e-9));
+	}
+
+	@Test
+	void probabilityRecoversOnceTrafficDrops() {
+		sample(1000);
+		for (int window = 0; window < 30; window++) {
+			now.addAndGet(SECOND);
+			sample(5);
+		}
+
+		assertThat(sampler.probability()).isEqualTo(1.0);
+		now.addAndGet(SECOND);
+		assertThat(sample(5)).isEqualTo(5);
+	}
+
+	@Test
+	void targetRateMustBePositive() {
+		assertThatThrownBy(() -> new AdaptiveSampler(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private int sample(int traces) {
+		int sampled = 0;
+		for (int i = 0; i < traces; i++) {
+			SamplingDecision decision = sampler.shouldSample(Context.root(), "trace-" + i, "GET /api",
+					SpanKind.SERVER, Attributes.empty(), List.of()).getDecision();
+			if (decision == SamplingDecision.RECORD_AND_SAMPLE) {
+				sampled++;
+			}
+		}
+		return sampled;
+	}
+}
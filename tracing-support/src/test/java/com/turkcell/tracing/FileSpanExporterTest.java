@@ -0,0 +1,70 @@
+package com.turkcell.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+class FileSpanExporterTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void writesOneJsonLinePerSpanWithParentAndEscapedAttributes() throws Exception {
+		Path file = dir.resolve("traces/test.jsonl");
+		FileSpanExporter exporter = new FileSpanExporter(file);
+		SdkTracerProvider provider = SdkTracerProvider.builder()
+				.setResource(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "test-service")))
+				.addSpanProcessor(SimpleSpanProcessor.create(exporter))
+				.build();
+		Tracer tracer = provider.get("test");
+
+		Span parent = tracer.spanBuilder("GET /api").startSpan();
+		try (Scope scope = parent.makeCurrent()) {
+			tracer.spanBuilder("query").setAttribute("db.statement", "SELECT \"name\"\nFROM t").startSpan().end();
+		} finally {
+			parent.end();
+		}
+		provider.close();
+
+		List<String> lines = Files.readAllLines(file);
+		assertThat(lines).hasSize(2);
+		String child = lines.get(0);
+		String root = lines.get(1);
+		assertThat(child).startsWith("{\"traceId\":\"" + parent.getSpanContext().getTraceId() + "\"")
+				.contains("\"parentSpanId\":\"" + parent.getSpanContext().getSpanId() + "\"")
+				.contains("\"service\":\"test-service\"", "\"name\":\"query\"")
+				.contains("\"db.statement\":\"SELECT \\\"name\\\"\\nFROM t\"")
+				.endsWith("}}");
+		assertThat(root).doesNotContain("parentSpanId").contains("\"name\":\"GET /api\"", "\"kind\":\"INTERNAL\"");
+	}
+
+	@Test
+	void appendsToAnExistingFile() throws Exception {
+		Path file = dir.resolve("test.jsonl");
+		Files.writeString(file, "{\"previous\":true}\n");
+
+		FileSpanExporter exporter = new FileSpanExporter(file);
+		SdkTracerProvider provider = SdkTracerProvider.builder()
+				.addSpanProcessor(SimpleSpanProcessor.create(exporter))
+				.build();
+		provider.get("test").spanBuilder("span").startSpan().end();
+		provider.close();
+
+		assertThat(Files.readAllLines(file)).hasSize(2).first().isEqualTo("{\"previous\":true}");
+	}
+}